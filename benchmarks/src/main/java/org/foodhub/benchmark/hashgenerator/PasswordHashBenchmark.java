@@ -0,0 +1,112 @@
+package org.foodhub.benchmark.hashgenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+import org.foodhub.common.hashgenerator.PasswordHasher;
+import org.foodhub.common.hashgenerator.impl.Sha256PasswordHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Measures the SHA-256 password hashing with the per-thread digest and the hex lookup table, against the digest
+ * looked up and the bytes formatted on every call as the passwords were hashed before. Run with {@code -prof gc} to
+ * compare the allocations per hash.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHashBenchmark {
+
+    private static final String PASSWORD = "Swiggy@2024";
+    private PasswordHasher passwordHasher;
+    private String hashedPassword;
+
+    /**
+     * <p>
+     * Creates the hasher and the stored hash of the password.
+     * </p>
+     */
+    @Setup
+    public void setUp() {
+        passwordHasher = new Sha256PasswordHasher();
+        hashedPassword = passwordHasher.hash(PASSWORD);
+    }
+
+    /**
+     * <p>
+     * Hashes the password with the per-thread digest and the hex lookup table.
+     * </p>
+     *
+     * @return The hashed password
+     */
+    @Benchmark
+    public String hash() {
+        return passwordHasher.hash(PASSWORD);
+    }
+
+    /**
+     * <p>
+     * Hashes the password on 8 threads, each hashing with its own digest.
+     * </p>
+     *
+     * @return The hashed password
+     */
+    @Benchmark
+    @Threads(8)
+    public String hashConcurrently() {
+        return passwordHasher.hash(PASSWORD);
+    }
+
+    /**
+     * <p>
+     * Verifies the password against its stored hash, as the login does.
+     * </p>
+     *
+     * @return True if the password matches the hash
+     */
+    @Benchmark
+    public boolean verify() {
+        return passwordHasher.verify(PASSWORD, hashedPassword);
+    }
+
+    /**
+     * <p>
+     * Hashes the password looking up the digest and formatting each byte on every call.
+     * </p>
+     *
+     * @return The hashed password
+     * @throws NoSuchAlgorithmException If the digest algorithm is not available
+     */
+    @Benchmark
+    public String hashWithFormattedDigest() throws NoSuchAlgorithmException {
+        final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        final byte[] encodedHash = messageDigest.digest(PASSWORD.getBytes(StandardCharsets.UTF_8));
+        final StringBuilder hashString = new StringBuilder();
+
+        for (final byte hashByte : encodedHash) {
+            hashString.append(String.format("%02x", hashByte));
+        }
+
+        return hashString.substring(0, 25);
+    }
+}
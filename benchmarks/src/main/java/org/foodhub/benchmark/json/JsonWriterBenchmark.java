@@ -0,0 +1,99 @@
+package org.foodhub.benchmark.json;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.foodhub.common.json.JsonFactory;
+import org.foodhub.common.json.JsonWriter;
+import org.foodhub.restaurant.model.food.Food;
+import org.foodhub.restaurant.model.food.FoodType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Measures the serialization of the list responses of 10, 1k and 100k foods, through the json node tree of the
+ * {@link org.foodhub.common.json.JsonArray} and straight through the {@link JsonWriter}.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonWriterBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+    private JsonFactory jsonFactory;
+    private JsonWriter jsonWriter;
+    private List<Food> foods;
+
+    /**
+     * <p>
+     * Builds the list of the foods of the measured size.
+     * </p>
+     */
+    @Setup
+    public void setUp() {
+        jsonFactory = JsonFactory.getInstance();
+        jsonWriter = jsonFactory.getJsonWriter();
+        foods = new ArrayList<>(size);
+
+        for (long foodId = 1; foodId <= size; foodId++) {
+            foods.add(new Food.FoodBuilder().setId(foodId).setName(String.join(" ", "food", String.valueOf(foodId)))
+                    .setRate(120.5F).setType(0 == foodId % 2 ? FoodType.VEG : FoodType.NONVEG)
+                    .setQuantity(25).build());
+        }
+    }
+
+    /**
+     * <p>
+     * Serializes the foods by building the json node tree first, as the responses were written before.
+     * </p>
+     *
+     * @return The json bytes of the foods
+     */
+    @Benchmark
+    public byte[] writeTree() {
+        return jsonFactory.createArrayNode().build(foods).asBytes();
+    }
+
+    /**
+     * <p>
+     * Serializes the foods straight to the json bytes.
+     * </p>
+     *
+     * @return The json bytes of the foods
+     */
+    @Benchmark
+    public byte[] write() {
+        return jsonWriter.write(foods);
+    }
+
+    /**
+     * <p>
+     * Streams the foods one by one to the output, as the cursor responses are written. The output discards the
+     * bytes, so only the serialization is measured.
+     * </p>
+     */
+    @Benchmark
+    public void writeArray() {
+        jsonWriter.writeArray(OutputStream.nullOutputStream(), foods.iterator());
+    }
+}
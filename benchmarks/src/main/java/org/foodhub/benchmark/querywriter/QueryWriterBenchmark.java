@@ -0,0 +1,196 @@
+package org.foodhub.benchmark.querywriter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.foodhub.database.querybuilder.Query;
+import org.foodhub.database.querybuilder.clauses.JoinClause;
+import org.foodhub.database.querybuilder.clauses.JoinType;
+import org.foodhub.database.querybuilder.clauses.WhereClause;
+import org.foodhub.database.querybuilder.operator.ConditionalOperator;
+import org.foodhub.database.querybuilder.operator.LogicalOperator;
+import org.foodhub.database.querybuilder.parameter.ParameterType;
+import org.foodhub.database.querybuilder.parameter.QueryParameter;
+import org.foodhub.database.querywriter.ParameterizedQuery;
+import org.foodhub.database.querywriter.QueryWriter;
+import org.foodhub.database.querywriter.impl.QueryWriterImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Measures the shared query writer on a single thread and on 32 threads. The writer keeps no state between the
+ * calls, so the threads write their queries without waiting on each other.
+ * </p>
+ *
+ * <p>
+ * The writer reusing a single builder was safe only behind a monitor, the locked benchmarks call the writer behind
+ * the monitor the same way. The gap between the two on 32 threads is the contention the stateless writer removes.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryWriterBenchmark {
+
+    private static final int INSERT_ROWS = 100;
+
+    @Param({"select", "insert"})
+    public String shape;
+    private QueryWriter queryWriter;
+    private Query query;
+    private Object monitor;
+
+    /**
+     * <p>
+     * Builds the query of the measured shape, the select query has the joins, the where clauses and the page, the
+     * insert query has the rows of a full multi-row insert.
+     * </p>
+     */
+    @Setup
+    public void setUp() {
+        queryWriter = QueryWriterImpl.getInstance();
+        query = "select".equals(shape) ? buildSelectQuery() : buildInsertQuery();
+        monitor = new Object();
+    }
+
+    /**
+     * <p>
+     * Writes the query on a single thread.
+     * </p>
+     *
+     * @return The written query
+     */
+    @Benchmark
+    @Threads(1)
+    public ParameterizedQuery writeQuery() {
+        return queryWriter.writeParameterizedQuery(query);
+    }
+
+    /**
+     * <p>
+     * Writes the query on 32 threads sharing the writer.
+     * </p>
+     *
+     * @return The written query
+     */
+    @Benchmark
+    @Threads(32)
+    public ParameterizedQuery writeQueryConcurrently() {
+        return queryWriter.writeParameterizedQuery(query);
+    }
+
+    /**
+     * <p>
+     * Writes the query on a single thread behind the monitor, the cost of the uncontended monitor.
+     * </p>
+     *
+     * @return The written query
+     */
+    @Benchmark
+    @Threads(1)
+    public ParameterizedQuery writeLockedQuery() {
+        synchronized (monitor) {
+            return queryWriter.writeParameterizedQuery(query);
+        }
+    }
+
+    /**
+     * <p>
+     * Writes the query on 32 threads behind the monitor, the threads write one at a time as the single builder
+     * writer has to.
+     * </p>
+     *
+     * @return The written query
+     */
+    @Benchmark
+    @Threads(32)
+    public ParameterizedQuery writeLockedQueryConcurrently() {
+        synchronized (monitor) {
+            return queryWriter.writeParameterizedQuery(query);
+        }
+    }
+
+    /**
+     * <p>
+     * Builds the select query listing the page of the menucard.
+     * </p>
+     *
+     * @return The select query
+     */
+    private static Query buildSelectQuery() {
+        final Collection<String> selectFields = new ArrayList<>();
+
+        selectFields.add("f.id");
+        selectFields.add("f.name");
+        selectFields.add("f.rate");
+        selectFields.add("f.type");
+        selectFields.add("f.quantity");
+        selectFields.add("r.name");
+        final Collection<JoinClause> joins = new ArrayList<>();
+
+        joins.add(new JoinClause().setJoinType(JoinType.JOIN).setTableName("restaurant_food rf")
+                .setJoinConditions("f.id", "rf.food_id"));
+        joins.add(new JoinClause().setJoinType(JoinType.JOIN).setTableName("restaurant r")
+                .setJoinConditions("rf.restaurant_id", "r.id"));
+        final Collection<WhereClause> whereClauses = new ArrayList<>();
+
+        whereClauses.add(new WhereClause().setColumn("r.id").setConditionalOperator(ConditionalOperator.EQUAL)
+                .setParameter(new QueryParameter(ParameterType.LONG, 1L)));
+        whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND).setColumn("f.type")
+                .setConditionalOperator(ConditionalOperator.IN).setValues(List.of("1", "2")));
+        whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND).setColumn("f.id")
+                .setConditionalOperator(ConditionalOperator.GREATER_THAN)
+                .setParameter(new QueryParameter(ParameterType.LONG, 100L)));
+        final Collection<String> orderByFields = new ArrayList<>();
+
+        orderByFields.add("f.id");
+
+        return new Query.QueryBuilder().setTableName("food f").setSelectFields(selectFields).setJoins(joins)
+                .setWhereClauses(whereClauses).setOrderByFields(orderByFields).setLimit("50").buildQuery();
+    }
+
+    /**
+     * <p>
+     * Builds the multi-row insert adding the items to the cart.
+     * </p>
+     *
+     * @return The insert query
+     */
+    private static Query buildInsertQuery() {
+        final List<Map<String, QueryParameter>> insertRows = new ArrayList<>(INSERT_ROWS);
+
+        for (long row = 0; row < INSERT_ROWS; row++) {
+            final Map<String, QueryParameter> insertParameters = new LinkedHashMap<>();
+
+            insertParameters.put("user_id", new QueryParameter(ParameterType.LONG, row));
+            insertParameters.put("restaurant_id", new QueryParameter(ParameterType.LONG, row));
+            insertParameters.put("food_id", new QueryParameter(ParameterType.LONG, row));
+            insertParameters.put("quantity", new QueryParameter(ParameterType.INTEGER, 1));
+            insertParameters.put("total_amount", new QueryParameter(ParameterType.FLOAT, 10F));
+            insertRows.add(insertParameters);
+        }
+
+        return new Query.QueryBuilder().setTableName("cart").setInsertRows(insertRows).buildQuery();
+    }
+}
@@ -6,6 +6,9 @@ import org.apache.logging.log4j.Logger;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
+import org.foodhub.common.hashgenerator.PasswordHashGenerator;
+import org.foodhub.common.hibernate.impl.HibernateEntityValidatorImpl;
+
 /**
  * <p>
  *  Customizes the starting and stopping of a bundle.
@@ -27,6 +30,7 @@ public final class CommonActivator implements BundleActivator {
      */
     @Override
     public void start(final BundleContext context) {
+        HibernateEntityValidatorImpl.getInstance().prepare();
         LOGGER.info("Commons Bundle Is Started");
     }
 
@@ -39,6 +43,7 @@ public final class CommonActivator implements BundleActivator {
      */
     @Override
     public void stop(final BundleContext context) {
+        PasswordHashGenerator.getInstance().getHashingExecutor().close();
         LOGGER.info("Commons Bundle Is Stopped");
     }
 }
@@ -0,0 +1,40 @@
+package org.foodhub.common.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.ws.rs.container.AsyncResponse;
+
+/**
+ * <p>
+ * Resumes the suspended responses once the asynchronous results are completed, so the request threads are released
+ * while the results are computed.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class AsyncResponseHandler {
+
+    private AsyncResponseHandler() {
+    }
+
+    /**
+     * <p>
+     * Resumes the suspended response with the result, or with the cause of the failure when the result is failed.
+     * </p>
+     *
+     * @param asyncResponse Represents the suspended response of the request
+     * @param result        Represents the asynchronous result of the request
+     */
+    public static void resume(final AsyncResponse asyncResponse, final CompletableFuture<byte[]> result) {
+        result.whenComplete((response, exception) -> {
+            if (null == exception) {
+                asyncResponse.resume(response);
+            } else {
+                asyncResponse.resume(exception instanceof CompletionException && null != exception.getCause() ?
+                        exception.getCause() : exception);
+            }
+        });
+    }
+}
@@ -0,0 +1,291 @@
+package org.foodhub.common.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * Caches the serialized responses of the read endpoints, so a cache hit costs a map lookup instead of reading and
+ * serializing the data again. The least recently used response is evicted once the cache is full.
+ * </p>
+ *
+ * <p>
+ * The responses are removed by their keys or by the tags given when they were put, such as the ids of the rows listed
+ * in the response. Every invalidation moves the version of the cache, a response read before the invalidation and
+ * put after it is discarded instead of cached, so the reads racing with a change never cache the stale response.
+ * </p>
+ *
+ * @param <K> The type of the response keys
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class ResponseCache<K> {
+
+    private final int maximumEntries;
+    private final Map<K, byte[]> responses;
+    private final Map<K, Collection<Long>> keyTags;
+    private final Map<Long, Set<K>> taggedKeys;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final LongAdder invalidations;
+    private long version;
+
+    public ResponseCache(final int maximumEntries) {
+        this.maximumEntries = maximumEntries;
+        keyTags = new HashMap<>();
+        taggedKeys = new HashMap<>();
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+        invalidations = new LongAdder();
+        responses = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, byte[]> eldest) {
+                if (size() > ResponseCache.this.maximumEntries) {
+                    untag(eldest.getKey());
+                    evictions.increment();
+
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * <p>
+     * Gets the cached response.
+     * </p>
+     *
+     * @param key Represents the key of the response
+     * @return The cached response, empty if the response is not cached
+     */
+    public Optional<byte[]> get(final K key) {
+        final byte[] response;
+
+        synchronized (this) {
+            response = responses.get(key);
+        }
+
+        if (null == response) {
+            misses.increment();
+
+            return Optional.empty();
+        }
+        hits.increment();
+
+        return Optional.of(response);
+    }
+
+    /**
+     * <p>
+     * Gets the current version of the cache, the version has to be taken before reading the response data.
+     * </p>
+     *
+     * @return The current version of the cache
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * <p>
+     * Puts the response, the response is cached only if nothing was invalidated since the given version.
+     * </p>
+     *
+     * @param key         Represents the key of the response
+     * @param response    Represents the serialized response
+     * @param readVersion Represents the version of the cache taken before reading the response data
+     * @return The response
+     */
+    public byte[] put(final K key, final byte[] response, final long readVersion) {
+        return put(key, response, Collections.emptyList(), readVersion);
+    }
+
+    /**
+     * <p>
+     * Puts the response along with its tags, the response is cached only if nothing was invalidated since the given
+     * version.
+     * </p>
+     *
+     * @param key         Represents the key of the response
+     * @param response    Represents the serialized response
+     * @param tags        Represents the tags of the response, the response is invalidated along with any of them
+     * @param readVersion Represents the version of the cache taken before reading the response data
+     * @return The response
+     */
+    public synchronized byte[] put(final K key, final byte[] response, final Collection<Long> tags,
+                                   final long readVersion) {
+        if (readVersion == version) {
+            untag(key);
+            responses.put(key, response);
+
+            if (!tags.isEmpty()) {
+                keyTags.put(key, tags);
+
+                for (final Long tag : tags) {
+                    taggedKeys.computeIfAbsent(tag, taggedKey -> new HashSet<>()).add(key);
+                }
+            }
+        }
+
+        return response;
+    }
+
+    /**
+     * <p>
+     * Invalidates the cached response of the key.
+     * </p>
+     *
+     * @param key Represents the key of the response
+     */
+    public synchronized void invalidate(final K key) {
+        version++;
+        remove(key);
+    }
+
+    /**
+     * <p>
+     * Invalidates the cached responses of the keys matching the filter.
+     * </p>
+     *
+     * @param filter Represents the filter of the keys to be invalidated
+     */
+    public synchronized void invalidateIf(final Predicate<K> filter) {
+        version++;
+        final Iterator<K> iterator = responses.keySet().iterator();
+
+        while (iterator.hasNext()) {
+            final K key = iterator.next();
+
+            if (filter.test(key)) {
+                untag(key);
+                iterator.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Invalidates the cached responses put with the tag.
+     * </p>
+     *
+     * @param tag Represents the tag of the responses
+     */
+    public synchronized void invalidateTag(final long tag) {
+        version++;
+        final Set<K> keys = taggedKeys.get(tag);
+
+        if (null != keys) {
+
+            for (final K key : new HashSet<>(keys)) {
+                remove(key);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the response and its tags.
+     * </p>
+     *
+     * @param key Represents the key of the response
+     */
+    private void remove(final K key) {
+        if (null != responses.remove(key)) {
+            untag(key);
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the key from the index of its tags.
+     * </p>
+     *
+     * @param key Represents the key of the response
+     */
+    private void untag(final K key) {
+        final Collection<Long> tags = keyTags.remove(key);
+
+        if (null == tags) {
+            return;
+        }
+
+        for (final Long tag : tags) {
+            final Set<K> keys = taggedKeys.get(tag);
+
+            if (null != keys && keys.remove(key) && keys.isEmpty()) {
+                taggedKeys.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the count of the responses served from the cache.
+     * </p>
+     *
+     * @return The count of the cache hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the lookups finding no cached response.
+     * </p>
+     *
+     * @return The count of the cache misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the responses evicted as the least recently used.
+     * </p>
+     *
+     * @return The count of the evictions
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the responses invalidated by the updates.
+     * </p>
+     *
+     * @return The count of the invalidations
+     */
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the responses cached.
+     * </p>
+     *
+     * @return The size of the cache
+     */
+    public synchronized int getSize() {
+        return responses.size();
+    }
+}
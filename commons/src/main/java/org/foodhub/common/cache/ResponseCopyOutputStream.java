@@ -0,0 +1,57 @@
+package org.foodhub.common.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * <p>
+ * Writes the streamed response to the client and keeps the copy of it, so the response can be cached once it is
+ * completely written.
+ * </p>
+ *
+ * <p>
+ * Closing the stream doesn't close the client stream, the client stream is owned by the container.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class ResponseCopyOutputStream extends FilterOutputStream {
+
+    private final ByteArrayOutputStream responseCopy;
+
+    public ResponseCopyOutputStream(final OutputStream outputStream) {
+        super(outputStream);
+        responseCopy = new ByteArrayOutputStream();
+    }
+
+    @Override
+    public void write(final int value) throws IOException {
+        out.write(value);
+        responseCopy.write(value);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        out.write(bytes, offset, length);
+        responseCopy.write(bytes, offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * <p>
+     * Gets the copy of the response written so far.
+     * </p>
+     *
+     * @return The bytes of the response
+     */
+    public byte[] toByteArray() {
+        return responseCopy.toByteArray();
+    }
+}
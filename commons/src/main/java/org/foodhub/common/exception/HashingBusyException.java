@@ -0,0 +1,15 @@
+package org.foodhub.common.exception;
+
+import org.foodhub.exception.customexception.DefaultException;
+
+/**
+ * <p>
+ * Handles the exception when the password hashing executor is saturated and can't accept any more hashing.
+ * </p>
+ */
+public final class HashingBusyException extends DefaultException {
+
+    public HashingBusyException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,171 @@
+package org.foodhub.common.hashgenerator;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.foodhub.common.exception.HashingBusyException;
+
+/**
+ * <p>
+ * Runs the password hashing on the dedicated size capped executor, so a burst of logins can use only the hashing
+ * threads and can't starve the requests of the other endpoints of the processors.
+ * </p>
+ *
+ * <p>
+ * The hashing waits in the bounded queue once all the threads are busy, the hashing beyond the queue is rejected at
+ * once with the failed future.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class HashingExecutor {
+
+    private final PasswordHashingConfig config;
+    private final LongAdder rejectedHashes;
+    private volatile ThreadPoolExecutor executor;
+
+    HashingExecutor(final PasswordHashingConfig config) {
+        this.config = config;
+        rejectedHashes = new LongAdder();
+    }
+
+    /**
+     * <p>
+     * Gets the executor of the hashing, the executor is created on the first use.
+     * </p>
+     *
+     * @return The executor of the hashing
+     */
+    private ThreadPoolExecutor getExecutor() {
+        if (null == executor) {
+
+            synchronized (this) {
+
+                if (null == executor) {
+                    executor = createExecutor(config);
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    /**
+     * <p>
+     * Creates the bounded executor having the configured hashing threads and the bounded queue of waiting hashes.
+     * </p>
+     *
+     * @param config Represents the password hashing config
+     * @return The bounded executor
+     */
+    private static ThreadPoolExecutor createExecutor(final PasswordHashingConfig config) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(config.getThreads(),
+                config.getThreads(), 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(config.getQueueSize()),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, String.join("-", "password-hashing",
+                            String.valueOf(threadCount.incrementAndGet())));
+
+                    thread.setDaemon(true);
+
+                    return thread;
+                });
+
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+        return threadPoolExecutor;
+    }
+
+    /**
+     * <p>
+     * Runs the hashing on the executor.
+     * </p>
+     *
+     * @param hashing Represents the hashing or the verification of the password
+     * @param <T>     The result type of the hashing
+     * @return The future completed with the result of the hashing, or failed with {@link HashingBusyException} when
+     * the executor is saturated
+     */
+    public <T> CompletableFuture<T> supply(final Supplier<T> hashing) {
+        final ThreadPoolExecutor threadPoolExecutor = getExecutor();
+
+        try {
+            return CompletableFuture.supplyAsync(hashing, threadPoolExecutor);
+        } catch (RejectedExecutionException message) {
+            rejectedHashes.increment();
+
+            return CompletableFuture.failedFuture(new HashingBusyException(String.join(" ",
+                    "Password hashing is busy, rejected the hashing after",
+                    String.valueOf(threadPoolExecutor.getQueue().size()), "queued hashes")));
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the count of the hashes running on the executor.
+     * </p>
+     *
+     * @return The count of the running hashes
+     */
+    public int getActiveHashes() {
+        final ThreadPoolExecutor threadPoolExecutor = executor;
+
+        return null == threadPoolExecutor ? 0 : threadPoolExecutor.getActiveCount();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the hashes waiting in the queue of the executor.
+     * </p>
+     *
+     * @return The count of the queued hashes
+     */
+    public int getQueuedHashes() {
+        final ThreadPoolExecutor threadPoolExecutor = executor;
+
+        return null == threadPoolExecutor ? 0 : threadPoolExecutor.getQueue().size();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the hashes completed by the executor since it was created.
+     * </p>
+     *
+     * @return The count of the completed hashes
+     */
+    public long getCompletedHashes() {
+        final ThreadPoolExecutor threadPoolExecutor = executor;
+
+        return null == threadPoolExecutor ? 0 : threadPoolExecutor.getCompletedTaskCount();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the hashes rejected by the saturated executor.
+     * </p>
+     *
+     * @return The count of the rejected hashes
+     */
+    public long getRejectedHashes() {
+        return rejectedHashes.sum();
+    }
+
+    /**
+     * <p>
+     * Shuts down the executor if it was created, the queued hashes are not run.
+     * </p>
+     */
+    public synchronized void close() {
+        if (null != executor) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
@@ -3,25 +3,44 @@ package org.foodhub.common.hashgenerator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.foodhub.common.exception.HashAlgorithmNotFoundException;
+import org.foodhub.common.hashgenerator.impl.Pbkdf2PasswordHasher;
+import org.foodhub.common.hashgenerator.impl.Sha256PasswordHasher;
 
 /**
  * <p>
  * Provides hashed password for security purposes.
  * </p>
  *
+ * <p>
+ * The passwords are hashed with the configured scheme, the stored hashes of the other known schemes are still
+ * verified and hashed again with the configured scheme on the successful verification. The hashing runs on the
+ * bounded {@link HashingExecutor}.
+ * </p>
+ *
  * @author Muthu kumar V
  * @version 1.0
  */
 public final class PasswordHashGenerator {
 
     private static final Logger LOGGER = LogManager.getLogger(PasswordHashGenerator.class);
+    private final List<PasswordHasher> passwordHashers;
+    private final PasswordHasher passwordHasher;
+    private final HashingExecutor hashingExecutor;
 
     private PasswordHashGenerator() {
+        final PasswordHashingConfig config = PasswordHashingConfig.fromProperties(loadProperties());
+
+        passwordHashers = List.of(new Pbkdf2PasswordHasher(config.getIterations()), new Sha256PasswordHasher());
+        passwordHasher = getPasswordHasher(config.getScheme());
+        hashingExecutor = new HashingExecutor(config);
     }
 
     /**
@@ -47,26 +66,158 @@ public final class PasswordHashGenerator {
 
     /**
      * <p>
-     * Hashes and returns the password.
+     * Hashes and returns the password, the caller waits while the password is hashed on the hashing executor.
      * </p>
      *
      * @param password password of the current user
      * @return The hashed password
      */
     public String hashPassword(final String password) {
+        return join(hashPasswordAsync(password));
+    }
+
+    /**
+     * <p>
+     * Hashes the password on the hashing executor.
+     * </p>
+     *
+     * @param password password of the current user
+     * @return The future completed with the hashed password
+     */
+    public CompletableFuture<String> hashPasswordAsync(final String password) {
+        return hashingExecutor.supply(() -> passwordHasher.hash(password));
+    }
+
+    /**
+     * <p>
+     * Verifies the password against the stored hash, the caller waits while the password is verified on the hashing
+     * executor.
+     * </p>
+     *
+     * @param password       password of the current user
+     * @param hashedPassword Represents the stored hash of the password
+     * @return The result of the verification along with the new hash if the stored hash is outdated
+     */
+    public PasswordVerification verifyPassword(final String password, final String hashedPassword) {
+        return join(verifyPasswordAsync(password, hashedPassword));
+    }
+
+    /**
+     * <p>
+     * Verifies the password against the stored hash on the hashing executor.
+     * </p>
+     *
+     * @param password       password of the current user
+     * @param hashedPassword Represents the stored hash of the password
+     * @return The future completed with the result of the verification
+     */
+    public CompletableFuture<PasswordVerification> verifyPasswordAsync(final String password,
+                                                                       final String hashedPassword) {
+        if (null == password || null == hashedPassword) {
+            return CompletableFuture.completedFuture(PasswordVerification.failed());
+        }
+
+        return hashingExecutor.supply(() -> verify(password, hashedPassword));
+    }
+
+    /**
+     * <p>
+     * Verifies the password with the hasher of the stored hash and hashes it again if the stored hash is not of the
+     * configured scheme or is outdated.
+     * </p>
+     *
+     * @param password       password of the current user
+     * @param hashedPassword Represents the stored hash of the password
+     * @return The result of the verification
+     */
+    private PasswordVerification verify(final String password, final String hashedPassword) {
+        for (final PasswordHasher hasher : passwordHashers) {
+
+            if (hasher.isHashOf(hashedPassword)) {
+
+                if (!hasher.verify(password, hashedPassword)) {
+                    return PasswordVerification.failed();
+                }
+                final boolean isOutdated = hasher != passwordHasher || hasher.isOutdated(hashedPassword);
+
+                return new PasswordVerification(true, isOutdated ? passwordHasher.hash(password) : null);
+            }
+        }
+
+        return PasswordVerification.failed();
+    }
+
+    /**
+     * <p>
+     * Gets the executor running the hashing, for its metrics and shutdown.
+     * </p>
+     *
+     * @return The hashing executor
+     */
+    public HashingExecutor getHashingExecutor() {
+        return hashingExecutor;
+    }
+
+    /**
+     * <p>
+     * Gets the hasher of the configured scheme.
+     * </p>
+     *
+     * @param scheme Represents the name of the configured scheme
+     * @return The password hasher of the scheme
+     */
+    private PasswordHasher getPasswordHasher(final String scheme) {
+        for (final PasswordHasher hasher : passwordHashers) {
+
+            if (hasher.getScheme().equals(scheme)) {
+                return hasher;
+            }
+        }
+        LOGGER.error(String.join(" ", "Unknown password hashing scheme", scheme));
+        throw new HashAlgorithmNotFoundException(String.join(" ", "Unknown password hashing scheme", scheme));
+    }
+
+    /**
+     * <p>
+     * Waits for the hashing and rethrows the cause if the hashing is failed.
+     * </p>
+     *
+     * @param hashing Represents the hashing on the executor
+     * @param <T>     The result type of the hashing
+     * @return The result of the hashing
+     */
+    private static <T> T join(final CompletableFuture<T> hashing) {
         try {
-            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
-            final byte[] encodedHash = messageDigest.digest(password.getBytes(StandardCharsets.UTF_8));
-            final StringBuilder hashString = new StringBuilder();
+            return hashing.join();
+        } catch (CompletionException exception) {
 
-            for (final byte hashByte : encodedHash) {
-                hashString.append(String.format("%02x", hashByte));
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw exception;
+        }
+    }
 
-            return hashString.substring(0, 25);
-        } catch (NoSuchAlgorithmException message) {
+    /**
+     * <p>
+     * Loads the password properties, the default properties are used if the file can't be loaded.
+     * </p>
+     *
+     * @return The password properties
+     */
+    private static Properties loadProperties() {
+        final Properties properties = new Properties();
+
+        try (final InputStream inputStream = PasswordHashGenerator.class.getClassLoader()
+                .getResourceAsStream("password.properties")) {
+
+            if (null != inputStream) {
+                properties.load(inputStream);
+            }
+        } catch (IOException message) {
             LOGGER.error(message.getMessage());
-            throw new HashAlgorithmNotFoundException(message.getMessage());
         }
+
+        return properties;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package org.foodhub.common.hashgenerator;
+
+/**
+ * <p>
+ * Handles the hashing and the verification of the passwords of a single hash format.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public interface PasswordHasher {
+
+    /**
+     * <p>
+     * Gets the name of the hash scheme, the name is written as the prefix of the versioned hashes.
+     * </p>
+     *
+     * @return The name of the hash scheme
+     */
+    String getScheme();
+
+    /**
+     * <p>
+     * Hashes the password in the format of the scheme.
+     * </p>
+     *
+     * @param password Represents the password to be hashed
+     * @return The hashed password
+     */
+    String hash(final String password);
+
+    /**
+     * <p>
+     * Checks the stored hash is written in the format of the scheme.
+     * </p>
+     *
+     * @param hashedPassword Represents the stored hash of the password
+     * @return true if the hash is of the scheme, false otherwise
+     */
+    boolean isHashOf(final String hashedPassword);
+
+    /**
+     * <p>
+     * Verifies the password against the stored hash of the scheme.
+     * </p>
+     *
+     * @param password       Represents the password to be verified
+     * @param hashedPassword Represents the stored hash of the password
+     * @return true if the password matches the hash, false otherwise
+     */
+    boolean verify(final String password, final String hashedPassword);
+
+    /**
+     * <p>
+     * Checks the stored hash of the scheme is weaker than the hashes written now, such as a lower iteration count.
+     * </p>
+     *
+     * @param hashedPassword Represents the stored hash of the password
+     * @return true if the password has to be hashed again, false otherwise
+     */
+    boolean isOutdated(final String hashedPassword);
+}
@@ -0,0 +1,121 @@
+package org.foodhub.common.hashgenerator;
+
+import java.util.Properties;
+
+/**
+ * <p>
+ * Holds the properties of the password hashing.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class PasswordHashingConfig {
+
+    private static final String DEFAULT_SCHEME = "pbkdf2-sha256";
+    private static final String DEFAULT_ITERATIONS = "210000";
+    private static final String DEFAULT_QUEUE_SIZE = "200";
+    private String scheme;
+    private int iterations;
+    private int threads;
+    private int queueSize;
+
+    private PasswordHashingConfig() {
+        scheme = DEFAULT_SCHEME;
+        iterations = Integer.parseInt(DEFAULT_ITERATIONS);
+        threads = getDefaultThreads();
+        queueSize = Integer.parseInt(DEFAULT_QUEUE_SIZE);
+    }
+
+    /**
+     * <p>
+     * Creates the password hashing config from the password properties.
+     * </p>
+     *
+     * @param properties Represents the loaded password properties
+     * @return The password hashing config
+     */
+    public static PasswordHashingConfig fromProperties(final Properties properties) {
+        return new PasswordHashingConfigBuilder()
+                .setScheme(properties.getProperty("password.hashing.scheme", DEFAULT_SCHEME))
+                .setIterations(Integer.parseInt(properties.getProperty("password.hashing.iterations",
+                        DEFAULT_ITERATIONS)))
+                .setThreads(Integer.parseInt(properties.getProperty("password.hashing.threads",
+                        String.valueOf(getDefaultThreads()))))
+                .setQueueSize(Integer.parseInt(properties.getProperty("password.hashing.queueSize",
+                        DEFAULT_QUEUE_SIZE)))
+                .build();
+    }
+
+    /**
+     * <p>
+     * Gets the default count of the hashing threads, half of the processors, so the hashing can't take all of them.
+     * </p>
+     *
+     * @return The default count of the hashing threads
+     */
+    private static int getDefaultThreads() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    public String getScheme() {
+        return scheme;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * <p>
+     * Method to set the properties of the password hashing config and to build the config instance.
+     * </p>
+     *
+     * @author Muthu kumar V
+     * @version 1.0
+     */
+    public static class PasswordHashingConfigBuilder {
+
+        private final PasswordHashingConfig config;
+
+        public PasswordHashingConfigBuilder() {
+            config = new PasswordHashingConfig();
+        }
+
+        public PasswordHashingConfigBuilder setScheme(final String scheme) {
+            config.scheme = scheme;
+
+            return this;
+        }
+
+        public PasswordHashingConfigBuilder setIterations(final int iterations) {
+            config.iterations = iterations;
+
+            return this;
+        }
+
+        public PasswordHashingConfigBuilder setThreads(final int threads) {
+            config.threads = threads;
+
+            return this;
+        }
+
+        public PasswordHashingConfigBuilder setQueueSize(final int queueSize) {
+            config.queueSize = queueSize;
+
+            return this;
+        }
+
+        public PasswordHashingConfig build() {
+            return config;
+        }
+    }
+}
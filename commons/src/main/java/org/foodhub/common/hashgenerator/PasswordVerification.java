@@ -0,0 +1,41 @@
+package org.foodhub.common.hashgenerator;
+
+import java.util.Optional;
+
+/**
+ * <p>
+ * Holds the result of verifying the password against the stored hash.
+ * </p>
+ *
+ * @param isVerified       true if the password matches the stored hash, false otherwise
+ * @param rehashedPassword Represents the password hashed again with the current scheme, if the verified hash was
+ *                         outdated
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public record PasswordVerification(boolean isVerified, String rehashedPassword) {
+
+    private static final PasswordVerification FAILED = new PasswordVerification(false, null);
+
+    /**
+     * <p>
+     * Gets the result of the failed verification.
+     * </p>
+     *
+     * @return The failed verification
+     */
+    public static PasswordVerification failed() {
+        return FAILED;
+    }
+
+    /**
+     * <p>
+     * Gets the password hashed again with the current scheme, to replace the outdated stored hash.
+     * </p>
+     *
+     * @return The new hash of the password, or empty if the stored hash is current
+     */
+    public Optional<String> getRehashedPassword() {
+        return Optional.ofNullable(rehashedPassword);
+    }
+}
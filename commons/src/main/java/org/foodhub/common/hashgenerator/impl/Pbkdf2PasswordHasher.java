@@ -0,0 +1,150 @@
+package org.foodhub.common.hashgenerator.impl;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.spec.InvalidKeySpecException;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import org.foodhub.common.exception.HashAlgorithmNotFoundException;
+import org.foodhub.common.hashgenerator.PasswordHasher;
+
+/**
+ * <p>
+ * Hashes the passwords with the salted PBKDF2 key derivation over HMAC SHA-256, the hashes are written in the
+ * versioned format $pbkdf2-sha256$iterations$salt$hash, so the iteration count can be raised without breaking the
+ * stored hashes.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class Pbkdf2PasswordHasher implements PasswordHasher {
+
+    private static final Logger LOGGER = LogManager.getLogger(Pbkdf2PasswordHasher.class);
+    private static final String SCHEME = "pbkdf2-sha256";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String SEPARATOR = "$";
+    private static final String PREFIX = SEPARATOR + SCHEME + SEPARATOR;
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+    private final int iterations;
+    private final SecureRandom secureRandom;
+
+    public Pbkdf2PasswordHasher(final int iterations) {
+        this.iterations = iterations;
+        secureRandom = new SecureRandom();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The name of the hash scheme
+     */
+    @Override
+    public String getScheme() {
+        return SCHEME;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param password Represents the password to be hashed
+     * @return The hashed password with the scheme, the iterations and the salt
+     */
+    @Override
+    public String hash(final String password) {
+        final byte[] salt = new byte[SALT_LENGTH];
+
+        secureRandom.nextBytes(salt);
+        final Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+
+        return String.join(SEPARATOR, PREFIX + iterations, encoder.encodeToString(salt),
+                encoder.encodeToString(derive(password, salt, iterations, HASH_LENGTH)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param hashedPassword Represents the stored hash of the password
+     * @return true if the hash is of the pbkdf2 scheme, false otherwise
+     */
+    @Override
+    public boolean isHashOf(final String hashedPassword) {
+        return hashedPassword.startsWith(PREFIX);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param password       Represents the password to be verified
+     * @param hashedPassword Represents the stored hash of the password
+     * @return true if the password matches the hash, false otherwise
+     */
+    @Override
+    public boolean verify(final String password, final String hashedPassword) {
+        final String[] hashParts = hashedPassword.substring(PREFIX.length()).split("\\$");
+
+        if (3 != hashParts.length) {
+            return false;
+        }
+
+        try {
+            final Base64.Decoder decoder = Base64.getDecoder();
+            final byte[] hash = decoder.decode(hashParts[2]);
+
+            return MessageDigest.isEqual(hash, derive(password, decoder.decode(hashParts[1]),
+                    Integer.parseInt(hashParts[0]), hash.length));
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param hashedPassword Represents the stored hash of the password
+     * @return true if the hash has fewer iterations than the hashes written now, false otherwise
+     */
+    @Override
+    public boolean isOutdated(final String hashedPassword) {
+        final String hashIterations = hashedPassword.substring(PREFIX.length(),
+                Math.max(PREFIX.length(), hashedPassword.indexOf(SEPARATOR, PREFIX.length())));
+
+        try {
+            return Integer.parseInt(hashIterations) < iterations;
+        } catch (NumberFormatException exception) {
+            return true;
+        }
+    }
+
+    /**
+     * <p>
+     * Derives the hash of the password with the salt.
+     * </p>
+     *
+     * @param password   Represents the password to be hashed
+     * @param salt       Represents the salt of the hash
+     * @param iterations Represents the iteration count of the derivation
+     * @param length     Represents the length of the hash in bytes
+     * @return The derived hash
+     */
+    private static byte[] derive(final String password, final byte[] salt, final int iterations, final int length) {
+        final PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, iterations, length * Byte.SIZE);
+
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(keySpec).getEncoded();
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException message) {
+            LOGGER.error(message.getMessage());
+            throw new HashAlgorithmNotFoundException(message.getMessage());
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+}
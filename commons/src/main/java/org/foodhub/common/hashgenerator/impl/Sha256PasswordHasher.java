@@ -0,0 +1,179 @@
+package org.foodhub.common.hashgenerator.impl;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.foodhub.common.exception.HashAlgorithmNotFoundException;
+import org.foodhub.common.hashgenerator.PasswordHasher;
+
+/**
+ * <p>
+ * Hashes the passwords in the legacy format, the first 25 hex digits of the unsalted SHA-256 digest without the
+ * scheme prefix. The format is kept to verify the stored hashes until they are hashed again with the current scheme.
+ * </p>
+ *
+ * <p>
+ * The digest is looked up once and each thread hashes with its own clone of it, the hash is encoded with the hex
+ * lookup table, so hashing allocates only the password bytes and the resulting string.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class Sha256PasswordHasher implements PasswordHasher {
+
+    private static final Logger LOGGER = LogManager.getLogger(Sha256PasswordHasher.class);
+    private static final String SCHEME = "sha256";
+    private static final String ALGORITHM = "SHA-256";
+    private static final int HASH_LENGTH = 25;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private final MessageDigest messageDigest;
+    private final ThreadLocal<HashBuffer> hashBuffers;
+
+    public Sha256PasswordHasher() {
+        messageDigest = getMessageDigest();
+        hashBuffers = ThreadLocal.withInitial(() -> new HashBuffer(cloneMessageDigest()));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The name of the hash scheme
+     */
+    @Override
+    public String getScheme() {
+        return SCHEME;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param password Represents the password to be hashed
+     * @return The hashed password
+     */
+    @Override
+    public String hash(final String password) {
+        final HashBuffer hashBuffer = hashBuffers.get();
+        final byte[] digest = hashBuffer.digest;
+        final byte[] hexDigest = hashBuffer.hexDigest;
+
+        try {
+            hashBuffer.messageDigest.update(password.getBytes(StandardCharsets.UTF_8));
+            hashBuffer.messageDigest.digest(digest, 0, digest.length);
+        } catch (DigestException message) {
+            hashBuffer.messageDigest.reset();
+            LOGGER.error(message.getMessage());
+            throw new HashAlgorithmNotFoundException(message.getMessage());
+        }
+
+        for (int index = 0; index < HASH_LENGTH; index++) {
+            final int hashByte = digest[index >> 1];
+
+            hexDigest[index] = HEX_DIGITS[0 == (index & 1) ? (hashByte >> 4) & 0xf : hashByte & 0xf];
+        }
+
+        return new String(hexDigest, 0, HASH_LENGTH, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param hashedPassword Represents the stored hash of the password
+     * @return true if the hash is of the legacy format, false otherwise
+     */
+    @Override
+    public boolean isHashOf(final String hashedPassword) {
+        if (HASH_LENGTH != hashedPassword.length()) {
+            return false;
+        }
+
+        for (int index = 0; index < HASH_LENGTH; index++) {
+            final char character = hashedPassword.charAt(index);
+
+            if ((character < '0' || character > '9') && (character < 'a' || character > 'f')) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param password       Represents the password to be verified
+     * @param hashedPassword Represents the stored hash of the password
+     * @return true if the password matches the hash, false otherwise
+     */
+    @Override
+    public boolean verify(final String password, final String hashedPassword) {
+        return MessageDigest.isEqual(hash(password).getBytes(StandardCharsets.US_ASCII),
+                hashedPassword.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param hashedPassword Represents the stored hash of the password
+     * @return false, the legacy hashes have no cost parameters
+     */
+    @Override
+    public boolean isOutdated(final String hashedPassword) {
+        return false;
+    }
+
+    /**
+     * <p>
+     * Gets the message digest of the hash algorithm.
+     * </p>
+     *
+     * @return The message digest
+     */
+    private static MessageDigest getMessageDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException message) {
+            LOGGER.error(message.getMessage());
+            throw new HashAlgorithmNotFoundException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Clones the message digest for the current thread, the digest is looked up again if the provider doesn't
+     * support cloning.
+     * </p>
+     *
+     * @return The message digest of the current thread
+     */
+    private MessageDigest cloneMessageDigest() {
+        try {
+            return (MessageDigest) messageDigest.clone();
+        } catch (CloneNotSupportedException exception) {
+            return getMessageDigest();
+        }
+    }
+
+    /**
+     * <p>
+     * Holds the message digest and the buffers of the hash reused by a thread.
+     * </p>
+     */
+    private static final class HashBuffer {
+
+        private final MessageDigest messageDigest;
+        private final byte[] digest;
+        private final byte[] hexDigest;
+
+        private HashBuffer(final MessageDigest messageDigest) {
+            this.messageDigest = messageDigest;
+            digest = new byte[messageDigest.getDigestLength()];
+            hexDigest = new byte[HASH_LENGTH];
+        }
+    }
+}
@@ -12,6 +12,16 @@ import org.foodhub.common.json.JsonObject;
  */
 public interface HibernateEntityValidator {
 
+    /**
+     * <p>
+     * Resolves the constraint metadata of the types and compiles the validators of their groups ahead of the first
+     * validation. The hibernate validator itself is bootstrapped on the first call.
+     * </p>
+     *
+     * @param types Represents the constrained types
+     */
+    void prepare(final Class<?>... types);
+
     /**
      * <p>
      * Validates the object and returns the violations if exits
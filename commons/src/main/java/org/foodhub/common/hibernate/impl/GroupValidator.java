@@ -0,0 +1,213 @@
+package org.foodhub.common.hibernate.impl;
+
+import java.lang.annotation.ElementType;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import org.foodhub.common.json.JsonFactory;
+import org.foodhub.common.json.JsonObject;
+
+/**
+ * <p>
+ * Validates the object for the group with the field checks compiled from the hibernate validator metadata, without
+ * going through the hibernate validation of the object.
+ * </p>
+ *
+ * <p>
+ * Only the trivial groups are compiled, having the not null and the positive constraints with the plain messages on
+ * the fields, such as the id only groups of the get requests. The other groups are validated by hibernate.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+final class GroupValidator {
+
+    private static final Set<Class<?>> INTEGRAL_TYPES = Set.of(long.class, int.class, short.class, byte.class,
+            Long.class, Integer.class, Short.class, Byte.class);
+    private final JsonFactory jsonFactory;
+    private final List<FieldConstraint> fieldConstraints;
+
+    private GroupValidator(final JsonFactory jsonFactory, final List<FieldConstraint> fieldConstraints) {
+        this.jsonFactory = jsonFactory;
+        this.fieldConstraints = fieldConstraints;
+    }
+
+    /**
+     * <p>
+     * Compiles the validator of the group from the constraints of the type.
+     * </p>
+     *
+     * @param validator   Represents the hibernate validator
+     * @param jsonFactory Represents the json factory of the violations
+     * @param type        Represents the type of the validated objects
+     * @param group       Represents the validation group
+     * @return The compiled validator of the group, or empty if the group has to be validated by hibernate
+     */
+    static Optional<GroupValidator> compile(final Validator validator, final JsonFactory jsonFactory,
+                                            final Class<?> type, final Class<?> group) {
+        if (Default.class == group || group.isAnnotationPresent(GroupSequence.class)) {
+            return Optional.empty();
+        }
+        final BeanDescriptor beanDescriptor = validator.getConstraintsForClass(type);
+
+        if (!beanDescriptor.findConstraints().unorderedAndMatchingGroups(group).getConstraintDescriptors().isEmpty()) {
+            return Optional.empty();
+        }
+        final List<FieldConstraint> fieldConstraints = new ArrayList<>();
+
+        for (final PropertyDescriptor propertyDescriptor : beanDescriptor.getConstrainedProperties()) {
+
+            if (propertyDescriptor.isCascaded() || !propertyDescriptor.getConstrainedContainerElementTypes().isEmpty()) {
+                return Optional.empty();
+            }
+            final Set<ConstraintDescriptor<?>> constraintDescriptors = propertyDescriptor.findConstraints()
+                    .unorderedAndMatchingGroups(group).getConstraintDescriptors();
+
+            if (constraintDescriptors.size() != propertyDescriptor.findConstraints().declaredOn(ElementType.FIELD)
+                    .unorderedAndMatchingGroups(group).getConstraintDescriptors().size()) {
+                return Optional.empty();
+            }
+
+            for (final ConstraintDescriptor<?> constraintDescriptor : constraintDescriptors) {
+                final Optional<FieldConstraint> fieldConstraint = FieldConstraint.of(type,
+                        propertyDescriptor.getPropertyName(), constraintDescriptor);
+
+                if (fieldConstraint.isEmpty()) {
+                    return Optional.empty();
+                }
+                fieldConstraints.add(fieldConstraint.get());
+            }
+        }
+
+        return Optional.of(new GroupValidator(jsonFactory, List.copyOf(fieldConstraints)));
+    }
+
+    /**
+     * <p>
+     * Validates the object with the compiled field checks.
+     * </p>
+     *
+     * @param object Represents the object to be validated
+     * @return The json object containing violations if exists, the shared empty json object otherwise
+     */
+    JsonObject validate(final Object object) {
+        JsonObject jsonObject = null;
+
+        for (final FieldConstraint fieldConstraint : fieldConstraints) {
+
+            if (!fieldConstraint.isValid(object)) {
+
+                if (null == jsonObject) {
+                    jsonObject = jsonFactory.createObjectNode();
+                }
+                jsonObject.put(fieldConstraint.propertyName(), fieldConstraint.message());
+            }
+        }
+
+        return null == jsonObject ? jsonFactory.getEmptyObject() : jsonObject;
+    }
+
+    /**
+     * <p>
+     * Holds the check of a single constraint on the field.
+     * </p>
+     *
+     * @param field        Represents the handle of the field
+     * @param propertyName Represents the property path of the violation
+     * @param message      Represents the message of the violation
+     * @param isPositive   true if the value has to be positive, false if the value has to be not null
+     */
+    private record FieldConstraint(VarHandle field, String propertyName, String message, boolean isPositive) {
+
+        /**
+         * <p>
+         * Creates the field check of the constraint, if the constraint can be checked without hibernate.
+         * </p>
+         *
+         * @param type                 Represents the type declaring the constraint
+         * @param propertyName         Represents the name of the constrained field
+         * @param constraintDescriptor Represents the constraint of the field
+         * @return The field check, or empty if the constraint has to be validated by hibernate
+         */
+        private static Optional<FieldConstraint> of(final Class<?> type, final String propertyName,
+                                                    final ConstraintDescriptor<?> constraintDescriptor) {
+            final Class<?> constraintType = constraintDescriptor.getAnnotation().annotationType();
+            final String message = constraintDescriptor.getMessageTemplate();
+            final Field field = findField(type, propertyName);
+
+            if (null == field || !constraintDescriptor.getComposingConstraints().isEmpty()
+                    || message.contains("{") || message.contains("$")) {
+                return Optional.empty();
+            }
+            final boolean isPositive = Positive.class == constraintType;
+
+            if (!isPositive && NotNull.class != constraintType
+                    || isPositive && !INTEGRAL_TYPES.contains(field.getType())) {
+                return Optional.empty();
+            }
+
+            try {
+                return Optional.of(new FieldConstraint(MethodHandles.privateLookupIn(field.getDeclaringClass(),
+                        MethodHandles.lookup()).unreflectVarHandle(field), propertyName, message, isPositive));
+            } catch (IllegalAccessException | SecurityException exception) {
+                return Optional.empty();
+            }
+        }
+
+        /**
+         * <p>
+         * Finds the field of the property in the type or its super types.
+         * </p>
+         *
+         * @param type         Represents the type declaring the field
+         * @param propertyName Represents the name of the field
+         * @return The field, or null if the property is not a field
+         */
+        private static Field findField(final Class<?> type, final String propertyName) {
+            for (Class<?> declaringType = type; null != declaringType;
+                 declaringType = declaringType.getSuperclass()) {
+
+                try {
+                    return declaringType.getDeclaredField(propertyName);
+                } catch (NoSuchFieldException exception) {
+                    // The field is declared in the super type.
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * <p>
+         * Checks the field value of the object against the constraint.
+         * </p>
+         *
+         * @param object Represents the validated object
+         * @return true if the value is valid, false otherwise
+         */
+        private boolean isValid(final Object object) {
+            final Object value = field.get(object);
+
+            if (null == value) {
+                return isPositive;
+            }
+
+            return !isPositive || 0 < ((Number) value).longValue();
+        }
+    }
+}
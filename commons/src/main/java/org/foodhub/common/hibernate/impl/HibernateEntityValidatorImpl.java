@@ -1,10 +1,17 @@
 package org.foodhub.common.hibernate.impl;
 
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
 
 import org.hibernate.validator.HibernateValidator;
 
@@ -23,9 +30,11 @@ import org.foodhub.common.json.JsonObject;
 public final class HibernateEntityValidatorImpl implements HibernateEntityValidator {
 
     private final JsonFactory jsonFactory;
+    private final Map<ValidationKey, Optional<GroupValidator>> groupValidators;
 
     private HibernateEntityValidatorImpl() {
         jsonFactory = JsonFactory.getInstance();
+        groupValidators = new ConcurrentHashMap<>();
     }
 
     /**
@@ -65,15 +74,50 @@ public final class HibernateEntityValidatorImpl implements HibernateEntityValida
     /**
      * {@inheritDoc}
      *
-     * @return The json object containing violations if exists
+     * @param types Represents the constrained types
      */
+    @Override
+    public void prepare(final Class<?>... types) {
+        for (final Class<?> type : types) {
+            final BeanDescriptor beanDescriptor = getValidator().getConstraintsForClass(type);
+            final Set<Class<?>> groups = new HashSet<>();
+
+            for (final ConstraintDescriptor<?> constraintDescriptor : beanDescriptor.getConstraintDescriptors()) {
+                groups.addAll(constraintDescriptor.getGroups());
+            }
+
+            for (final PropertyDescriptor propertyDescriptor : beanDescriptor.getConstrainedProperties()) {
+
+                for (final ConstraintDescriptor<?> constraintDescriptor :
+                        propertyDescriptor.getConstraintDescriptors()) {
+                    groups.addAll(constraintDescriptor.getGroups());
+                }
+            }
+
+            for (final Class<?> group : groups) {
+                getGroupValidator(type, group);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The json object containing violations if exists, the shared empty json object otherwise
+     */
+    @Override
     public <T> JsonObject validate(final T object, final Class<?> groups) {
+        final Optional<GroupValidator> groupValidator = getGroupValidator(object.getClass(), groups);
+
+        if (groupValidator.isPresent()) {
+            return groupValidator.get().validate(object);
+        }
         final Set<ConstraintViolation<T>> violationSet = getValidator().validate(object, groups);
-        final JsonObject jsonObject = jsonFactory.createObjectNode();
 
         if (violationSet.isEmpty()) {
-            return jsonObject;
+            return jsonFactory.getEmptyObject();
         }
+        final JsonObject jsonObject = jsonFactory.createObjectNode();
 
         for (final ConstraintViolation<T> violation : violationSet) {
             jsonObject.put(violation.getPropertyPath().toString(), violation.getMessage());
@@ -81,4 +125,29 @@ public final class HibernateEntityValidatorImpl implements HibernateEntityValida
 
         return jsonObject;
     }
+
+    /**
+     * <p>
+     * Gets the compiled validator of the type and the group, the validator is compiled on the first use.
+     * </p>
+     *
+     * @param type  Represents the type of the validated object
+     * @param group Represents the validation group
+     * @return The compiled validator, or empty if the group is validated by hibernate
+     */
+    private Optional<GroupValidator> getGroupValidator(final Class<?> type, final Class<?> group) {
+        return groupValidators.computeIfAbsent(new ValidationKey(type, group),
+                key -> GroupValidator.compile(getValidator(), jsonFactory, key.type(), key.group()));
+    }
+
+    /**
+     * <p>
+     * Holds the type and the group of the compiled validator.
+     * </p>
+     *
+     * @param type  Represents the type of the validated objects
+     * @param group Represents the validation group
+     */
+    private record ValidationKey(Class<?> type, Class<?> group) {
+    }
 }
\ No newline at end of file
@@ -70,6 +70,20 @@ public final class JsonArray {
         return this;
     }
 
+    /**
+     * <p>
+     * Converts the object into json node and adds it to the array node.
+     * </p>
+     *
+     * @param object The object to be added to the array node
+     * @return json array object
+     */
+    public JsonArray addObject(final Object object) {
+        arrayNode.add(JSON_FACTORY.toJson(object));
+
+        return this;
+    }
+
     /**
      * <p>
      * Adds the json object to the array node.
@@ -21,8 +21,12 @@ import java.io.IOException;
 public final class JsonFactory {
 
     private static ObjectMapper objectMapper = getObjectMapper();
+    private final JsonWriter jsonWriter;
+    private final StatusResponses statusResponses;
 
     private JsonFactory() {
+        jsonWriter = new JsonWriter(objectMapper);
+        statusResponses = new StatusResponses(jsonWriter);
     }
 
     /**
@@ -35,6 +39,16 @@ public final class JsonFactory {
         private static final JsonFactory JSON_FACTORY = new JsonFactory();
     }
 
+    /**
+     * <p>
+     * Creates the shared empty json object on the first use, after the json factory instance is created.
+     * </p>
+     */
+    private static class EmptyObjectHolder {
+
+        private static final JsonObject EMPTY_OBJECT = new JsonObject(objectMapper.createObjectNode(), true);
+    }
+
     /**
      * <p>
      * Gets the instance of the json factory class.
@@ -75,6 +89,28 @@ public final class JsonFactory {
         return objectMapper.valueToTree(object);
     }
 
+    /**
+     * <p>
+     * Gets the json writer, writing the objects straight to the json bytes.
+     * </p>
+     *
+     * @return The json writer
+     */
+    public JsonWriter getJsonWriter() {
+        return jsonWriter;
+    }
+
+    /**
+     * <p>
+     * Gets the registry of the precomputed status and validation responses.
+     * </p>
+     *
+     * @return The status responses
+     */
+    public StatusResponses getStatusResponses() {
+        return statusResponses;
+    }
+
     /**
      * <p>
      * converts the json node into byte array.
@@ -101,6 +137,17 @@ public final class JsonFactory {
         return new JsonObject(objectMapper.createObjectNode());
     }
 
+    /**
+     * <p>
+     * Gets the shared empty json object, the object is read only and can't be changed.
+     * </p>
+     *
+     * @return The empty json object
+     */
+    public JsonObject getEmptyObject() {
+        return EmptyObjectHolder.EMPTY_OBJECT;
+    }
+
     /**
      * <p>
      * creates the json array.
@@ -14,10 +14,16 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 public final class JsonObject {
 
     private static final JsonFactory JSON_FACTORY = JsonFactory.getInstance();
+    private final boolean isReadOnly;
     private ObjectNode objectNode;
 
     public JsonObject(final ObjectNode objectNode) {
+        this(objectNode, false);
+    }
+
+    JsonObject(final ObjectNode objectNode, final boolean isReadOnly) {
         this.objectNode = objectNode;
+        this.isReadOnly = isReadOnly;
     }
 
     /**
@@ -41,6 +47,7 @@ public final class JsonObject {
      * @return The json object
      */
     public JsonObject add(final JsonNode jsonNode) {
+        checkWritable();
         this.objectNode = (ObjectNode) jsonNode;
              
         return this;
@@ -54,6 +61,7 @@ public final class JsonObject {
      * @param jsonObject The json object instance
      */
     public void addAll(final JsonObject jsonObject) {
+        checkWritable();
         objectNode.setAll(jsonObject.getObjectNode());
     }
 
@@ -89,6 +97,7 @@ public final class JsonObject {
      * @return The Json object
      */
     public JsonObject put(final String key, final String value) {
+        checkWritable();
         objectNode.put(key, value);
              
         return this;
@@ -115,4 +124,15 @@ public final class JsonObject {
     public ObjectNode getObjectNode() {
         return objectNode;
     }
+
+    /**
+     * <p>
+     * Checks the json object can be changed, the shared read only objects can't be changed.
+     * </p>
+     */
+    private void checkWritable() {
+        if (isReadOnly) {
+            throw new UnsupportedOperationException("Shared json object is read only");
+        }
+    }
 }
\ No newline at end of file
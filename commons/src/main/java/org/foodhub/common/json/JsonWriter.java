@@ -0,0 +1,107 @@
+package org.foodhub.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import org.foodhub.common.exception.JacksonDataConversionException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Writes the objects and the collections straight to the json bytes with the shared object writer, without building
+ * the intermediate json node tree of {@link JsonObject#build} and {@link JsonArray#build}.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class JsonWriter {
+
+    private final ObjectWriter objectWriter;
+
+    JsonWriter(final ObjectMapper objectMapper) {
+        objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * <p>
+     * Writes the object or the collection as the json bytes.
+     * </p>
+     *
+     * @param object Represents the object or the collection to be written
+     * @return The json bytes of the object
+     */
+    public byte[] write(final Object object) {
+        try {
+            return objectWriter.writeValueAsBytes(object);
+        } catch (IOException exception) {
+            throw new JacksonDataConversionException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Writes the objects as the json array bytes, the objects are written one by one as they are iterated.
+     * </p>
+     *
+     * @param objects Represents the objects to be written
+     * @return The json array bytes of the objects
+     */
+    public byte[] writeArray(final Iterator<?> objects) {
+        try (final ByteArrayBuilder byteArrayBuilder = new ByteArrayBuilder()) {
+            writeArray(byteArrayBuilder, objects);
+
+            return byteArrayBuilder.toByteArray();
+        }
+    }
+
+    /**
+     * <p>
+     * Writes the objects as the json array to the output stream, the objects are written one by one as they are
+     * iterated. The output stream is left open.
+     * </p>
+     *
+     * @param outputStream Represents the output stream of the json array
+     * @param objects      Represents the objects to be written
+     */
+    public void writeArray(final OutputStream outputStream, final Iterator<?> objects) {
+        writeArray(outputStream, objects, object -> {
+        });
+    }
+
+    /**
+     * <p>
+     * Writes the objects as the json array to the output stream and passes each written object to the listener. The
+     * output stream is left open.
+     * </p>
+     *
+     * @param outputStream Represents the output stream of the json array
+     * @param objects      Represents the objects to be written
+     * @param listener     Represents the listener of the written objects
+     * @param <T>          The type of the objects
+     */
+    public <T> void writeArray(final OutputStream outputStream, final Iterator<T> objects,
+                               final Consumer<? super T> listener) {
+        try (final JsonGenerator jsonGenerator = objectWriter.createGenerator(outputStream)) {
+            jsonGenerator.writeStartArray();
+
+            while (objects.hasNext()) {
+                final T object = objects.next();
+
+                objectWriter.writeValue(jsonGenerator, object);
+                listener.accept(object);
+            }
+            jsonGenerator.writeEndArray();
+        } catch (IOException exception) {
+            throw new JacksonDataConversionException(exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.foodhub.common.json;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Holds the precomputed json bytes of the fixed status messages and of the validation violations, so the constant
+ * responses are serialized once instead of building and writing a fresh json object on every call.
+ * </p>
+ *
+ * <p>
+ * The bytes are shared by all the callers and have to be treated as immutable, they are only meant to be written to
+ * the response. Each registry is bounded, the responses beyond the bound are written without being kept.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class StatusResponses {
+
+    private static final String STATUS = "status";
+    private static final int MAXIMUM_ENTRIES = 512;
+    private final JsonWriter jsonWriter;
+    private final Map<String, byte[]> statuses;
+    private final Map<String, byte[]> statusArrays;
+    private final Map<ObjectNode, byte[]> violations;
+    private final Map<ObjectNode, byte[]> violationArrays;
+
+    StatusResponses(final JsonWriter jsonWriter) {
+        this.jsonWriter = jsonWriter;
+        statuses = new ConcurrentHashMap<>();
+        statusArrays = new ConcurrentHashMap<>();
+        violations = new ConcurrentHashMap<>();
+        violationArrays = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * <p>
+     * Gets the json bytes of the status object, {"status":message}.
+     * </p>
+     *
+     * @param message Represents the fixed status message
+     * @return The shared json bytes of the status object
+     */
+    public byte[] getStatus(final String message) {
+        return get(statuses, message, key -> jsonWriter.write(Map.of(STATUS, key)));
+    }
+
+    /**
+     * <p>
+     * Gets the json bytes of the status object wrapped in the array, [{"status":message}].
+     * </p>
+     *
+     * @param message Represents the fixed status message
+     * @return The shared json bytes of the status array
+     */
+    public byte[] getStatusArray(final String message) {
+        return get(statusArrays, message, key -> jsonWriter.write(List.of(Map.of(STATUS, key))));
+    }
+
+    /**
+     * <p>
+     * Gets the json bytes of the validation violations. The violation messages are fixed, so the same set of
+     * violations is written only once.
+     * </p>
+     *
+     * @param jsonObject Represents the violations of the validation
+     * @return The shared json bytes of the violations
+     */
+    public byte[] getViolations(final JsonObject jsonObject) {
+        return get(violations, jsonObject.getObjectNode(), jsonWriter::write);
+    }
+
+    /**
+     * <p>
+     * Gets the json bytes of the validation violations wrapped in the array.
+     * </p>
+     *
+     * @param jsonObject Represents the violations of the validation
+     * @return The shared json bytes of the violations array
+     */
+    public byte[] getViolationsArray(final JsonObject jsonObject) {
+        return get(violationArrays, jsonObject.getObjectNode(), objectNode -> jsonWriter.write(List.of(objectNode)));
+    }
+
+    /**
+     * <p>
+     * Gets the bytes of the key from the registry, the bytes are written and kept on the first use. The object node
+     * keys are copied before they are kept, as the callers own the given node.
+     * </p>
+     *
+     * @param registry Represents the registry of the bytes
+     * @param key      Represents the key of the response
+     * @param writer   Represents the writer of the response bytes
+     * @param <K>      The type of the key
+     * @return The json bytes of the response
+     */
+    private <K> byte[] get(final Map<K, byte[]> registry, final K key, final Function<K, byte[]> writer) {
+        final byte[] bytes = registry.get(key);
+
+        if (null != bytes) {
+            return bytes;
+        }
+        final byte[] response = writer.apply(key);
+
+        if (MAXIMUM_ENTRIES > registry.size()) {
+            final byte[] existingBytes = registry.putIfAbsent(copyOf(key), response);
+
+            return null == existingBytes ? response : existingBytes;
+        }
+
+        return response;
+    }
+
+    /**
+     * <p>
+     * Copies the object node keys, the string keys are immutable and kept as they are.
+     * </p>
+     *
+     * @param key Represents the key of the response
+     * @param <K> The type of the key
+     * @return The key to be kept in the registry
+     */
+    @SuppressWarnings("unchecked")
+    private static <K> K copyOf(final K key) {
+        return key instanceof ObjectNode ? (K) ((ObjectNode) key).deepCopy() : key;
+    }
+}
@@ -0,0 +1,160 @@
+package org.foodhub.common.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Performs the unit tests on the response cache, so the response read before an invalidation is never cached after
+ * it and the tagged responses are invalidated along with their tags.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class ResponseCacheTest {
+
+    /**
+     * <p>
+     * Verifies that the response put with the current version is cached.
+     * </p>
+     */
+    @Test
+    void shouldCacheTheResponseReadAtTheCurrentVersion() {
+        final ResponseCache<String> responseCache = new ResponseCache<>(4);
+        final byte[] response = {1};
+
+        responseCache.put("key", response, responseCache.getVersion());
+
+        Assertions.assertArrayEquals(response, responseCache.get("key").orElseThrow());
+        Assertions.assertEquals(1, responseCache.getHits());
+    }
+
+    /**
+     * <p>
+     * Verifies that the response read before any kind of invalidation is discarded instead of cached.
+     * </p>
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"key", "filter", "tag", "other"})
+    void shouldDiscardTheResponseReadBeforeTheInvalidation(final String invalidation) {
+        final ResponseCache<String> responseCache = new ResponseCache<>(4);
+        final long readVersion = responseCache.getVersion();
+
+        switch (invalidation) {
+            case "key" -> responseCache.invalidate("key");
+            case "filter" -> responseCache.invalidateIf(key -> false);
+            case "tag" -> responseCache.invalidateTag(7);
+            default -> responseCache.invalidate("other");
+        }
+        final byte[] response = responseCache.put("key", new byte[] {1}, List.of(7L), readVersion);
+
+        Assertions.assertArrayEquals(new byte[] {1}, response);
+        Assertions.assertTrue(responseCache.get("key").isEmpty());
+        Assertions.assertEquals(0, responseCache.getSize());
+    }
+
+    /**
+     * <p>
+     * Verifies that the tag invalidates only the responses put with it.
+     * </p>
+     */
+    @Test
+    void shouldInvalidateOnlyTheTaggedResponses() {
+        final ResponseCache<String> responseCache = new ResponseCache<>(4);
+        final long readVersion = responseCache.getVersion();
+
+        responseCache.put("first", new byte[] {1}, List.of(1L, 2L), readVersion);
+        responseCache.put("second", new byte[] {2}, List.of(2L), readVersion);
+        responseCache.put("third", new byte[] {3}, readVersion);
+        responseCache.invalidateTag(1);
+
+        Assertions.assertTrue(responseCache.get("first").isEmpty());
+        Assertions.assertTrue(responseCache.get("second").isPresent());
+        Assertions.assertTrue(responseCache.get("third").isPresent());
+        responseCache.invalidateTag(2);
+
+        Assertions.assertTrue(responseCache.get("second").isEmpty());
+        Assertions.assertTrue(responseCache.get("third").isPresent());
+        Assertions.assertEquals(2, responseCache.getInvalidations());
+    }
+
+    /**
+     * <p>
+     * Verifies that the least recently used response is evicted once the cache is full, and its tags are dropped.
+     * </p>
+     */
+    @Test
+    void shouldEvictTheLeastRecentlyUsedResponse() {
+        final ResponseCache<String> responseCache = new ResponseCache<>(2);
+        final long readVersion = responseCache.getVersion();
+
+        responseCache.put("first", new byte[] {1}, List.of(1L), readVersion);
+        responseCache.put("second", new byte[] {2}, readVersion);
+        responseCache.get("first");
+        responseCache.put("third", new byte[] {3}, readVersion);
+
+        Assertions.assertTrue(responseCache.get("second").isEmpty());
+        Assertions.assertTrue(responseCache.get("first").isPresent());
+        Assertions.assertEquals(1, responseCache.getEvictions());
+        Assertions.assertEquals(2, responseCache.getSize());
+    }
+
+    /**
+     * <p>
+     * Verifies that the reader racing with the update never leaves the stale response cached. The reader takes the
+     * version and reads the data, the update changes the data and invalidates the cache, and the reader puts the
+     * response read before the update only after it.
+     * </p>
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"key", "filter", "tag"})
+    void shouldNotCacheTheResponseReadBeforeTheRacingUpdate(final String invalidation) throws Exception {
+        final ResponseCache<String> responseCache = new ResponseCache<>(4);
+        final AtomicLong data = new AtomicLong(1);
+        final CountDownLatch isRead = new CountDownLatch(1);
+        final CountDownLatch isUpdated = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            final Future<?> reader = executorService.submit(() -> {
+                final long readVersion = responseCache.getVersion();
+                final byte[] response = {(byte) data.get()};
+
+                isRead.countDown();
+                isUpdated.await(10, TimeUnit.SECONDS);
+
+                return responseCache.put("key", response, List.of(1L), readVersion);
+            });
+
+            Assertions.assertTrue(isRead.await(10, TimeUnit.SECONDS));
+            data.incrementAndGet();
+
+            switch (invalidation) {
+                case "key" -> responseCache.invalidate("key");
+                case "filter" -> responseCache.invalidateIf(key -> true);
+                default -> responseCache.invalidateTag(1);
+            }
+            isUpdated.countDown();
+            reader.get(10, TimeUnit.SECONDS);
+
+            Assertions.assertTrue(responseCache.get("key").isEmpty());
+            final long readVersion = responseCache.getVersion();
+
+            responseCache.put("key", new byte[] {(byte) data.get()}, List.of(1L), readVersion);
+            Assertions.assertArrayEquals(new byte[] {2}, responseCache.get("key").orElseThrow());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
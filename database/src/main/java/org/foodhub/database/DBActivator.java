@@ -6,6 +6,9 @@ import org.apache.logging.log4j.Logger;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
+import org.foodhub.database.async.DatabaseExecutor;
+import org.foodhub.database.connection.DataBaseConnection;
+
 /**
  * <p>
  *  Customizes the starting and stopping of a bundle.
@@ -39,6 +42,8 @@ public final class DBActivator implements BundleActivator {
      */
     @Override
     public void stop(final BundleContext context) {
+        DatabaseExecutor.getInstance().close();
+        DataBaseConnection.close();
         LOGGER.info("Database Bundle Is Stopped");
     }
 }
@@ -0,0 +1,221 @@
+package org.foodhub.database.async;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.foodhub.database.connection.ConnectionPoolConfig;
+import org.foodhub.database.connection.DataBaseConnection;
+import org.foodhub.database.exception.DatabaseBusyException;
+
+/**
+ * <p>
+ * Runs the blocking database calls on the dedicated bounded executor, so the callers are not pinned while the call
+ * waits on the database.
+ * </p>
+ *
+ * <p>
+ * The calls wait in the bounded queue once all the threads are busy, the calls beyond the queue are rejected at once
+ * with the failed future instead of piling up behind a slow database.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class DatabaseExecutor {
+
+    private final LongAdder rejectedCalls;
+    private volatile ThreadPoolExecutor executor;
+
+    private DatabaseExecutor() {
+        rejectedCalls = new LongAdder();
+    }
+
+    /**
+     * <p>
+     * Creates the instance of the class
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final DatabaseExecutor DATABASE_EXECUTOR = new DatabaseExecutor();
+    }
+
+    /**
+     * <p>
+     * Gets the instance of the database executor class.
+     * </p>
+     *
+     * @return The database executor instance
+     */
+    public static DatabaseExecutor getInstance() {
+        return InstanceHolder.DATABASE_EXECUTOR;
+    }
+
+    /**
+     * <p>
+     * Gets the executor of the database calls, the executor is created from the database config on the first use.
+     * </p>
+     *
+     * @return The executor of the database calls
+     */
+    private ThreadPoolExecutor getExecutor() {
+        if (null == executor) {
+
+            synchronized (this) {
+
+                if (null == executor) {
+                    executor = createExecutor(DataBaseConnection.getConfig());
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    /**
+     * <p>
+     * Creates the bounded executor having a thread per async call slot and the bounded queue of waiting calls.
+     * </p>
+     *
+     * @param config Represents the database config
+     * @return The bounded executor
+     */
+    private static ThreadPoolExecutor createExecutor(final ConnectionPoolConfig config) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(config.getAsyncThreads(),
+                config.getAsyncThreads(), 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(config.getAsyncQueueSize()),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, String.join("-", "database-async",
+                            String.valueOf(threadCount.incrementAndGet())));
+
+                    thread.setDaemon(true);
+
+                    return thread;
+                });
+
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+        return threadPoolExecutor;
+    }
+
+    /**
+     * <p>
+     * Runs the database call on the executor.
+     * </p>
+     *
+     * @param call Represents the blocking database call
+     * @param <T>  The result type of the call
+     * @return The future completed with the result of the call, or failed with {@link DatabaseBusyException} when
+     * the executor is saturated
+     */
+    public <T> CompletableFuture<T> supply(final Supplier<T> call) {
+        final ThreadPoolExecutor threadPoolExecutor = getExecutor();
+        final DatabaseCall<T> databaseCall = new DatabaseCall<>(call);
+
+        try {
+            threadPoolExecutor.execute(databaseCall);
+
+            return databaseCall.result;
+        } catch (RejectedExecutionException message) {
+            rejectedCalls.increment();
+
+            return CompletableFuture.failedFuture(new DatabaseBusyException(String.join(" ",
+                    "Database is busy, rejected the call after", String.valueOf(threadPoolExecutor.getQueue().size()),
+                    "queued calls")));
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the count of the database calls running on the executor.
+     * </p>
+     *
+     * @return The count of the active calls
+     */
+    public int getActiveCalls() {
+        final ThreadPoolExecutor threadPoolExecutor = executor;
+
+        return null == threadPoolExecutor ? 0 : threadPoolExecutor.getActiveCount();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the database calls waiting in the queue.
+     * </p>
+     *
+     * @return The count of the queued calls
+     */
+    public int getQueuedCalls() {
+        final ThreadPoolExecutor threadPoolExecutor = executor;
+
+        return null == threadPoolExecutor ? 0 : threadPoolExecutor.getQueue().size();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the database calls rejected as the executor was saturated.
+     * </p>
+     *
+     * @return The count of the rejected calls
+     */
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+    /**
+     * <p>
+     * Shuts down the executor if it was created. The queued calls are not run, their futures are failed, so the
+     * callers waiting on them are resumed.
+     * </p>
+     */
+    public synchronized void close() {
+        if (null != executor) {
+            final List<Runnable> queuedCalls = executor.shutdownNow();
+
+            executor = null;
+
+            for (final Runnable queuedCall : queuedCalls) {
+
+                if (queuedCall instanceof DatabaseCall<?> databaseCall) {
+                    databaseCall.result.completeExceptionally(new DatabaseBusyException(
+                            "Database executor is closed, the call was not run"));
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Runs the database call and completes its future, the future is kept along with the call so the call drained
+     * from the queue can be failed.
+     * </p>
+     *
+     * @param <T> The result type of the call
+     */
+    private static final class DatabaseCall<T> implements Runnable {
+
+        private final Supplier<T> call;
+        private final CompletableFuture<T> result;
+
+        private DatabaseCall(final Supplier<T> call) {
+            this.call = call;
+            result = new CompletableFuture<>();
+        }
+
+        @Override
+        public void run() {
+            try {
+                result.complete(call.get());
+            } catch (Throwable exception) {
+                result.completeExceptionally(exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.foodhub.database.connection;
+
+import java.sql.Connection;
+
+/**
+ * <p>
+ * Handles the methods to borrow the pooled database connections.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public interface ConnectionPool {
+
+    /**
+     * <p>
+     * Borrows the connection from the pool, closing the borrowed connection returns it to the pool.
+     * </p>
+     *
+     * @return The pooled database connection
+     */
+    Connection borrow();
+
+    /**
+     * <p>
+     * Gets the count of connections currently opened by the pool.
+     * </p>
+     *
+     * @return The count of opened connections
+     */
+    int getTotalConnections();
+
+    /**
+     * <p>
+     * Gets the count of connections waiting in the pool to be borrowed.
+     * </p>
+     *
+     * @return The count of idle connections
+     */
+    int getIdleConnections();
+
+    /**
+     * <p>
+     * Gets the count of prepared statements reused from the statement caches of the pooled connections.
+     * </p>
+     *
+     * @return The count of statement cache hits
+     */
+    long getStatementCacheHits();
+
+    /**
+     * <p>
+     * Gets the count of prepared statements newly prepared on the pooled connections.
+     * </p>
+     *
+     * @return The count of statement cache misses
+     */
+    long getStatementCacheMisses();
+
+    /**
+     * <p>
+     * Closes all the connections and stops the pool.
+     * </p>
+     */
+    void close();
+}
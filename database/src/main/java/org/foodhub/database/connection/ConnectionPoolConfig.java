@@ -0,0 +1,268 @@
+package org.foodhub.database.connection;
+
+import java.util.Properties;
+
+/**
+ * <p>
+ * Holds the properties of the database connection pool.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class ConnectionPoolConfig {
+
+    private static final String DEFAULT_MAXIMUM_POOL_SIZE = "10";
+    private static final String DEFAULT_MINIMUM_IDLE = "2";
+    private static final String DEFAULT_BORROW_TIMEOUT_MILLIS = "5000";
+    private static final String DEFAULT_IDLE_TIMEOUT_MILLIS = "600000";
+    private static final String DEFAULT_MAX_LIFETIME_MILLIS = "1800000";
+    private static final String DEFAULT_VALIDATION_IDLE_MILLIS = "5000";
+    private static final String DEFAULT_VALIDATION_TIMEOUT_SECONDS = "2";
+    private static final String DEFAULT_STATEMENT_CACHE_SIZE = "32";
+    private static final String DEFAULT_FETCH_SIZE = "100";
+    private static final String DEFAULT_COPY_CHUNK_SIZE = "5000";
+    private static final String DEFAULT_ASYNC_THREADS = "10";
+    private static final String DEFAULT_ASYNC_QUEUE_SIZE = "100";
+    private String url;
+    private String user;
+    private String password;
+    private int maximumPoolSize;
+    private int minimumIdle;
+    private long borrowTimeoutMillis;
+    private long idleTimeoutMillis;
+    private long maxLifetimeMillis;
+    private long validationIdleMillis;
+    private int validationTimeoutSeconds;
+    private int statementCacheSize;
+    private int fetchSize;
+    private int copyChunkSize;
+    private int asyncThreads;
+    private int asyncQueueSize;
+
+    private ConnectionPoolConfig() {
+        maximumPoolSize = Integer.parseInt(DEFAULT_MAXIMUM_POOL_SIZE);
+        minimumIdle = Integer.parseInt(DEFAULT_MINIMUM_IDLE);
+        borrowTimeoutMillis = Long.parseLong(DEFAULT_BORROW_TIMEOUT_MILLIS);
+        idleTimeoutMillis = Long.parseLong(DEFAULT_IDLE_TIMEOUT_MILLIS);
+        maxLifetimeMillis = Long.parseLong(DEFAULT_MAX_LIFETIME_MILLIS);
+        validationIdleMillis = Long.parseLong(DEFAULT_VALIDATION_IDLE_MILLIS);
+        validationTimeoutSeconds = Integer.parseInt(DEFAULT_VALIDATION_TIMEOUT_SECONDS);
+        statementCacheSize = Integer.parseInt(DEFAULT_STATEMENT_CACHE_SIZE);
+        fetchSize = Integer.parseInt(DEFAULT_FETCH_SIZE);
+        copyChunkSize = Integer.parseInt(DEFAULT_COPY_CHUNK_SIZE);
+        asyncThreads = Integer.parseInt(DEFAULT_ASYNC_THREADS);
+        asyncQueueSize = Integer.parseInt(DEFAULT_ASYNC_QUEUE_SIZE);
+    }
+
+    /**
+     * <p>
+     * Creates the pool config from the database properties.
+     * </p>
+     *
+     * @param properties Represents the loaded database properties
+     * @return The connection pool config
+     */
+    public static ConnectionPoolConfig fromProperties(final Properties properties) {
+        return new ConnectionPoolConfigBuilder()
+                .setUrl(properties.getProperty("database.url"))
+                .setUser(properties.getProperty("database.user"))
+                .setPassword(properties.getProperty("database.password"))
+                .setMaximumPoolSize(Integer.parseInt(properties.getProperty("database.pool.maximumSize",
+                        DEFAULT_MAXIMUM_POOL_SIZE)))
+                .setMinimumIdle(Integer.parseInt(properties.getProperty("database.pool.minimumIdle",
+                        DEFAULT_MINIMUM_IDLE)))
+                .setBorrowTimeoutMillis(Long.parseLong(properties.getProperty("database.pool.borrowTimeoutMillis",
+                        DEFAULT_BORROW_TIMEOUT_MILLIS)))
+                .setIdleTimeoutMillis(Long.parseLong(properties.getProperty("database.pool.idleTimeoutMillis",
+                        DEFAULT_IDLE_TIMEOUT_MILLIS)))
+                .setMaxLifetimeMillis(Long.parseLong(properties.getProperty("database.pool.maxLifetimeMillis",
+                        DEFAULT_MAX_LIFETIME_MILLIS)))
+                .setValidationIdleMillis(Long.parseLong(properties.getProperty("database.pool.validationIdleMillis",
+                        DEFAULT_VALIDATION_IDLE_MILLIS)))
+                .setValidationTimeoutSeconds(Integer.parseInt(properties.getProperty(
+                        "database.pool.validationTimeoutSeconds", DEFAULT_VALIDATION_TIMEOUT_SECONDS)))
+                .setStatementCacheSize(Integer.parseInt(properties.getProperty("database.pool.statementCacheSize",
+                        DEFAULT_STATEMENT_CACHE_SIZE)))
+                .setFetchSize(Integer.parseInt(properties.getProperty("database.cursor.fetchSize",
+                        DEFAULT_FETCH_SIZE)))
+                .setCopyChunkSize(Integer.parseInt(properties.getProperty("database.copy.chunkSize",
+                        DEFAULT_COPY_CHUNK_SIZE)))
+                .setAsyncThreads(Integer.parseInt(properties.getProperty("database.async.threads",
+                        DEFAULT_ASYNC_THREADS)))
+                .setAsyncQueueSize(Integer.parseInt(properties.getProperty("database.async.queueSize",
+                        DEFAULT_ASYNC_QUEUE_SIZE)))
+                .build();
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public int getMinimumIdle() {
+        return minimumIdle;
+    }
+
+    public long getBorrowTimeoutMillis() {
+        return borrowTimeoutMillis;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public long getMaxLifetimeMillis() {
+        return maxLifetimeMillis;
+    }
+
+    public long getValidationIdleMillis() {
+        return validationIdleMillis;
+    }
+
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public int getCopyChunkSize() {
+        return copyChunkSize;
+    }
+
+    public int getAsyncThreads() {
+        return asyncThreads;
+    }
+
+    public int getAsyncQueueSize() {
+        return asyncQueueSize;
+    }
+
+    /**
+     * <p>
+     * Method to set the properties of the pool config and to build the pool config instance.
+     * </p>
+     *
+     * @author Muthu kumar V
+     * @version 1.0
+     */
+    public static class ConnectionPoolConfigBuilder {
+
+        private final ConnectionPoolConfig config;
+
+        public ConnectionPoolConfigBuilder() {
+            config = new ConnectionPoolConfig();
+        }
+
+        public ConnectionPoolConfigBuilder setUrl(final String url) {
+            config.url = url;
+
+            return this;
+        }
+
+        public ConnectionPoolConfigBuilder setUser(final String user) {
+            config.user = user;
+
+            return this;
+        }
+
+        public ConnectionPoolConfigBuilder setPassword(final String password) {
+            config.password = password;
+
+            return this;
+        }
+
+        public ConnectionPoolConfigBuilder setMaximumPoolSize(final int maximumPoolSize) {
+            config.maximumPoolSize = maximumPoolSize;
+
+            return this;
+        }
+
+        public ConnectionPoolConfigBuilder setMinimumIdle(final int minimumIdle) {
+            config.minimumIdle = minimumIdle;
+
+            return this;
+        }
+
+        public ConnectionPoolConfigBuilder setBorrowTimeoutMillis(final long borrowTimeoutMillis) {
+            config.borrowTimeoutMillis = borrowTimeoutMillis;
+
+            return this;
+        }
+
+        public ConnectionPoolConfigBuilder setIdleTimeoutMillis(final long idleTimeoutMillis) {
+            config.idleTimeoutMillis = idleTimeoutMillis;
+
+            return this;
+        }
+
+        public ConnectionPoolConfigBuilder setMaxLifetimeMillis(final long maxLifetimeMillis) {
+            config.maxLifetimeMillis = maxLifetimeMillis;
+
+            return this;
+        }
+
+        public ConnectionPoolConfigBuilder setValidationIdleMillis(final long validationIdleMillis) {
+            config.validationIdleMillis = validationIdleMillis;
+
+            return this;
+        }
+
+        public ConnectionPoolConfigBuilder setValidationTimeoutSeconds(final int validationTimeoutSeconds) {
+            config.validationTimeoutSeconds = validationTimeoutSeconds;
+
+            return this;
+        }
+
+        public ConnectionPoolConfigBuilder setStatementCacheSize(final int statementCacheSize) {
+            config.statementCacheSize = statementCacheSize;
+
+            return this;
+        }
+
+        public ConnectionPoolConfigBuilder setFetchSize(final int fetchSize) {
+            config.fetchSize = fetchSize;
+
+            return this;
+        }
+
+        public ConnectionPoolConfigBuilder setCopyChunkSize(final int copyChunkSize) {
+            config.copyChunkSize = copyChunkSize;
+
+            return this;
+        }
+
+        public ConnectionPoolConfigBuilder setAsyncThreads(final int asyncThreads) {
+            config.asyncThreads = asyncThreads;
+
+            return this;
+        }
+
+        public ConnectionPoolConfigBuilder setAsyncQueueSize(final int asyncQueueSize) {
+            config.asyncQueueSize = asyncQueueSize;
+
+            return this;
+        }
+
+        public ConnectionPoolConfig build() {
+            return config;
+        }
+    }
+}
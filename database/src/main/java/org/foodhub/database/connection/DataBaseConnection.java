@@ -6,17 +6,16 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.SQLException;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
+import org.foodhub.database.connection.impl.ConnectionPoolImpl;
 import org.foodhub.database.exception.DatabaseConnectionFailureException;
 
 /**
  * <p>
- * Connects to the database to store information.
+ * Connects to the database to store information, the connections are borrowed from the bounded connection pool.
  * </p>
  *
  * @author Muthu kumar V
@@ -25,38 +24,119 @@ import org.foodhub.database.exception.DatabaseConnectionFailureException;
 public final class DataBaseConnection {
 
     private static final Logger LOGGER = LogManager.getLogger(DataBaseConnection.class);
-    private static Connection connection;
+    private static volatile ConnectionPool connectionPool;
+    private static volatile ConnectionPoolConfig connectionPoolConfig;
 
     private DataBaseConnection() {
     }
 
     /**
      * <p>
-     * Gets the database connection.
+     * Gets the database connection from the pool, the connection has to be closed to return it to the pool.
      * </p>
      *
      * @return The database connection
      */
     public static Connection get() {
-        if (null == connection) {
-            final ClassLoader classLoader = DataBaseConnection.class.getClassLoader();
-
-            try (final InputStream inputStream = classLoader.getResourceAsStream("database.properties")) {
-                final Properties properties = new Properties();
-
-                properties.load(inputStream);
-                final String url = properties.get("database.url").toString();
-                final String user = properties.get("database.user").toString();
-                final String password = properties.get("database.password").toString();
-
-                Class.forName("org.postgresql.Driver");
-                connection = DriverManager.getConnection(url, user, password);
-            } catch (SQLException | IOException | ClassNotFoundException message) {
-                LOGGER.error(message.getMessage());
-                throw new DatabaseConnectionFailureException(message.getMessage());
+        return getPool().borrow();
+    }
+
+    /**
+     * <p>
+     * Gets the connection pool, the pool is created on the first use.
+     * </p>
+     *
+     * @return The database connection pool
+     */
+    public static ConnectionPool getPool() {
+        if (null == connectionPool) {
+
+            synchronized (DataBaseConnection.class) {
+
+                if (null == connectionPool) {
+                    connectionPoolConfig = ConnectionPoolConfig.fromProperties(loadProperties());
+                    connectionPool = new ConnectionPoolImpl(connectionPoolConfig);
+                }
             }
         }
 
-        return connection;
+        return connectionPool;
+    }
+
+    /**
+     * <p>
+     * Gets the config of the database, the config is loaded along with the pool on the first use.
+     * </p>
+     *
+     * @return The database config
+     */
+    public static ConnectionPoolConfig getConfig() {
+        getPool();
+
+        return connectionPoolConfig;
+    }
+
+    /**
+     * <p>
+     * Gets the count of rows fetched at a time by the database cursors.
+     * </p>
+     *
+     * @return The fetch size of the cursors
+     */
+    public static int getFetchSize() {
+        getPool();
+
+        return connectionPoolConfig.getFetchSize();
+    }
+
+    /**
+     * <p>
+     * Gets the count of rows copied and committed at a time by the bulk loads.
+     * </p>
+     *
+     * @return The chunk size of the bulk loads
+     */
+    public static int getCopyChunkSize() {
+        getPool();
+
+        return connectionPoolConfig.getCopyChunkSize();
+    }
+
+    /**
+     * <p>
+     * Closes the connection pool if it was created.
+     * </p>
+     */
+    public static void close() {
+        synchronized (DataBaseConnection.class) {
+
+            if (null != connectionPool) {
+                connectionPool.close();
+                connectionPool = null;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Loads the database properties and the database driver.
+     * </p>
+     *
+     * @return The database properties
+     */
+    private static Properties loadProperties() {
+        final ClassLoader classLoader = DataBaseConnection.class.getClassLoader();
+
+        try (final InputStream inputStream = classLoader.getResourceAsStream("database.properties")) {
+            final Properties properties = new Properties();
+
+            properties.load(inputStream);
+            Class.forName("org.postgresql.Driver");
+
+            return properties;
+        } catch (IOException | ClassNotFoundException message) {
+            LOGGER.error(message.getMessage());
+            throw new DatabaseConnectionFailureException(message.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,255 @@
+package org.foodhub.database.connection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Caches the prepared statements of a single physical connection by the query statement, the least recently used
+ * statement is closed when the cache is full. Reusing the same statement lets the driver keep it prepared on the
+ * server, so the hot queries skip the parse and plan.
+ * </p>
+ *
+ * <p>
+ * The cache belongs to the connection and is used only by the current borrower of the connection.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class StatementCache {
+
+    private final int maximumSize;
+    private final Map<String, CachedStatement> statements;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    public StatementCache(final int maximumSize, final LongAdder hits, final LongAdder misses) {
+        this.maximumSize = maximumSize;
+        this.hits = hits;
+        this.misses = misses;
+        statements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * <p>
+     * Gets the cached statement of the query, the statement is prepared on the connection and cached on the miss.
+     * Closing the returned statement keeps it open in the cache for the next borrower.
+     * </p>
+     *
+     * @param connection Represents the physical connection owning the cache
+     * @param query      Represents the query statement to be prepared
+     * @return The prepared statement of the query
+     * @throws SQLException If the statement can't be prepared
+     */
+    public PreparedStatement prepare(final Connection connection, final String query) throws SQLException {
+        if (0 >= maximumSize) {
+            return connection.prepareStatement(query);
+        }
+        final CachedStatement cachedStatement = statements.get(query);
+
+        if (null != cachedStatement && cachedStatement.isEvicted) {
+            statements.remove(query);
+
+            return prepare(connection, query);
+        }
+
+        if (null != cachedStatement && !cachedStatement.isInUse) {
+            hits.increment();
+
+            return cachedStatement.checkOut();
+        }
+        misses.increment();
+
+        if (null != cachedStatement) {
+            return connection.prepareStatement(query);
+        }
+        final CachedStatement newStatement = new CachedStatement(connection.prepareStatement(query));
+
+        statements.put(query, newStatement);
+        evictEldest();
+
+        return newStatement.checkOut();
+    }
+
+    /**
+     * <p>
+     * Closes the least recently used statements until the cache is within its size, the statements in use are
+     * closed once their borrower closes them.
+     * </p>
+     */
+    private void evictEldest() {
+        final Iterator<CachedStatement> iterator = statements.values().iterator();
+
+        while (statements.size() > maximumSize && iterator.hasNext()) {
+            final CachedStatement cachedStatement = iterator.next();
+
+            iterator.remove();
+            cachedStatement.evict();
+        }
+    }
+
+    /**
+     * <p>
+     * Closes all the cached statements.
+     * </p>
+     */
+    public void clear() {
+        for (final CachedStatement cachedStatement : statements.values()) {
+            cachedStatement.evict();
+        }
+        statements.clear();
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    /**
+     * <p>
+     * Holds the physical statement and hands out the proxies of it, so closing the proxy only resets the statement.
+     * </p>
+     */
+    private static final class CachedStatement {
+
+        private final PreparedStatement statement;
+        private boolean isInUse;
+        private boolean isEvicted;
+
+        private CachedStatement(final PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        /**
+         * <p>
+         * Marks the statement in use and creates the proxy handed out to the borrower.
+         * </p>
+         *
+         * @return The proxy of the prepared statement
+         */
+        private PreparedStatement checkOut() {
+            isInUse = true;
+
+            return (PreparedStatement) Proxy.newProxyInstance(StatementCache.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, new StatementLease());
+        }
+
+        /**
+         * <p>
+         * Closes the statement removed from the cache, the statement in use is closed when it is checked in.
+         * </p>
+         */
+        private void evict() {
+            isEvicted = true;
+
+            if (!isInUse) {
+
+                try {
+                    statement.close();
+                } catch (SQLException ignored) {
+                    // The statement is discarded, nothing left to release.
+                }
+            }
+        }
+
+        /**
+         * <p>
+         * Handles the calls of a single checkout, so a stale proxy can't reset the statement used by another caller.
+         * </p>
+         */
+        private final class StatementLease implements InvocationHandler {
+
+            private ResultSet resultSet;
+            private boolean isReleased;
+
+            /**
+             * {@inheritDoc}
+             *
+             * @param proxy  The proxy instance that the method was invoked on
+             * @param method The method invoked on the proxy instance
+             * @param args   The arguments of the invoked method
+             * @return The value returned by the physical statement
+             * @throws Throwable The exception thrown by the physical statement
+             */
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close" -> {
+                        checkIn();
+
+                        return null;
+                    }
+                    case "isClosed" -> {
+                        return isReleased || statement.isClosed();
+                    }
+                    case "equals" -> {
+                        return proxy == args[0];
+                    }
+                    case "hashCode" -> {
+                        return System.identityHashCode(proxy);
+                    }
+                }
+
+                if (isReleased) {
+                    throw new SQLException("Statement was already closed");
+                }
+
+                try {
+                    final Object result = method.invoke(statement, args);
+
+                    if (result instanceof ResultSet) {
+                        resultSet = (ResultSet) result;
+                    }
+
+                    return result;
+                } catch (InvocationTargetException exception) {
+                    throw exception.getCause();
+                }
+            }
+
+            /**
+             * <p>
+             * Returns the statement to the cache, the open result set and the parameters are cleared for the next
+             * use.
+             * </p>
+             *
+             * @throws SQLException If the statement can't be reset
+             */
+            private void checkIn() throws SQLException {
+                if (isReleased) {
+                    return;
+                }
+                isReleased = true;
+                isInUse = false;
+
+                try {
+                    if (null != resultSet) {
+                        resultSet.close();
+                    }
+
+                    if (isEvicted) {
+                        statement.close();
+                    } else {
+                        statement.clearParameters();
+                        statement.clearBatch();
+                    }
+                } catch (SQLException exception) {
+                    isEvicted = true;
+                    statement.close();
+                    throw exception;
+                }
+            }
+        }
+    }
+}
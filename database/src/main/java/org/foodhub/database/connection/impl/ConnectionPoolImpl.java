@@ -0,0 +1,282 @@
+package org.foodhub.database.connection.impl;
+
+import java.util.Iterator;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.foodhub.database.connection.ConnectionPool;
+import org.foodhub.database.connection.ConnectionPoolConfig;
+import org.foodhub.database.connection.StatementCache;
+import org.foodhub.database.exception.DatabaseConnectionFailureException;
+
+/**
+ * <p>
+ * Implements the bounded pool of database connections, the connections are validated on borrow, evicted when idle
+ * and retired once the maximum lifetime is reached.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class ConnectionPoolImpl implements ConnectionPool {
+
+    private static final Logger LOGGER = LogManager.getLogger(ConnectionPoolImpl.class);
+    private final ConnectionPoolConfig config;
+    private final BlockingDeque<PooledConnection> idleConnections;
+    private final Semaphore borrowPermits;
+    private final AtomicInteger totalConnections;
+    private final LongAdder statementCacheHits;
+    private final LongAdder statementCacheMisses;
+    private final ScheduledExecutorService evictor;
+    private volatile boolean isClosed;
+
+    public ConnectionPoolImpl(final ConnectionPoolConfig config) {
+        this.config = config;
+        idleConnections = new LinkedBlockingDeque<>();
+        borrowPermits = new Semaphore(config.getMaximumPoolSize(), true);
+        totalConnections = new AtomicInteger();
+        statementCacheHits = new LongAdder();
+        statementCacheMisses = new LongAdder();
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "database-pool-evictor");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        final long evictionInterval = Math.max(1000, Math.min(config.getIdleTimeoutMillis(),
+                config.getMaxLifetimeMillis()) / 2);
+
+        evictor.scheduleWithFixedDelay(this::evictConnections, evictionInterval, evictionInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The pooled database connection
+     */
+    @Override
+    public Connection borrow() {
+        if (isClosed) {
+            throw new DatabaseConnectionFailureException("Connection pool is closed");
+        }
+
+        try {
+            if (!borrowPermits.tryAcquire(config.getBorrowTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                throw new DatabaseConnectionFailureException(String.join(" ", "Timed out waiting for a connection after",
+                        String.valueOf(config.getBorrowTimeoutMillis()), "ms"));
+            }
+        } catch (InterruptedException message) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseConnectionFailureException(message.getMessage());
+        }
+
+        try {
+            return getUsableConnection().borrow();
+        } catch (RuntimeException exception) {
+            borrowPermits.release();
+            throw exception;
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the most recently used idle connection which is still usable, opens a new connection otherwise.
+     * </p>
+     *
+     * @return The usable pooled connection
+     */
+    private PooledConnection getUsableConnection() {
+        PooledConnection pooledConnection = idleConnections.pollFirst();
+
+        while (null != pooledConnection) {
+
+            if (isUsable(pooledConnection)) {
+                return pooledConnection;
+            }
+            discard(pooledConnection);
+            pooledConnection = idleConnections.pollFirst();
+        }
+
+        return openConnection();
+    }
+
+    /**
+     * <p>
+     * Checks the idle connection is within its lifetime and still alive.
+     * </p>
+     *
+     * @param pooledConnection Represents the idle pooled connection
+     * @return True if the connection can be handed out, false otherwise
+     */
+    private boolean isUsable(final PooledConnection pooledConnection) {
+        final long now = System.currentTimeMillis();
+
+        if (now - pooledConnection.getCreatedAt() >= config.getMaxLifetimeMillis()) {
+            return false;
+        }
+
+        if (now - pooledConnection.getLastUsedAt() < config.getValidationIdleMillis()) {
+            return true;
+        }
+
+        try {
+            return pooledConnection.getPhysicalConnection().isValid(config.getValidationTimeoutSeconds());
+        } catch (SQLException message) {
+            LOGGER.warn(message.getMessage());
+
+            return false;
+        }
+    }
+
+    /**
+     * <p>
+     * Opens the new physical database connection.
+     * </p>
+     *
+     * @return The new pooled connection
+     */
+    private PooledConnection openConnection() {
+        try {
+            final Connection connection = DriverManager.getConnection(config.getUrl(), config.getUser(),
+                    config.getPassword());
+
+            totalConnections.incrementAndGet();
+
+            return new PooledConnection(connection, this, new StatementCache(config.getStatementCacheSize(),
+                    statementCacheHits, statementCacheMisses));
+        } catch (SQLException message) {
+            LOGGER.error(message.getMessage());
+            throw new DatabaseConnectionFailureException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the borrowed connection to the pool, broken or expired connections are discarded.
+     * </p>
+     *
+     * @param pooledConnection Represents the pooled connection returned by the borrower
+     */
+    void release(final PooledConnection pooledConnection) {
+        try {
+            final boolean isExpired = System.currentTimeMillis() - pooledConnection.getCreatedAt()
+                    >= config.getMaxLifetimeMillis();
+
+            if (isClosed || isExpired || pooledConnection.getPhysicalConnection().isClosed()) {
+                discard(pooledConnection);
+            } else {
+                pooledConnection.reset();
+                idleConnections.offerFirst(pooledConnection);
+            }
+        } catch (SQLException message) {
+            LOGGER.warn(message.getMessage());
+            discard(pooledConnection);
+        } finally {
+            borrowPermits.release();
+        }
+    }
+
+    /**
+     * <p>
+     * Closes the physical connection and removes it from the pool count.
+     * </p>
+     *
+     * @param pooledConnection Represents the pooled connection to be discarded
+     */
+    private void discard(final PooledConnection pooledConnection) {
+        totalConnections.decrementAndGet();
+        pooledConnection.closePhysicalConnection();
+    }
+
+    /**
+     * <p>
+     * Evicts the connections idle for longer than the idle timeout while keeping the minimum idle connections, and
+     * retires the connections past their maximum lifetime.
+     * </p>
+     */
+    private void evictConnections() {
+        final long now = System.currentTimeMillis();
+        final Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+
+        while (iterator.hasNext()) {
+            final PooledConnection pooledConnection = iterator.next();
+            final boolean isExpired = now - pooledConnection.getCreatedAt() >= config.getMaxLifetimeMillis();
+            final boolean isIdleTimedOut = now - pooledConnection.getLastUsedAt() >= config.getIdleTimeoutMillis()
+                    && idleConnections.size() > config.getMinimumIdle();
+
+            if ((isExpired || isIdleTimedOut) && idleConnections.remove(pooledConnection)) {
+                discard(pooledConnection);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The count of opened connections
+     */
+    @Override
+    public int getTotalConnections() {
+        return totalConnections.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The count of idle connections
+     */
+    @Override
+    public int getIdleConnections() {
+        return idleConnections.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The count of statement cache hits
+     */
+    @Override
+    public long getStatementCacheHits() {
+        return statementCacheHits.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The count of statement cache misses
+     */
+    @Override
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+        evictor.shutdownNow();
+        PooledConnection pooledConnection = idleConnections.pollFirst();
+
+        while (null != pooledConnection) {
+            discard(pooledConnection);
+            pooledConnection = idleConnections.pollFirst();
+        }
+    }
+}
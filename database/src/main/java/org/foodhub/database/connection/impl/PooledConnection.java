@@ -0,0 +1,160 @@
+package org.foodhub.database.connection.impl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.foodhub.database.connection.StatementCache;
+
+/**
+ * <p>
+ * Holds the physical database connection owned by the pool along with its prepared statement cache, and hands out
+ * the proxies of it to the borrowers.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+final class PooledConnection {
+
+    private final Connection physicalConnection;
+    private final ConnectionPoolImpl connectionPool;
+    private final StatementCache statementCache;
+    private final long createdAt;
+    private volatile long lastUsedAt;
+
+    PooledConnection(final Connection physicalConnection, final ConnectionPoolImpl connectionPool,
+                     final StatementCache statementCache) {
+        this.physicalConnection = physicalConnection;
+        this.connectionPool = connectionPool;
+        this.statementCache = statementCache;
+        this.createdAt = System.currentTimeMillis();
+        this.lastUsedAt = createdAt;
+    }
+
+    /**
+     * <p>
+     * Creates the proxy handed out to the borrower, closing the proxy returns the connection to the pool.
+     * </p>
+     *
+     * @return The proxy of the database connection
+     */
+    Connection borrow() {
+        return (Connection) Proxy.newProxyInstance(PooledConnection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionLease());
+    }
+
+    /**
+     * <p>
+     * Resets the transaction state left by the borrower before the connection is reused.
+     * </p>
+     *
+     * @throws SQLException If the connection state can't be reset
+     */
+    void reset() throws SQLException {
+        if (!physicalConnection.getAutoCommit()) {
+            physicalConnection.rollback();
+            physicalConnection.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * <p>
+     * Closes the physical database connection.
+     * </p>
+     */
+    void closePhysicalConnection() {
+        statementCache.clear();
+
+        try {
+            physicalConnection.close();
+        } catch (SQLException ignored) {
+            // The connection is discarded, nothing left to release.
+        }
+    }
+
+    Connection getPhysicalConnection() {
+        return physicalConnection;
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    long getLastUsedAt() {
+        return lastUsedAt;
+    }
+
+    /**
+     * <p>
+     * Handles the calls of a single borrow, so a stale proxy can't release the connection borrowed by another caller.
+     * </p>
+     */
+    private final class ConnectionLease implements InvocationHandler {
+
+        private boolean isReleased;
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param proxy  The proxy instance that the method was invoked on
+         * @param method The method invoked on the proxy instance
+         * @param args   The arguments of the invoked method
+         * @return The value returned by the physical connection
+         * @throws Throwable The exception thrown by the physical connection
+         */
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    release();
+
+                    return null;
+                }
+                case "isClosed" -> {
+                    return isReleased || physicalConnection.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return String.join(" ", "Pooled", physicalConnection.toString());
+                }
+            }
+
+            if (isReleased) {
+                throw new SQLException("Connection was already returned to the pool");
+            }
+
+            if ("prepareStatement".equals(method.getName()) && 1 == args.length) {
+                return statementCache.prepare(physicalConnection, (String) args[0]);
+            }
+
+            try {
+                return method.invoke(physicalConnection, args);
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+        }
+
+        /**
+         * <p>
+         * Returns the connection to the pool, the connection is released only once.
+         * </p>
+         */
+        private void release() {
+            if (!isReleased) {
+                isReleased = true;
+                lastUsedAt = System.currentTimeMillis();
+                connectionPool.release(PooledConnection.this);
+            }
+        }
+    }
+}
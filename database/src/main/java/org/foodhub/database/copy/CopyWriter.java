@@ -0,0 +1,143 @@
+package org.foodhub.database.copy;
+
+import java.nio.charset.StandardCharsets;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * <p>
+ * Streams the rows to the table through the COPY FROM STDIN protocol of the PostgreSQL driver, the rows are written
+ * in the text format and sent to the server in buffered blocks instead of a statement per row.
+ * </p>
+ *
+ * <p>
+ * The copy runs in the transaction of the given connection, so the rows are visible only once the connection is
+ * committed.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class CopyWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String NULL_VALUE = "\\N";
+    private final CopyIn copyIn;
+    private final StringBuilder buffer;
+
+    private CopyWriter(final CopyIn copyIn) {
+        this.copyIn = copyIn;
+        buffer = new StringBuilder(BUFFER_SIZE);
+    }
+
+    /**
+     * <p>
+     * Starts the copy on the connection.
+     * </p>
+     *
+     * @param connection    Represents the connection of the copy transaction
+     * @param copyStatement Represents the COPY FROM STDIN statement of the table
+     * @return The writer of the copy rows
+     * @throws SQLException If the copy can't be started
+     */
+    public static CopyWriter open(final Connection connection, final String copyStatement) throws SQLException {
+        return new CopyWriter(connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copyStatement));
+    }
+
+    /**
+     * <p>
+     * Writes the row with the values in the order of the columns of the copy statement.
+     * </p>
+     *
+     * @param values Represents the values of the row, null values are written as SQL null
+     * @throws SQLException If the buffered rows can't be sent to the server
+     */
+    public void writeRow(final Object... values) throws SQLException {
+        for (int index = 0; index < values.length; index++) {
+
+            if (0 < index) {
+                buffer.append('\t');
+            }
+
+            if (null == values[index]) {
+                buffer.append(NULL_VALUE);
+            } else {
+                appendEscaped(String.valueOf(values[index]));
+            }
+        }
+        buffer.append('\n');
+
+        if (buffer.length() >= BUFFER_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * <p>
+     * Escapes the characters having special meaning in the text format of the copy.
+     * </p>
+     *
+     * @param value Represents the value of the column
+     */
+    private void appendEscaped(final String value) {
+        for (int index = 0; index < value.length(); index++) {
+            final char character = value.charAt(index);
+
+            switch (character) {
+                case '\\' -> buffer.append("\\\\");
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                default -> buffer.append(character);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Sends the buffered rows to the server.
+     * </p>
+     *
+     * @throws SQLException If the rows can't be sent to the server
+     */
+    private void flush() throws SQLException {
+        final byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * <p>
+     * Sends the remaining rows and completes the copy.
+     * </p>
+     *
+     * @return The count of rows copied by the server
+     * @throws SQLException If any of the rows is rejected by the server
+     */
+    public long endCopy() throws SQLException {
+        if (0 < buffer.length()) {
+            flush();
+        }
+
+        return copyIn.endCopy();
+    }
+
+    /**
+     * <p>
+     * Cancels the copy if it was not completed, so the connection can be rolled back and reused.
+     * </p>
+     *
+     * @throws SQLException If the copy can't be cancelled
+     */
+    @Override
+    public void close() throws SQLException {
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+}
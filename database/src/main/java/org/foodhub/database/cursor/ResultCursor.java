@@ -0,0 +1,150 @@
+package org.foodhub.database.cursor;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.foodhub.database.connection.DataBaseConnection;
+import org.foodhub.database.exception.ResultCursorException;
+import org.foodhub.database.querytemplate.QueryTemplate;
+
+/**
+ * <p>
+ * Reads the rows of the query lazily through the database cursor, only the rows of the current fetch are held in
+ * memory, so the large reads use the same memory regardless of the table size.
+ * </p>
+ *
+ * <p>
+ * The cursor holds the borrowed connection until it is closed, so it has to be used with try-with-resources.
+ * </p>
+ *
+ * @param <T> The type of the object mapped from the row
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class ResultCursor<T> implements Iterator<T>, AutoCloseable {
+
+    private final Connection connection;
+    private final PreparedStatement preparedStatement;
+    private final ResultSet resultSet;
+    private final RowMapper<T> rowMapper;
+    private boolean hasRow;
+    private boolean isFetched;
+
+    private ResultCursor(final Connection connection, final PreparedStatement preparedStatement,
+                         final ResultSet resultSet, final RowMapper<T> rowMapper) {
+        this.connection = connection;
+        this.preparedStatement = preparedStatement;
+        this.resultSet = resultSet;
+        this.rowMapper = rowMapper;
+    }
+
+    /**
+     * <p>
+     * Opens the cursor of the query template bound with the arguments.
+     * </p>
+     *
+     * @param queryTemplate Represents the query template to be executed
+     * @param arguments     Represents the arguments bound to the query template
+     * @param rowMapper     Represents the mapper of the rows
+     * @param <A>           The type of the arguments bound to the query
+     * @param <T>           The type of the object mapped from the row
+     * @return The cursor of the query rows
+     */
+    public static <A, T> ResultCursor<T> open(final QueryTemplate<A> queryTemplate, final A arguments,
+                                              final RowMapper<T> rowMapper) {
+        final Connection connection = DataBaseConnection.get();
+        PreparedStatement preparedStatement = null;
+
+        try {
+            connection.setAutoCommit(false);
+            preparedStatement = connection.prepareStatement(queryTemplate.getQuery());
+            preparedStatement.setFetchSize(DataBaseConnection.getFetchSize());
+            queryTemplate.bind(preparedStatement, arguments);
+
+            return new ResultCursor<>(connection, preparedStatement, preparedStatement.executeQuery(), rowMapper);
+        } catch (SQLException message) {
+            closeQuietly(preparedStatement);
+            closeQuietly(connection);
+            throw new ResultCursorException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Checks the cursor has the next row, the next rows are fetched from the database when the current fetch is
+     * read.
+     * </p>
+     *
+     * @return True if the cursor has the next row, false otherwise
+     */
+    @Override
+    public boolean hasNext() {
+        if (!isFetched) {
+
+            try {
+                hasRow = resultSet.next();
+                isFetched = true;
+            } catch (SQLException message) {
+                throw new ResultCursorException(message.getMessage());
+            }
+        }
+
+        return hasRow;
+    }
+
+    /**
+     * <p>
+     * Gets the object mapped from the next row.
+     * </p>
+     *
+     * @return The object mapped from the row
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        isFetched = false;
+
+        try {
+            return rowMapper.map(resultSet);
+        } catch (SQLException message) {
+            throw new ResultCursorException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Closes the cursor and returns the connection to the pool.
+     * </p>
+     */
+    @Override
+    public void close() {
+        closeQuietly(resultSet);
+        closeQuietly(preparedStatement);
+        closeQuietly(connection);
+    }
+
+    /**
+     * <p>
+     * Closes the resource of the cursor, the failure is ignored as the cursor is already done.
+     * </p>
+     *
+     * @param resource Represents the resource of the cursor
+     */
+    private static void closeQuietly(final AutoCloseable resource) {
+        if (null != resource) {
+
+            try {
+                resource.close();
+            } catch (Exception ignored) {
+                // The cursor is done, nothing left to release.
+            }
+        }
+    }
+}
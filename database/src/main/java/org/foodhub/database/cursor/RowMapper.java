@@ -0,0 +1,28 @@
+package org.foodhub.database.cursor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Maps the current row of the result set to the object.
+ * </p>
+ *
+ * @param <T> The type of the object mapped from the row
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * <p>
+     * Maps the current row of the result set, the cursor of the result set is not moved.
+     * </p>
+     *
+     * @param resultSet Represents the result set positioned on the row
+     * @return The object mapped from the row
+     * @throws SQLException If the column can't be read
+     */
+    T map(final ResultSet resultSet) throws SQLException;
+}
@@ -0,0 +1,15 @@
+package org.foodhub.database.exception;
+
+import org.foodhub.exception.customexception.DefaultException;
+
+/**
+ * <p>
+ * Handles the exception when the database executor is saturated or closed and can't accept any more calls.
+ * </p>
+ */
+public final class DatabaseBusyException extends DefaultException {
+
+    public DatabaseBusyException(final String message) {
+        super(message);
+    }
+}
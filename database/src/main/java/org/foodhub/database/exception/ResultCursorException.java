@@ -0,0 +1,15 @@
+package org.foodhub.database.exception;
+
+import org.foodhub.exception.customexception.DefaultException;
+
+/**
+ * <p>
+ * Handles the exception when unable to read the rows of the result cursor.
+ * </p>
+ */
+public final class ResultCursorException extends DefaultException {
+
+    public ResultCursorException(final String message) {
+        super(message);
+    }
+}
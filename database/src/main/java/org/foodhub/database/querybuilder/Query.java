@@ -4,10 +4,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.foodhub.database.querybuilder.clauses.JoinClause;
 import org.foodhub.database.querybuilder.clauses.WhereClause;
+import org.foodhub.database.querybuilder.parameter.QueryParameter;
 
 /**
  * <p>
@@ -19,27 +22,54 @@ import org.foodhub.database.querybuilder.clauses.WhereClause;
  */
 public final class Query {
 
+    /**
+     * <p>
+     * The maximum count of rows written in a single multi-row insert, the bulk inserts are split into the statements
+     * of this size to stay within the bind parameter limit of the driver.
+     * </p>
+     */
+    public static final int MAXIMUM_INSERT_ROWS = 100;
     private Map<String, String> insertFields;
+    private Map<String, QueryParameter> insertParameters;
+    private List<Map<String, QueryParameter>> insertRows;
     private Collection<String> selectFields;
     private Map<String, String> updateFields;
+    private Map<String, QueryParameter> updateParameters;
+    private Map<String, String> updateExpressions;
     private boolean isDeleteStatement;
     private String tableName;
     private Collection<JoinClause> joins;
     private Collection<WhereClause> whereConditions;
+    private Collection<String> orderByFields;
+    private String limit;
     private boolean isReturningId;
+    private boolean isIgnoringConflicts;
 
     public Query() {
         insertFields = new HashMap<>();
+        insertParameters = new LinkedHashMap<>();
+        insertRows = new ArrayList<>();
         selectFields = new ArrayList<>();
         updateFields = new HashMap<>();
+        updateParameters = new LinkedHashMap<>();
+        updateExpressions = new LinkedHashMap<>();
         joins = new ArrayList<>();
         whereConditions = new ArrayList<>();
+        orderByFields = new ArrayList<>();
     }
 
     public Map<String, String> getInsertFields() {
         return Collections.unmodifiableMap(insertFields);
     }
 
+    public Map<String, QueryParameter> getInsertParameters() {
+        return Collections.unmodifiableMap(insertParameters);
+    }
+
+    public List<Map<String, QueryParameter>> getInsertRows() {
+        return Collections.unmodifiableList(insertRows);
+    }
+
     public Collection<String> getSelectFields() {
         return Collections.unmodifiableCollection(selectFields);
     }
@@ -48,6 +78,22 @@ public final class Query {
         return Collections.unmodifiableMap(updateFields);
     }
 
+    public Map<String, QueryParameter> getUpdateParameters() {
+        return Collections.unmodifiableMap(updateParameters);
+    }
+
+    /**
+     * <p>
+     * Gets the update fields set to the expressions written as they are, such as the field computed from its own
+     * value, the placeholders of the expressions are bound by the query template.
+     * </p>
+     *
+     * @return The update fields along with their expressions
+     */
+    public Map<String, String> getUpdateExpressions() {
+        return Collections.unmodifiableMap(updateExpressions);
+    }
+
     public boolean isDeleteStatement() {
         return isDeleteStatement;
     }
@@ -64,10 +110,22 @@ public final class Query {
         return Collections.unmodifiableCollection(whereConditions);
     }
 
+    public Collection<String> getOrderByFields() {
+        return Collections.unmodifiableCollection(orderByFields);
+    }
+
+    public String getLimit() {
+        return limit;
+    }
+
     public boolean isReturningId() {
         return isReturningId;
     }
 
+    public boolean isIgnoringConflicts() {
+        return isIgnoringConflicts;
+    }
+
     /**
      * <p>
      * Method to set the statements and conditions of the query and to build the query instance.
@@ -90,6 +148,18 @@ public final class Query {
             return this;
         }
 
+        public QueryBuilder setInsertParameters(final Map<String, QueryParameter> insertParameters) {
+            query.insertParameters = insertParameters;
+
+            return this;
+        }
+
+        public QueryBuilder setInsertRows(final List<Map<String, QueryParameter>> insertRows) {
+            query.insertRows = insertRows;
+
+            return this;
+        }
+
         public QueryBuilder setSelectFields(final Collection<String> selectFields) {
             query.selectFields = selectFields;
 
@@ -102,6 +172,18 @@ public final class Query {
             return this;
         }
 
+        public QueryBuilder setUpdateParameters(final Map<String, QueryParameter> updateParameters) {
+            query.updateParameters = updateParameters;
+
+            return this;
+        }
+
+        public QueryBuilder setUpdateExpressions(final Map<String, String> updateExpressions) {
+            query.updateExpressions = updateExpressions;
+
+            return this;
+        }
+
         public QueryBuilder setDeleteStatement(final boolean isDeleteStatement) {
             query.isDeleteStatement = isDeleteStatement;
 
@@ -126,12 +208,30 @@ public final class Query {
             return this;
         }
 
+        public QueryBuilder setOrderByFields(final Collection<String> orderByFields) {
+            query.orderByFields = orderByFields;
+
+            return this;
+        }
+
+        public QueryBuilder setLimit(final String limit) {
+            query.limit = limit;
+
+            return this;
+        }
+
         public QueryBuilder setReturningId(final boolean returningId) {
             query.isReturningId = returningId;
 
             return this;
         }
 
+        public QueryBuilder setIgnoringConflicts(final boolean ignoringConflicts) {
+            query.isIgnoringConflicts = ignoringConflicts;
+
+            return this;
+        }
+
         public Query buildQuery() {
             return query;
         }
@@ -2,6 +2,7 @@ package org.foodhub.database.querybuilder.clauses;
 
 import org.foodhub.database.querybuilder.operator.ConditionalOperator;
 import org.foodhub.database.querybuilder.operator.LogicalOperator;
+import org.foodhub.database.querybuilder.parameter.QueryParameter;
 
 import java.util.List;
 
@@ -19,6 +20,8 @@ public final class WhereClause {
     private ConditionalOperator conditionalOperator;
     private String value;
     private List<String> values;
+    private QueryParameter parameter;
+    private List<QueryParameter> parameters;
     private LogicalOperator logicalOperator;
 
     public WhereClause setColumn(final String column) {
@@ -45,6 +48,18 @@ public final class WhereClause {
         return this;
     }
 
+    public WhereClause setParameter(final QueryParameter parameter) {
+        this.parameter = parameter;
+
+        return this;
+    }
+
+    public WhereClause setParameters(final List<QueryParameter> parameters) {
+        this.parameters = parameters;
+
+        return this;
+    }
+
     public WhereClause setConditionalOperator(final ConditionalOperator conditionalOperator) {
         this.conditionalOperator = conditionalOperator;
 
@@ -67,6 +82,14 @@ public final class WhereClause {
         return values;
     }
 
+    public QueryParameter getParameter() {
+        return parameter;
+    }
+
+    public List<QueryParameter> getParameters() {
+        return parameters;
+    }
+
     public ConditionalOperator getConditionalOperator() {
         return conditionalOperator;
     }
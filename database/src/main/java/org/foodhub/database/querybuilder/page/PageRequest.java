@@ -0,0 +1,45 @@
+package org.foodhub.database.querybuilder.page;
+
+/**
+ * <p>
+ * Holds the keyset page to be read, the page starts after the id of the last row of the previous page, so every page
+ * is read through the index with the same cost regardless of its position.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class PageRequest {
+
+    public static final String DEFAULT_LIMIT = "50";
+    public static final int MAXIMUM_LIMIT = 200;
+    private final long ownerId;
+    private final long after;
+    private final int limit;
+
+    public PageRequest(final long ownerId, final long after, final int limit) {
+        this.ownerId = ownerId;
+        this.after = Math.max(0, after);
+        this.limit = Math.min(Math.max(1, limit), MAXIMUM_LIMIT);
+    }
+
+    /**
+     * <p>
+     * Gets the id of the owner the page is read from, such as the user of the orders or the restaurant of the
+     * menucard.
+     * </p>
+     *
+     * @return The id of the owner
+     */
+    public long getOwnerId() {
+        return ownerId;
+    }
+
+    public long getAfter() {
+        return after;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,29 @@
+package org.foodhub.database.querybuilder.parameter;
+
+import java.sql.Types;
+
+/**
+ * <p>
+ * Type of the parameter value bound to the query placeholder
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public enum ParameterType {
+
+    LONG(Types.BIGINT),
+    INTEGER(Types.INTEGER),
+    FLOAT(Types.REAL),
+    STRING(Types.VARCHAR);
+
+    private final int sqlType;
+
+    ParameterType(final int sqlType) {
+        this.sqlType = sqlType;
+    }
+
+    public int getSqlType() {
+        return sqlType;
+    }
+}
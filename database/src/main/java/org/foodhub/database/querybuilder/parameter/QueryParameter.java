@@ -0,0 +1,49 @@
+package org.foodhub.database.querybuilder.parameter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Holds the typed value bound to the placeholder of the query, so the value is never written into the query
+ * statement.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class QueryParameter {
+
+    private final ParameterType type;
+    private final Object value;
+
+    public QueryParameter(final ParameterType type, final Object value) {
+        this.type = type;
+        this.value = value;
+    }
+
+    public ParameterType getType() {
+        return type;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * <p>
+     * Binds the value to the placeholder of the prepared statement.
+     * </p>
+     *
+     * @param preparedStatement Represents the statement prepared from the query
+     * @param index             Represents the position of the placeholder, starting from one
+     * @throws SQLException If the parameter can't be set
+     */
+    public void bind(final PreparedStatement preparedStatement, final int index) throws SQLException {
+        if (null == value) {
+            preparedStatement.setNull(index, type.getSqlType());
+        } else {
+            preparedStatement.setObject(index, value, type.getSqlType());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.foodhub.database.querytemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Binds the arguments of a call to the parameters of the prepared query template.
+ * </p>
+ *
+ * @param <T> The type of the arguments bound to the query
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ParameterBinder<T> {
+
+    /**
+     * <p>
+     * Sets the arguments to the parameters of the prepared statement.
+     * </p>
+     *
+     * @param preparedStatement Represents the statement prepared from the query template
+     * @param arguments         Represents the arguments of the current call
+     * @throws SQLException If the parameter can't be set
+     */
+    void bind(final PreparedStatement preparedStatement, final T arguments) throws SQLException;
+}
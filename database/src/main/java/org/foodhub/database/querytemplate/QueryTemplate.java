@@ -0,0 +1,42 @@
+package org.foodhub.database.querytemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Holds the parameterized query statement compiled once from the query shape, along with the binder of the call
+ * arguments.
+ * </p>
+ *
+ * @param <T> The type of the arguments bound to the query
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class QueryTemplate<T> {
+
+    private final String query;
+    private final ParameterBinder<T> parameterBinder;
+
+    QueryTemplate(final String query, final ParameterBinder<T> parameterBinder) {
+        this.query = query;
+        this.parameterBinder = parameterBinder;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * <p>
+     * Binds the arguments of the current call to the prepared statement.
+     * </p>
+     *
+     * @param preparedStatement Represents the statement prepared from the query template
+     * @param arguments         Represents the arguments of the current call
+     * @throws SQLException If the parameter can't be set
+     */
+    public void bind(final PreparedStatement preparedStatement, final T arguments) throws SQLException {
+        parameterBinder.bind(preparedStatement, arguments);
+    }
+}
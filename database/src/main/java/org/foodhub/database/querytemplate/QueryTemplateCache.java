@@ -0,0 +1,73 @@
+package org.foodhub.database.querytemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.foodhub.database.querybuilder.Query;
+import org.foodhub.database.querywriter.QueryWriter;
+import org.foodhub.database.querywriter.impl.QueryWriterImpl;
+
+/**
+ * <p>
+ * Caches the query templates, so the query of a persistence method is built and written only once.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class QueryTemplateCache {
+
+    private final Map<String, QueryTemplate<?>> queryTemplates;
+    private final QueryWriter queryWriter;
+
+    private QueryTemplateCache() {
+        queryTemplates = new ConcurrentHashMap<>();
+        queryWriter = QueryWriterImpl.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates the instance of the class
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final QueryTemplateCache QUERY_TEMPLATE_CACHE = new QueryTemplateCache();
+    }
+
+    /**
+     * <p>
+     * Gets the instance of the query template cache class.
+     * </p>
+     *
+     * @return The query template cache instance
+     */
+    public static QueryTemplateCache getInstance() {
+        return InstanceHolder.QUERY_TEMPLATE_CACHE;
+    }
+
+    /**
+     * <p>
+     * Gets the query template of the key, the query is built and written only when the key is not cached yet.
+     * </p>
+     *
+     * @param key             Represents the unique key of the query shape
+     * @param querySupplier   Represents the supplier building the parameterized query
+     * @param parameterBinder Represents the binder of the call arguments
+     * @param <T>             The type of the arguments bound to the query
+     * @return The cached query template
+     */
+    @SuppressWarnings("unchecked")
+    public <T> QueryTemplate<T> getTemplate(final String key, final Supplier<Query> querySupplier,
+                                            final ParameterBinder<T> parameterBinder) {
+        final QueryTemplate<?> queryTemplate = queryTemplates.get(key);
+
+        if (null != queryTemplate) {
+            return (QueryTemplate<T>) queryTemplate;
+        }
+
+        return (QueryTemplate<T>) queryTemplates.computeIfAbsent(key, templateKey ->
+                new QueryTemplate<>(queryWriter.writeQuery(querySupplier.get()), parameterBinder));
+    }
+}
@@ -0,0 +1,52 @@
+package org.foodhub.database.querywriter;
+
+import java.util.Collections;
+import java.util.List;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.foodhub.database.querybuilder.parameter.QueryParameter;
+
+/**
+ * <p>
+ * Holds the query statement written with placeholders, along with the parameters in the order of the placeholders.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class ParameterizedQuery {
+
+    private final String query;
+    private final List<QueryParameter> parameters;
+
+    public ParameterizedQuery(final String query, final List<QueryParameter> parameters) {
+        this.query = query;
+        this.parameters = parameters;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public List<QueryParameter> getParameters() {
+        return Collections.unmodifiableList(parameters);
+    }
+
+    /**
+     * <p>
+     * Binds all the parameters to the placeholders of the prepared statement.
+     * </p>
+     *
+     * @param preparedStatement Represents the statement prepared from the query
+     * @throws SQLException If the parameter can't be set
+     */
+    public void bind(final PreparedStatement preparedStatement) throws SQLException {
+        int index = 1;
+
+        for (final QueryParameter parameter : parameters) {
+            parameter.bind(preparedStatement, index++);
+        }
+    }
+}
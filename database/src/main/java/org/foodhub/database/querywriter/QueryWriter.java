@@ -21,4 +21,15 @@ public interface QueryWriter {
      * @return The select query
      */
     String writeQuery(final Query query);
-}
\ No newline at end of file
+
+    /**
+     * <p>
+     * Writes the query statement with placeholders for the typed parameters of the query, the parameters are
+     * returned in the order of the placeholders to be bound on the prepared statement.
+     * </p>
+     *
+     * @param query Represent the query instance with properties to build query statement
+     * @return The query statement with placeholders and the parameters in the order of the placeholders
+     */
+    ParameterizedQuery writeParameterizedQuery(final Query query);
+}
@@ -1,11 +1,14 @@
 package org.foodhub.database.querywriter.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import org.foodhub.database.querybuilder.operator.LogicalOperator;
+import org.foodhub.database.querybuilder.parameter.QueryParameter;
+import org.foodhub.database.querywriter.ParameterizedQuery;
 import org.foodhub.database.querywriter.QueryWriter;
 import org.foodhub.database.querybuilder.Query;
 import org.foodhub.database.querybuilder.clauses.JoinClause;
@@ -13,7 +16,8 @@ import org.foodhub.database.querybuilder.clauses.WhereClause;
 
 /**
  * <p>
- * Handles methods to build the query statement
+ * Handles methods to build the query statement, the writer keeps no state between calls so the shared instance is
+ * safe for the concurrent requests.
  * </p>
  *
  * @author Muthu kumar V
@@ -21,10 +25,10 @@ import org.foodhub.database.querybuilder.clauses.WhereClause;
  */
 public final class QueryWriterImpl implements QueryWriter {
 
-    private final StringBuilder queryStatement;
+    private static final int CLAUSE_LENGTH = 16;
+    private static final int VALUE_LENGTH = 12;
 
     private QueryWriterImpl() {
-        queryStatement = new StringBuilder();
     }
 
     /**
@@ -57,26 +61,74 @@ public final class QueryWriterImpl implements QueryWriter {
      * @return The select query
      */
     public String writeQuery(final Query query) {
-        queryStatement.setLength(0);
+        return write(query, new ArrayList<>());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param query Represent the query instance with properties to build query statement
+     * @return The query statement with placeholders and the parameters in the order of the placeholders
+     */
+    @Override
+    public ParameterizedQuery writeParameterizedQuery(final Query query) {
+        final List<QueryParameter> parameters = new ArrayList<>();
+        final String queryStatement = write(query, parameters);
+
+        return new ParameterizedQuery(queryStatement, parameters);
+    }
+
+    /**
+     * <p>
+     * Writes the query statement, the typed parameters are written as placeholders and collected in the order of the
+     * placeholders.
+     * </p>
+     *
+     * @param query      Represent the query instance with properties to build query statement
+     * @param parameters Represents the parameters collected in the order of the placeholders
+     * @return The query statement
+     */
+    private String write(final Query query, final List<QueryParameter> parameters) {
+        final StringBuilder queryStatement = new StringBuilder(estimateLength(query));
 
         if (Objects.nonNull(query.getTableName()) && !query.getTableName().isBlank()) {
 
             if (!query.getSelectFields().isEmpty()) {
                 queryStatement.append("SELECT ");
-                appendSelectFields(query.getSelectFields());
+                appendSelectFields(queryStatement, query.getSelectFields());
                 queryStatement.append(" FROM ").append(query.getTableName());
             }
 
-            if (!query.getInsertFields().isEmpty()) {
+            if (!query.getInsertFields().isEmpty() || !query.getInsertParameters().isEmpty()) {
+                final Collection<String> fields = new ArrayList<>(query.getInsertFields().keySet());
+                final Collection<String> fieldValues = new ArrayList<>(query.getInsertFields().values());
+
+                fields.addAll(query.getInsertParameters().keySet());
+                queryStatement.append("INSERT INTO ").append(query.getTableName());
+                appendInsertFields(queryStatement, fields);
+                queryStatement.append(" VALUES ");
+
+                for (final QueryParameter parameter : query.getInsertParameters().values()) {
+                    fieldValues.add("?");
+                    parameters.add(parameter);
+                }
+                appendValues(queryStatement, fieldValues);
+            }
+
+            if (!query.getInsertRows().isEmpty()) {
+                final Collection<String> fields = query.getInsertRows().get(0).keySet();
+
                 queryStatement.append("INSERT INTO ").append(query.getTableName());
-                appendInsertFields(query.getInsertFields().keySet().stream().toList());
+                appendInsertFields(queryStatement, fields);
                 queryStatement.append(" VALUES ");
-                appendValues(query.getInsertFields().values().stream().toList());
+                appendInsertRows(queryStatement, fields, query.getInsertRows(), parameters);
             }
 
-            if (!query.getUpdateFields().isEmpty()) {
+            if (!query.getUpdateFields().isEmpty() || !query.getUpdateParameters().isEmpty()
+                    || !query.getUpdateExpressions().isEmpty()) {
                 queryStatement.append("UPDATE ").append(query.getTableName()).append(" SET ");
-                appendUpdateFields(query.getUpdateFields());
+                appendUpdateFields(queryStatement, query.getUpdateFields(), query.getUpdateExpressions(),
+                        query.getUpdateParameters(), parameters);
             }
 
             if (query.isDeleteStatement()) {
@@ -88,13 +140,32 @@ public final class QueryWriterImpl implements QueryWriter {
                 for (final JoinClause joinClause : query.getJoins()) {
                     queryStatement.append(joinClause.getJoinType().getJoin())
                             .append(joinClause.getTableName()).append(" ON ");
-                    appendJoinConditions(joinClause.getJoinConditions());
+                    appendJoinConditions(queryStatement, joinClause.getJoinConditions());
                 }
             }
 
             if (!query.getWhereConditions().isEmpty()) {
                 queryStatement.append(" WHERE ");
-                appendWhereConditions(query.getWhereConditions());
+                appendWhereConditions(queryStatement, query.getWhereConditions(), parameters);
+            }
+
+            if (!query.getOrderByFields().isEmpty()) {
+                queryStatement.append(" ORDER BY ");
+                appendSelectFields(queryStatement, query.getOrderByFields());
+            }
+
+            if (Objects.nonNull(query.getLimit())) {
+                queryStatement.append(" LIMIT ");
+
+                if ("?".equals(query.getLimit())) {
+                    queryStatement.append(query.getLimit());
+                } else {
+                    queryStatement.append(Integer.parseInt(query.getLimit()));
+                }
+            }
+
+            if (query.isIgnoringConflicts()) {
+                queryStatement.append(" ON CONFLICT DO NOTHING");
             }
 
             if (query.isReturningId()) {
@@ -105,14 +176,79 @@ public final class QueryWriterImpl implements QueryWriter {
         return queryStatement.toString();
     }
 
+    /**
+     * <p>
+     * Estimates the length of the query statement from the shape of the query, so the statement is written without
+     * growing the buffer.
+     * </p>
+     *
+     * @param query Represents the query instance with properties to build query statement
+     * @return The estimated length of the query statement
+     */
+    private int estimateLength(final Query query) {
+        int length = CLAUSE_LENGTH + (null == query.getTableName() ? 0 : query.getTableName().length());
+
+        for (final String field : query.getSelectFields()) {
+            length += field.length() + 2;
+        }
+
+        for (final String field : query.getOrderByFields()) {
+            length += field.length() + CLAUSE_LENGTH;
+        }
+
+        for (final Map.Entry<String, String> entry : query.getInsertFields().entrySet()) {
+            length += entry.getKey().length() + VALUE_LENGTH;
+        }
+
+        for (final Map.Entry<String, String> entry : query.getUpdateFields().entrySet()) {
+            length += entry.getKey().length() + VALUE_LENGTH;
+        }
+
+        for (final String field : query.getInsertParameters().keySet()) {
+            length += field.length() + VALUE_LENGTH;
+        }
+
+        if (!query.getInsertRows().isEmpty()) {
+            final int fieldCount = query.getInsertRows().get(0).size();
+
+            length += fieldCount * VALUE_LENGTH + query.getInsertRows().size() * (fieldCount * 3 + 4);
+        }
+
+        for (final String field : query.getUpdateParameters().keySet()) {
+            length += field.length() + VALUE_LENGTH;
+        }
+
+        for (final Map.Entry<String, String> entry : query.getUpdateExpressions().entrySet()) {
+            length += entry.getKey().length() + entry.getValue().length() + 3;
+        }
+
+        for (final JoinClause joinClause : query.getJoins()) {
+            length += CLAUSE_LENGTH + joinClause.getTableName().length() + joinClause.getJoinConditions().size()
+                    * CLAUSE_LENGTH * 2;
+        }
+
+        for (final WhereClause whereClause : query.getWhereConditions()) {
+            length += CLAUSE_LENGTH + whereClause.getColumn().length() + VALUE_LENGTH * Math.max(1,
+                    (null == whereClause.getValues() ? 0 : whereClause.getValues().size())
+                            + (null == whereClause.getParameters() ? 0 : whereClause.getParameters().size()));
+        }
+
+        if (query.isIgnoringConflicts()) {
+            length += CLAUSE_LENGTH * 2;
+        }
+
+        return length;
+    }
+
     /**
      * <p>
      * Appends the insert fields in the query.
      * </p>
      *
-     * @param fields Represents the insert fields of the query
+     * @param queryStatement Represents the query statement being written
+     * @param fields         Represents the insert fields of the query
      */
-    private void appendInsertFields(final Collection<String> fields) {
+    private void appendInsertFields(final StringBuilder queryStatement, final Collection<String> fields) {
         queryStatement.append(" (");
         boolean isFirstField = false;
 
@@ -128,14 +264,56 @@ public final class QueryWriterImpl implements QueryWriter {
         queryStatement.append(") ");
     }
 
+    /**
+     * <p>
+     * Appends a row of placeholders for each of the insert rows, the parameters of every row are collected in the
+     * order of the insert fields.
+     * </p>
+     *
+     * @param queryStatement Represents the query statement being written
+     * @param fields         Represents the insert fields of the query
+     * @param insertRows     Represents the rows to be inserted
+     * @param parameters     Represents the parameters collected in the order of the placeholders
+     */
+    private void appendInsertRows(final StringBuilder queryStatement, final Collection<String> fields,
+                                  final List<Map<String, QueryParameter>> insertRows,
+                                  final List<QueryParameter> parameters) {
+        boolean isFirstRow = false;
+
+        for (final Map<String, QueryParameter> insertRow : insertRows) {
+
+            if (isFirstRow) {
+                queryStatement.append(",");
+            } else {
+                isFirstRow = true;
+            }
+            queryStatement.append(" (");
+            boolean isFirstField = false;
+
+            for (final String field : fields) {
+
+                if (isFirstField) {
+                    queryStatement.append(", ");
+                } else {
+                    isFirstField = true;
+                }
+                queryStatement.append("?");
+                parameters.add(insertRow.get(field));
+            }
+            queryStatement.append(")");
+        }
+        queryStatement.append(" ");
+    }
+
     /**
      * <p>
      * Appends the select fields in the query.
      * </p>
      *
-     * @param fields Represents the select fields of the query
+     * @param queryStatement Represents the query statement being written
+     * @param fields         Represents the select fields of the query
      */
-    private void appendSelectFields(final Collection<String> fields) {
+    private void appendSelectFields(final StringBuilder queryStatement, final Collection<String> fields) {
         boolean isFirstField = false;
 
         for (final String field : fields) {
@@ -154,9 +332,16 @@ public final class QueryWriterImpl implements QueryWriter {
      * Appends the update fields to the update query.
      * </p>
      *
-     * @param updateFields Represents the update fields of the query
+     * @param queryStatement   Represents the query statement being written
+     * @param updateFields      Represents the update fields of the query
+     * @param updateExpressions Represents the update fields of the query set to the expressions
+     * @param updateParameters  Represents the update fields of the query bound as parameters
+     * @param parameters        Represents the parameters collected in the order of the placeholders
      */
-    private void appendUpdateFields(final Map<String, String> updateFields) {
+    private void appendUpdateFields(final StringBuilder queryStatement, final Map<String, String> updateFields,
+                                    final Map<String, String> updateExpressions,
+                                    final Map<String, QueryParameter> updateParameters,
+                                    final List<QueryParameter> parameters) {
         boolean isFirstField = false;
 
         for (final Map.Entry<String, String> entry : updateFields.entrySet()) {
@@ -173,6 +358,27 @@ public final class QueryWriterImpl implements QueryWriter {
                 queryStatement.append(entry.getKey()).append(" = '").append(entry.getValue()).append("'");
             }
         }
+
+        for (final Map.Entry<String, String> entry : updateExpressions.entrySet()) {
+
+            if (isFirstField) {
+                queryStatement.append(", ");
+            } else {
+                isFirstField = true;
+            }
+            queryStatement.append(entry.getKey()).append(" = ").append(entry.getValue());
+        }
+
+        for (final Map.Entry<String, QueryParameter> entry : updateParameters.entrySet()) {
+
+            if (isFirstField) {
+                queryStatement.append(", ");
+            } else {
+                isFirstField = true;
+            }
+            queryStatement.append(entry.getKey()).append(" = ?");
+            parameters.add(entry.getValue());
+        }
     }
 
     /**
@@ -180,9 +386,10 @@ public final class QueryWriterImpl implements QueryWriter {
      * Appends the join condition in the query.
      * </p>
      *
+     * @param queryStatement Represents the query statement being written
      * @param joinConditions Represents the join conditions of the query
      */
-    private void appendJoinConditions(final Map<String, String> joinConditions) {
+    private void appendJoinConditions(final StringBuilder queryStatement, final Map<String, String> joinConditions) {
         boolean isFirstField = false;
 
         for (final Map.Entry<String, String> entry : joinConditions.entrySet()) {
@@ -201,9 +408,12 @@ public final class QueryWriterImpl implements QueryWriter {
      * Appends the where condition in the query
      * </p>
      *
-     * @param whereClauses Represents the where conditions of the query
+     * @param queryStatement Represents the query statement being written
+     * @param whereClauses   Represents the where conditions of the query
+     * @param parameters     Represents the parameters collected in the order of the placeholders
      */
-    private void appendWhereConditions(final Collection<WhereClause> whereClauses) {
+    private void appendWhereConditions(final StringBuilder queryStatement, final Collection<WhereClause> whereClauses,
+                                       final List<QueryParameter> parameters) {
         boolean isFirstField = false;
 
         for (final WhereClause whereClause : whereClauses) {
@@ -217,7 +427,10 @@ public final class QueryWriterImpl implements QueryWriter {
 
             switch (whereClause.getConditionalOperator()) {
                 case EQUAL, NOT_EQUAL_TO, LESS_THAN, LESSER_THAN_EQUAL, GREATER_THAN, GREATER_THAN_EQUAL, LIKE -> {
-                    if ("?".equals(whereClause.getValue())) {
+                    if (null != whereClause.getParameter()) {
+                        queryStatement.append(whereClause.getConditionalOperator().getOperator()).append("?");
+                        parameters.add(whereClause.getParameter());
+                    } else if ("?".equals(whereClause.getValue())) {
                         queryStatement.append(whereClause.getConditionalOperator().getOperator())
                                 .append(whereClause.getValue());
                     } else {
@@ -227,28 +440,68 @@ public final class QueryWriterImpl implements QueryWriter {
                 }
                 case IN -> {
                     queryStatement.append(whereClause.getConditionalOperator().getOperator());
-                    appendValues(whereClause.getValues());
+
+                    if (null != whereClause.getParameters()) {
+                        appendPlaceholders(queryStatement, whereClause.getParameters(), parameters);
+                    } else {
+                        appendValues(queryStatement, whereClause.getValues());
+                    }
                 }
                 case BETWEEN -> {
-                    final List<String> values = whereClause.getValues();
+                    queryStatement.append(whereClause.getConditionalOperator().getOperator());
 
-                    queryStatement.append(whereClause.getConditionalOperator().getOperator()).append("'")
-                            .append(values.get(0)).append("'").append(LogicalOperator.AND.getOperator()).append("'")
-                            .append(values.get(1)).append("'");
+                    if (null != whereClause.getParameters()) {
+                        queryStatement.append("?").append(LogicalOperator.AND.getOperator()).append("?");
+                        parameters.addAll(whereClause.getParameters().subList(0, 2));
+                    } else {
+                        final List<String> values = whereClause.getValues();
+
+                        queryStatement.append("'").append(values.get(0)).append("'")
+                                .append(LogicalOperator.AND.getOperator()).append("'").append(values.get(1))
+                                .append("'");
+                    }
                 }
                 case ISNULL -> queryStatement.append(whereClause.getConditionalOperator().getOperator());
             }
         }
     }
 
+    /**
+     * <p>
+     * Appends a placeholder for each of the parameters in the query
+     * </p>
+     *
+     * @param queryStatement   Represents the query statement being written
+     * @param clauseParameters Represents the parameters of the clause
+     * @param parameters       Represents the parameters collected in the order of the placeholders
+     */
+    private void appendPlaceholders(final StringBuilder queryStatement, final List<QueryParameter> clauseParameters,
+                                    final List<QueryParameter> parameters) {
+        queryStatement.append(" (");
+        boolean isFirstField = false;
+
+        for (final QueryParameter parameter : clauseParameters) {
+
+            if (isFirstField) {
+                queryStatement.append(", ");
+            } else {
+                isFirstField = true;
+            }
+            queryStatement.append("?");
+            parameters.add(parameter);
+        }
+        queryStatement.append(") ");
+    }
+
     /**
      * <p>
      * Appends the field values in the query
      * </p>
      *
-     * @param fieldValues Represents the field values of the query
+     * @param queryStatement Represents the query statement being written
+     * @param fieldValues    Represents the field values of the query
      */
-    private void appendValues(final Collection<String> fieldValues) {
+    private void appendValues(final StringBuilder queryStatement, final Collection<String> fieldValues) {
         queryStatement.append(" (");
         boolean isFirstField = false;
 
@@ -6,6 +6,12 @@ import org.apache.logging.log4j.Logger;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
+import org.foodhub.common.hibernate.impl.HibernateEntityValidatorImpl;
+import org.foodhub.restaurant.model.food.Food;
+import org.foodhub.restaurant.model.restaurant.Restaurant;
+import org.foodhub.restaurant.model.restaurant.RestaurantLoginDetails;
+import org.foodhub.restaurant.model.restaurant.RestaurantProfileUpdateDetails;
+
 /**
  * <p>
  * Customizes the starting and stopping of a bundle.
@@ -27,6 +33,8 @@ public final class RestaurantActivator implements BundleActivator {
      */
     @Override
     public void start(final BundleContext context) {
+        HibernateEntityValidatorImpl.getInstance().prepare(Restaurant.class, RestaurantLoginDetails.class,
+                RestaurantProfileUpdateDetails.class, Food.class);
         LOGGER.info("Restaurant Bundle Is Started");
     }
 
@@ -0,0 +1,173 @@
+package org.foodhub.restaurant.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import org.foodhub.common.cache.ResponseCache;
+import org.foodhub.restaurant.model.food.FoodType;
+
+/**
+ * <p>
+ * Caches the serialized pages of the restaurant menucards, the pages are tagged with the ids of their foods.
+ * </p>
+ *
+ * <p>
+ * The pages are invalidated when the foods of the restaurant are added or removed, the added foods invalidate the
+ * pages of the restaurant listing their food types and the removed food invalidates the pages listing it. The pages
+ * listing the ordered foods are invalidated once the orders are committed, as the pages hold the food quantities.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class MenuCardCache {
+
+    private static final int MAXIMUM_ENTRIES = 1000;
+    private final ResponseCache<MenuCardKey> menuCards;
+
+    private MenuCardCache() {
+        menuCards = new ResponseCache<>(MAXIMUM_ENTRIES);
+    }
+
+    /**
+     * <p>
+     * Creates the instance of the class
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final MenuCardCache MENU_CARD_CACHE = new MenuCardCache();
+    }
+
+    /**
+     * <p>
+     * Gets the instance of the menucard cache class.
+     * </p>
+     *
+     * @return The menucard cache instance
+     */
+    public static MenuCardCache getInstance() {
+        return InstanceHolder.MENU_CARD_CACHE;
+    }
+
+    /**
+     * <p>
+     * Gets the cached page of the menucard.
+     * </p>
+     *
+     * @param menuCardKey Represents the key of the menucard page
+     * @return The serialized menucard page, empty if the page is not cached
+     */
+    public Optional<byte[]> get(final MenuCardKey menuCardKey) {
+        return menuCards.get(menuCardKey);
+    }
+
+    /**
+     * <p>
+     * Gets the current version of the cache, the version has to be taken before reading the page from the database.
+     * </p>
+     *
+     * @return The current version of the cache
+     */
+    public long getVersion() {
+        return menuCards.getVersion();
+    }
+
+    /**
+     * <p>
+     * Puts the serialized page of the menucard read from the database, the page is cached only if no foods were
+     * changed since the given version.
+     * </p>
+     *
+     * @param menuCardKey Represents the key of the menucard page
+     * @param foodIds     Represents the ids of the foods of the menucard page
+     * @param menuCard    Represents the serialized menucard page
+     * @param readVersion Represents the version of the cache taken before reading the page
+     * @return The serialized menucard page
+     */
+    public byte[] put(final MenuCardKey menuCardKey, final Collection<Long> foodIds, final byte[] menuCard,
+                      final long readVersion) {
+        return menuCards.put(menuCardKey, menuCard, Collections.unmodifiableCollection(foodIds), readVersion);
+    }
+
+    /**
+     * <p>
+     * Invalidates the cached pages of the restaurant menucards listing any of the given food types.
+     * </p>
+     *
+     * @param restaurantId Represents the id of the restaurant
+     * @param foodTypes    Represents the food types of the added foods
+     */
+    public void invalidate(final long restaurantId, final Set<FoodType> foodTypes) {
+        menuCards.invalidateIf(menuCardKey -> restaurantId == menuCardKey.getRestaurantId()
+                && !Collections.disjoint(foodTypes, menuCardKey.getFoodTypes()));
+    }
+
+    /**
+     * <p>
+     * Invalidates the cached pages listing the food, when the food is removed or its quantity is ordered.
+     * </p>
+     *
+     * @param foodId Represents the id of the removed or ordered food
+     */
+    public void invalidateFood(final long foodId) {
+        menuCards.invalidateTag(foodId);
+    }
+
+    /**
+     * <p>
+     * Gets the count of the menucard pages served from the cache.
+     * </p>
+     *
+     * @return The count of the cache hits
+     */
+    public long getHits() {
+        return menuCards.getHits();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the menucard pages read from the database as they were not cached.
+     * </p>
+     *
+     * @return The count of the cache misses
+     */
+    public long getMisses() {
+        return menuCards.getMisses();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the menucard pages evicted as the least recently used.
+     * </p>
+     *
+     * @return The count of the evictions
+     */
+    public long getEvictions() {
+        return menuCards.getEvictions();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the menucard pages invalidated by the food updates and the orders.
+     * </p>
+     *
+     * @return The count of the invalidations
+     */
+    public long getInvalidations() {
+        return menuCards.getInvalidations();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the menucard pages cached.
+     * </p>
+     *
+     * @return The size of the cache
+     */
+    public int getSize() {
+        return menuCards.getSize();
+    }
+}
@@ -0,0 +1,57 @@
+package org.foodhub.restaurant.cache;
+
+import java.util.Objects;
+import java.util.Set;
+
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.restaurant.model.food.FoodType;
+
+/**
+ * <p>
+ * Identifies the cached page of the restaurant menucard by the restaurant, the food types of the menucard and the
+ * page bounds.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class MenuCardKey {
+
+    private final long restaurantId;
+    private final Set<FoodType> foodTypes;
+    private final long after;
+    private final int limit;
+
+    public MenuCardKey(final PageRequest pageRequest, final Set<FoodType> foodTypes) {
+        this.restaurantId = pageRequest.getOwnerId();
+        this.foodTypes = foodTypes;
+        this.after = pageRequest.getAfter();
+        this.limit = pageRequest.getLimit();
+    }
+
+    public long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public Set<FoodType> getFoodTypes() {
+        return foodTypes;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (object instanceof MenuCardKey menuCardKey) {
+            return restaurantId == menuCardKey.restaurantId && after == menuCardKey.after
+                    && limit == menuCardKey.limit && foodTypes.equals(menuCardKey.foodTypes);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(restaurantId, foodTypes, after, limit);
+    }
+}
@@ -0,0 +1,147 @@
+package org.foodhub.restaurant.cache;
+
+import java.util.Optional;
+
+import org.foodhub.common.cache.ResponseCache;
+
+/**
+ * <p>
+ * Caches the serialized responses of the restaurant profile endpoints, keyed by the endpoint and its arguments.
+ * </p>
+ *
+ * <p>
+ * The restaurant is invalidated when its profile is updated, the pages of restaurants are invalidated when any
+ * restaurant is created or updated.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class RestaurantResponseCache {
+
+    private static final int MAXIMUM_ENTRIES = 1000;
+    private static final String RESTAURANT_KEY = "restaurant:";
+    private static final String RESTAURANTS_KEY = "restaurants";
+    private final ResponseCache<String> responses;
+
+    private RestaurantResponseCache() {
+        responses = new ResponseCache<>(MAXIMUM_ENTRIES);
+    }
+
+    /**
+     * <p>
+     * Creates the instance of the class
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final RestaurantResponseCache RESTAURANT_RESPONSE_CACHE = new RestaurantResponseCache();
+    }
+
+    /**
+     * <p>
+     * Gets the instance of the restaurant response cache class.
+     * </p>
+     *
+     * @return The restaurant response cache instance
+     */
+    public static RestaurantResponseCache getInstance() {
+        return InstanceHolder.RESTAURANT_RESPONSE_CACHE;
+    }
+
+    /**
+     * <p>
+     * Gets the current version of the cache, the version has to be taken before reading the response data.
+     * </p>
+     *
+     * @return The current version of the cache
+     */
+    public long getVersion() {
+        return responses.getVersion();
+    }
+
+    /**
+     * <p>
+     * Gets the cached response of the restaurant.
+     * </p>
+     *
+     * @param restaurantId Represents the id of the restaurant
+     * @return The serialized restaurant, empty if the restaurant is not cached
+     */
+    public Optional<byte[]> getRestaurant(final long restaurantId) {
+        return responses.get(getRestaurantKey(restaurantId));
+    }
+
+    /**
+     * <p>
+     * Puts the response of the restaurant.
+     * </p>
+     *
+     * @param restaurantId Represents the id of the restaurant
+     * @param restaurant   Represents the serialized restaurant
+     * @param readVersion  Represents the version of the cache taken before reading the restaurant
+     * @return The serialized restaurant
+     */
+    public byte[] putRestaurant(final long restaurantId, final byte[] restaurant, final long readVersion) {
+        return responses.put(getRestaurantKey(restaurantId), restaurant, readVersion);
+    }
+
+    /**
+     * <p>
+     * Gets the cached page of restaurants.
+     * </p>
+     *
+     * @param after Represents the id of the last restaurant received
+     * @param limit Represents the maximum count of restaurants in the page
+     * @return The serialized page of restaurants, empty if the page is not cached
+     */
+    public Optional<byte[]> getRestaurants(final long after, final int limit) {
+        return responses.get(getRestaurantsKey(after, limit));
+    }
+
+    /**
+     * <p>
+     * Puts the page of restaurants.
+     * </p>
+     *
+     * @param after       Represents the id of the last restaurant received
+     * @param limit       Represents the maximum count of restaurants in the page
+     * @param restaurants Represents the serialized page of restaurants
+     * @param readVersion Represents the version of the cache taken before reading the page
+     * @return The serialized page of restaurants
+     */
+    public byte[] putRestaurants(final long after, final int limit, final byte[] restaurants,
+                                 final long readVersion) {
+        return responses.put(getRestaurantsKey(after, limit), restaurants, readVersion);
+    }
+
+    /**
+     * <p>
+     * Invalidates the cached restaurant along with the cached pages of restaurants.
+     * </p>
+     *
+     * @param restaurantId Represents the id of the updated restaurant
+     */
+    public void invalidateRestaurant(final long restaurantId) {
+        final String restaurantKey = getRestaurantKey(restaurantId);
+
+        responses.invalidateIf(key -> key.equals(restaurantKey) || key.startsWith(RESTAURANTS_KEY));
+    }
+
+    /**
+     * <p>
+     * Invalidates the cached pages of restaurants.
+     * </p>
+     */
+    public void invalidateRestaurants() {
+        responses.invalidateIf(key -> key.startsWith(RESTAURANTS_KEY));
+    }
+
+    private static String getRestaurantKey(final long restaurantId) {
+        return RESTAURANT_KEY.concat(String.valueOf(restaurantId));
+    }
+
+    private static String getRestaurantsKey(final long after, final int limit) {
+        return String.join(":", RESTAURANTS_KEY, String.valueOf(after), String.valueOf(limit));
+    }
+}
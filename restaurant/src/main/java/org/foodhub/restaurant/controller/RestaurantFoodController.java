@@ -1,5 +1,7 @@
 package org.foodhub.restaurant.controller;
 
+import java.util.List;
+
 import javax.ws.rs.Path;
 import javax.ws.rs.POST;
 import javax.ws.rs.GET;
@@ -7,7 +9,11 @@ import javax.ws.rs.DELETE;
 import javax.ws.rs.Produces;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.core.StreamingOutput;
 
+import org.foodhub.database.querybuilder.page.PageRequest;
 import org.foodhub.restaurant.model.food.Food;
 import org.foodhub.restaurant.service.internal.impl.RestaurantFoodServiceImpl;
 import org.foodhub.restaurant.service.RestaurantFoodService;
@@ -67,6 +73,40 @@ public final class RestaurantFoodController {
         return restaurantFoodService.addFood(food, restaurantId);
     }
 
+    /**
+     * <p>
+     * Uploads the foods of the menucard to the restaurant.
+     * </p>
+     *
+     * @param foods        Represents the food items to be added.
+     * @param restaurantId Represents the ID of the restaurant.
+     * @return A byte array containing the JSON response.
+     */
+    @Path("/{restaurantId}/bulk")
+    @POST
+    @Consumes("application/json")
+    @Produces("application/json")
+    public byte[] addFoods(final List<Food> foods, @PathParam("restaurantId") final long restaurantId) {
+        return restaurantFoodService.addFoods(foods, restaurantId);
+    }
+
+    /**
+     * <p>
+     * Loads the catalog of the onboarding restaurant.
+     * </p>
+     *
+     * @param foods        Represents the catalog food items to be loaded.
+     * @param restaurantId Represents the ID of the restaurant.
+     * @return A byte array containing the JSON response with the rejected rows.
+     */
+    @Path("/{restaurantId}/catalog")
+    @POST
+    @Consumes("application/json")
+    @Produces("application/json")
+    public byte[] loadCatalog(final List<Food> foods, @PathParam("restaurantId") final long restaurantId) {
+        return restaurantFoodService.loadCatalog(foods, restaurantId);
+    }
+
     /**
      * <p>
      * Removes the food from the restaurant.
@@ -97,6 +137,48 @@ public final class RestaurantFoodController {
         return restaurantFoodService.getFoodQuantity(foodId);
     }
 
+    /**
+     * <p>
+     * Retrieves the hit and miss counts of the menu card cache.
+     * </p>
+     *
+     * @return A byte array containing the JSON response.
+     */
+    @Path("/menucard/metrics")
+    @GET
+    @Produces("application/json")
+    public byte[] getMenuCardCacheMetrics() {
+        return restaurantFoodService.getMenuCardCacheMetrics();
+    }
+
+    /**
+     * <p>
+     * Retrieves the acquisition, contention and timeout counts of the food and restaurant locks.
+     * </p>
+     *
+     * @return A byte array containing the JSON response.
+     */
+    @Path("/lock/metrics")
+    @GET
+    @Produces("application/json")
+    public byte[] getFoodLockMetrics() {
+        return restaurantFoodService.getFoodLockMetrics();
+    }
+
+    /**
+     * <p>
+     * Retrieves the tracked food and rejected reservation counts of the food inventory.
+     * </p>
+     *
+     * @return A byte array containing the JSON response.
+     */
+    @Path("/inventory/metrics")
+    @GET
+    @Produces("application/json")
+    public byte[] getFoodInventoryMetrics() {
+        return restaurantFoodService.getFoodInventoryMetrics();
+    }
+
     /**
      * <p>
      * Retrieves the menu card from the restaurant.
@@ -104,13 +186,17 @@ public final class RestaurantFoodController {
      *
      * @param restaurantId Represents the ID of the restaurant.
      * @param menucardId   Represents the ID of the menu card.
-     * @return A byte array containing the JSON response.
+     * @param after        Represents the ID of the last food received, zero for the first page.
+     * @param limit        Represents the maximum count of foods in the page.
+     * @return The JSON response streamed as the foods are read.
      */
     @Path("/{restaurantId}/{foodTypeId}")
     @GET
     @Produces("application/json")
-    public byte[] getMenuCard(@PathParam("restaurantId") final long restaurantId,
-                              @PathParam("foodTypeId") final int menucardId) {
-        return restaurantFoodService.getMenuCard(restaurantId, menucardId);
+    public StreamingOutput getMenuCard(@PathParam("restaurantId") final long restaurantId,
+                                       @PathParam("foodTypeId") final int menucardId,
+                                       @QueryParam("after") @DefaultValue("0") final long after,
+                                       @QueryParam("limit") @DefaultValue(PageRequest.DEFAULT_LIMIT) final int limit) {
+        return restaurantFoodService.streamMenuCard(restaurantId, menucardId, after, limit);
     }
 }
\ No newline at end of file
@@ -7,7 +7,13 @@ import javax.ws.rs.PUT;
 import javax.ws.rs.Produces;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 
+import org.foodhub.common.async.AsyncResponseHandler;
+import org.foodhub.database.querybuilder.page.PageRequest;
 import org.foodhub.restaurant.model.restaurant.Restaurant;
 import org.foodhub.restaurant.model.restaurant.RestaurantLoginDetails;
 import org.foodhub.restaurant.model.restaurant.RestaurantProfileUpdateDetails;
@@ -89,14 +95,16 @@ public final class RestaurantProfileController {
      * </p>
      *
      * @param restaurantLoginDetails Represents the instance of restaurant login details
-     * @return A byte array containing the JSON response.
+     * @param asyncResponse          Represents the suspended response, resumed with the JSON response once the
+     *                               password is verified.
      */
     @Path("/login")
     @POST
     @Consumes("application/json")
     @Produces("application/json")
-    public byte[] getRestaurant(final RestaurantLoginDetails restaurantLoginDetails) {
-        return restaurantProfileService.getRestaurant(restaurantLoginDetails);
+    public void getRestaurant(final RestaurantLoginDetails restaurantLoginDetails,
+                              @Suspended final AsyncResponse asyncResponse) {
+        AsyncResponseHandler.resume(asyncResponse, restaurantProfileService.getRestaurantAsync(restaurantLoginDetails));
     }
 
     /**
@@ -116,14 +124,18 @@ public final class RestaurantProfileController {
 
     /**
      * <p>
-     * Gets all the restaurants.
+     * Gets the page of restaurants.
      * </p>
      *
-     * @return A byte array containing the JSON response.
+     * @param after         Represents the ID of the last restaurant received, zero for the first page.
+     * @param limit         Represents the maximum count of restaurants in the page.
+     * @param asyncResponse Represents the suspended response, resumed with the JSON response once the page is read.
      */
     @GET
     @Produces("application/json")
-    public byte[] getAllRestaurants() {
-        return restaurantProfileService.getAllRestaurants();
+    public void getAllRestaurants(@QueryParam("after") @DefaultValue("0") final long after,
+                                  @QueryParam("limit") @DefaultValue(PageRequest.DEFAULT_LIMIT) final int limit,
+                                  @Suspended final AsyncResponse asyncResponse) {
+        AsyncResponseHandler.resume(asyncResponse, restaurantProfileService.getAllRestaurantsAsync(after, limit));
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package org.foodhub.restaurant.database.dao;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.restaurant.model.food.Food;
+import org.foodhub.restaurant.model.food.FoodType;
+
+/**
+ * <p>
+ * Provides the asynchronous data base service for the restaurant food, the calls run on the bounded database
+ * executor and complete the returned futures.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public interface RestaurantFoodAsyncDAO {
+
+    /**
+     * <p>
+     * Adds the food to the restaurant
+     * </p>
+     *
+     * @param food         Represents the food item to be added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return The future completed with true if food is successfully added, false otherwise
+     */
+    CompletableFuture<Boolean> addFood(final Food food, final long restaurantId);
+
+    /**
+     * <p>
+     * Adds the foods to the restaurant menucard in a single transaction.
+     * </p>
+     *
+     * @param foods        Represents the foods added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return The future completed with true if all the foods are added, false otherwise
+     */
+    CompletableFuture<Boolean> addFoods(final List<Food> foods, final long restaurantId);
+
+    /**
+     * <p>
+     * Copies the chunk of the catalog foods to the restaurant menucard in a single transaction.
+     * </p>
+     *
+     * @param foods        Represents the chunk of the foods added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return The future completed with the count of foods copied
+     */
+    CompletableFuture<Long> copyFoods(final List<Food> foods, final long restaurantId);
+
+    /**
+     * <p>
+     * Removes the food item from the restaurant menucard.
+     * </p>
+     *
+     * @param foodId Represents the id of the food to be removed
+     * @return The future completed with true if food is successfully removed, false otherwise
+     */
+    CompletableFuture<Boolean> removeFood(final long foodId);
+
+    /**
+     * <p>
+     * Retrieves the available quantity of a specific food item.
+     * </p>
+     *
+     * @param foodId Represents the id of the food
+     * @return The future completed with available quantity of food from the restaurant
+     */
+    CompletableFuture<Optional<Integer>> getFoodQuantity(final long foodId);
+
+    /**
+     * <p>
+     * Retrieves the page of the menu card of the selected restaurant, ordered by the food id.
+     * </p>
+     *
+     * @param pageRequest Represents the restaurant id along with the last seen food id and the page size
+     * @param foodTypes   Represents the food types listed by the menucard
+     * @param reader      Represents the reader of the cursor, the cursor is closed once the reader returns
+     * @param <R>         The result type of the reader
+     * @return The future completed with the result of the reader
+     */
+    <R> CompletableFuture<R> getMenuCard(final PageRequest pageRequest, final Set<FoodType> foodTypes,
+                                         final Function<ResultCursor<Food>, R> reader);
+}
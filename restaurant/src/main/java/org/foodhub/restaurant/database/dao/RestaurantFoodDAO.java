@@ -1,9 +1,13 @@
 package org.foodhub.restaurant.database.dao;
 
-import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
 import org.foodhub.restaurant.model.food.Food;
+import org.foodhub.restaurant.model.food.FoodType;
 
 /**
  * <p>
@@ -26,6 +30,28 @@ public interface RestaurantFoodDAO {
      */
     boolean addFood(final Food food, final long restaurantId);
 
+    /**
+     * <p>
+     * Adds the foods to the restaurant menucard in a single transaction.
+     * </p>
+     *
+     * @param foods        Represents the foods added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return True if all the foods are added, false otherwise
+     */
+    boolean addFoods(final List<Food> foods, final long restaurantId);
+
+    /**
+     * <p>
+     * Copies the chunk of the catalog foods to the restaurant menucard in a single transaction.
+     * </p>
+     *
+     * @param foods        Represents the chunk of the foods added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return The count of foods copied
+     */
+    long copyFoods(final List<Food> foods, final long restaurantId);
+
     /**
      * <p>
      * Removes the food item from the restaurant menucard.
@@ -48,11 +74,12 @@ public interface RestaurantFoodDAO {
 
     /**
      * <p>
-     * Retrieves the menu card of the selected restaurant.
+     * Retrieves the page of the menu card of the selected restaurant, ordered by the food id.
      * </p>
      *
-     * @param restaurantId Represents the id of the restaurant
-     * @return The list of menu items available at the restaurant.
+     * @param pageRequest Represents the restaurant id along with the last seen food id and the page size
+     * @param foodTypes   Represents the food types listed by the menucard
+     * @return The cursor of menu items available at the restaurant, the cursor has to be closed after reading
      */
-    Optional<Collection<Food>> getMenuCard(final long restaurantId, final int menucardId);
+    ResultCursor<Food> getMenuCard(final PageRequest pageRequest, final Set<FoodType> foodTypes);
 }
\ No newline at end of file
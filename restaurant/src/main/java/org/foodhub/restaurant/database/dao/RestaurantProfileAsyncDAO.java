@@ -0,0 +1,101 @@
+package org.foodhub.restaurant.database.dao;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.restaurant.model.restaurant.Restaurant;
+
+/**
+ * <p>
+ * Provides the asynchronous data base service for the restaurant profile, the calls run on the bounded database
+ * executor and complete the returned futures.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public interface RestaurantProfileAsyncDAO {
+
+    /**
+     * <p>
+     * Creates the new restaurant profile.
+     * </p>
+     *
+     * @param restaurant Represents the restaurant details
+     * @return The future completed with true if restaurant profile is successfully created, false otherwise
+     */
+    CompletableFuture<Boolean> createRestaurantProfile(final Restaurant restaurant);
+
+    /**
+     * <p>
+     * Checks if the restaurant exists.
+     * </p>
+     *
+     * @return The future completed with true if restaurant is exist, false otherwise
+     */
+    CompletableFuture<Boolean> isRestaurantExist(final String phoneNumber, final String emailId);
+
+    /**
+     * <p>
+     * Gets the restaurant along with the stored password hash if the login data matches.
+     * </p>
+     *
+     * @param restaurantDataType Represents the type of data of the restaurant
+     * @param restaurantData     Represents the data of the restaurant
+     * @return The future completed with the restaurant object
+     */
+    CompletableFuture<Optional<Restaurant>> getRestaurant(final String restaurantDataType,
+                                                          final String restaurantData);
+
+    /**
+     * <p>
+     * Gets the restaurant if the id matches.
+     * </p>
+     *
+     * @param restaurantId Represents the id of the restaurant
+     * @return The future completed with the restaurant object
+     */
+    CompletableFuture<Optional<Restaurant>> getRestaurantById(final long restaurantId);
+
+    /**
+     * <p>
+     * Updates the data of the current restaurant user.
+     * </p>
+     *
+     * @param restaurantId   Represents the id of the restaurant
+     * @param restaurantData Represents the data of the restaurant to be updated
+     * @param type           Represents the type of data of the restaurant to be updated
+     * @return The future completed with true if data is updated, false otherwise
+     */
+    CompletableFuture<Boolean> updateRestaurantProfile(final long restaurantId, final String type,
+                                                       final String restaurantData);
+
+    /**
+     * <p>
+     * Replaces the stored password hash with the new hash, if the stored hash was not changed meanwhile.
+     * </p>
+     *
+     * @param restaurantId     Represents the id of the restaurant
+     * @param hashedPassword   Represents the stored hash of the password
+     * @param rehashedPassword Represents the new hash of the password
+     * @return The future completed with true if the password hash is replaced, false otherwise
+     */
+    CompletableFuture<Boolean> rehashPassword(final long restaurantId, final String hashedPassword,
+                                              final String rehashedPassword);
+
+    /**
+     * <p>
+     * Gets the page of restaurants, ordered by the restaurant id.
+     * </p>
+     *
+     * @param pageRequest Represents the last seen restaurant id and the page size
+     * @param reader      Represents the reader of the cursor, the cursor is closed once the reader returns
+     * @param <R>         The result type of the reader
+     * @return The future completed with the result of the reader
+     */
+    <R> CompletableFuture<R> getAllRestaurants(final PageRequest pageRequest,
+                                               final Function<ResultCursor<Restaurant>, R> reader);
+}
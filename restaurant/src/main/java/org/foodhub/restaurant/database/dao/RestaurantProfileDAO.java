@@ -1,8 +1,9 @@
 package org.foodhub.restaurant.database.dao;
 
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
 import org.foodhub.restaurant.model.restaurant.Restaurant;
 
-import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -17,7 +18,7 @@ public interface RestaurantProfileDAO {
 
     /**
      * <p>
-     * Creates the new restaurant profile.
+     * Creates the new restaurant profile, the password is hashed before the profile is stored.
      * </p>
      *
      * @param restaurant Represents the restaurant details
@@ -36,16 +37,14 @@ public interface RestaurantProfileDAO {
 
     /**
      * <p>
-     * Gets the restaurant if the phone_number and password matches.
+     * Gets the restaurant along with the stored password hash if the login data matches.
      * </p>
      *
      * @param restaurantDataType Represents the type of data of the restaurant
      * @param restaurantData     Represents the data of the restaurant
-     * @param password           Represents the password of the restaurant
      * @return The restaurant object
      */
-    Optional<Restaurant> getRestaurant(final String restaurantDataType, final String restaurantData,
-                                       final String password);
+    Optional<Restaurant> getRestaurant(final String restaurantDataType, final String restaurantData);
 
     /**
      * <p>
@@ -71,11 +70,24 @@ public interface RestaurantProfileDAO {
 
     /**
      * <p>
-     * Gets all the restaurants
+     * Replaces the stored password hash with the new hash, if the stored hash was not changed meanwhile.
      * </p>
      *
-     * @return The list of all restaurants
+     * @param restaurantId     Represents the id of the restaurant
+     * @param hashedPassword   Represents the stored hash of the password
+     * @param rehashedPassword Represents the new hash of the password
+     * @return True if the password hash is replaced, false otherwise
      */
-    Optional<Collection<Restaurant>> getAllRestaurants();
+    boolean rehashPassword(final long restaurantId, final String hashedPassword, final String rehashedPassword);
+
+    /**
+     * <p>
+     * Gets the page of restaurants, ordered by the restaurant id.
+     * </p>
+     *
+     * @param pageRequest Represents the last seen restaurant id and the page size
+     * @return The cursor of the page of restaurants, the cursor has to be closed after reading
+     */
+    ResultCursor<Restaurant> getAllRestaurants(final PageRequest pageRequest);
 
 }
@@ -0,0 +1,133 @@
+package org.foodhub.restaurant.database.internal.impl;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.foodhub.database.async.DatabaseExecutor;
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.restaurant.database.dao.RestaurantFoodAsyncDAO;
+import org.foodhub.restaurant.database.dao.RestaurantFoodDAO;
+import org.foodhub.restaurant.model.food.Food;
+import org.foodhub.restaurant.model.food.FoodType;
+
+/**
+ * <p>
+ * Implements the asynchronous data base service for the restaurant food, the blocking calls are delegated to the
+ * data base service on the database executor.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class RestaurantFoodAsyncDAOImpl implements RestaurantFoodAsyncDAO {
+
+    private final RestaurantFoodDAO restaurantFoodDAO;
+    private final DatabaseExecutor databaseExecutor;
+
+    private RestaurantFoodAsyncDAOImpl() {
+        restaurantFoodDAO = RestaurantFoodDAOImpl.getInstance();
+        databaseExecutor = DatabaseExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates the instance of the class
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final RestaurantFoodAsyncDAO RESTAURANT_FOOD_ASYNC_DAO = new RestaurantFoodAsyncDAOImpl();
+    }
+
+    /**
+     * <p>
+     * Gets the instance of the asynchronous restaurant food database implementation class.
+     * </p>
+     *
+     * @return The asynchronous restaurant food database service implementation object
+     */
+    public static RestaurantFoodAsyncDAO getInstance() {
+        return InstanceHolder.RESTAURANT_FOOD_ASYNC_DAO;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param food         Represents the food item to be added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return The future completed with true if food is successfully added, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> addFood(final Food food, final long restaurantId) {
+        return databaseExecutor.supply(() -> restaurantFoodDAO.addFood(food, restaurantId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param foods        Represents the foods added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return The future completed with true if all the foods are added, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> addFoods(final List<Food> foods, final long restaurantId) {
+        return databaseExecutor.supply(() -> restaurantFoodDAO.addFoods(foods, restaurantId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param foods        Represents the chunk of the foods added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return The future completed with the count of foods copied
+     */
+    @Override
+    public CompletableFuture<Long> copyFoods(final List<Food> foods, final long restaurantId) {
+        return databaseExecutor.supply(() -> restaurantFoodDAO.copyFoods(foods, restaurantId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param foodId Represents the id of the food to be removed
+     * @return The future completed with true if food is successfully removed, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> removeFood(final long foodId) {
+        return databaseExecutor.supply(() -> restaurantFoodDAO.removeFood(foodId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param foodId Represents the id of the food
+     * @return The future completed with available quantity of food from the restaurant
+     */
+    @Override
+    public CompletableFuture<Optional<Integer>> getFoodQuantity(final long foodId) {
+        return databaseExecutor.supply(() -> restaurantFoodDAO.getFoodQuantity(foodId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param pageRequest Represents the restaurant id along with the last seen food id and the page size
+     * @param foodTypes   Represents the food types listed by the menucard
+     * @param reader      Represents the reader of the cursor, the cursor is closed once the reader returns
+     * @param <R>         The result type of the reader
+     * @return The future completed with the result of the reader
+     */
+    @Override
+    public <R> CompletableFuture<R> getMenuCard(final PageRequest pageRequest, final Set<FoodType> foodTypes,
+                                                final Function<ResultCursor<Food>, R> reader) {
+        return databaseExecutor.supply(() -> {
+            try (final ResultCursor<Food> foods = restaurantFoodDAO.getMenuCard(pageRequest, foodTypes)) {
+                return reader.apply(foods);
+            }
+        });
+    }
+}
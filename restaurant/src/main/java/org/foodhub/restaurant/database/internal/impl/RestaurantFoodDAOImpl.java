@@ -1,20 +1,34 @@
 package org.foodhub.restaurant.database.internal.impl;
 
-import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 import org.foodhub.database.connection.DataBaseConnection;
+import org.foodhub.database.copy.CopyWriter;
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.database.exception.ResultCursorException;
+import org.foodhub.database.querybuilder.Query;
+import org.foodhub.database.querytemplate.QueryTemplate;
+import org.foodhub.database.querywriter.ParameterizedQuery;
+import org.foodhub.restaurant.cache.MenuCardCache;
 import org.foodhub.restaurant.database.persistenceservice.RestaurantFoodPersistenceService;
 import org.foodhub.restaurant.database.resultsetextractor.RestaurantFoodResultSetExtractor;
 import org.foodhub.restaurant.database.dao.RestaurantFoodDAO;
 import org.foodhub.restaurant.exception.food.FoodDataNotFoundException;
 import org.foodhub.restaurant.exception.food.InvalidFoodDataException;
 import org.foodhub.restaurant.exception.food.MenuCardNotFoundException;
+import org.foodhub.restaurant.inventory.FoodInventory;
+import org.foodhub.restaurant.lock.FoodLockManager;
+import org.foodhub.restaurant.lock.LockHandle;
 import org.foodhub.restaurant.model.food.Food;
+import org.foodhub.restaurant.model.food.FoodType;
 
 /**
  * <p>
@@ -28,12 +42,16 @@ public final class RestaurantFoodDAOImpl implements RestaurantFoodDAO {
 
     private final RestaurantFoodPersistenceService restaurantFoodPersistenceService;
     private final RestaurantFoodResultSetExtractor restaurantFoodResultSetExtractor;
-    private final Connection connection;
+    private final MenuCardCache menuCardCache;
+    private final FoodInventory foodInventory;
+    private final FoodLockManager foodLockManager;
 
     private RestaurantFoodDAOImpl() {
         restaurantFoodPersistenceService = RestaurantFoodPersistenceService.getInstance();
         restaurantFoodResultSetExtractor = RestaurantFoodResultSetExtractor.getInstance();
-        connection = DataBaseConnection.get();
+        menuCardCache = MenuCardCache.getInstance();
+        foodInventory = FoodInventory.getInstance();
+        foodLockManager = FoodLockManager.getInstance();
     }
 
     /**
@@ -66,15 +84,18 @@ public final class RestaurantFoodDAOImpl implements RestaurantFoodDAO {
      */
     @Override
     public boolean addFood(final Food food, final long restaurantId) {
-        try {
+        try (final LockHandle lockHandle = foodLockManager.lockRestaurant(restaurantId);
+             final Connection connection = DataBaseConnection.get()) {
             connection.setAutoCommit(false);
-            final String query = restaurantFoodPersistenceService.addFood(food);
+            final ParameterizedQuery query = restaurantFoodPersistenceService.addFood(food);
 
-            try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            try (final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+                query.bind(preparedStatement);
                 final Optional<Long> foodId = restaurantFoodResultSetExtractor.getFoodId(preparedStatement.executeQuery());
 
-                mapFoodsWithRestaurant(foodId.get());
+                mapFoodsWithRestaurant(connection, restaurantId, foodId.get());
                 connection.commit();
+                menuCardCache.invalidate(restaurantId, EnumSet.of(food.getType()));
 
                 return true;
             } catch (SQLException message) {
@@ -88,18 +109,161 @@ public final class RestaurantFoodDAOImpl implements RestaurantFoodDAO {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param foods        Represents the foods added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return True if all the foods are added, false otherwise
+     */
+    @Override
+    public boolean addFoods(final List<Food> foods, final long restaurantId) {
+        try (final LockHandle lockHandle = foodLockManager.lockRestaurant(restaurantId);
+             final Connection connection = DataBaseConnection.get()) {
+            connection.setAutoCommit(false);
+
+            try {
+                for (int index = 0; index < foods.size(); index += Query.MAXIMUM_INSERT_ROWS) {
+                    final ParameterizedQuery query = restaurantFoodPersistenceService.addFoods(foods.subList(index,
+                            Math.min(index + Query.MAXIMUM_INSERT_ROWS, foods.size())));
+
+                    try (final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+                        query.bind(preparedStatement);
+                        final List<Long> foodIds = restaurantFoodResultSetExtractor.getFoodIds(
+                                preparedStatement.executeQuery());
+
+                        mapFoodsWithRestaurant(connection, restaurantId, foodIds);
+                    }
+                }
+                connection.commit();
+                menuCardCache.invalidate(restaurantId, getFoodTypes(foods));
+
+                return true;
+            } catch (SQLException | InvalidFoodDataException message) {
+                connection.rollback();
+                throw new InvalidFoodDataException(message.getMessage());
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException message) {
+            throw new InvalidFoodDataException(message.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param foods        Represents the chunk of the foods added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return The count of foods copied
+     */
+    @Override
+    public long copyFoods(final List<Food> foods, final long restaurantId) {
+        final QueryTemplate<Integer> queryTemplate = restaurantFoodPersistenceService.reserveFoodIds();
+
+        try (final LockHandle lockHandle = foodLockManager.lockRestaurant(restaurantId);
+             final Connection connection = DataBaseConnection.get()) {
+            connection.setAutoCommit(false);
+
+            try {
+                final List<Long> foodIds;
+
+                try (final PreparedStatement preparedStatement = connection.prepareStatement(
+                        queryTemplate.getQuery())) {
+                    queryTemplate.bind(preparedStatement, foods.size());
+                    foodIds = restaurantFoodResultSetExtractor.getFoodIds(preparedStatement.executeQuery());
+                }
+                final long copiedCount;
+
+                try (final CopyWriter copyWriter = CopyWriter.open(connection,
+                        restaurantFoodPersistenceService.copyFoods())) {
+
+                    for (int index = 0; index < foods.size(); index++) {
+                        final Food food = foods.get(index);
+
+                        copyWriter.writeRow(foodIds.get(index), food.getName(), food.getRate(),
+                                food.getType().getId(), food.getQuantity());
+                    }
+                    copiedCount = copyWriter.endCopy();
+                }
+
+                try (final CopyWriter copyWriter = CopyWriter.open(connection,
+                        restaurantFoodPersistenceService.copyRestaurantFoods())) {
+
+                    for (final Long foodId : foodIds) {
+                        copyWriter.writeRow(restaurantId, foodId);
+                    }
+                    copyWriter.endCopy();
+                }
+                connection.commit();
+                menuCardCache.invalidate(restaurantId, getFoodTypes(foods));
+
+                return copiedCount;
+            } catch (SQLException | InvalidFoodDataException message) {
+                connection.rollback();
+                throw new InvalidFoodDataException(message.getMessage());
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException message) {
+            throw new InvalidFoodDataException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the food types of the added foods.
+     * </p>
+     *
+     * @param foods Represents the foods added by the restaurant
+     * @return The food types of the foods
+     */
+    private Set<FoodType> getFoodTypes(final List<Food> foods) {
+        final Set<FoodType> foodTypes = EnumSet.noneOf(FoodType.class);
+
+        for (final Food food : foods) {
+            foodTypes.add(food.getType());
+        }
+
+        return foodTypes;
+    }
+
+    /**
+     * <p>
+     * Maps the foods with restaurant in a single statement.
+     * </p>
+     *
+     * @param connection   Represents the connection of the food adding transaction
+     * @param restaurantId Represents the id of the restaurant
+     * @param foodIds      Represents the ids of the foods
+     */
+    private void mapFoodsWithRestaurant(final Connection connection, final long restaurantId,
+                                        final List<Long> foodIds) {
+        final ParameterizedQuery query = restaurantFoodPersistenceService.mapFoodsWithRestaurant(restaurantId,
+                foodIds);
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
+            preparedStatement.executeUpdate();
+        } catch (SQLException message) {
+            throw new InvalidFoodDataException(message.getMessage());
+        }
+    }
+
     /**
      * <p>
      * Maps the food with restaurant.
      * </p>
      *
-     * @param foodId Represents the id of the restaurant
+     * @param connection   Represents the connection of the food adding transaction
+     * @param restaurantId Represents the id of the restaurant
+     * @param foodId       Represents the id of the food
      */
-    private void mapFoodsWithRestaurant(final long foodId) {
-        final String query = restaurantFoodPersistenceService.mapFoodsWithRestaurant(foodId);
+    private void mapFoodsWithRestaurant(final Connection connection, final long restaurantId, final long foodId) {
+        final ParameterizedQuery query = restaurantFoodPersistenceService.mapFoodsWithRestaurant(restaurantId, foodId);
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setLong(1, foodId);
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
             preparedStatement.executeUpdate();
         } catch (SQLException message) {
             throw new InvalidFoodDataException(message.getMessage());
@@ -114,10 +278,20 @@ public final class RestaurantFoodDAOImpl implements RestaurantFoodDAO {
      */
     @Override
     public boolean removeFood(final long foodId) {
-        final String query = restaurantFoodPersistenceService.removeFood(foodId);
+        final ParameterizedQuery query = restaurantFoodPersistenceService.removeFood(foodId);
+
+        try (final LockHandle lockHandle = foodLockManager.lockFood(foodId);
+             final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
+            final boolean isRemoved = 0 < preparedStatement.executeUpdate();
+
+            if (isRemoved) {
+                menuCardCache.invalidateFood(foodId);
+                foodInventory.invalidate(foodId);
+            }
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            return 0 < preparedStatement.executeUpdate();
+            return isRemoved;
         } catch (SQLException message) {
             throw new InvalidFoodDataException(message.getMessage());
         }
@@ -131,9 +305,12 @@ public final class RestaurantFoodDAOImpl implements RestaurantFoodDAO {
      */
     @Override
     public Optional<Integer> getFoodQuantity(final long foodId) {
-        final String query = restaurantFoodPersistenceService.getFoodQuantity(foodId);
+        final ParameterizedQuery query = restaurantFoodPersistenceService.getFoodQuantity(foodId);
+
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             return restaurantFoodResultSetExtractor.getFoodQuantity(preparedStatement.executeQuery());
         } catch (SQLException message) {
             throw new FoodDataNotFoundException(message.getMessage());
@@ -143,17 +320,17 @@ public final class RestaurantFoodDAOImpl implements RestaurantFoodDAO {
     /**
      * {@inheritDoc}
      *
-     * @param restaurantId Represents the id of the restaurant
-     * @return The list of menucard having foods
+     * @param pageRequest Represents the restaurant id along with the last seen food id and the page size
+     * @param foodTypes   Represents the food types listed by the menucard
+     * @return The cursor of the page of menucard foods
      */
     @Override
-    public Optional<Collection<Food>> getMenuCard(final long restaurantId, final int menucardId) {
-        final String query = restaurantFoodPersistenceService.getMenuCard(restaurantId, menucardId);
-
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            return restaurantFoodResultSetExtractor.getMenuCard(preparedStatement.executeQuery());
-        } catch (SQLException message) {
+    public ResultCursor<Food> getMenuCard(final PageRequest pageRequest, final Set<FoodType> foodTypes) {
+        try {
+            return ResultCursor.open(restaurantFoodPersistenceService.getMenuCard(foodTypes), pageRequest,
+                    restaurantFoodResultSetExtractor::getFood);
+        } catch (ResultCursorException message) {
             throw new MenuCardNotFoundException(message.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,147 @@
+package org.foodhub.restaurant.database.internal.impl;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.foodhub.database.async.DatabaseExecutor;
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.restaurant.database.dao.RestaurantProfileAsyncDAO;
+import org.foodhub.restaurant.database.dao.RestaurantProfileDAO;
+import org.foodhub.restaurant.model.restaurant.Restaurant;
+
+/**
+ * <p>
+ * Implements the asynchronous data base service for the restaurant profile, the blocking calls are delegated to the
+ * data base service on the database executor.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class RestaurantProfileAsyncDAOImpl implements RestaurantProfileAsyncDAO {
+
+    private final RestaurantProfileDAO restaurantProfileDAO;
+    private final DatabaseExecutor databaseExecutor;
+
+    private RestaurantProfileAsyncDAOImpl() {
+        restaurantProfileDAO = RestaurantProfileDAOImpl.getInstance();
+        databaseExecutor = DatabaseExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates the instance of the class
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final RestaurantProfileAsyncDAO RESTAURANT_PROFILE_ASYNC_DAO =
+                new RestaurantProfileAsyncDAOImpl();
+    }
+
+    /**
+     * <p>
+     * Gets the instance of the asynchronous restaurant profile database implementation class.
+     * </p>
+     *
+     * @return The asynchronous restaurant profile database service implementation object
+     */
+    public static RestaurantProfileAsyncDAO getInstance() {
+        return InstanceHolder.RESTAURANT_PROFILE_ASYNC_DAO;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurant Represents the restaurant details
+     * @return The future completed with true if restaurant profile is successfully created, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> createRestaurantProfile(final Restaurant restaurant) {
+        return databaseExecutor.supply(() -> restaurantProfileDAO.createRestaurantProfile(restaurant));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The future completed with true if restaurant is exist, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> isRestaurantExist(final String phoneNumber, final String emailId) {
+        return databaseExecutor.supply(() -> restaurantProfileDAO.isRestaurantExist(phoneNumber, emailId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantDataType Represents the type of data of the restaurant
+     * @param restaurantData     Represents the data of the restaurant
+     * @return The future completed with the restaurant object
+     */
+    @Override
+    public CompletableFuture<Optional<Restaurant>> getRestaurant(final String restaurantDataType,
+                                                                 final String restaurantData) {
+        return databaseExecutor.supply(() -> restaurantProfileDAO.getRestaurant(restaurantDataType, restaurantData));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantId Represents the id of the restaurant
+     * @return The future completed with the restaurant object
+     */
+    @Override
+    public CompletableFuture<Optional<Restaurant>> getRestaurantById(final long restaurantId) {
+        return databaseExecutor.supply(() -> restaurantProfileDAO.getRestaurantById(restaurantId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantId   Represents the id of the restaurant
+     * @param restaurantData Represents the data of the restaurant to be updated
+     * @param type           Represents the type of data of the restaurant to be updated
+     * @return The future completed with true if data is updated, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> updateRestaurantProfile(final long restaurantId, final String type,
+                                                              final String restaurantData) {
+        return databaseExecutor.supply(() -> restaurantProfileDAO.updateRestaurantProfile(restaurantId, type,
+                restaurantData));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantId     Represents the id of the restaurant
+     * @param hashedPassword   Represents the stored hash of the password
+     * @param rehashedPassword Represents the new hash of the password
+     * @return The future completed with true if the password hash is replaced, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> rehashPassword(final long restaurantId, final String hashedPassword,
+                                                     final String rehashedPassword) {
+        return databaseExecutor.supply(() -> restaurantProfileDAO.rehashPassword(restaurantId, hashedPassword,
+                rehashedPassword));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param pageRequest Represents the last seen restaurant id and the page size
+     * @param reader      Represents the reader of the cursor, the cursor is closed once the reader returns
+     * @param <R>         The result type of the reader
+     * @return The future completed with the result of the reader
+     */
+    @Override
+    public <R> CompletableFuture<R> getAllRestaurants(final PageRequest pageRequest,
+                                                      final Function<ResultCursor<Restaurant>, R> reader) {
+        return databaseExecutor.supply(() -> {
+            try (final ResultCursor<Restaurant> restaurants = restaurantProfileDAO.getAllRestaurants(pageRequest)) {
+                return reader.apply(restaurants);
+            }
+        });
+    }
+}
@@ -1,13 +1,18 @@
 package org.foodhub.restaurant.database.internal.impl;
 
-import java.util.Collection;
 import java.util.Optional;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
+import org.foodhub.common.hashgenerator.PasswordHashGenerator;
 import org.foodhub.database.connection.DataBaseConnection;
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.database.exception.ResultCursorException;
+import org.foodhub.database.querywriter.ParameterizedQuery;
+import org.foodhub.restaurant.cache.RestaurantResponseCache;
 import org.foodhub.restaurant.database.dao.RestaurantProfileDAO;
 import org.foodhub.restaurant.database.persistenceservice.RestaurantProfilePersistenceService;
 import org.foodhub.restaurant.exception.restaurant.RestaurantProfileCreationException;
@@ -28,12 +33,14 @@ public final class RestaurantProfileDAOImpl implements RestaurantProfileDAO {
 
     private final RestaurantProfilePersistenceService restaurantProfilePersistenceService;
     private final RestaurantProfileResultSetExtractor restaurantProfileResultSetExtractor;
-    private final Connection connection;
+    private final RestaurantResponseCache restaurantResponseCache;
+    private final PasswordHashGenerator passwordHashGenerator;
 
     private RestaurantProfileDAOImpl() {
         restaurantProfilePersistenceService = RestaurantProfilePersistenceService.getInstance();
         restaurantProfileResultSetExtractor = RestaurantProfileResultSetExtractor.getInstance();
-        connection = DataBaseConnection.get();
+        restaurantResponseCache = RestaurantResponseCache.getInstance();
+        passwordHashGenerator = PasswordHashGenerator.getInstance();
     }
 
     /**
@@ -67,10 +74,19 @@ public final class RestaurantProfileDAOImpl implements RestaurantProfileDAO {
      */
     @Override
     public boolean createRestaurantProfile(final Restaurant restaurant) {
-        final String query = restaurantProfilePersistenceService.createRestaurantProfile(restaurant);
+        final ParameterizedQuery query = restaurantProfilePersistenceService.createRestaurantProfile(restaurant,
+                passwordHashGenerator.hashPassword(restaurant.getPassword()));
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            return 0 < preparedStatement.executeUpdate();
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
+            final boolean isCreated = 0 < preparedStatement.executeUpdate();
+
+            if (isCreated) {
+                restaurantResponseCache.invalidateRestaurants();
+            }
+
+            return isCreated;
         } catch (SQLException message) {
             throw new RestaurantProfileCreationException(message.getMessage());
         }
@@ -85,9 +101,12 @@ public final class RestaurantProfileDAOImpl implements RestaurantProfileDAO {
      */
     @Override
     public boolean isRestaurantExist(final String phoneNumber, final String emailId) {
-        final String query = restaurantProfilePersistenceService.isRestaurantExist(phoneNumber, emailId);
+        final ParameterizedQuery query = restaurantProfilePersistenceService.isRestaurantExist(phoneNumber, emailId);
+
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             return restaurantProfileResultSetExtractor.isRestaurantExist(preparedStatement.executeQuery());
         } catch (SQLException message) {
             throw new RestaurantDataNotFoundException(message.getMessage());
@@ -99,15 +118,17 @@ public final class RestaurantProfileDAOImpl implements RestaurantProfileDAO {
      *
      * @param restaurantDataType Represents the type of data of the restaurant
      * @param restaurantData     Represents the data of the restaurant
-     * @param password           Represents the password of the restaurant
      * @return The restaurant object
      */
     @Override
-    public Optional<Restaurant> getRestaurant(final String restaurantDataType, final String restaurantData,
-                                              final String password) {
-        final String query = restaurantProfilePersistenceService.restaurantLogin(restaurantDataType, restaurantData, password);
+    public Optional<Restaurant> getRestaurant(final String restaurantDataType, final String restaurantData) {
+        final ParameterizedQuery query = restaurantProfilePersistenceService.restaurantLogin(restaurantDataType,
+                restaurantData);
+
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             return restaurantProfileResultSetExtractor.getRestaurant(preparedStatement.executeQuery());
         } catch (SQLException message) {
             throw new RestaurantDataNotFoundException(message.getMessage());
@@ -122,9 +143,12 @@ public final class RestaurantProfileDAOImpl implements RestaurantProfileDAO {
      */
     @Override
     public Optional<Restaurant> getRestaurantById(final long restaurantId) {
-        final String query = restaurantProfilePersistenceService.getRestaurantById(restaurantId);
+        final ParameterizedQuery query = restaurantProfilePersistenceService.getRestaurantById(restaurantId);
+
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             return restaurantProfileResultSetExtractor.getRestaurant(preparedStatement.executeQuery());
         } catch (SQLException message) {
             throw new RestaurantDataNotFoundException(message.getMessage());
@@ -141,10 +165,18 @@ public final class RestaurantProfileDAOImpl implements RestaurantProfileDAO {
      */
     @Override
     public boolean updateRestaurantProfile(final long restaurantId, final String type, final String restaurantData) {
-        final String query = restaurantProfilePersistenceService.updateRestaurantProfile(restaurantId, type, restaurantData);
+        final ParameterizedQuery query = restaurantProfilePersistenceService.updateRestaurantProfile(restaurantId, type, restaurantData);
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            return 0 < preparedStatement.executeUpdate();
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
+            final boolean isUpdated = 0 < preparedStatement.executeUpdate();
+
+            if (isUpdated) {
+                restaurantResponseCache.invalidateRestaurant(restaurantId);
+            }
+
+            return isUpdated;
         } catch (SQLException message) {
             throw new RestaurantProfileUpdateException(message.getMessage());
         }
@@ -153,15 +185,44 @@ public final class RestaurantProfileDAOImpl implements RestaurantProfileDAO {
     /**
      * {@inheritDoc}
      *
-     * @return The list of all restaurants
+     * @param restaurantId     Represents the id of the restaurant
+     * @param hashedPassword   Represents the stored hash of the password
+     * @param rehashedPassword Represents the new hash of the password
+     * @return True if the password hash is replaced, false otherwise
      */
     @Override
-    public Optional<Collection<Restaurant>> getAllRestaurants() {
-        final String query = restaurantProfilePersistenceService.getAllRestaurants();
+    public boolean rehashPassword(final long restaurantId, final String hashedPassword,
+                                  final String rehashedPassword) {
+        final ParameterizedQuery query = restaurantProfilePersistenceService.rehashPassword(restaurantId,
+                hashedPassword, rehashedPassword);
+
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
+            final boolean isUpdated = 0 < preparedStatement.executeUpdate();
+
+            if (isUpdated) {
+                restaurantResponseCache.invalidateRestaurant(restaurantId);
+            }
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            return restaurantProfileResultSetExtractor.getAllRestaurants(preparedStatement.executeQuery());
+            return isUpdated;
         } catch (SQLException message) {
+            throw new RestaurantProfileUpdateException(message.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param pageRequest Represents the last seen restaurant id and the page size
+     * @return The cursor of the page of restaurants
+     */
+    @Override
+    public ResultCursor<Restaurant> getAllRestaurants(final PageRequest pageRequest) {
+        try {
+            return ResultCursor.open(restaurantProfilePersistenceService.getAllRestaurants(), pageRequest,
+                    restaurantProfileResultSetExtractor::getRestaurantSummary);
+        } catch (ResultCursorException message) {
             throw new RestaurantDataNotFoundException(message.getMessage());
         }
     }
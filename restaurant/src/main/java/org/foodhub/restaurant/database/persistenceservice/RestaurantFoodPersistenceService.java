@@ -4,7 +4,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Set;
 
 import org.foodhub.database.querybuilder.Query;
 import org.foodhub.database.querybuilder.clauses.JoinClause;
@@ -12,6 +13,12 @@ import org.foodhub.database.querybuilder.clauses.JoinType;
 import org.foodhub.database.querybuilder.clauses.WhereClause;
 import org.foodhub.database.querybuilder.operator.ConditionalOperator;
 import org.foodhub.database.querybuilder.operator.LogicalOperator;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.database.querybuilder.parameter.ParameterType;
+import org.foodhub.database.querybuilder.parameter.QueryParameter;
+import org.foodhub.database.querytemplate.QueryTemplate;
+import org.foodhub.database.querytemplate.QueryTemplateCache;
+import org.foodhub.database.querywriter.ParameterizedQuery;
 import org.foodhub.database.querywriter.QueryWriter;
 import org.foodhub.database.querywriter.impl.QueryWriterImpl;
 import org.foodhub.restaurant.database.table.FoodTable;
@@ -30,10 +37,20 @@ import org.foodhub.restaurant.model.food.FoodType;
  */
 public final class RestaurantFoodPersistenceService {
 
+    private static final String GET_MENU_CARD_QUERY = "restaurantFood.getMenuCard.";
+    private static final String RESERVE_FOOD_IDS_QUERY = "restaurantFood.reserveFoodIds";
+    private static final String COPY_FOODS_STATEMENT = String.join("", "COPY ", FoodTable.TABLE_NAME, " (",
+            String.join(", ", FoodTable.ID_COLUMN, FoodTable.NAME_COLUMN, FoodTable.RATE_COLUMN,
+                    FoodTable.TYPE_COLUMN, FoodTable.QUANTITY_COLUMN), ") FROM STDIN");
+    private static final String COPY_RESTAURANT_FOODS_STATEMENT = String.join("", "COPY ",
+            RestaurantFoodTable.TABLE_NAME, " (", String.join(", ", RestaurantFoodTable.RESTAURANT_ID_COLUMN,
+                    RestaurantFoodTable.FOOD_ID_COLUMN), ") FROM STDIN");
     private final QueryWriter queryWriter;
+    private final QueryTemplateCache queryTemplateCache;
 
     private RestaurantFoodPersistenceService() {
         queryWriter = QueryWriterImpl.getInstance();
+        queryTemplateCache = QueryTemplateCache.getInstance();
     }
 
     /**
@@ -64,20 +81,56 @@ public final class RestaurantFoodPersistenceService {
      * </p>
      *
      * @param food Represents the current food added by the restaurant
-     * @return The query for adding the food to the restaurant
+     * @return The parameterized query for adding the food to the restaurant
      */
-    public String addFood(final Food food) {
+    public ParameterizedQuery addFood(final Food food) {
         final String tableName = FoodTable.TABLE_NAME;
-        final Map<String, String> insertFields = new HashMap<>();
+        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertParameters(getFoodRow(food))
+                .setReturningId(true).buildQuery();
+
+        return queryWriter.writeParameterizedQuery(query);
+    }
+
+    /**
+     * <p>
+     * Adds the foods to the restaurant in a single multi-row insert, the ids are returned in the order of the foods.
+     * </p>
+     *
+     * @param foods Represents the foods added by the restaurant, at most {@link Query#MAXIMUM_INSERT_ROWS} foods
+     * @return The parameterized query for adding the foods to the restaurant
+     */
+    public ParameterizedQuery addFoods(final List<Food> foods) {
+        final String tableName = FoodTable.TABLE_NAME;
+        final List<Map<String, QueryParameter>> insertRows = new ArrayList<>(foods.size());
 
-        insertFields.put(FoodTable.NAME_COLUMN, food.getName());
-        insertFields.put(FoodTable.RATE_COLUMN, String.valueOf(food.getRate()));
-        insertFields.put(FoodTable.TYPE_COLUMN, String.valueOf(food.getType().getId()));
-        insertFields.put(FoodTable.QUANTITY_COLUMN, String.valueOf(food.getQuantity()));
-        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertFields(insertFields)
+        for (final Food food : foods) {
+            insertRows.add(getFoodRow(food));
+        }
+        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertRows(insertRows)
                 .setReturningId(true).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
+    }
+
+    /**
+     * <p>
+     * Gets the insert parameters of the food.
+     * </p>
+     *
+     * @param food Represents the food added by the restaurant
+     * @return The insert parameters of the food
+     */
+    private Map<String, QueryParameter> getFoodRow(final Food food) {
+        final Map<String, QueryParameter> insertParameters = new LinkedHashMap<>();
+
+        insertParameters.put(FoodTable.NAME_COLUMN, new QueryParameter(ParameterType.STRING, food.getName()));
+        insertParameters.put(FoodTable.RATE_COLUMN, new QueryParameter(ParameterType.FLOAT, food.getRate()));
+        insertParameters.put(FoodTable.TYPE_COLUMN, new QueryParameter(ParameterType.INTEGER,
+                food.getType().getId()));
+        insertParameters.put(FoodTable.QUANTITY_COLUMN, new QueryParameter(ParameterType.INTEGER,
+                food.getQuantity()));
+
+        return insertParameters;
     }
 
     /**
@@ -86,17 +139,101 @@ public final class RestaurantFoodPersistenceService {
      * </p>
      *
      * @param restaurantId Represents the id of the restaurant
-     * @return The query for mapping the food with the restaurant
+     * @param foodId       Represents the id of the food
+     * @return The parameterized query for mapping the food with the restaurant
      */
-    public String mapFoodsWithRestaurant(final long restaurantId) {
+    public ParameterizedQuery mapFoodsWithRestaurant(final long restaurantId, final long foodId) {
         final String tableName = RestaurantFoodTable.TABLE_NAME;
-        final Map<String, String> insertFields = new HashMap<>();
+        final Map<String, QueryParameter> insertParameters = new LinkedHashMap<>();
+
+        insertParameters.put(RestaurantFoodTable.RESTAURANT_ID_COLUMN, new QueryParameter(ParameterType.LONG,
+                restaurantId));
+        insertParameters.put(RestaurantFoodTable.FOOD_ID_COLUMN, new QueryParameter(ParameterType.LONG, foodId));
+        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertParameters(insertParameters)
+                .buildQuery();
+
+        return queryWriter.writeParameterizedQuery(query);
+    }
+
+    /**
+     * <p>
+     * Maps the foods with restaurant in a single multi-row insert.
+     * </p>
+     *
+     * @param restaurantId Represents the id of the restaurant
+     * @param foodIds      Represents the ids of the foods, at most {@link Query#MAXIMUM_INSERT_ROWS} ids
+     * @return The parameterized query for mapping the foods with the restaurant
+     */
+    public ParameterizedQuery mapFoodsWithRestaurant(final long restaurantId, final List<Long> foodIds) {
+        final String tableName = RestaurantFoodTable.TABLE_NAME;
+        final List<Map<String, QueryParameter>> insertRows = new ArrayList<>(foodIds.size());
+        final QueryParameter restaurantIdParameter = new QueryParameter(ParameterType.LONG, restaurantId);
+
+        for (final Long foodId : foodIds) {
+            final Map<String, QueryParameter> insertParameters = new LinkedHashMap<>();
+
+            insertParameters.put(RestaurantFoodTable.RESTAURANT_ID_COLUMN, restaurantIdParameter);
+            insertParameters.put(RestaurantFoodTable.FOOD_ID_COLUMN, new QueryParameter(ParameterType.LONG, foodId));
+            insertRows.add(insertParameters);
+        }
+        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertRows(insertRows).buildQuery();
+
+        return queryWriter.writeParameterizedQuery(query);
+    }
+
+    /**
+     * <p>
+     * Reserves the ids of the foods from the sequence of the food table, so the foods can be copied along with their
+     * ids and mapped with the restaurant without reading them back.
+     * </p>
+     *
+     * @return The query template to reserve the food ids, bound with the count of the ids
+     */
+    public QueryTemplate<Integer> reserveFoodIds() {
+        return queryTemplateCache.getTemplate(RESERVE_FOOD_IDS_QUERY,
+                RestaurantFoodPersistenceService::buildReserveFoodIdsQuery,
+                (preparedStatement, count) -> preparedStatement.setInt(1, count));
+    }
+
+    /**
+     * <p>
+     * Builds the query to get the next values of the food id sequence.
+     * </p>
+     *
+     * @return The query to reserve the food ids
+     */
+    private static Query buildReserveFoodIdsQuery() {
+        final String tableName = "generate_series(1, ?)";
+        final Collection<String> selectFields = new ArrayList<>();
 
-        insertFields.put(RestaurantFoodTable.RESTAURANT_ID_COLUMN, String.valueOf(restaurantId));
-        insertFields.put(RestaurantFoodTable.FOOD_ID_COLUMN, "?");
-        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertFields(insertFields).buildQuery();
+        selectFields.add(String.join("", "nextval(pg_get_serial_sequence('", FoodTable.TABLE_NAME, "', '",
+                FoodTable.ID_COLUMN, "'))"));
 
-        return queryWriter.writeQuery(query);
+        return new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields).buildQuery();
+    }
+
+    /**
+     * <p>
+     * Gets the statement to copy the foods, the rows are copied with the id, name, rate, type and quantity of the
+     * food.
+     * </p>
+     *
+     * @return The copy statement of the foods
+     */
+    public String copyFoods() {
+        return COPY_FOODS_STATEMENT;
+    }
+
+    /**
+     * <p>
+     * Gets the statement to copy the mapping of the foods with the restaurant, the rows are copied with the id of the
+     * restaurant and the id of the food.
+     * </p>
+     *
+     * @return The copy statement of the restaurant foods
+     */
+    public String copyRestaurantFoods() {
+        return COPY_RESTAURANT_FOODS_STATEMENT;
     }
 
     /**
@@ -105,19 +242,19 @@ public final class RestaurantFoodPersistenceService {
      * </p>
      *
      * @param foodId Represents the id of the food
-     * @return The query for removing food from the menucard
+     * @return The parameterized query for removing food from the menucard
      */
-    public String removeFood(final long foodId) {
+    public ParameterizedQuery removeFood(final long foodId) {
         final String tableName = FoodTable.TABLE_NAME;
         final Collection<WhereClause> whereClauses = new ArrayList<>();
 
         whereClauses.add(new WhereClause().setColumn(FoodTable.ID_COLUMN)
                 .setConditionalOperator(ConditionalOperator.EQUAL)
-                .setValue(String.valueOf(foodId)));
+                .setParameter(new QueryParameter(ParameterType.LONG, foodId)));
         final Query query = new Query.QueryBuilder().setTableName(tableName).setDeleteStatement(true)
                 .setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
     }
 
     /**
@@ -126,9 +263,9 @@ public final class RestaurantFoodPersistenceService {
      * </p>
      *
      * @param foodId Represents the id of the food
-     * @return The query for getting the quantity of the food
+     * @return The parameterized query for getting the quantity of the food
      */
-    public String getFoodQuantity(final long foodId) {
+    public ParameterizedQuery getFoodQuantity(final long foodId) {
         final String tableName = FoodTable.TABLE_NAME;
         final Collection<String> selectFields = new ArrayList<>();
 
@@ -137,11 +274,11 @@ public final class RestaurantFoodPersistenceService {
 
         whereClauses.add(new WhereClause().setColumn(RestaurantFoodTable.FOOD_ID_COLUMN)
                 .setConditionalOperator(ConditionalOperator.EQUAL)
-                .setValue(String.valueOf(foodId)));
+                .setParameter(new QueryParameter(ParameterType.LONG, foodId)));
         final Query query = new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
                 .setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
     }
 
     /**
@@ -149,10 +286,33 @@ public final class RestaurantFoodPersistenceService {
      * Gets the menucard of the selected restaurant.
      * </p>
      *
-     * @param restaurantId Represents the id of the restaurant
+     * @param foodTypes Represents the food types listed by the menucard
+     * @return The query template for getting the menucard, bound with the page of the restaurant menucard
+     */
+    public QueryTemplate<PageRequest> getMenuCard(final Set<FoodType> foodTypes) {
+        final List<String> typeIds = new ArrayList<>(foodTypes.size());
+
+        for (final FoodType foodType : foodTypes) {
+            typeIds.add(String.valueOf(foodType.getId()));
+        }
+
+        return queryTemplateCache.getTemplate(GET_MENU_CARD_QUERY.concat(String.join(",", typeIds)),
+                () -> buildMenuCardQuery(typeIds), (preparedStatement, pageRequest) -> {
+                    preparedStatement.setLong(1, pageRequest.getOwnerId());
+                    preparedStatement.setLong(2, pageRequest.getAfter());
+                    preparedStatement.setInt(3, pageRequest.getLimit());
+                });
+    }
+
+    /**
+     * <p>
+     * Builds the parameterized query to get the page of the restaurant menucard, ordered by the food id.
+     * </p>
+     *
+     * @param typeIds Represents the ids of the food types listed by the menucard
      * @return The query for getting the menucard
      */
-    public String getMenuCard(final long restaurantId, final int menucardId) {
+    private static Query buildMenuCardQuery(final List<String> typeIds) {
         final String tableName = FoodTable.TABLE_NAME_WITH_ALIAS;
         final Collection<String> selectFields = new ArrayList<>();
 
@@ -170,24 +330,19 @@ public final class RestaurantFoodPersistenceService {
         final Collection<WhereClause> whereClauses = new ArrayList<>();
 
         whereClauses.add(new WhereClause().setColumn(RestaurantTable.ID_COLUMN_WITH_ALIAS)
-                .setConditionalOperator(ConditionalOperator.EQUAL)
-                .setValue(String.valueOf(restaurantId)));
-        final List<String> values = new ArrayList<>();
-
-        switch (menucardId) {
-            case 1 -> values.add(String.valueOf(FoodType.VEG.getId()));
-            case 2 -> values.add(String.valueOf(FoodType.NONVEG.getId()));
-            case 3 -> {
-                values.add(String.valueOf(FoodType.VEG.getId()));
-                values.add(String.valueOf(FoodType.NONVEG.getId()));
-            }
-        }
+                .setConditionalOperator(ConditionalOperator.EQUAL).setValue("?"));
         whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND)
                 .setColumn(FoodTable.TYPE_COLUMN_WITH_ALIAS)
-                .setConditionalOperator(ConditionalOperator.IN).setValues(values));
-        final Query query = new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
-                .setJoins(joins).setWhereClauses(whereClauses).buildQuery();
+                .setConditionalOperator(ConditionalOperator.IN).setValues(typeIds));
+        whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND)
+                .setColumn(FoodTable.ID_COLUMN_WITH_ALIAS).setConditionalOperator(ConditionalOperator.GREATER_THAN)
+                .setValue("?"));
+        final Collection<String> orderByFields = new ArrayList<>();
+
+        orderByFields.add(FoodTable.ID_COLUMN_WITH_ALIAS);
 
-        return queryWriter.writeQuery(query);
+        return new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
+                .setJoins(joins).setWhereClauses(whereClauses).setOrderByFields(orderByFields).setLimit("?")
+                .buildQuery();
     }
 }
\ No newline at end of file
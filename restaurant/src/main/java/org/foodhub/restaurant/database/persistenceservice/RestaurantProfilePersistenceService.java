@@ -3,13 +3,18 @@ package org.foodhub.restaurant.database.persistenceservice;
 import java.util.Collection;
 import java.util.ArrayList;
 import java.util.Map;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 
-import org.foodhub.common.hashgenerator.PasswordHashGenerator;
 import org.foodhub.database.querybuilder.Query;
 import org.foodhub.database.querybuilder.operator.ConditionalOperator;
 import org.foodhub.database.querybuilder.operator.LogicalOperator;
 import org.foodhub.database.querybuilder.clauses.WhereClause;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.database.querybuilder.parameter.ParameterType;
+import org.foodhub.database.querybuilder.parameter.QueryParameter;
+import org.foodhub.database.querytemplate.QueryTemplate;
+import org.foodhub.database.querytemplate.QueryTemplateCache;
+import org.foodhub.database.querywriter.ParameterizedQuery;
 import org.foodhub.database.querywriter.QueryWriter;
 import org.foodhub.database.querywriter.impl.QueryWriterImpl;
 import org.foodhub.restaurant.database.table.RestaurantTable;
@@ -25,10 +30,13 @@ import org.foodhub.restaurant.model.restaurant.Restaurant;
  */
 public final class RestaurantProfilePersistenceService {
 
+    private static final String GET_ALL_RESTAURANTS_QUERY = "restaurantProfile.getAllRestaurants";
     private final QueryWriter queryWriter;
+    private final QueryTemplateCache queryTemplateCache;
 
     private RestaurantProfilePersistenceService() {
         queryWriter = QueryWriterImpl.getInstance();
+        queryTemplateCache = QueryTemplateCache.getInstance();
     }
 
     /**
@@ -58,21 +66,26 @@ public final class RestaurantProfilePersistenceService {
      * Creates the new restaurant profile.
      * </p>
      *
-     * @param restaurant Represents the restaurant
-     * @return The query to create new restaurant profile
+     * @param restaurant     Represents the restaurant
+     * @param hashedPassword Represents the hash of the restaurant password
+     * @return The parameterized query to create new restaurant profile
      */
-    public String createRestaurantProfile(final Restaurant restaurant) {
+    public ParameterizedQuery createRestaurantProfile(final Restaurant restaurant, final String hashedPassword) {
         final String tableName = RestaurantTable.TABLE_NAME;
-        final Map<String, String> insertFields = new HashMap<>();
+        final Map<String, QueryParameter> insertParameters = new LinkedHashMap<>();
 
-        insertFields.put(RestaurantTable.NAME_COLUMN, restaurant.getName());
-        insertFields.put(RestaurantTable.PHONE_NUMBER_COLUMN, restaurant.getPhoneNumber());
-        insertFields.put(RestaurantTable.EMAIL_ID_COLUMN, restaurant.getEmailId());
-        insertFields.put(RestaurantTable.PASSWORD_COLUMN, PasswordHashGenerator.getInstance().hashPassword(restaurant
-                .getPassword()));
-        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertFields(insertFields).buildQuery();
+        insertParameters.put(RestaurantTable.NAME_COLUMN, new QueryParameter(ParameterType.STRING,
+                restaurant.getName()));
+        insertParameters.put(RestaurantTable.PHONE_NUMBER_COLUMN, new QueryParameter(ParameterType.STRING,
+                restaurant.getPhoneNumber()));
+        insertParameters.put(RestaurantTable.EMAIL_ID_COLUMN, new QueryParameter(ParameterType.STRING,
+                restaurant.getEmailId()));
+        insertParameters.put(RestaurantTable.PASSWORD_COLUMN, new QueryParameter(ParameterType.STRING,
+                hashedPassword));
+        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertParameters(insertParameters)
+                .buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
     }
 
     /**
@@ -80,9 +93,9 @@ public final class RestaurantProfilePersistenceService {
      * Checks for the restaurant is exist.
      * </p>
      *
-     * @return The query to check the restaurant profile is already exist
+     * @return The parameterized query to check the restaurant profile is already exist
      */
-    public String isRestaurantExist(final String phoneNumber, final String emailId) {
+    public ParameterizedQuery isRestaurantExist(final String phoneNumber, final String emailId) {
         final String tableName = RestaurantTable.TABLE_NAME;
         final Collection<String> selectFields = new ArrayList<>();
 
@@ -91,29 +104,27 @@ public final class RestaurantProfilePersistenceService {
 
         whereClauses.add(new WhereClause().setColumn(RestaurantTable.PHONE_NUMBER_COLUMN)
                 .setConditionalOperator(ConditionalOperator.EQUAL)
-                .setValue(phoneNumber));
+                .setParameter(new QueryParameter(ParameterType.STRING, phoneNumber)));
         whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.OR)
                 .setColumn(RestaurantTable.EMAIL_ID_COLUMN)
                 .setConditionalOperator(ConditionalOperator.EQUAL)
-                .setValue(emailId));
+                .setParameter(new QueryParameter(ParameterType.STRING, emailId)));
         final Query query = new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
                 .setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
     }
 
     /**
      * <p>
-     * Gets the restaurant if the phone_number and password matches.
+     * Gets the restaurant along with the stored password hash if the login data matches.
      * </p>
      *
      * @param restaurantDataType Represents the type of data of the restaurant
      * @param restaurantData     Represents the data of the restaurant
-     * @param password           Represents the password of the restaurant
-     * @return The query to check the restaurant login validation
+     * @return The parameterized query to get the restaurant of the login
      */
-    public String restaurantLogin(final String restaurantDataType, final String restaurantData,
-                                  final String password) {
+    public ParameterizedQuery restaurantLogin(final String restaurantDataType, final String restaurantData) {
         final String tableName = RestaurantTable.TABLE_NAME;
         final Collection<String> selectFields = new ArrayList<>();
 
@@ -125,14 +136,12 @@ public final class RestaurantProfilePersistenceService {
         final Collection<WhereClause> whereClauses = new ArrayList<>();
 
         whereClauses.add(new WhereClause().setColumn(restaurantDataType)
-                .setConditionalOperator(ConditionalOperator.EQUAL).setValue(restaurantData));
-        whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND)
-                .setColumn(RestaurantTable.PASSWORD_COLUMN)
-                .setConditionalOperator(ConditionalOperator.EQUAL).setValue(password));
+                .setConditionalOperator(ConditionalOperator.EQUAL)
+                .setParameter(new QueryParameter(ParameterType.STRING, restaurantData)));
         final Query query = new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
                 .setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
     }
 
     /**
@@ -141,9 +150,9 @@ public final class RestaurantProfilePersistenceService {
      * </p>
      *
      * @param restaurantId Represents the id of the restaurant
-     * @return The restaurant object
+     * @return The parameterized query to get the restaurant by id
      */
-    public String getRestaurantById(final long restaurantId) {
+    public ParameterizedQuery getRestaurantById(final long restaurantId) {
         final String tableName = RestaurantTable.TABLE_NAME;
         final Collection<String> selectFields = new ArrayList<>();
 
@@ -156,11 +165,11 @@ public final class RestaurantProfilePersistenceService {
 
         whereClauses.add(new WhereClause().setColumn(RestaurantTable.ID_COLUMN)
                 .setConditionalOperator(ConditionalOperator.EQUAL)
-                .setValue(String.valueOf(restaurantId)));
+                .setParameter(new QueryParameter(ParameterType.LONG, restaurantId)));
         final Query query = new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
                 .setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
     }
 
     /**
@@ -171,22 +180,55 @@ public final class RestaurantProfilePersistenceService {
      * @param restaurantId   Represents the id of the restaurant
      * @param restaurantData Represents the data of the restaurant to be updated
      * @param type           Represents the type of data of the restaurant to be updated
-     * @return The query for updating restaurant profile
+     * @return The parameterized query for updating restaurant profile
+     */
+    public ParameterizedQuery updateRestaurantProfile(final long restaurantId, final String type,
+                                                      final String restaurantData) {
+        final String tableName = RestaurantTable.TABLE_NAME;
+        final Map<String, QueryParameter> updateParameters = new LinkedHashMap<>();
+
+        updateParameters.put(type, new QueryParameter(ParameterType.STRING, restaurantData));
+        final Collection<WhereClause> whereClauses = new ArrayList<>();
+
+        whereClauses.add(new WhereClause().setColumn(RestaurantTable.ID_COLUMN)
+                .setConditionalOperator(ConditionalOperator.EQUAL)
+                .setParameter(new QueryParameter(ParameterType.LONG, restaurantId)));
+        final Query query = new Query.QueryBuilder().setTableName(tableName).setUpdateParameters(updateParameters)
+                .setWhereClauses(whereClauses).buildQuery();
+
+        return queryWriter.writeParameterizedQuery(query);
+    }
+
+    /**
+     * <p>
+     * Replaces the stored password hash of the restaurant, if the stored hash was not changed meanwhile.
+     * </p>
+     *
+     * @param restaurantId     Represents the id of the restaurant
+     * @param hashedPassword   Represents the stored hash of the password
+     * @param rehashedPassword Represents the new hash of the password
+     * @return The parameterized query to replace the password hash
      */
-    public String updateRestaurantProfile(final long restaurantId, final String type, final String restaurantData) {
+    public ParameterizedQuery rehashPassword(final long restaurantId, final String hashedPassword,
+                                             final String rehashedPassword) {
         final String tableName = RestaurantTable.TABLE_NAME;
-        final Map<String, String> updateFields = new HashMap<>();
+        final Map<String, QueryParameter> updateParameters = new LinkedHashMap<>();
 
-        updateFields.put(type, restaurantData);
+        updateParameters.put(RestaurantTable.PASSWORD_COLUMN, new QueryParameter(ParameterType.STRING,
+                rehashedPassword));
         final Collection<WhereClause> whereClauses = new ArrayList<>();
 
         whereClauses.add(new WhereClause().setColumn(RestaurantTable.ID_COLUMN)
                 .setConditionalOperator(ConditionalOperator.EQUAL)
-                .setValue(String.valueOf(restaurantId)));
-        final Query query = new Query.QueryBuilder().setTableName(tableName).setUpdateFields(updateFields)
+                .setParameter(new QueryParameter(ParameterType.LONG, restaurantId)));
+        whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND)
+                .setColumn(RestaurantTable.PASSWORD_COLUMN)
+                .setConditionalOperator(ConditionalOperator.EQUAL)
+                .setParameter(new QueryParameter(ParameterType.STRING, hashedPassword)));
+        final Query query = new Query.QueryBuilder().setTableName(tableName).setUpdateParameters(updateParameters)
                 .setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
     }
 
     /**
@@ -194,16 +236,38 @@ public final class RestaurantProfilePersistenceService {
      * Gets all the restaurants
      * </p>
      *
-     * @return The query to get all restaurants
+     * @return The query template to get the page of restaurants, bound with the page of the restaurants
+     */
+    public QueryTemplate<PageRequest> getAllRestaurants() {
+        return queryTemplateCache.getTemplate(GET_ALL_RESTAURANTS_QUERY,
+                RestaurantProfilePersistenceService::buildAllRestaurantsQuery, (preparedStatement, pageRequest) -> {
+                    preparedStatement.setLong(1, pageRequest.getAfter());
+                    preparedStatement.setInt(2, pageRequest.getLimit());
+                });
+    }
+
+    /**
+     * <p>
+     * Builds the query to get the page of restaurants, ordered by the restaurant id.
+     * </p>
+     *
+     * @return The query to get the page of restaurants
      */
-    public String getAllRestaurants() {
+    private static Query buildAllRestaurantsQuery() {
         final String tableName = RestaurantTable.TABLE_NAME;
         final Collection<String> selectFields = new ArrayList<>();
 
         selectFields.add(RestaurantTable.ID_COLUMN);
         selectFields.add(RestaurantTable.NAME_COLUMN);
-        final Query query = new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields).buildQuery();
+        final Collection<WhereClause> whereClauses = new ArrayList<>();
+
+        whereClauses.add(new WhereClause().setColumn(RestaurantTable.ID_COLUMN)
+                .setConditionalOperator(ConditionalOperator.GREATER_THAN).setValue("?"));
+        final Collection<String> orderByFields = new ArrayList<>();
+
+        orderByFields.add(RestaurantTable.ID_COLUMN);
 
-        return queryWriter.writeQuery(query);
+        return new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
+                .setWhereClauses(whereClauses).setOrderByFields(orderByFields).setLimit("?").buildQuery();
     }
 }
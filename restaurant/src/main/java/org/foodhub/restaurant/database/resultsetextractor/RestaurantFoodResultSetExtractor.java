@@ -1,8 +1,7 @@
 package org.foodhub.restaurant.database.resultsetextractor;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import java.sql.ResultSet;
@@ -10,7 +9,6 @@ import java.sql.SQLException;
 
 import org.foodhub.restaurant.exception.food.FoodDataNotFoundException;
 import org.foodhub.restaurant.exception.food.InvalidFoodDataException;
-import org.foodhub.restaurant.exception.food.MenuCardNotFoundException;
 import org.foodhub.restaurant.model.food.Food;
 import org.foodhub.restaurant.model.food.FoodType;
 
@@ -66,6 +64,28 @@ public final class RestaurantFoodResultSetExtractor {
         }
     }
 
+    /**
+     * <p>
+     * Gets the ids of the foods from the result set, in the order of the inserted foods.
+     * </p>
+     *
+     * @param resultSet Represents the result set data from the executed query.
+     * @return The ids of the foods
+     */
+    public List<Long> getFoodIds(final ResultSet resultSet) {
+        try {
+            final List<Long> foodIds = new ArrayList<>();
+
+            while (resultSet.next()) {
+                foodIds.add(resultSet.getLong(1));
+            }
+
+            return foodIds;
+        } catch (SQLException message) {
+            throw new InvalidFoodDataException(message.getMessage());
+        }
+    }
+
     /**
      * <p>
      * Gets the food quantity from the result set.
@@ -86,33 +106,17 @@ public final class RestaurantFoodResultSetExtractor {
 
     /**
      * <p>
-     * Gets the list of foods from the result set.
+     * Gets the food of the menucard from the current row of the result set.
      * </p>
      *
-     * @param resultSet Represents the result set data from the executed query.
-     * @return The list of foods
+     * @param resultSet Represents the result set positioned on the food row
+     * @return The food of the menucard
+     * @throws SQLException If the column can't be read
      */
-    public Optional<Collection<Food>> getMenuCard(final ResultSet resultSet) {
-        try {
-
-            if (resultSet.isBeforeFirst()) {
-                final Collection<Food> menucard = new ArrayList<>();
-
-                while (resultSet.next()) {
-                    final Food food = new Food.FoodBuilder().setId(resultSet.getLong(1))
-                            .setName(resultSet.getString(2)).setRate(resultSet.getFloat(3))
-                            .setType(FoodType.getTypeById(resultSet.getInt(4)).get())
-                            .setQuantity(resultSet.getInt(5)).build();
-
-                    menucard.add(food);
-                }
-
-                return Optional.of(Collections.unmodifiableCollection(menucard));
-            }
-
-            return Optional.empty();
-        } catch (SQLException message) {
-            throw new MenuCardNotFoundException(message.getMessage());
-        }
+    public Food getFood(final ResultSet resultSet) throws SQLException {
+        return new Food.FoodBuilder().setId(resultSet.getLong(1))
+                .setName(resultSet.getString(2)).setRate(resultSet.getFloat(3))
+                .setType(FoodType.getTypeById(resultSet.getInt(4)).get())
+                .setQuantity(resultSet.getInt(5)).build();
     }
-}
\ No newline at end of file
+}
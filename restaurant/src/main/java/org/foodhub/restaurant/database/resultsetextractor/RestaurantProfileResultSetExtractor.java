@@ -1,14 +1,10 @@
 package org.foodhub.restaurant.database.resultsetextractor;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.Optional;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-import org.foodhub.restaurant.exception.food.InvalidFoodDataException;
 import org.foodhub.restaurant.exception.restaurant.RestaurantDataNotFoundException;
 import org.foodhub.restaurant.model.restaurant.Restaurant;
 
@@ -92,31 +88,14 @@ public final class RestaurantProfileResultSetExtractor {
 
     /**
      * <p>
-     * Gets the restaurants list from the result set.
+     * Gets the restaurant listed from the current row of the result set.
      * </p>
      *
-     * @param resultSet Represents the result set data from the executed query.
-     * @return The list of restaurants
+     * @param resultSet Represents the result set positioned on the restaurant row
+     * @return The restaurant with id and name
+     * @throws SQLException If the column can't be read
      */
-    public Optional<Collection<Restaurant>> getAllRestaurants(final ResultSet resultSet) {
-        try {
-
-            if (resultSet.isBeforeFirst()) {
-                final Collection<Restaurant> restaurants = new ArrayList<>();
-
-                while (resultSet.next()) {
-                    final Restaurant restaurant = new Restaurant.RestaurantBuilder()
-                            .setId(resultSet.getLong(1)).setName(resultSet.getString(2)).build();
-
-                    restaurants.add(restaurant);
-                }
-
-                return Optional.of(Collections.unmodifiableCollection(restaurants));
-            }
-
-            return Optional.empty();
-        } catch (SQLException message) {
-            throw new InvalidFoodDataException(message.getMessage());
-        }
+    public Restaurant getRestaurantSummary(final ResultSet resultSet) throws SQLException {
+        return new Restaurant.RestaurantBuilder().setId(resultSet.getLong(1)).setName(resultSet.getString(2)).build();
     }
-}
\ No newline at end of file
+}
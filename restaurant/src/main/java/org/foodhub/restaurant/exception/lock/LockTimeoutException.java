@@ -0,0 +1,15 @@
+package org.foodhub.restaurant.exception.lock;
+
+import org.foodhub.exception.customexception.DefaultException;
+
+/**
+ * <p>
+ * Handles the exception when the lock of the food or the restaurant is not acquired within the maximum wait.
+ * </p>
+ */
+public class LockTimeoutException extends DefaultException {
+
+    public LockTimeoutException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,240 @@
+package org.foodhub.restaurant.inventory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.foodhub.restaurant.database.internal.impl.RestaurantFoodDAOImpl;
+import org.foodhub.restaurant.exception.food.FoodDataNotFoundException;
+
+/**
+ * <p>
+ * Keeps the available quantity of the most ordered foods in memory, so the orders of the sold out food are rejected
+ * without reaching the database. The food is tracked once it is reserved often enough, its quantity is loaded from
+ * the database and counted down in the {@link StripedCounter}.
+ * </p>
+ *
+ * <p>
+ * The database stays the source of the available quantity, every reservation is still made by the conditional update
+ * of the food quantity. The in-memory quantity can only be higher than the stored quantity, the food is dropped from
+ * memory once the database rejects the reservation the memory accepted, and is loaded again when it gets hot. The
+ * quantity of the tracked food is loaded again after the reload interval, so the food restocked in the database is
+ * no longer rejected as sold out by the memory.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class FoodInventory {
+
+    private static final int HOT_RESERVATIONS = 16;
+    private static final int MAXIMUM_HOT_FOODS = 512;
+    private static final int MAXIMUM_DEMANDS = 4096;
+    private static final long RELOAD_INTERVAL = TimeUnit.SECONDS.toNanos(30);
+    private final int stripes;
+    private final Map<Long, LoadedCounter> counters;
+    private final Map<Long, AtomicInteger> demands;
+    private final LongAdder rejectedReservations;
+    private final LongAdder reloads;
+
+    private FoodInventory() {
+        stripes = Math.min(16, Runtime.getRuntime().availableProcessors());
+        counters = new ConcurrentHashMap<>();
+        demands = new ConcurrentHashMap<>();
+        rejectedReservations = new LongAdder();
+        reloads = new LongAdder();
+    }
+
+    /**
+     * <p>
+     * Creates the instance of the class
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final FoodInventory FOOD_INVENTORY = new FoodInventory();
+    }
+
+    /**
+     * <p>
+     * Gets the instance of the food inventory class.
+     * </p>
+     *
+     * @return The food inventory instance
+     */
+    public static FoodInventory getInstance() {
+        return InstanceHolder.FOOD_INVENTORY;
+    }
+
+    /**
+     * <p>
+     * Reserves the quantity of the food in memory, the reservation has to be released if the order is not placed.
+     * </p>
+     *
+     * @param foodId   Represents the id of the food
+     * @param quantity Represents the quantity to be reserved
+     * @return The reservation of the food, empty if the food is sold out
+     */
+    public Optional<FoodReservation> reserve(final long foodId, final int quantity) {
+        final StripedCounter counter = getCounter(foodId);
+
+        if (null == counter) {
+            return Optional.of(new FoodReservation(foodId, quantity, null, -1));
+        }
+        final int stripe = counter.reserve(quantity);
+
+        if (-1 != stripe) {
+            return Optional.of(new FoodReservation(foodId, quantity, counter, stripe));
+        }
+
+        if (counter.sum() < quantity) {
+            rejectedReservations.increment();
+
+            return Optional.empty();
+        }
+
+        return Optional.of(new FoodReservation(foodId, quantity, null, -1));
+    }
+
+    /**
+     * <p>
+     * Gives the reserved quantity back to the memory.
+     * </p>
+     *
+     * @param foodReservation Represents the reservation of the order not placed
+     */
+    public void release(final FoodReservation foodReservation) {
+        if (foodReservation.isTracked()) {
+            foodReservation.getCounter().release(foodReservation.getStripe(), foodReservation.getQuantity());
+        }
+    }
+
+    /**
+     * <p>
+     * Drops the food from memory, its quantity is loaded again when it gets hot. The quantity written to the database
+     * other than by the orders has to invalidate the food.
+     * </p>
+     *
+     * @param foodId Represents the id of the food
+     */
+    public void invalidate(final long foodId) {
+        counters.remove(foodId);
+    }
+
+    /**
+     * <p>
+     * Gets the counter of the food, the quantity of the food is loaded once the food is reserved often enough and
+     * loaded again once the counter is older than the reload interval.
+     * </p>
+     *
+     * @param foodId Represents the id of the food
+     * @return The counter of the food, null if the food is not tracked
+     */
+    private StripedCounter getCounter(final long foodId) {
+        final LoadedCounter loadedCounter = counters.get(foodId);
+        final long now = System.nanoTime();
+
+        if (null != loadedCounter) {
+
+            if (now - loadedCounter.loadedAt() < RELOAD_INTERVAL) {
+                return loadedCounter.counter();
+            }
+
+            if (!counters.remove(foodId, loadedCounter)) {
+                final LoadedCounter reloadedCounter = counters.get(foodId);
+
+                return null == reloadedCounter ? null : reloadedCounter.counter();
+            }
+            reloads.increment();
+
+            return loadCounter(foodId, now);
+        }
+
+        if (MAXIMUM_HOT_FOODS <= counters.size()) {
+            return null;
+        }
+
+        if (MAXIMUM_DEMANDS < demands.size()) {
+            demands.clear();
+        }
+
+        if (HOT_RESERVATIONS > demands.computeIfAbsent(foodId, id -> new AtomicInteger()).incrementAndGet()) {
+            return null;
+        }
+        demands.remove(foodId);
+
+        return loadCounter(foodId, now);
+    }
+
+    /**
+     * <p>
+     * Loads the quantity of the food from the database into the new counter.
+     * </p>
+     *
+     * @param foodId Represents the id of the food
+     * @param now    Represents the nano time the quantity is loaded at
+     * @return The counter of the food, null if the food is not found
+     */
+    private StripedCounter loadCounter(final long foodId, final long now) {
+        try {
+            final Optional<Integer> quantity = RestaurantFoodDAOImpl.getInstance().getFoodQuantity(foodId);
+
+            if (quantity.isEmpty()) {
+                return null;
+            }
+            final LoadedCounter loadedCounter = new LoadedCounter(new StripedCounter(quantity.get(), stripes), now);
+            final LoadedCounter existingCounter = counters.putIfAbsent(foodId, loadedCounter);
+
+            return null == existingCounter ? loadedCounter.counter() : existingCounter.counter();
+        } catch (FoodDataNotFoundException message) {
+            return null;
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the count of the foods tracked in memory.
+     * </p>
+     *
+     * @return The count of the tracked foods
+     */
+    public int getHotFoods() {
+        return counters.size();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the reservations rejected in memory as sold out.
+     * </p>
+     *
+     * @return The count of the rejected reservations
+     */
+    public long getRejectedReservations() {
+        return rejectedReservations.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the quantities loaded again after the reload interval.
+     * </p>
+     *
+     * @return The count of the reloads
+     */
+    public long getReloads() {
+        return reloads.sum();
+    }
+
+    /**
+     * <p>
+     * Holds the counter of the food along with the time its quantity was loaded at.
+     * </p>
+     *
+     * @param counter  Represents the counter of the food
+     * @param loadedAt Represents the nano time the quantity was loaded at
+     */
+    private record LoadedCounter(StripedCounter counter, long loadedAt) {
+    }
+}
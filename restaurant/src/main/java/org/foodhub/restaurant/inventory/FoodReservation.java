@@ -0,0 +1,66 @@
+package org.foodhub.restaurant.inventory;
+
+/**
+ * <p>
+ * Represents the quantity of the food reserved for the order, along with the stripe of the in-memory counter it was
+ * taken from. The reservation of the food not tracked in memory is checked by the database alone.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class FoodReservation {
+
+    private final long foodId;
+    private final int quantity;
+    private final StripedCounter counter;
+    private final int stripe;
+
+    FoodReservation(final long foodId, final int quantity, final StripedCounter counter, final int stripe) {
+        this.foodId = foodId;
+        this.quantity = quantity;
+        this.counter = counter;
+        this.stripe = stripe;
+    }
+
+    /**
+     * <p>
+     * Gets the id of the reserved food.
+     * </p>
+     *
+     * @return The id of the food
+     */
+    public long getFoodId() {
+        return foodId;
+    }
+
+    /**
+     * <p>
+     * Gets the reserved quantity of the food.
+     * </p>
+     *
+     * @return The reserved quantity
+     */
+    public int getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * <p>
+     * Checks whether the reservation is taken from the in-memory counter of the food.
+     * </p>
+     *
+     * @return True if the reservation is tracked in memory, false otherwise
+     */
+    public boolean isTracked() {
+        return null != counter;
+    }
+
+    StripedCounter getCounter() {
+        return counter;
+    }
+
+    int getStripe() {
+        return stripe;
+    }
+}
@@ -0,0 +1,147 @@
+package org.foodhub.restaurant.inventory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * Counts the available quantity of the food split across the stripes, so the concurrent reservations of the food
+ * decrement the different stripes instead of contending on a single counter. The stripes are spaced a cache line
+ * apart to keep the reservations on the different stripes from invalidating each other's cache line.
+ * </p>
+ *
+ * <p>
+ * The reservation is taken from a single stripe when it can, the reservation larger than any single stripe is
+ * gathered from all the stripes under the lock, and is given back if the stripes don't hold enough quantity.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+final class StripedCounter {
+
+    private static final int STRIDE = 8;
+    private final int stripes;
+    private final AtomicLongArray counts;
+
+    StripedCounter(final long quantity, final int stripes) {
+        this.stripes = stripes;
+        counts = new AtomicLongArray(stripes * STRIDE);
+
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            counts.set(stripe * STRIDE, quantity / stripes + (stripe < quantity % stripes ? 1 : 0));
+        }
+    }
+
+    /**
+     * <p>
+     * Takes the quantity from the stripes if they hold enough quantity.
+     * </p>
+     *
+     * @param quantity Represents the quantity to be reserved
+     * @return The stripe the quantity is taken from, the first stripe if the quantity is gathered from all the
+     * stripes, or -1 if the stripes don't hold enough quantity
+     */
+    int reserve(final int quantity) {
+        final int start = ThreadLocalRandom.current().nextInt(stripes);
+
+        for (int index = 0; index < stripes; index++) {
+            final int stripe = (start + index) % stripes;
+
+            if (take(stripe, quantity)) {
+                return stripe;
+            }
+        }
+
+        return gather(quantity) ? 0 : -1;
+    }
+
+    /**
+     * <p>
+     * Gives the reserved quantity back to the stripe.
+     * </p>
+     *
+     * @param stripe   Represents the stripe the quantity was taken from
+     * @param quantity Represents the reserved quantity
+     */
+    void release(final int stripe, final int quantity) {
+        counts.addAndGet(stripe * STRIDE, quantity);
+    }
+
+    /**
+     * <p>
+     * Gets the quantity held by all the stripes, the sum is not a snapshot while the reservations are running.
+     * </p>
+     *
+     * @return The available quantity
+     */
+    long sum() {
+        long sum = 0;
+
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            sum += counts.get(stripe * STRIDE);
+        }
+
+        return sum;
+    }
+
+    /**
+     * <p>
+     * Takes the whole quantity from the stripe if the stripe holds enough quantity.
+     * </p>
+     *
+     * @param stripe   Represents the stripe
+     * @param quantity Represents the quantity to be taken
+     * @return True if the quantity is taken, false otherwise
+     */
+    private boolean take(final int stripe, final int quantity) {
+        final int index = stripe * STRIDE;
+        long count = counts.get(index);
+
+        while (count >= quantity) {
+
+            if (counts.compareAndSet(index, count, count - quantity)) {
+                return true;
+            }
+            count = counts.get(index);
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Gathers the quantity from all the stripes into the first stripe, the gathered quantity is given back if the
+     * stripes don't hold enough quantity.
+     * </p>
+     *
+     * @param quantity Represents the quantity to be taken
+     * @return True if the quantity is taken, false otherwise
+     */
+    private synchronized boolean gather(final int quantity) {
+        long gathered = 0;
+
+        for (int stripe = 0; stripe < stripes && gathered < quantity; stripe++) {
+            final int index = stripe * STRIDE;
+            long count = counts.get(index);
+
+            while (count > 0) {
+                final long taken = Math.min(count, quantity - gathered);
+
+                if (counts.compareAndSet(index, count, count - taken)) {
+                    gathered += taken;
+                    break;
+                }
+                count = counts.get(index);
+            }
+        }
+
+        if (gathered < quantity) {
+            counts.addAndGet(0, gathered);
+
+            return false;
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,217 @@
+package org.foodhub.restaurant.lock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Properties;
+
+/**
+ * <p>
+ * Orders the conflicting updates of the same food or the same restaurant with the striped locks, while the updates of
+ * the unrelated foods and restaurants proceed in parallel. The locks are taken before the database connection is
+ * borrowed, so the contended updates wait here instead of holding the connections while waiting on the row locks.
+ * </p>
+ *
+ * <p>
+ * The restaurant lock has to be acquired before the food locks when both are needed, and the food locks of an update
+ * have to be acquired together, so the locks are always taken in the same order.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class FoodLockManager {
+
+    private static final Logger LOGGER = LogManager.getLogger(FoodLockManager.class);
+    private final StripedLocks foodLocks;
+    private final StripedLocks restaurantLocks;
+
+    private FoodLockManager() {
+        final StripedLockConfig config = StripedLockConfig.fromProperties(loadProperties());
+
+        foodLocks = new StripedLocks("food", config);
+        restaurantLocks = new StripedLocks("restaurant", config);
+    }
+
+    /**
+     * <p>
+     * Creates the instance of the class
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final FoodLockManager FOOD_LOCK_MANAGER = new FoodLockManager();
+    }
+
+    /**
+     * <p>
+     * Gets the instance of the food lock manager class.
+     * </p>
+     *
+     * @return The food lock manager instance
+     */
+    public static FoodLockManager getInstance() {
+        return InstanceHolder.FOOD_LOCK_MANAGER;
+    }
+
+    /**
+     * <p>
+     * Locks the food.
+     * </p>
+     *
+     * @param foodId Represents the id of the food
+     * @return The handle of the acquired lock
+     */
+    public LockHandle lockFood(final long foodId) {
+        return foodLocks.acquire(foodId);
+    }
+
+    /**
+     * <p>
+     * Locks all the foods together.
+     * </p>
+     *
+     * @param foodIds Represents the ids of the foods
+     * @return The handle of the acquired locks
+     */
+    public LockHandle lockFoods(final Collection<Long> foodIds) {
+        return foodLocks.acquire(foodIds);
+    }
+
+    /**
+     * <p>
+     * Locks the restaurant.
+     * </p>
+     *
+     * @param restaurantId Represents the id of the restaurant
+     * @return The handle of the acquired lock
+     */
+    public LockHandle lockRestaurant(final long restaurantId) {
+        return restaurantLocks.acquire(restaurantId);
+    }
+
+    /**
+     * <p>
+     * Gets the count of the food locks acquired.
+     * </p>
+     *
+     * @return The count of the food lock acquisitions
+     */
+    public long getFoodLockAcquisitions() {
+        return foodLocks.getAcquisitions();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the food locks found held by the other update.
+     * </p>
+     *
+     * @return The count of the food lock contentions
+     */
+    public long getFoodLockContentions() {
+        return foodLocks.getContentions();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the food locks not acquired within the maximum wait.
+     * </p>
+     *
+     * @return The count of the food lock timeouts
+     */
+    public long getFoodLockTimeouts() {
+        return foodLocks.getTimeouts();
+    }
+
+    /**
+     * <p>
+     * Gets the total time spent waiting for the contended food locks.
+     * </p>
+     *
+     * @return The wait time of the food locks in nanoseconds
+     */
+    public long getFoodLockWaitNanos() {
+        return foodLocks.getWaitNanos();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the restaurant locks acquired.
+     * </p>
+     *
+     * @return The count of the restaurant lock acquisitions
+     */
+    public long getRestaurantLockAcquisitions() {
+        return restaurantLocks.getAcquisitions();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the restaurant locks found held by the other update.
+     * </p>
+     *
+     * @return The count of the restaurant lock contentions
+     */
+    public long getRestaurantLockContentions() {
+        return restaurantLocks.getContentions();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the restaurant locks not acquired within the maximum wait.
+     * </p>
+     *
+     * @return The count of the restaurant lock timeouts
+     */
+    public long getRestaurantLockTimeouts() {
+        return restaurantLocks.getTimeouts();
+    }
+
+    /**
+     * <p>
+     * Gets the total time spent waiting for the contended restaurant locks.
+     * </p>
+     *
+     * @return The wait time of the restaurant locks in nanoseconds
+     */
+    public long getRestaurantLockWaitNanos() {
+        return restaurantLocks.getWaitNanos();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the stripes of each lock set.
+     * </p>
+     *
+     * @return The count of the stripes
+     */
+    public int getStripes() {
+        return foodLocks.getStripes();
+    }
+
+    /**
+     * <p>
+     * Loads the lock properties, the default properties are used if the file can't be loaded.
+     * </p>
+     *
+     * @return The lock properties
+     */
+    private static Properties loadProperties() {
+        final Properties properties = new Properties();
+
+        try (final InputStream inputStream = FoodLockManager.class.getClassLoader()
+                .getResourceAsStream("lock.properties")) {
+
+            if (null != inputStream) {
+                properties.load(inputStream);
+            }
+        } catch (IOException message) {
+            LOGGER.error(message.getMessage());
+        }
+
+        return properties;
+    }
+}
@@ -0,0 +1,40 @@
+package org.foodhub.restaurant.lock;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * <p>
+ * Holds the acquired stripe locks, the locks are released in the reverse order of their acquisition on close.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class LockHandle implements AutoCloseable {
+
+    private final Lock[] locks;
+    private final int count;
+    private boolean closed;
+
+    LockHandle(final Lock[] locks, final int count) {
+        this.locks = locks;
+        this.count = count;
+    }
+
+    /**
+     * <p>
+     * Releases the acquired locks, the handle has to be closed by the thread that acquired it.
+     * </p>
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        for (int index = count - 1; index >= 0; index--) {
+            locks[index].unlock();
+        }
+    }
+}
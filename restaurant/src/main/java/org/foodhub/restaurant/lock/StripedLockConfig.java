@@ -0,0 +1,95 @@
+package org.foodhub.restaurant.lock;
+
+import java.util.Properties;
+
+/**
+ * <p>
+ * Holds the properties of the striped locks.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class StripedLockConfig {
+
+    private static final String DEFAULT_STRIPES = "256";
+    private static final String DEFAULT_FAIR = "false";
+    private static final String DEFAULT_MAXIMUM_WAIT_MILLIS = "2000";
+    private int stripes;
+    private boolean fair;
+    private long maximumWaitMillis;
+
+    private StripedLockConfig() {
+        stripes = Integer.parseInt(DEFAULT_STRIPES);
+        fair = Boolean.parseBoolean(DEFAULT_FAIR);
+        maximumWaitMillis = Long.parseLong(DEFAULT_MAXIMUM_WAIT_MILLIS);
+    }
+
+    /**
+     * <p>
+     * Creates the striped lock config from the lock properties.
+     * </p>
+     *
+     * @param properties Represents the loaded lock properties
+     * @return The striped lock config
+     */
+    public static StripedLockConfig fromProperties(final Properties properties) {
+        return new StripedLockConfigBuilder()
+                .setStripes(Integer.parseInt(properties.getProperty("lock.stripes", DEFAULT_STRIPES)))
+                .setFair(Boolean.parseBoolean(properties.getProperty("lock.fair", DEFAULT_FAIR)))
+                .setMaximumWaitMillis(Long.parseLong(properties.getProperty("lock.maximumWaitMillis",
+                        DEFAULT_MAXIMUM_WAIT_MILLIS)))
+                .build();
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public boolean isFair() {
+        return fair;
+    }
+
+    public long getMaximumWaitMillis() {
+        return maximumWaitMillis;
+    }
+
+    /**
+     * <p>
+     * Method to set the properties of the striped lock config and to build the config instance.
+     * </p>
+     *
+     * @author Muthu kumar V
+     * @version 1.0
+     */
+    public static class StripedLockConfigBuilder {
+
+        private final StripedLockConfig config;
+
+        public StripedLockConfigBuilder() {
+            config = new StripedLockConfig();
+        }
+
+        public StripedLockConfigBuilder setStripes(final int stripes) {
+            config.stripes = stripes;
+
+            return this;
+        }
+
+        public StripedLockConfigBuilder setFair(final boolean fair) {
+            config.fair = fair;
+
+            return this;
+        }
+
+        public StripedLockConfigBuilder setMaximumWaitMillis(final long maximumWaitMillis) {
+            config.maximumWaitMillis = maximumWaitMillis;
+
+            return this;
+        }
+
+        public StripedLockConfig build() {
+            return config;
+        }
+    }
+}
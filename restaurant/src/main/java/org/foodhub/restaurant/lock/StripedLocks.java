@@ -0,0 +1,221 @@
+package org.foodhub.restaurant.lock;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.foodhub.restaurant.exception.lock.LockTimeoutException;
+
+/**
+ * <p>
+ * Guards the keys with a fixed count of locks, the key is mapped to the stripe of its spread hash. The updates of the
+ * same key are ordered by the lock of its stripe, the keys mapped to the different stripes are updated in parallel.
+ * </p>
+ *
+ * <p>
+ * The locks of the several keys are acquired in the ascending order of their stripes, so the concurrent acquisitions
+ * of the overlapping keys can't deadlock. The lock is tried without waiting first, the contended lock is waited for
+ * up to the maximum wait and the locks already acquired are released when the wait is timed out. The fair lock is
+ * tried without barging ahead of its waiting threads.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+final class StripedLocks {
+
+    private final String name;
+    private final ReentrantLock[] locks;
+    private final int mask;
+    private final long maximumWaitNanos;
+    private final LongAdder acquisitions;
+    private final LongAdder contentions;
+    private final LongAdder timeouts;
+    private final LongAdder waitNanos;
+
+    StripedLocks(final String name, final StripedLockConfig config) {
+        final int stripes = 1 >= config.getStripes() ? 1 : Integer.highestOneBit(config.getStripes() - 1) << 1;
+
+        this.name = name;
+        locks = new ReentrantLock[stripes];
+        mask = stripes - 1;
+        maximumWaitNanos = TimeUnit.MILLISECONDS.toNanos(config.getMaximumWaitMillis());
+        acquisitions = new LongAdder();
+        contentions = new LongAdder();
+        timeouts = new LongAdder();
+        waitNanos = new LongAdder();
+
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            locks[stripe] = new ReentrantLock(config.isFair());
+        }
+    }
+
+    /**
+     * <p>
+     * Acquires the lock of the key.
+     * </p>
+     *
+     * @param key Represents the key to be locked
+     * @return The handle of the acquired lock
+     */
+    LockHandle acquire(final long key) {
+        final Lock[] acquiredLocks = new Lock[1];
+
+        lock(getStripe(key), acquiredLocks, 0);
+
+        return new LockHandle(acquiredLocks, 1);
+    }
+
+    /**
+     * <p>
+     * Acquires the locks of all the keys in the ascending order of their stripes, the keys sharing a stripe are locked
+     * once.
+     * </p>
+     *
+     * @param keys Represents the keys to be locked
+     * @return The handle of the acquired locks
+     */
+    LockHandle acquire(final Collection<Long> keys) {
+        final int[] stripes = keys.stream().mapToInt(this::getStripe).sorted().distinct().toArray();
+        final Lock[] acquiredLocks = new Lock[stripes.length];
+
+        for (int index = 0; index < stripes.length; index++) {
+            try {
+                lock(stripes[index], acquiredLocks, index);
+            } catch (LockTimeoutException exception) {
+                new LockHandle(acquiredLocks, index).close();
+                throw exception;
+            }
+        }
+
+        return new LockHandle(acquiredLocks, stripes.length);
+    }
+
+    /**
+     * <p>
+     * Locks the stripe, the contended stripe is waited for up to the maximum wait.
+     * </p>
+     *
+     * @param stripe        Represents the stripe to be locked
+     * @param acquiredLocks Represents the acquired locks the lock of the stripe is added to
+     * @param index         Represents the index of the lock in the acquired locks
+     */
+    private void lock(final int stripe, final Lock[] acquiredLocks, final int index) {
+        final ReentrantLock lock = locks[stripe];
+
+        acquisitions.increment();
+
+        if (!tryLock(lock)) {
+            contentions.increment();
+            final long start = System.nanoTime();
+            boolean isLocked;
+
+            try {
+                isLocked = lock.tryLock(maximumWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                isLocked = false;
+            }
+            waitNanos.add(System.nanoTime() - start);
+
+            if (!isLocked) {
+                timeouts.increment();
+                throw new LockTimeoutException(String.join(" ", "The", name, "lock is not acquired in time"));
+            }
+        }
+        acquiredLocks[index] = lock;
+    }
+
+    /**
+     * <p>
+     * Tries the lock without waiting, the fair lock is acquired only if no other thread waits for it.
+     * </p>
+     *
+     * @param lock Represents the lock to be tried
+     * @return True if the lock is acquired, false otherwise
+     */
+    private static boolean tryLock(final ReentrantLock lock) {
+        if (!lock.isFair()) {
+            return lock.tryLock();
+        }
+
+        try {
+            return lock.tryLock(0, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the stripe of the key, the bits of the key are spread so the sequential keys use all the stripes.
+     * </p>
+     *
+     * @param key Represents the key
+     * @return The stripe of the key
+     */
+    private int getStripe(final long key) {
+        final int hash = Long.hashCode(key) * 0x9E3779B9;
+
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+/**
+ * <p>
+ * Gets the count of the stripe locks acquired.
+ * </p>
+ *
+ * @return The count of the acquisitions
+ */
+    long getAcquisitions() {
+        return acquisitions.sum();
+    }
+
+/**
+ * <p>
+ * Gets the count of the stripe locks found held by the other update.
+ * </p>
+ *
+ * @return The count of the contentions
+ */
+    long getContentions() {
+        return contentions.sum();
+    }
+
+/**
+ * <p>
+ * Gets the count of the stripe locks not acquired within the maximum wait.
+ * </p>
+ *
+ * @return The count of the timeouts
+ */
+    long getTimeouts() {
+        return timeouts.sum();
+    }
+
+/**
+ * <p>
+ * Gets the total time spent waiting for the contended stripe locks.
+ * </p>
+ *
+ * @return The wait time in nanoseconds
+ */
+    long getWaitNanos() {
+        return waitNanos.sum();
+    }
+
+/**
+ * <p>
+ * Gets the count of the stripes, rounded up to the power of two.
+ * </p>
+ *
+ * @return The count of the stripes
+ */
+    int getStripes() {
+        return locks.length;
+    }
+}
@@ -1,6 +1,9 @@
 package org.foodhub.restaurant.model.food;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * <p>
@@ -40,4 +43,21 @@ public enum FoodType {
             default -> Optional.empty();
         };
     }
+
+    /**
+     * <p>
+     * Gets the food types listed by the menucard type, the menucard lists the veg foods, the non veg foods or both.
+     * </p>
+     *
+     * @param menucardId Represents the id of the menucard type
+     * @return The food types of the menucard, empty if the menucard type is invalid
+     */
+    public static Optional<Set<FoodType>> getMenuCardTypes(final int menucardId) {
+        return switch (menucardId) {
+            case 1 -> Optional.of(Collections.unmodifiableSet(EnumSet.of(FoodType.VEG)));
+            case 2 -> Optional.of(Collections.unmodifiableSet(EnumSet.of(FoodType.NONVEG)));
+            case 3 -> Optional.of(Collections.unmodifiableSet(EnumSet.allOf(FoodType.class)));
+            default -> Optional.empty();
+        };
+    }
 }
\ No newline at end of file
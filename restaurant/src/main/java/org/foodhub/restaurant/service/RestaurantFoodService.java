@@ -1,5 +1,10 @@
 package org.foodhub.restaurant.service;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.ws.rs.core.StreamingOutput;
+
 import org.foodhub.restaurant.model.food.Food;
 
 /**
@@ -23,6 +28,29 @@ public interface RestaurantFoodService {
      */
     byte[] addFood(final Food food, final long restaurantId);
 
+    /**
+     * <p>
+     * Adds the foods to the restaurant, either all the foods are added or none of them.
+     * </p>
+     *
+     * @param foods        Represents the foods added by the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return The response of adding the foods in the menucard
+     */
+    byte[] addFoods(final List<Food> foods, final long restaurantId);
+
+    /**
+     * <p>
+     * Loads the catalog foods of the onboarding restaurant, the foods are committed in chunks and the rejected rows
+     * are reported without failing the rest of the catalog.
+     * </p>
+     *
+     * @param foods        Represents the catalog foods of the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return The response of loading the catalog along with the rejected rows
+     */
+    byte[] loadCatalog(final List<Food> foods, final long restaurantId);
+
     /**
      * <p>
      * Gets the available food quantity.
@@ -45,12 +73,72 @@ public interface RestaurantFoodService {
 
     /**
      * <p>
-     * Gets the menucard of the selected restaurant.
+     * Gets the page of the menucard of the selected restaurant, the next page starts after the id of the last food
+     * received.
      * </p>
      *
      * @param restaurantId Represents the id of the restaurant
      * @param menucardId   Represents the id of the food type.
+     * @param after        Represents the id of the last food received, zero for the first page
+     * @param limit        Represents the maximum count of foods in the page
      * @return The list of menucard having foods
      */
-    byte[] getMenuCard(final long restaurantId, final int menucardId);
+    byte[] getMenuCard(final long restaurantId, final int menucardId, final long after, final int limit);
+
+    /**
+     * <p>
+     * Gets the page of the menucard of the selected restaurant without blocking the caller, the page is read on the
+     * database executor.
+     * </p>
+     *
+     * @param restaurantId Represents the id of the restaurant
+     * @param menucardId   Represents the id of the food type.
+     * @param after        Represents the id of the last food received, zero for the first page
+     * @param limit        Represents the maximum count of foods in the page
+     * @return The future completed with the list of menucard having foods
+     */
+    CompletableFuture<byte[]> getMenuCardAsync(final long restaurantId, final int menucardId, final long after,
+                                               final int limit);
+
+    /**
+     * <p>
+     * Streams the page of the menucard of the selected restaurant, each food is written to the response as the
+     * database cursor advances. The cached page is written as it is.
+     * </p>
+     *
+     * @param restaurantId Represents the id of the restaurant
+     * @param menucardId   Represents the id of the food type.
+     * @param after        Represents the id of the last food received, zero for the first page
+     * @param limit        Represents the maximum count of foods in the page
+     * @return The streamed list of menucard having foods
+     */
+    StreamingOutput streamMenuCard(final long restaurantId, final int menucardId, final long after, final int limit);
+
+    /**
+     * <p>
+     * Gets the hit, miss, eviction and invalidation counts of the menucard cache.
+     * </p>
+     *
+     * @return The metrics of the menucard cache
+     */
+    byte[] getMenuCardCacheMetrics();
+
+    /**
+     * <p>
+     * Gets the acquisition, contention, timeout and wait metrics of the food and restaurant locks.
+     * </p>
+     *
+     * @return The metrics of the food and restaurant locks
+     */
+    byte[] getFoodLockMetrics();
+
+    /**
+     * <p>
+     * Gets the count of the foods tracked in memory, the reservations rejected as sold out and the reloaded
+     * quantities of the food inventory.
+     * </p>
+     *
+     * @return The metrics of the food inventory
+     */
+    byte[] getFoodInventoryMetrics();
 }
\ No newline at end of file
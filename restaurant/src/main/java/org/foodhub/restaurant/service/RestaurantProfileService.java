@@ -1,5 +1,7 @@
 package org.foodhub.restaurant.service;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.foodhub.restaurant.model.restaurant.Restaurant;
 import org.foodhub.restaurant.model.restaurant.RestaurantLoginDetails;
 import org.foodhub.restaurant.model.restaurant.RestaurantProfileUpdateDetails;
@@ -34,6 +36,17 @@ public interface RestaurantProfileService {
      */
     byte[] getRestaurant(final RestaurantLoginDetails restaurantLoginDetails);
 
+    /**
+     * <p>
+     * Gets the restaurant if the login data and the password matches, the password is verified on the password
+     * hashing executor without holding the request thread.
+     * </p>
+     *
+     * @param restaurantLoginDetails Represents the instance of restaurant login dto
+     * @return The future completed with the response of the restaurant login
+     */
+    CompletableFuture<byte[]> getRestaurantAsync(final RestaurantLoginDetails restaurantLoginDetails);
+
     /**
      * <p>
      * Gets the restaurant if the id matches.
@@ -56,10 +69,23 @@ public interface RestaurantProfileService {
 
     /**
      * <p>
-     * Gets all the restaurants
+     * Gets the page of restaurants, the next page starts after the id of the last restaurant received.
+     * </p>
+     *
+     * @param after Represents the id of the last restaurant received, zero for the first page
+     * @param limit Represents the maximum count of restaurants in the page
+     * @return The list of restaurants
+     */
+    byte[] getAllRestaurants(final long after, final int limit);
+
+    /**
+     * <p>
+     * Gets the page of restaurants without blocking the caller, the page is read on the database executor.
      * </p>
      *
-     * @return The list of all restaurants
+     * @param after Represents the id of the last restaurant received, zero for the first page
+     * @param limit Represents the maximum count of restaurants in the page
+     * @return The future completed with the list of restaurants
      */
-    byte[] getAllRestaurants();
+    CompletableFuture<byte[]> getAllRestaurantsAsync(final long after, final int limit);
 }
@@ -1,17 +1,37 @@
 package org.foodhub.restaurant.service.internal.impl;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import javax.ws.rs.core.StreamingOutput;
+
+import org.foodhub.common.cache.ResponseCopyOutputStream;
 import org.foodhub.common.hibernate.HibernateEntityValidator;
+import org.foodhub.database.connection.DataBaseConnection;
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.restaurant.cache.MenuCardCache;
+import org.foodhub.restaurant.cache.MenuCardKey;
+import org.foodhub.restaurant.database.dao.RestaurantFoodAsyncDAO;
 import org.foodhub.restaurant.database.dao.RestaurantFoodDAO;
+import org.foodhub.restaurant.database.internal.impl.RestaurantFoodAsyncDAOImpl;
 import org.foodhub.restaurant.database.internal.impl.RestaurantFoodDAOImpl;
+import org.foodhub.restaurant.exception.food.InvalidFoodDataException;
+import org.foodhub.restaurant.exception.lock.LockTimeoutException;
+import org.foodhub.restaurant.inventory.FoodInventory;
+import org.foodhub.restaurant.lock.FoodLockManager;
 import org.foodhub.restaurant.model.food.Food;
+import org.foodhub.restaurant.model.food.FoodType;
 import org.foodhub.restaurant.model.restaurant.Restaurant;
 import org.foodhub.restaurant.service.RestaurantFoodService;
 import org.foodhub.common.json.JsonObject;
 import org.foodhub.common.json.JsonArray;
 import org.foodhub.common.json.JsonFactory;
+import org.foodhub.common.json.StatusResponses;
 import org.foodhub.common.hibernate.impl.HibernateEntityValidatorImpl;
 import org.foodhub.common.hibernate.validatorgroup.food.DeleteFoodValidator;
 import org.foodhub.common.hibernate.validatorgroup.food.GetFoodValidator;
@@ -28,13 +48,24 @@ import org.foodhub.common.hibernate.validatorgroup.food.PostFoodValidator;
 public final class RestaurantFoodServiceImpl implements RestaurantFoodService {
 
     private static final String STATUS = "status";
+    private static final String ROW = "row";
     private final JsonFactory jsonFactory;
+    private final StatusResponses statusResponses;
     private final HibernateEntityValidator validatorFactory;
     private final RestaurantFoodDAO restaurantFoodDAO;
+    private final RestaurantFoodAsyncDAO restaurantFoodAsyncDAO;
+    private final MenuCardCache menuCardCache;
+    private final FoodLockManager foodLockManager;
+    private final FoodInventory foodInventory;
 
     private RestaurantFoodServiceImpl() {
         restaurantFoodDAO = RestaurantFoodDAOImpl.getInstance();
+        restaurantFoodAsyncDAO = RestaurantFoodAsyncDAOImpl.getInstance();
+        menuCardCache = MenuCardCache.getInstance();
+        foodLockManager = FoodLockManager.getInstance();
+        foodInventory = FoodInventory.getInstance();
         jsonFactory = JsonFactory.getInstance();
+        statusResponses = jsonFactory.getStatusResponses();
         validatorFactory = HibernateEntityValidatorImpl.getInstance();
     }
 
@@ -69,16 +100,155 @@ public final class RestaurantFoodServiceImpl implements RestaurantFoodService {
     @Override
     public byte[] addFood(final Food food, final long restaurantId) {
         final Restaurant restaurant = new Restaurant.RestaurantBuilder().setId(restaurantId).build();
-        final JsonObject jsonObject = validatorFactory.validate(restaurant, PostFoodValidator.class);
+        final JsonObject jsonObject = jsonFactory.createObjectNode();
+
+        jsonObject.addAll(validatorFactory.validate(restaurant, PostFoodValidator.class));
         jsonObject.addAll(validatorFactory.validate(food, PostFoodValidator.class));
 
         if (jsonObject.isEmpty()) {
-            return restaurantFoodDAO.addFood(food, restaurantId) ?
-                    jsonObject.put(STATUS, "Successful food was added").asBytes() :
-                    jsonObject.put(STATUS, "Unsuccessful adding food was failed").asBytes();
+            try {
+                return restaurantFoodDAO.addFood(food, restaurantId) ?
+                        statusResponses.getStatus("Successful food was added") :
+                        statusResponses.getStatus("Unsuccessful adding food was failed");
+            } catch (LockTimeoutException message) {
+                return statusResponses.getStatus("Unsuccessful restaurant is busy, try again");
+            }
+        }
+
+        return statusResponses.getViolations(jsonObject);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param foods        Represents the foods added by the restaurant
+     * @param restaurantId Represents the id of the Restaurant
+     * @return The response of adding the foods in the menucard
+     */
+    @Override
+    public byte[] addFoods(final List<Food> foods, final long restaurantId) {
+        final Restaurant restaurant = new Restaurant.RestaurantBuilder().setId(restaurantId).build();
+        final JsonObject jsonObject = jsonFactory.createObjectNode();
+
+        jsonObject.addAll(validatorFactory.validate(restaurant, PostFoodValidator.class));
+
+        if (null == foods || foods.isEmpty()) {
+            return jsonObject.put(STATUS, "Unsuccessful foods are empty").asBytes();
+        }
+
+        for (final Food food : foods) {
+            jsonObject.addAll(validatorFactory.validate(food, PostFoodValidator.class));
+        }
+
+        if (jsonObject.isEmpty()) {
+            try {
+                return restaurantFoodDAO.addFoods(foods, restaurantId) ?
+                        statusResponses.getStatus("Successful foods were added") :
+                        statusResponses.getStatus("Unsuccessful adding foods was failed");
+            } catch (LockTimeoutException message) {
+                return statusResponses.getStatus("Unsuccessful restaurant is busy, try again");
+            }
+        }
+
+        return statusResponses.getViolations(jsonObject);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param foods        Represents the catalog foods of the restaurant
+     * @param restaurantId Represents the id of the restaurant
+     * @return The response of loading the catalog along with the rejected rows
+     */
+    @Override
+    public byte[] loadCatalog(final List<Food> foods, final long restaurantId) {
+        final Restaurant restaurant = new Restaurant.RestaurantBuilder().setId(restaurantId).build();
+        final JsonObject jsonObject = validatorFactory.validate(restaurant, GetFoodValidator.class);
+        final JsonArray jsonArray = jsonFactory.createArrayNode();
+
+        if (!jsonObject.isEmpty()) {
+            return statusResponses.getViolationsArray(jsonObject);
+        }
+
+        if (null == foods || foods.isEmpty()) {
+            return statusResponses.getStatusArray("Unsuccessful catalog is empty");
         }
+        final int chunkSize = Math.max(1, DataBaseConnection.getCopyChunkSize());
+        final List<Food> chunk = new ArrayList<>(Math.min(chunkSize, foods.size()));
+        final List<Integer> chunkRows = new ArrayList<>(Math.min(chunkSize, foods.size()));
+        final JsonArray rejectedRows = jsonFactory.createArrayNode();
+        long loadedCount = 0;
+        int rejectedCount = 0;
+
+        for (int row = 0; row < foods.size(); row++) {
+            final JsonObject violations = validatorFactory.validate(foods.get(row), PostFoodValidator.class);
+
+            if (violations.isEmpty()) {
+                chunk.add(foods.get(row));
+                chunkRows.add(row);
+            } else {
+                rejectedRows.add(violations.put(ROW, String.valueOf(row)));
+                rejectedCount++;
+            }
 
-        return jsonObject.asBytes();
+            if (chunk.size() == chunkSize || (row == foods.size() - 1 && !chunk.isEmpty())) {
+                final List<JsonObject> chunkRejections = new ArrayList<>();
+
+                loadedCount += copyChunk(chunk, chunkRows, restaurantId, chunkRejections);
+                chunkRejections.forEach(rejectedRows::add);
+                rejectedCount += chunkRejections.size();
+                chunk.clear();
+                chunkRows.clear();
+            }
+        }
+        final String status = 0 == rejectedCount ? "Successful catalog was loaded" :
+                0 == loadedCount ? "Unsuccessful catalog loading was failed" : "Catalog was partially loaded";
+
+        jsonArray.add(jsonFactory.createObjectNode().put(STATUS, status).put("loaded", String.valueOf(loadedCount))
+                .put("rejected", String.valueOf(rejectedCount)));
+        jsonArray.addArray(rejectedRows);
+
+        return jsonArray.asBytes();
+    }
+
+    /**
+     * <p>
+     * Copies the chunk of the catalog foods. The chunk rejected by the database for its invalid rows is copied again
+     * in halves, so only the invalid rows are rejected. The chunk timed out on the restaurant lock is rejected as a
+     * whole.
+     * </p>
+     *
+     * @param chunk           Represents the foods of the chunk
+     * @param chunkRows       Represents the catalog rows of the foods, in the order of the foods
+     * @param restaurantId    Represents the id of the restaurant
+     * @param chunkRejections Represents the rejected rows the rows of the chunk failing to be copied are added to
+     * @return The count of the foods copied
+     */
+    private long copyChunk(final List<Food> chunk, final List<Integer> chunkRows, final long restaurantId,
+                           final List<JsonObject> chunkRejections) {
+        try {
+            return restaurantFoodDAO.copyFoods(chunk, restaurantId);
+        } catch (InvalidFoodDataException message) {
+
+            if (1 == chunk.size()) {
+                chunkRejections.add(jsonFactory.createObjectNode().put(ROW, String.valueOf(chunkRows.get(0)))
+                        .put(STATUS, message.getMessage()));
+
+                return 0;
+            }
+            final int half = chunk.size() >>> 1;
+
+            return copyChunk(chunk.subList(0, half), chunkRows.subList(0, half), restaurantId, chunkRejections)
+                    + copyChunk(chunk.subList(half, chunk.size()), chunkRows.subList(half, chunkRows.size()),
+                    restaurantId, chunkRejections);
+        } catch (LockTimeoutException message) {
+            for (final Integer chunkRow : chunkRows) {
+                chunkRejections.add(jsonFactory.createObjectNode().put(ROW, String.valueOf(chunkRow))
+                        .put(STATUS, message.getMessage()));
+            }
+
+            return 0;
+        }
     }
 
     /**
@@ -96,11 +266,12 @@ public final class RestaurantFoodServiceImpl implements RestaurantFoodService {
             final Optional<Integer> foodQuantity = restaurantFoodDAO.getFoodQuantity(foodId);
 
             return foodQuantity.isPresent() ?
-                    jsonObject.put("The available food quantity", String.valueOf(foodId)).asBytes() :
-                    jsonObject.put(STATUS, "Enter a valid food id").asBytes();
+                    jsonFactory.createObjectNode().put("The available food quantity", String.valueOf(foodId))
+                            .asBytes() :
+                    statusResponses.getStatus("Enter a valid food id");
         }
 
-        return jsonObject.asBytes();
+        return statusResponses.getViolations(jsonObject);
     }
 
     /**
@@ -108,22 +279,164 @@ public final class RestaurantFoodServiceImpl implements RestaurantFoodService {
      *
      * @param restaurantId Represents the id of the restaurant
      * @param menucardId   Represents the id of the food type.
+     * @param after        Represents the id of the last food received, zero for the first page
+     * @param limit        Represents the maximum count of foods in the page
      * @return The list of menucard having foods
      */
     @Override
-    public byte[] getMenuCard(final long restaurantId, final int menucardId) {
+    public byte[] getMenuCard(final long restaurantId, final int menucardId, final long after, final int limit) {
+        final Optional<Set<FoodType>> foodTypes = FoodType.getMenuCardTypes(menucardId);
+
+        if (foodTypes.isEmpty()) {
+            return statusResponses.getStatusArray("Enter a valid menucard type");
+        }
         final Restaurant restaurant = new Restaurant.RestaurantBuilder().setId(restaurantId).build();
-        final JsonArray jsonArray = jsonFactory.createArrayNode();
         final JsonObject jsonObject = validatorFactory.validate(restaurant, GetFoodValidator.class);
 
         if (jsonObject.isEmpty()) {
-            final Optional<Collection<Food>> menuCard = restaurantFoodDAO.getMenuCard(restaurantId, menucardId);
+            final PageRequest pageRequest = new PageRequest(restaurantId, after, limit);
+            final MenuCardKey menuCardKey = new MenuCardKey(pageRequest, foodTypes.get());
+            final Optional<byte[]> cachedMenuCard = menuCardCache.get(menuCardKey);
+
+            if (cachedMenuCard.isPresent()) {
+                return cachedMenuCard.get();
+            }
+            final long cacheVersion = menuCardCache.getVersion();
 
-            return menuCard.isPresent() ? jsonArray.build(menuCard.get()).asBytes() :
-                    jsonArray.add(jsonObject.put(STATUS, "No available foods or enter valid restaurant id")).asBytes();
+            try (final ResultCursor<Food> menuCard = restaurantFoodDAO.getMenuCard(pageRequest, foodTypes.get())) {
+                return cacheMenuCard(menuCardKey, menuCard, cacheVersion);
+            }
         }
 
-        return jsonArray.add(jsonObject).asBytes();
+        return statusResponses.getViolationsArray(jsonObject);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantId Represents the id of the restaurant
+     * @param menucardId   Represents the id of the food type.
+     * @param after        Represents the id of the last food received, zero for the first page
+     * @param limit        Represents the maximum count of foods in the page
+     * @return The future completed with the list of menucard having foods
+     */
+    @Override
+    public CompletableFuture<byte[]> getMenuCardAsync(final long restaurantId, final int menucardId, final long after,
+                                                      final int limit) {
+        final Optional<Set<FoodType>> foodTypes = FoodType.getMenuCardTypes(menucardId);
+
+        if (foodTypes.isEmpty()) {
+            return CompletableFuture.completedFuture(statusResponses.getStatusArray("Enter a valid menucard type"));
+        }
+        final Restaurant restaurant = new Restaurant.RestaurantBuilder().setId(restaurantId).build();
+        final JsonObject jsonObject = validatorFactory.validate(restaurant, GetFoodValidator.class);
+
+        if (jsonObject.isEmpty()) {
+            final PageRequest pageRequest = new PageRequest(restaurantId, after, limit);
+            final MenuCardKey menuCardKey = new MenuCardKey(pageRequest, foodTypes.get());
+            final Optional<byte[]> cachedMenuCard = menuCardCache.get(menuCardKey);
+
+            if (cachedMenuCard.isPresent()) {
+                return CompletableFuture.completedFuture(cachedMenuCard.get());
+            }
+            final long cacheVersion = menuCardCache.getVersion();
+
+            return restaurantFoodAsyncDAO.getMenuCard(pageRequest, foodTypes.get(), menuCard ->
+                    cacheMenuCard(menuCardKey, menuCard, cacheVersion));
+        }
+
+        return CompletableFuture.completedFuture(statusResponses.getViolationsArray(jsonObject));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantId Represents the id of the restaurant
+     * @param menucardId   Represents the id of the food type.
+     * @param after        Represents the id of the last food received, zero for the first page
+     * @param limit        Represents the maximum count of foods in the page
+     * @return The streamed list of menucard having foods
+     */
+    @Override
+    public StreamingOutput streamMenuCard(final long restaurantId, final int menucardId, final long after,
+                                          final int limit) {
+        final Optional<Set<FoodType>> foodTypes = FoodType.getMenuCardTypes(menucardId);
+
+        if (foodTypes.isEmpty()) {
+            final byte[] response = statusResponses.getStatusArray("Enter a valid menucard type");
+
+            return outputStream -> outputStream.write(response);
+        }
+        final Restaurant restaurant = new Restaurant.RestaurantBuilder().setId(restaurantId).build();
+        final JsonObject jsonObject = validatorFactory.validate(restaurant, GetFoodValidator.class);
+
+        if (jsonObject.isEmpty()) {
+            final PageRequest pageRequest = new PageRequest(restaurantId, after, limit);
+            final MenuCardKey menuCardKey = new MenuCardKey(pageRequest, foodTypes.get());
+            final Optional<byte[]> cachedMenuCard = menuCardCache.get(menuCardKey);
+
+            if (cachedMenuCard.isPresent()) {
+                final byte[] response = cachedMenuCard.get();
+
+                return outputStream -> outputStream.write(response);
+            }
+
+            return outputStream -> {
+                final long cacheVersion = menuCardCache.getVersion();
+                final ResponseCopyOutputStream menuCardResponse = new ResponseCopyOutputStream(outputStream);
+                final List<Long> foodIds = new ArrayList<>();
+
+                try (final ResultCursor<Food> menuCard = restaurantFoodDAO.getMenuCard(pageRequest, foodTypes.get())) {
+
+                    if (menuCard.hasNext()) {
+                        jsonFactory.getJsonWriter().writeArray(menuCardResponse, menuCard,
+                                food -> foodIds.add(food.getId()));
+                    } else {
+                        menuCardResponse.write(getMenuCardResponse(Collections.emptyList()));
+                    }
+                }
+                menuCardCache.put(menuCardKey, foodIds, menuCardResponse.toByteArray(), cacheVersion);
+            };
+        }
+        final byte[] response = statusResponses.getViolationsArray(jsonObject);
+
+        return outputStream -> outputStream.write(response);
+    }
+
+    /**
+     * <p>
+     * Reads the page of the menucard from the cursor and caches its json response.
+     * </p>
+     *
+     * @param menuCardKey  Represents the key of the menucard page
+     * @param menuCard     Represents the cursor of the page of the menucard
+     * @param cacheVersion Represents the version of the cache taken before the page is read
+     * @return The list of menucard having foods
+     */
+    private byte[] cacheMenuCard(final MenuCardKey menuCardKey, final ResultCursor<Food> menuCard,
+                                     final long cacheVersion) {
+        final List<Food> foods = new ArrayList<>();
+        final List<Long> foodIds = new ArrayList<>();
+
+        menuCard.forEachRemaining(food -> {
+            foods.add(food);
+            foodIds.add(food.getId());
+        });
+
+        return menuCardCache.put(menuCardKey, foodIds, getMenuCardResponse(foods), cacheVersion);
+    }
+
+    /**
+     * <p>
+     * Writes the foods of the menucard page as the json response.
+     * </p>
+     *
+     * @param menuCard Represents the foods of the menucard page
+     * @return The list of menucard having foods
+     */
+    private byte[] getMenuCardResponse(final List<Food> menuCard) {
+        return !menuCard.isEmpty() ? jsonFactory.getJsonWriter().write(menuCard) :
+                statusResponses.getStatusArray("No available foods or enter valid restaurant id");
     }
 
     /**
@@ -138,11 +451,62 @@ public final class RestaurantFoodServiceImpl implements RestaurantFoodService {
         final JsonObject jsonObject = validatorFactory.validate(food, DeleteFoodValidator.class);
 
         if (jsonObject.isEmpty()) {
-            return restaurantFoodDAO.removeFood(foodId) ?
-                    jsonObject.put(STATUS, "Successful food was removed").asBytes() :
-                    jsonObject.put(STATUS, "Unsuccessful removing food was failed").asBytes();
+            try {
+                return restaurantFoodDAO.removeFood(foodId) ?
+                        statusResponses.getStatus("Successful food was removed") :
+                        statusResponses.getStatus("Unsuccessful removing food was failed");
+            } catch (LockTimeoutException message) {
+                return statusResponses.getStatus("Unsuccessful food is busy, try again");
+            }
         }
 
-        return jsonObject.asBytes();
+        return statusResponses.getViolations(jsonObject);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The metrics of the menucard cache
+     */
+    @Override
+    public byte[] getMenuCardCacheMetrics() {
+        return jsonFactory.createObjectNode()
+                .put("hits", String.valueOf(menuCardCache.getHits()))
+                .put("misses", String.valueOf(menuCardCache.getMisses()))
+                .put("evictions", String.valueOf(menuCardCache.getEvictions()))
+                .put("invalidations", String.valueOf(menuCardCache.getInvalidations()))
+                .put("size", String.valueOf(menuCardCache.getSize())).asBytes();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The metrics of the food and restaurant locks
+     */
+    @Override
+    public byte[] getFoodLockMetrics() {
+        return jsonFactory.createObjectNode()
+                .put("stripes", String.valueOf(foodLockManager.getStripes()))
+                .put("foodLockAcquisitions", String.valueOf(foodLockManager.getFoodLockAcquisitions()))
+                .put("foodLockContentions", String.valueOf(foodLockManager.getFoodLockContentions()))
+                .put("foodLockTimeouts", String.valueOf(foodLockManager.getFoodLockTimeouts()))
+                .put("foodLockWaitNanos", String.valueOf(foodLockManager.getFoodLockWaitNanos()))
+                .put("restaurantLockAcquisitions", String.valueOf(foodLockManager.getRestaurantLockAcquisitions()))
+                .put("restaurantLockContentions", String.valueOf(foodLockManager.getRestaurantLockContentions()))
+                .put("restaurantLockTimeouts", String.valueOf(foodLockManager.getRestaurantLockTimeouts()))
+                .put("restaurantLockWaitNanos", String.valueOf(foodLockManager.getRestaurantLockWaitNanos())).asBytes();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The metrics of the food inventory
+     */
+    @Override
+    public byte[] getFoodInventoryMetrics() {
+        return jsonFactory.createObjectNode()
+                .put("hotFoods", String.valueOf(foodInventory.getHotFoods()))
+                .put("rejectedReservations", String.valueOf(foodInventory.getRejectedReservations()))
+                .put("reloads", String.valueOf(foodInventory.getReloads())).asBytes();
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,17 @@
 package org.foodhub.restaurant.service.internal.impl;
 
-import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import org.foodhub.common.exception.HashingBusyException;
 import org.foodhub.common.hibernate.HibernateEntityValidator;
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.restaurant.cache.RestaurantResponseCache;
+import org.foodhub.restaurant.database.dao.RestaurantProfileAsyncDAO;
 import org.foodhub.restaurant.database.dao.RestaurantProfileDAO;
+import org.foodhub.restaurant.database.internal.impl.RestaurantProfileAsyncDAOImpl;
 import org.foodhub.restaurant.database.internal.impl.RestaurantProfileDAOImpl;
 import org.foodhub.restaurant.model.restaurant.Restaurant;
 import org.foodhub.restaurant.model.restaurant.RestaurantLoginDetails;
@@ -12,8 +19,9 @@ import org.foodhub.restaurant.model.restaurant.RestaurantProfileField;
 import org.foodhub.restaurant.model.restaurant.RestaurantProfileUpdateDetails;
 import org.foodhub.restaurant.service.RestaurantProfileService;
 import org.foodhub.common.hashgenerator.PasswordHashGenerator;
-import org.foodhub.common.json.JsonArray;
+import org.foodhub.common.hashgenerator.PasswordVerification;
 import org.foodhub.common.json.JsonFactory;
+import org.foodhub.common.json.StatusResponses;
 import org.foodhub.common.json.JsonObject;
 import org.foodhub.common.hibernate.impl.HibernateEntityValidatorImpl;
 import org.foodhub.common.hibernate.validatorgroup.Restaurant.GetRestaurantValidator;
@@ -33,12 +41,20 @@ public final class RestaurantProfileServiceImpl implements RestaurantProfileServ
 
     private static final String STATUS = "status";
     private final JsonFactory jsonFactory;
+    private final StatusResponses statusResponses;
     private final HibernateEntityValidator validatorFactory;
     private final RestaurantProfileDAO restaurantProfileDAO;
+    private final RestaurantProfileAsyncDAO restaurantProfileAsyncDAO;
+    private final RestaurantResponseCache restaurantResponseCache;
+    private final PasswordHashGenerator passwordHashGenerator;
 
     private RestaurantProfileServiceImpl() {
         restaurantProfileDAO = RestaurantProfileDAOImpl.getInstance();
+        restaurantProfileAsyncDAO = RestaurantProfileAsyncDAOImpl.getInstance();
+        restaurantResponseCache = RestaurantResponseCache.getInstance();
+        passwordHashGenerator = PasswordHashGenerator.getInstance();
         jsonFactory = JsonFactory.getInstance();
+        statusResponses = jsonFactory.getStatusResponses();
         validatorFactory = HibernateEntityValidatorImpl.getInstance();
     }
 
@@ -76,15 +92,19 @@ public final class RestaurantProfileServiceImpl implements RestaurantProfileServ
         if (jsonObject.isEmpty()) {
 
             if (restaurantProfileDAO.isRestaurantExist(restaurant.getPhoneNumber(), restaurant.getEmailId())) {
-                return jsonObject.put(STATUS, "Restaurant is already exist").asBytes();
+                return statusResponses.getStatus("Restaurant is already exist");
             }
 
-            return restaurantProfileDAO.createRestaurantProfile(restaurant) ?
-                    jsonObject.put(STATUS, "Restaurant profile was created").asBytes() :
-                    jsonObject.put(STATUS, "Restaurant profile creation failed").asBytes();
+            try {
+                return restaurantProfileDAO.createRestaurantProfile(restaurant) ?
+                        statusResponses.getStatus("Restaurant profile was created") :
+                        statusResponses.getStatus("Restaurant profile creation failed");
+            } catch (HashingBusyException message) {
+                return statusResponses.getStatus("Restaurant profile creation is busy, try again");
+            }
         }
 
-        return jsonObject.asBytes();
+        return statusResponses.getViolations(jsonObject);
     }
 
     /**
@@ -98,23 +118,92 @@ public final class RestaurantProfileServiceImpl implements RestaurantProfileServ
         final JsonObject jsonObject = validatorFactory.validate(restaurantLoginDetails, LoginRestaurantValidator.class);
 
         if (jsonObject.isEmpty()) {
-            final String hashPassword = PasswordHashGenerator.getInstance().hashPassword(restaurantLoginDetails.password());
-
             final Optional<Restaurant> restaurant = switch (restaurantLoginDetails.loginType()) {
                 case PHONE_NUMBER -> restaurantProfileDAO.getRestaurant(RestaurantProfileField.PHONE_NUMBER.name(),
-                        restaurantLoginDetails.phoneNumber(), hashPassword);
+                        restaurantLoginDetails.phoneNumber());
                 case EMAIL_ID -> restaurantProfileDAO.getRestaurant(RestaurantProfileField.EMAIL_ID.name(),
-                        restaurantLoginDetails.emailId(), hashPassword);
+                        restaurantLoginDetails.emailId());
                 default -> Optional.empty();
             };
 
-            return restaurant.isPresent() ?
-                    jsonObject.put(STATUS, String.join(" ", "Restaurant login successful welcome",
-                            restaurant.get().getName())).asBytes() :
-                    jsonObject.put(STATUS, "Restaurant login failed").asBytes();
+            try {
+                return restaurant.isPresent() ? getLoginResponse(restaurant.get(), passwordHashGenerator
+                        .verifyPassword(restaurantLoginDetails.password(), restaurant.get().getPassword())) :
+                        statusResponses.getStatus("Restaurant login failed");
+            } catch (HashingBusyException message) {
+                return statusResponses.getStatus("Restaurant login is busy, try again");
+            }
+        }
+
+        return statusResponses.getViolations(jsonObject);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param restaurantLoginDetails Represents the instance of restaurant login details
+     * @return The future completed with the response of the restaurant login
+     */
+    @Override
+    public CompletableFuture<byte[]> getRestaurantAsync(final RestaurantLoginDetails restaurantLoginDetails) {
+        final JsonObject jsonObject = validatorFactory.validate(restaurantLoginDetails, LoginRestaurantValidator.class);
+
+        if (!jsonObject.isEmpty()) {
+            return CompletableFuture.completedFuture(statusResponses.getViolations(jsonObject));
+        }
+        final CompletableFuture<Optional<Restaurant>> restaurant = switch (restaurantLoginDetails.loginType()) {
+            case PHONE_NUMBER -> restaurantProfileAsyncDAO.getRestaurant(RestaurantProfileField.PHONE_NUMBER.name(),
+                    restaurantLoginDetails.phoneNumber());
+            case EMAIL_ID -> restaurantProfileAsyncDAO.getRestaurant(RestaurantProfileField.EMAIL_ID.name(),
+                    restaurantLoginDetails.emailId());
+            default -> CompletableFuture.completedFuture(Optional.empty());
+        };
+
+        return restaurant.thenCompose(loginRestaurant -> loginRestaurant.isPresent() ?
+                passwordHashGenerator.verifyPasswordAsync(restaurantLoginDetails.password(),
+                        loginRestaurant.get().getPassword())
+                        .thenApply(verification -> getLoginResponse(loginRestaurant.get(), verification)) :
+                CompletableFuture.completedFuture(statusResponses.getStatus("Restaurant login failed")))
+                .exceptionally(this::getBusyLoginResponse);
+    }
+
+    /**
+     * <p>
+     * Answers the login rejected by the saturated password hashing with the busy response, the other failures of the
+     * login are rethrown.
+     * </p>
+     *
+     * @param exception Represents the failure of the login
+     * @return The busy response of the restaurant login
+     */
+    private byte[] getBusyLoginResponse(final Throwable exception) {
+        if (exception instanceof HashingBusyException || exception.getCause() instanceof HashingBusyException) {
+            return statusResponses.getStatus("Restaurant login is busy, try again");
+        }
+
+        throw exception instanceof CompletionException completionException ? completionException :
+                new CompletionException(exception);
+    }
+
+    /**
+     * <p>
+     * Gets the response of the restaurant login from the password verification. The outdated password hash is
+     * replaced in the background, the failed replacement is retried on the next login.
+     * </p>
+     *
+     * @param restaurant   Represents the restaurant having the login data
+     * @param verification Represents the verification of the login password
+     * @return The response of the restaurant login
+     */
+    private byte[] getLoginResponse(final Restaurant restaurant, final PasswordVerification verification) {
+        if (!verification.isVerified()) {
+            return statusResponses.getStatus("Restaurant login failed");
         }
+        verification.getRehashedPassword().ifPresent(rehashedPassword -> restaurantProfileAsyncDAO
+                .rehashPassword(restaurant.getId(), restaurant.getPassword(), rehashedPassword));
 
-        return jsonObject.asBytes();
+        return jsonFactory.createObjectNode().put(STATUS, String.join(" ", "Restaurant login successful welcome",
+                restaurant.getName())).asBytes();
     }
 
     /**
@@ -128,13 +217,20 @@ public final class RestaurantProfileServiceImpl implements RestaurantProfileServ
         final JsonObject jsonObject = validatorFactory.validate(restaurantPojo, GetRestaurantValidator.class);
 
         if (jsonObject.isEmpty()) {
+            final Optional<byte[]> cachedRestaurant = restaurantResponseCache.getRestaurant(restaurantId);
+
+            if (cachedRestaurant.isPresent()) {
+                return cachedRestaurant.get();
+            }
+            final long cacheVersion = restaurantResponseCache.getVersion();
             final Optional<Restaurant> restaurant = restaurantProfileDAO.getRestaurantById(restaurantId);
 
-            return restaurant.isPresent() ? jsonObject.build(restaurant.get()).asBytes() :
-                    jsonObject.put(STATUS, "Restaurant not found").asBytes();
+            return restaurant.isPresent() ? restaurantResponseCache.putRestaurant(restaurantId,
+                    jsonFactory.getJsonWriter().write(restaurant.get()), cacheVersion) :
+                    statusResponses.getStatus("Restaurant not found");
         }
 
-        return jsonObject.asBytes();
+        return statusResponses.getViolations(jsonObject);
     }
 
     /**
@@ -148,35 +244,97 @@ public final class RestaurantProfileServiceImpl implements RestaurantProfileServ
         final JsonObject jsonObject = validatorFactory.validate(restaurantProfileUpdateDetails, UpdateRestaurantValidator.class);
 
         if (jsonObject.isEmpty()) {
-            final boolean updateStatus = switch (restaurantProfileUpdateDetails.updateDataType()) {
-                case NAME -> restaurantProfileDAO.updateRestaurantProfile(restaurantProfileUpdateDetails.id(),
-                        RestaurantProfileField.NAME.name(), restaurantProfileUpdateDetails.name());
-                case PHONE_NUMBER -> restaurantProfileDAO.updateRestaurantProfile(restaurantProfileUpdateDetails.id(),
-                        RestaurantProfileField.PHONE_NUMBER.name(), restaurantProfileUpdateDetails.phoneNumber());
-                case EMAIL_ID -> restaurantProfileDAO.updateRestaurantProfile(restaurantProfileUpdateDetails.id(),
-                        RestaurantProfileField.EMAIL_ID.name(), restaurantProfileUpdateDetails.emailId());
-                case PASSWORD -> restaurantProfileDAO.updateRestaurantProfile(restaurantProfileUpdateDetails.id(),
-                        RestaurantProfileField.PASSWORD.name(), restaurantProfileUpdateDetails.password());
-            };
+            final boolean updateStatus;
+
+            try {
+                updateStatus = updateRestaurantField(restaurantProfileUpdateDetails);
+            } catch (HashingBusyException message) {
+                return statusResponses.getStatus("Restaurant profile updation is busy, try again");
+            }
 
-            return updateStatus ? jsonObject.put(STATUS, "Restaurant profile updated").asBytes() :
-                    jsonObject.put(STATUS, "Restaurant profile updation failed").asBytes();
+            return updateStatus ? statusResponses.getStatus("Restaurant profile updated") :
+                    statusResponses.getStatus("Restaurant profile updation failed");
         }
 
-        return jsonObject.asBytes();
+        return statusResponses.getViolations(jsonObject);
+    }
+
+    /**
+     * <p>
+     * Updates the field of the restaurant profile, the new password is hashed before it is stored.
+     * </p>
+     *
+     * @param restaurantProfileUpdateDetails Represents the instance of restaurant profile update details
+     * @return True if the restaurant profile is updated, false otherwise
+     */
+    private boolean updateRestaurantField(final RestaurantProfileUpdateDetails restaurantProfileUpdateDetails) {
+        return switch (restaurantProfileUpdateDetails.updateDataType()) {
+            case NAME -> restaurantProfileDAO.updateRestaurantProfile(restaurantProfileUpdateDetails.id(),
+                    RestaurantProfileField.NAME.name(), restaurantProfileUpdateDetails.name());
+            case PHONE_NUMBER -> restaurantProfileDAO.updateRestaurantProfile(restaurantProfileUpdateDetails.id(),
+                    RestaurantProfileField.PHONE_NUMBER.name(), restaurantProfileUpdateDetails.phoneNumber());
+            case EMAIL_ID -> restaurantProfileDAO.updateRestaurantProfile(restaurantProfileUpdateDetails.id(),
+                    RestaurantProfileField.EMAIL_ID.name(), restaurantProfileUpdateDetails.emailId());
+            case PASSWORD -> restaurantProfileDAO.updateRestaurantProfile(restaurantProfileUpdateDetails.id(),
+                    RestaurantProfileField.PASSWORD.name(),
+                    passwordHashGenerator.hashPassword(restaurantProfileUpdateDetails.password()));
+        };
     }
 
     /**
      * {@inheritDoc}
      *
-     * @return The list of all restaurants
+     * @param after Represents the id of the last restaurant received, zero for the first page
+     * @param limit Represents the maximum count of restaurants in the page
+     * @return The list of restaurants
      */
     @Override
-    public byte[] getAllRestaurants() {
-        final Optional<Collection<Restaurant>> restaurants = restaurantProfileDAO.getAllRestaurants();
-        final JsonArray jsonArray = jsonFactory.createArrayNode();
+    public byte[] getAllRestaurants(final long after, final int limit) {
+        final Optional<byte[]> cachedRestaurants = restaurantResponseCache.getRestaurants(after, limit);
 
-        return restaurants.isPresent() ? jsonArray.build(restaurants.get()).asBytes() :
-                jsonArray.add(jsonFactory.createObjectNode().put(STATUS, "Restaurants not found")).asBytes();
+        if (cachedRestaurants.isPresent()) {
+            return cachedRestaurants.get();
+        }
+        final long cacheVersion = restaurantResponseCache.getVersion();
+
+        try (final ResultCursor<Restaurant> restaurants = restaurantProfileDAO.getAllRestaurants(
+                new PageRequest(0, after, limit))) {
+            return restaurantResponseCache.putRestaurants(after, limit, getRestaurantsResponse(restaurants),
+                    cacheVersion);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param after Represents the id of the last restaurant received, zero for the first page
+     * @param limit Represents the maximum count of restaurants in the page
+     * @return The future completed with the list of restaurants
+     */
+    @Override
+    public CompletableFuture<byte[]> getAllRestaurantsAsync(final long after, final int limit) {
+        final Optional<byte[]> cachedRestaurants = restaurantResponseCache.getRestaurants(after, limit);
+
+        if (cachedRestaurants.isPresent()) {
+            return CompletableFuture.completedFuture(cachedRestaurants.get());
+        }
+        final long cacheVersion = restaurantResponseCache.getVersion();
+
+        return restaurantProfileAsyncDAO.getAllRestaurants(new PageRequest(0, after, limit), restaurants ->
+                restaurantResponseCache.putRestaurants(after, limit, getRestaurantsResponse(restaurants),
+                        cacheVersion));
+    }
+
+    /**
+     * <p>
+     * Writes the restaurants read from the cursor as the json response.
+     * </p>
+     *
+     * @param restaurants Represents the cursor of the page of restaurants
+     * @return The list of restaurants
+     */
+    private byte[] getRestaurantsResponse(final ResultCursor<Restaurant> restaurants) {
+        return restaurants.hasNext() ? jsonFactory.getJsonWriter().writeArray(restaurants) :
+                statusResponses.getStatusArray("Restaurants not found");
     }
 }
@@ -0,0 +1,140 @@
+package org.foodhub.restaurant.inventory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Performs the unit tests on the striped counter, so the reservations taken from a single stripe, gathered from all
+ * the stripes and given back keep the available quantity of the food exact.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class StripedCounterTest {
+
+    /**
+     * <p>
+     * Verifies that the quantity is split across the stripes without losing any quantity.
+     * </p>
+     */
+    @ParameterizedTest
+    @CsvSource({"0,4", "3,4", "10,4", "1000,16", "7,1"})
+    void shouldKeepTheWholeQuantityAcrossTheStripes(final long quantity, final int stripes) {
+        final StripedCounter stripedCounter = new StripedCounter(quantity, stripes);
+
+        Assertions.assertEquals(quantity, stripedCounter.sum());
+    }
+
+    /**
+     * <p>
+     * Verifies that the reservation fitting in a stripe is taken from that stripe.
+     * </p>
+     */
+    @ParameterizedTest
+    @CsvSource({"16,4,1", "16,4,4", "100,8,12"})
+    void shouldReserveTheQuantityFromASingleStripe(final long quantity, final int stripes, final int reserved) {
+        final StripedCounter stripedCounter = new StripedCounter(quantity, stripes);
+        final int stripe = stripedCounter.reserve(reserved);
+
+        Assertions.assertTrue(0 <= stripe && stripe < stripes);
+        Assertions.assertEquals(quantity - reserved, stripedCounter.sum());
+    }
+
+    /**
+     * <p>
+     * Verifies that the reservation larger than any single stripe is gathered from all the stripes into the first
+     * stripe.
+     * </p>
+     */
+    @ParameterizedTest
+    @CsvSource({"10,4,9", "10,4,10", "64,16,40"})
+    void shouldGatherTheReservationLargerThanAnyStripe(final long quantity, final int stripes, final int reserved) {
+        final StripedCounter stripedCounter = new StripedCounter(quantity, stripes);
+
+        Assertions.assertEquals(0, stripedCounter.reserve(reserved));
+        Assertions.assertEquals(quantity - reserved, stripedCounter.sum());
+    }
+
+    /**
+     * <p>
+     * Verifies that the reservation beyond the available quantity is rejected and the gathered quantity is given
+     * back.
+     * </p>
+     */
+    @ParameterizedTest
+    @CsvSource({"10,4,11", "0,4,1", "64,16,65"})
+    void shouldRejectTheReservationBeyondTheQuantity(final long quantity, final int stripes, final int reserved) {
+        final StripedCounter stripedCounter = new StripedCounter(quantity, stripes);
+
+        Assertions.assertEquals(-1, stripedCounter.reserve(reserved));
+        Assertions.assertEquals(quantity, stripedCounter.sum());
+    }
+
+    /**
+     * <p>
+     * Verifies that the released reservation gives its quantity back, so it can be reserved again.
+     * </p>
+     */
+    @ParameterizedTest
+    @CsvSource({"10,4,3", "10,4,9", "64,16,64"})
+    void shouldGiveTheReleasedQuantityBack(final long quantity, final int stripes, final int reserved) {
+        final StripedCounter stripedCounter = new StripedCounter(quantity, stripes);
+        final int stripe = stripedCounter.reserve(reserved);
+
+        stripedCounter.release(stripe, reserved);
+        Assertions.assertEquals(quantity, stripedCounter.sum());
+        Assertions.assertNotEquals(-1, stripedCounter.reserve((int) quantity));
+        Assertions.assertEquals(0, stripedCounter.sum());
+    }
+
+    /**
+     * <p>
+     * Verifies that the concurrent reservations never reserve more than the available quantity.
+     * </p>
+     */
+    @Test
+    void shouldNotOversellUnderConcurrentReservations() throws Exception {
+        final int quantity = 1000;
+        final StripedCounter stripedCounter = new StripedCounter(quantity, 8);
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        final List<Future<Integer>> reservations = new ArrayList<>();
+
+        try {
+            for (int task = 0; task < 8; task++) {
+                reservations.add(executorService.submit(() -> {
+                    int reserved = 0;
+
+                    for (int attempt = 0; attempt < 250; attempt++) {
+
+                        if (-1 != stripedCounter.reserve(1 + attempt % 3)) {
+                            reserved += 1 + attempt % 3;
+                        }
+                    }
+
+                    return reserved;
+                }));
+            }
+            int reserved = 0;
+
+            for (final Future<Integer> reservation : reservations) {
+                reserved += reservation.get(10, TimeUnit.SECONDS);
+            }
+
+            Assertions.assertEquals(quantity, reserved + stripedCounter.sum());
+            Assertions.assertTrue(0 <= stripedCounter.sum());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
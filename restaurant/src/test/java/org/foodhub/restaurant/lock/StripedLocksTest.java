@@ -0,0 +1,205 @@
+package org.foodhub.restaurant.lock;
+
+import org.foodhub.restaurant.exception.lock.LockTimeoutException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * <p>
+ * Performs the unit tests on the striped locks, so the keys acquired together are locked in the same order by every
+ * thread and the contended lock is given up after the maximum wait.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class StripedLocksTest {
+
+    /**
+     * <p>
+     * Verifies that the count of the stripes is rounded up to the power of two.
+     * </p>
+     */
+    @ParameterizedTest
+    @CsvSource({"1,1", "3,4", "256,256", "300,512"})
+    void shouldRoundTheStripesUpToThePowerOfTwo(final int stripes, final int expectedStripes) {
+        Assertions.assertEquals(expectedStripes, createStripedLocks(stripes, 100).getStripes());
+    }
+
+    /**
+     * <p>
+     * Verifies that the keys sharing a stripe are locked once and released together.
+     * </p>
+     */
+    @Test
+    void shouldLockTheSharedStripeOnce() throws Exception {
+        final StripedLocks stripedLocks = createStripedLocks(1, 100);
+
+        stripedLocks.acquire(List.of(1L, 2L, 3L)).close();
+
+        Assertions.assertEquals(1, stripedLocks.getAcquisitions());
+        Assertions.assertTrue(isFree(stripedLocks, List.of(1L)));
+    }
+
+    /**
+     * <p>
+     * Verifies that the overlapping keys acquired in the opposite orders by the concurrent threads don't deadlock.
+     * </p>
+     */
+    @Test
+    void shouldAcquireTheOverlappingKeysWithoutDeadlock() throws Exception {
+        final StripedLocks stripedLocks = createStripedLocks(16, 10000);
+        final List<Long> keys = LongStream.rangeClosed(1, 64).boxed().toList();
+        final List<Long> reversedKeys = new ArrayList<>(keys);
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        Collections.reverse(reversedKeys);
+
+        try {
+            final Future<?> ascending = executorService.submit(() -> acquireRepeatedly(stripedLocks, keys));
+            final Future<?> descending = executorService.submit(() -> acquireRepeatedly(stripedLocks, reversedKeys));
+
+            ascending.get(10, TimeUnit.SECONDS);
+            descending.get(10, TimeUnit.SECONDS);
+            Assertions.assertEquals(0, stripedLocks.getTimeouts());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * <p>
+     * Verifies that the lock held by the other thread is given up after the maximum wait.
+     * </p>
+     */
+    @Test
+    void shouldTimeOutTheContendedLock() throws Exception {
+        final StripedLocks stripedLocks = createStripedLocks(4, 50);
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            executorService.submit(() -> {
+                try (final LockHandle lockHandle = stripedLocks.acquire(7L)) {
+                    locked.countDown();
+                    released.await();
+                }
+
+                return null;
+            });
+            locked.await();
+
+            Assertions.assertThrows(LockTimeoutException.class, () -> stripedLocks.acquire(7L));
+            Assertions.assertEquals(1, stripedLocks.getContentions());
+            Assertions.assertEquals(1, stripedLocks.getTimeouts());
+            Assertions.assertTrue(TimeUnit.MILLISECONDS.toNanos(50) <= stripedLocks.getWaitNanos());
+        } finally {
+            released.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * <p>
+     * Verifies that the locks acquired before the timed out lock are released, so the other keys are not left locked.
+     * </p>
+     */
+    @Test
+    void shouldReleaseTheAcquiredLocksOnTimeout() throws Exception {
+        final StripedLocks stripedLocks = createStripedLocks(64, 50);
+        final List<Long> keys = LongStream.rangeClosed(1, 32).boxed().toList();
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            executorService.submit(() -> {
+                try (final LockHandle lockHandle = stripedLocks.acquire(32L)) {
+                    locked.countDown();
+                    released.await();
+                }
+
+                return null;
+            });
+            locked.await();
+
+            Assertions.assertThrows(LockTimeoutException.class, () -> stripedLocks.acquire(keys));
+            Assertions.assertTrue(isFree(stripedLocks, keys.subList(0, 31)));
+        } finally {
+            released.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * <p>
+     * Creates the striped locks having the given stripes and maximum wait.
+     * </p>
+     *
+     * @param stripes           Represents the count of the stripes
+     * @param maximumWaitMillis Represents the maximum wait for the contended lock
+     * @return The striped locks
+     */
+    private StripedLocks createStripedLocks(final int stripes, final long maximumWaitMillis) {
+        final Properties properties = new Properties();
+
+        properties.setProperty("lock.stripes", String.valueOf(stripes));
+        properties.setProperty("lock.maximumWaitMillis", String.valueOf(maximumWaitMillis));
+
+        return new StripedLocks("food", StripedLockConfig.fromProperties(properties));
+    }
+
+    /**
+     * <p>
+     * Acquires and releases the keys together many times.
+     * </p>
+     *
+     * @param stripedLocks Represents the striped locks
+     * @param keys         Represents the keys to be locked
+     */
+    private void acquireRepeatedly(final StripedLocks stripedLocks, final List<Long> keys) {
+        for (int attempt = 0; attempt < 10000; attempt++) {
+            stripedLocks.acquire(keys).close();
+        }
+    }
+
+    /**
+     * <p>
+     * Checks whether the keys can be locked by the other thread at once.
+     * </p>
+     *
+     * @param stripedLocks Represents the striped locks
+     * @param keys         Represents the keys to be locked
+     * @return True if the keys are not held, false otherwise
+     */
+    private boolean isFree(final StripedLocks stripedLocks, final List<Long> keys) throws Exception {
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            return executorService.submit(() -> {
+                final long timeouts = stripedLocks.getTimeouts();
+                final long contentions = stripedLocks.getContentions();
+
+                stripedLocks.acquire(keys).close();
+
+                return timeouts == stripedLocks.getTimeouts() && contentions == stripedLocks.getContentions();
+            }).get(10, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -2,9 +2,15 @@ package org.foodhub.launcher;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 import org.apache.cxf.endpoint.Server;
 import org.apache.cxf.jaxrs.JAXRSServerFactoryBean;
+import org.apache.cxf.service.Service;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -12,6 +18,9 @@ import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
 import org.foodhub.common.json.JsonFactory;
+import org.foodhub.launcher.execution.ContinuationInvoker;
+import org.foodhub.launcher.execution.RequestExecutionConfig;
+import org.foodhub.launcher.execution.RequestExecutor;
 import org.foodhub.restaurant.controller.RestaurantFoodController;
 import org.foodhub.restaurant.controller.RestaurantProfileController;
 import org.foodhub.user.controller.CartController;
@@ -30,6 +39,7 @@ public final class Activator implements BundleActivator {
 
     private static final Logger LOGGER = LogManager.getLogger(Activator.class);
     private Server server;
+    private RequestExecutor requestExecutor;
 
     /**
      * <p>
@@ -46,6 +56,7 @@ public final class Activator implements BundleActivator {
         bean.setProvider(JsonFactory.getInstance().getJsonProvider());
         bean.setServiceBeans(getServiceBeans());
         server = bean.create();
+        setRequestExecutor(RequestExecutionConfig.fromProperties(loadProperties()));
 
         LOGGER.info("Server Bundle Is Started");
     }
@@ -69,6 +80,48 @@ public final class Activator implements BundleActivator {
         return beans;
     }
 
+    /**
+     * <p>
+     * Sets the invoker running the requests of the server on the request executor, the requests run on the transport
+     * threads when no executor is created for the execution mode.
+     * </p>
+     *
+     * @param config Represents the request execution config
+     */
+    private void setRequestExecutor(final RequestExecutionConfig config) {
+        final Optional<RequestExecutor> executor = RequestExecutor.create(config);
+
+        if (executor.isPresent()) {
+            final Service service = server.getEndpoint().getService();
+
+            requestExecutor = executor.get();
+            service.setInvoker(new ContinuationInvoker(service.getInvoker(), requestExecutor));
+        }
+    }
+
+    /**
+     * <p>
+     * Loads the server properties, the default properties are used if the file can't be loaded.
+     * </p>
+     *
+     * @return The server properties
+     */
+    private Properties loadProperties() {
+        final Properties properties = new Properties();
+
+        try (final InputStream inputStream = Activator.class.getClassLoader()
+                .getResourceAsStream("server.properties")) {
+
+            if (null != inputStream) {
+                properties.load(inputStream);
+            }
+        } catch (IOException message) {
+            LOGGER.error(message.getMessage());
+        }
+
+        return properties;
+    }
+
     /**
      * <p>
      * Invoked when the bundle is stopped and destroys the sever instance.
@@ -81,6 +134,10 @@ public final class Activator implements BundleActivator {
         if (null != server) {
             server.destroy();
         }
+
+        if (null != requestExecutor) {
+            requestExecutor.close();
+        }
         LOGGER.info("Server Bundle Is Stopped");
     }
 }
@@ -0,0 +1,171 @@
+package org.foodhub.launcher.execution;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.ws.rs.container.AsyncResponse;
+
+import org.apache.cxf.continuations.Continuation;
+import org.apache.cxf.continuations.ContinuationProvider;
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.jaxrs.model.OperationResourceInfo;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.service.invoker.Invoker;
+
+/**
+ * <p>
+ * Invokes the resource methods on the request executor and gives the transport thread back while they run. The
+ * request is suspended through the continuation of the transport, the invocation resumes the request once it
+ * completes and the transport writes the response of the resumed request.
+ * </p>
+ *
+ * <p>
+ * The resource method is invoked on the transport thread when the transport can't suspend the request, when the
+ * resource method suspends the request itself through the {@link AsyncResponse}, or when the request executor
+ * rejects the invocation.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class ContinuationInvoker implements Invoker {
+
+    private static final long NO_TIMEOUT = 0;
+    private final Invoker invoker;
+    private final RequestExecutor requestExecutor;
+
+    public ContinuationInvoker(final Invoker invoker, final RequestExecutor requestExecutor) {
+        this.invoker = invoker;
+        this.requestExecutor = requestExecutor;
+    }
+
+    /**
+     * <p>
+     * Starts the invocation on the request executor and suspends the request, the resumed request gets the result of
+     * the invocation.
+     * </p>
+     *
+     * @param exchange      Represents the exchange of the request
+     * @param serviceObject Represents the parameters of the resource method
+     * @return The result of the invocation, null while the request is suspended
+     */
+    @Override
+    public Object invoke(final Exchange exchange, final Object serviceObject) {
+        final ContinuationProvider continuationProvider = exchange.getInMessage().get(ContinuationProvider.class);
+
+        if (null == continuationProvider || isSuspendedByResource(exchange)) {
+            return invoker.invoke(exchange, serviceObject);
+        }
+        final Continuation continuation = continuationProvider.getContinuation();
+
+        synchronized (continuation) {
+
+            if (continuation.isNew()) {
+                final Invocation invocation = new Invocation(exchange, serviceObject, continuation);
+
+                try {
+                    requestExecutor.execute(invocation);
+                } catch (RejectedExecutionException message) {
+                    return invoker.invoke(exchange, serviceObject);
+                }
+                continuation.setObject(invocation);
+                continuation.suspend(NO_TIMEOUT);
+
+                return null;
+            }
+            final Invocation invocation = (Invocation) continuation.getObject();
+
+            if (!invocation.isDone()) {
+                continuation.suspend(NO_TIMEOUT);
+
+                return null;
+            }
+
+            return getResult(invocation);
+        }
+    }
+
+    /**
+     * <p>
+     * Checks whether the resource method suspends the request itself through the {@link AsyncResponse}.
+     * </p>
+     *
+     * @param exchange Represents the exchange of the request
+     * @return True if the resource method takes the async response, false otherwise
+     */
+    private boolean isSuspendedByResource(final Exchange exchange) {
+        final OperationResourceInfo operation = exchange.get(OperationResourceInfo.class);
+
+        if (null == operation) {
+            return false;
+        }
+        final Method method = operation.getMethodToInvoke();
+
+        for (final Class<?> parameterType : method.getParameterTypes()) {
+
+            if (AsyncResponse.class.equals(parameterType)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Gets the result of the completed invocation, the failure of the resource method is thrown as it is.
+     * </p>
+     *
+     * @param invocation Represents the completed invocation
+     * @return The result of the invocation
+     */
+    private Object getResult(final Invocation invocation) {
+        try {
+            return invocation.get();
+        } catch (ExecutionException message) {
+            final Throwable cause = message.getCause();
+
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            if (cause instanceof Error error) {
+                throw error;
+            }
+
+            throw new Fault(cause);
+        } catch (CancellationException message) {
+            throw new Fault(message);
+        } catch (InterruptedException message) {
+            Thread.currentThread().interrupt();
+
+            throw new Fault(message);
+        }
+    }
+
+    /**
+     * <p>
+     * Invokes the resource method and resumes the suspended request once it completes, the request is also resumed
+     * when the invocation is cancelled by the closed executor.
+     * </p>
+     */
+    private final class Invocation extends FutureTask<Object> {
+
+        private final Continuation continuation;
+
+        private Invocation(final Exchange exchange, final Object serviceObject, final Continuation continuation) {
+            super(() -> invoker.invoke(exchange, serviceObject));
+            this.continuation = continuation;
+        }
+
+        @Override
+        protected void done() {
+            synchronized (continuation) {
+                continuation.resume();
+            }
+        }
+    }
+}
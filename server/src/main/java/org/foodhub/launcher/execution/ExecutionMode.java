@@ -0,0 +1,35 @@
+package org.foodhub.launcher.execution;
+
+/**
+ * <p>
+ * Represents the modes of running the requests of the JAX-RS server.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public enum ExecutionMode {
+
+    TRANSPORT,
+    POOLED,
+    VIRTUAL;
+
+    /**
+     * <p>
+     * Gets the execution mode of the given property value.
+     * </p>
+     *
+     * @param mode Represents the execution mode property value
+     * @return The execution mode, transport mode if the value is not a known mode
+     */
+    public static ExecutionMode fromProperty(final String mode) {
+        for (final ExecutionMode executionMode : values()) {
+
+            if (executionMode.name().equalsIgnoreCase(mode.trim())) {
+                return executionMode;
+            }
+        }
+
+        return TRANSPORT;
+    }
+}
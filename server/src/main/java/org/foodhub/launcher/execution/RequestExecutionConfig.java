@@ -0,0 +1,110 @@
+package org.foodhub.launcher.execution;
+
+import java.util.Properties;
+
+/**
+ * <p>
+ * Holds the properties of running the requests of the JAX-RS server.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class RequestExecutionConfig {
+
+    private static final String DEFAULT_MODE = "transport";
+    private static final String DEFAULT_THREADS = "50";
+    private static final String DEFAULT_QUEUE_SIZE = "500";
+    private static final String DEFAULT_MAXIMUM_CONCURRENT_REQUESTS = "1000";
+    private ExecutionMode mode;
+    private int threads;
+    private int queueSize;
+    private int maximumConcurrentRequests;
+
+    private RequestExecutionConfig() {
+        mode = ExecutionMode.fromProperty(DEFAULT_MODE);
+        threads = Integer.parseInt(DEFAULT_THREADS);
+        queueSize = Integer.parseInt(DEFAULT_QUEUE_SIZE);
+        maximumConcurrentRequests = Integer.parseInt(DEFAULT_MAXIMUM_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * <p>
+     * Creates the request execution config from the server properties.
+     * </p>
+     *
+     * @param properties Represents the loaded server properties
+     * @return The request execution config
+     */
+    public static RequestExecutionConfig fromProperties(final Properties properties) {
+        return new RequestExecutionConfigBuilder()
+                .setMode(ExecutionMode.fromProperty(properties.getProperty("server.execution.mode", DEFAULT_MODE)))
+                .setThreads(Integer.parseInt(properties.getProperty("server.execution.threads", DEFAULT_THREADS)))
+                .setQueueSize(Integer.parseInt(properties.getProperty("server.execution.queueSize",
+                        DEFAULT_QUEUE_SIZE)))
+                .setMaximumConcurrentRequests(Integer.parseInt(properties.getProperty(
+                        "server.execution.maximumConcurrentRequests", DEFAULT_MAXIMUM_CONCURRENT_REQUESTS)))
+                .build();
+    }
+
+    public ExecutionMode getMode() {
+        return mode;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public int getMaximumConcurrentRequests() {
+        return maximumConcurrentRequests;
+    }
+
+    /**
+     * <p>
+     * Method to set the properties of the request execution config and to build the config instance.
+     * </p>
+     *
+     * @author Muthu kumar V
+     * @version 1.0
+     */
+    public static class RequestExecutionConfigBuilder {
+
+        private final RequestExecutionConfig config;
+
+        public RequestExecutionConfigBuilder() {
+            config = new RequestExecutionConfig();
+        }
+
+        public RequestExecutionConfigBuilder setMode(final ExecutionMode mode) {
+            config.mode = mode;
+
+            return this;
+        }
+
+        public RequestExecutionConfigBuilder setThreads(final int threads) {
+            config.threads = threads;
+
+            return this;
+        }
+
+        public RequestExecutionConfigBuilder setQueueSize(final int queueSize) {
+            config.queueSize = queueSize;
+
+            return this;
+        }
+
+        public RequestExecutionConfigBuilder setMaximumConcurrentRequests(final int maximumConcurrentRequests) {
+            config.maximumConcurrentRequests = maximumConcurrentRequests;
+
+            return this;
+        }
+
+        public RequestExecutionConfig build() {
+            return config;
+        }
+    }
+}
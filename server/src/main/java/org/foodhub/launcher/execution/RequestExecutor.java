@@ -0,0 +1,180 @@
+package org.foodhub.launcher.execution;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>
+ * Runs the requests of the JAX-RS server either on the bounded pool of platform threads or on a virtual thread per
+ * request.
+ * </p>
+ *
+ * <p>
+ * The virtual threads are created through the Java 21 executor when the runtime provides it, the bundle is compiled
+ * for Java 17 so the executor is looked up at runtime and the pooled mode is used on the older runtimes. The count of
+ * requests running at once on the virtual threads is bounded, so thousands of parked requests don't all reach the
+ * database together. The permit is taken before the virtual thread is started, the request beyond the bound is
+ * rejected as the request beyond the queue of the pool is.
+ * </p>
+ *
+ * <p>
+ * The executor is used through the {@link ContinuationInvoker}, which suspends the request while it runs here and
+ * invokes the request on the transport thread when the executor rejects it.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class RequestExecutor implements Executor, AutoCloseable {
+
+    private static final Logger LOGGER = LogManager.getLogger(RequestExecutor.class);
+    private final ExecutorService executorService;
+    private final Semaphore requestPermits;
+
+    private RequestExecutor(final ExecutorService executorService, final Semaphore requestPermits) {
+        this.executorService = executorService;
+        this.requestPermits = requestPermits;
+    }
+
+    /**
+     * <p>
+     * Creates the request executor of the configured execution mode.
+     * </p>
+     *
+     * @param config Represents the request execution config
+     * @return The request executor, empty for the transport mode where the requests run on the transport threads
+     */
+    public static Optional<RequestExecutor> create(final RequestExecutionConfig config) {
+        switch (config.getMode()) {
+            case VIRTUAL -> {
+                final Optional<ExecutorService> virtualThreadExecutor = createVirtualThreadExecutor();
+
+                if (virtualThreadExecutor.isPresent()) {
+                    LOGGER.info("Requests run on virtual threads");
+
+                    return Optional.of(new RequestExecutor(virtualThreadExecutor.get(),
+                            new Semaphore(config.getMaximumConcurrentRequests())));
+                }
+                LOGGER.warn("Virtual threads are not available in this runtime, requests run on the pooled threads");
+
+                return Optional.of(new RequestExecutor(createPooledExecutor(config), null));
+            }
+            case POOLED -> {
+                LOGGER.info("Requests run on the pooled threads");
+
+                return Optional.of(new RequestExecutor(createPooledExecutor(config), null));
+            }
+            default -> {
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Creates the executor starting a virtual thread per task, if the runtime supports the virtual threads.
+     * </p>
+     *
+     * @return The virtual thread executor, empty if the runtime doesn't support the virtual threads
+     */
+    private static Optional<ExecutorService> createVirtualThreadExecutor() {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null));
+        } catch (ReflectiveOperationException | UnsupportedOperationException message) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * <p>
+     * Creates the bounded pool of platform threads, the requests beyond the queue are rejected and the invoker runs
+     * them on the transport thread.
+     * </p>
+     *
+     * @param config Represents the request execution config
+     * @return The bounded executor
+     */
+    private static ExecutorService createPooledExecutor(final RequestExecutionConfig config) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(config.getThreads(), config.getThreads(),
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(config.getQueueSize()), runnable -> {
+                    final Thread thread = new Thread(runnable, String.join("-", "request",
+                            String.valueOf(threadCount.incrementAndGet())));
+
+                    thread.setDaemon(true);
+
+                    return thread;
+                });
+
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+        return threadPoolExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The request on the virtual thread takes its permit before the thread is started, the permit is released once
+     * the request completes.
+     * </p>
+     *
+     * @param request Represents the invocation of the request
+     * @throws RejectedExecutionException If the executor is closed, the queue of the pool is full or all the permits
+     *                                    of the virtual threads are taken
+     */
+    @Override
+    public void execute(final Runnable request) {
+        if (null == requestPermits) {
+            executorService.execute(request);
+
+            return;
+        }
+
+        if (!requestPermits.tryAcquire()) {
+            throw new RejectedExecutionException("All the request permits of the virtual threads are taken");
+        }
+
+        try {
+            executorService.execute(() -> {
+                try {
+                    request.run();
+                } finally {
+                    requestPermits.release();
+                }
+            });
+        } catch (RejectedExecutionException message) {
+            requestPermits.release();
+            throw message;
+        }
+    }
+
+    /**
+     * <p>
+     * Shuts down the executor, the running requests are interrupted and the queued requests are cancelled, so their
+     * suspended requests are resumed.
+     * </p>
+     */
+    @Override
+    public void close() {
+        for (final Runnable queuedRequest : executorService.shutdownNow()) {
+
+            if (queuedRequest instanceof Future<?> future) {
+                future.cancel(false);
+            }
+        }
+    }
+}
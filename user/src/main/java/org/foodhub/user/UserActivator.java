@@ -6,6 +6,16 @@ import org.apache.logging.log4j.Logger;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
+import org.foodhub.common.hibernate.impl.HibernateEntityValidatorImpl;
+import org.foodhub.user.database.dao.internal.impl.CartDAOImpl;
+import org.foodhub.user.database.dao.internal.impl.OrderDAOImpl;
+import org.foodhub.user.model.address.Address;
+import org.foodhub.user.model.cart.Cart;
+import org.foodhub.user.model.order.Order;
+import org.foodhub.user.model.user.User;
+import org.foodhub.user.model.user.UserLoginDetails;
+import org.foodhub.user.model.user.UserProfileUpdateDetails;
+
 /**
  * <p>
  * Customizes the starting and stopping of a bundle.
@@ -27,6 +37,8 @@ public final class UserActivator implements BundleActivator {
      */
     @Override
     public void start(final BundleContext context) {
+        HibernateEntityValidatorImpl.getInstance().prepare(User.class, UserLoginDetails.class,
+                UserProfileUpdateDetails.class, Address.class, Cart.class, Order.class);
         LOGGER.info("User Bundle Is Started");
     }
 
@@ -39,6 +51,8 @@ public final class UserActivator implements BundleActivator {
      */
     @Override
     public void stop(final BundleContext context) {
+        OrderDAOImpl.getOrderCommitPipeline().close();
+        CartDAOImpl.getCartSessionStore().close();
         LOGGER.info("User Bundle Is Stopped");
     }
 }
\ No newline at end of file
@@ -0,0 +1,225 @@
+package org.foodhub.user.cache;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.foodhub.user.exception.order.IdempotencyKeyMismatchException;
+import org.foodhub.user.model.order.IdempotencyKey;
+
+/**
+ * <p>
+ * Remembers the responses of the orders placed with the idempotency key for the dedupe window, so the retried order
+ * is answered with the response of the placed order instead of being placed again. The retry arriving while the
+ * order is still being placed waits for the response of the same placement. The key is remembered along with the
+ * fingerprint of its order, the key reused for a different order within the window is rejected.
+ * </p>
+ *
+ * <p>
+ * Only the placed orders are remembered, the failed placement is forgotten so its retry is placed again. All the
+ * responses live for the same window, so the oldest response is the first to expire and is the one evicted once the
+ * cache is full.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class OrderIdempotencyCache {
+
+    private static final int MAXIMUM_ENTRIES = 100000;
+    private static final long DEDUPE_WINDOW = TimeUnit.MINUTES.toNanos(10);
+    private final Map<String, CachedResponse> responses;
+    private final Queue<String> keys;
+    private final LongAdder replays;
+    private final LongAdder evictions;
+    private final LongAdder mismatches;
+
+    private OrderIdempotencyCache() {
+        responses = new ConcurrentHashMap<>();
+        keys = new ConcurrentLinkedQueue<>();
+        replays = new LongAdder();
+        evictions = new LongAdder();
+        mismatches = new LongAdder();
+    }
+
+    /**
+     * <p>
+     * Creates the instance of the class
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final OrderIdempotencyCache ORDER_IDEMPOTENCY_CACHE = new OrderIdempotencyCache();
+    }
+
+    /**
+     * <p>
+     * Gets the instance of the order idempotency cache class.
+     * </p>
+     *
+     * @return The order idempotency cache instance
+     */
+    public static OrderIdempotencyCache getInstance() {
+        return InstanceHolder.ORDER_IDEMPOTENCY_CACHE;
+    }
+
+    /**
+     * <p>
+     * Claims the idempotency key for the placement, unless the order of the key is already placed or being placed.
+     * </p>
+     *
+     * @param idempotencyKey Represents the idempotency key of the order along with its user and fingerprint
+     * @param placement      Represents the response of the placement, completed once the order is placed
+     * @return The response of the earlier placement of the key, null if the key is claimed for the given placement
+     * @throws IdempotencyKeyMismatchException If the key is claimed by a different order
+     */
+    public CompletableFuture<byte[]> claim(final IdempotencyKey idempotencyKey,
+                                           final CompletableFuture<byte[]> placement) {
+        final String key = getKey(idempotencyKey);
+        final long now = System.nanoTime();
+
+        evictExpired(now);
+        final CachedResponse cachedResponse = new CachedResponse(placement,
+                idempotencyKey.getRequestFingerprint(), now + DEDUPE_WINDOW);
+
+        while (true) {
+            final CachedResponse existingResponse = responses.putIfAbsent(key, cachedResponse);
+
+            if (null == existingResponse) {
+                keys.add(key);
+
+                return null;
+            }
+
+            if (!existingResponse.isExpired(now)) {
+
+                if (!existingResponse.requestFingerprint().equals(idempotencyKey.getRequestFingerprint())) {
+                    mismatches.increment();
+                    throw new IdempotencyKeyMismatchException("Idempotency key is already used by a different order");
+                }
+                replays.increment();
+
+                return existingResponse.response();
+            }
+            responses.remove(key, existingResponse);
+        }
+    }
+
+    /**
+     * <p>
+     * Forgets the idempotency key of the failed placement, so the retry of the order is placed again.
+     * </p>
+     *
+     * @param idempotencyKey Represents the idempotency key of the order along with its user and fingerprint
+     * @param placement      Represents the response of the failed placement
+     */
+    public void release(final IdempotencyKey idempotencyKey, final CompletableFuture<byte[]> placement) {
+        final String key = getKey(idempotencyKey);
+        final CachedResponse cachedResponse = responses.get(key);
+
+        if (null != cachedResponse && cachedResponse.response() == placement) {
+            responses.remove(key, cachedResponse);
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the expired responses and the oldest responses beyond the maximum entries, in the order their keys
+     * were claimed.
+     * </p>
+     *
+     * @param now Represents the current nano time
+     */
+    private void evictExpired(final long now) {
+        String key;
+
+        while (null != (key = keys.peek())) {
+            final CachedResponse cachedResponse = responses.get(key);
+            final boolean isExpired = null == cachedResponse || cachedResponse.isExpired(now);
+
+            if (!isExpired && MAXIMUM_ENTRIES > responses.size()) {
+                return;
+            }
+
+            if (keys.remove(key) && null != cachedResponse && responses.remove(key, cachedResponse) && !isExpired) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the key of the cache, the idempotency key is scoped to the user.
+     * </p>
+     *
+     * @param idempotencyKey Represents the idempotency key of the order along with its user
+     * @return The key of the cache
+     */
+    private static String getKey(final IdempotencyKey idempotencyKey) {
+        return String.join(":", String.valueOf(idempotencyKey.getUserId()), idempotencyKey.getKey());
+    }
+
+    /**
+     * <p>
+     * Gets the count of the retries answered with the response of the earlier placement.
+     * </p>
+     *
+     * @return The count of the replays
+     */
+    public long getReplays() {
+        return replays.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the keys rejected as they were reused for a different order.
+     * </p>
+     *
+     * @return The count of the mismatches
+     */
+    public long getMismatches() {
+        return mismatches.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the responses evicted before they expired, as the cache was full.
+     * </p>
+     *
+     * @return The count of the evictions
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the idempotency keys remembered.
+     * </p>
+     *
+     * @return The size of the cache
+     */
+    public int getSize() {
+        return responses.size();
+    }
+
+    /**
+     * <p>
+     * Holds the response of the placement along with the fingerprint of its order and the time it expires at.
+     * </p>
+     *
+     * @param response           Represents the response of the placement
+     * @param requestFingerprint Represents the fingerprint of the order claiming the key
+     * @param expiresAt          Represents the nano time the response expires at
+     */
+    private record CachedResponse(CompletableFuture<byte[]> response, String requestFingerprint, long expiresAt) {
+
+        private boolean isExpired(final long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package org.foodhub.user.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.foodhub.user.model.user.User;
+import org.foodhub.user.model.user.UserProfileField;
+
+/**
+ * <p>
+ * Caches the user profiles keyed by the user id, so the profile reads cost a map lookup instead of a database read.
+ * The cached profiles never hold the password, the profiles are copied without it before they are cached.
+ * </p>
+ *
+ * <p>
+ * The profiles are put when the users are created and updated in place when their profile is updated. A profile
+ * expires after the time to live, and the least recently read profiles are evicted once the cache is full. Every
+ * update moves the version of the user, a profile read before the update and put after it is discarded instead of
+ * cached. The versions are kept per stripe of the user ids, so the update of a user never discards the reads of the
+ * users of the other stripes.
+ * </p>
+ *
+ * <p>
+ * The profiles are kept in the concurrent map, the version of the user is checked and moved inside the compute of its
+ * entry, so the reads of the different users never wait on each other.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class UserProfileCache {
+
+    private static final int MAXIMUM_ENTRIES = 10000;
+    private static final int RETAINED_ENTRIES = MAXIMUM_ENTRIES - MAXIMUM_ENTRIES / 10;
+    private static final int VERSION_STRIPES = 1024;
+    private static final long TIME_TO_LIVE = TimeUnit.MINUTES.toNanos(10);
+    private final Map<Long, CachedProfile> profiles;
+    private final AtomicLongArray versions;
+    private final ReentrantLock evictionLock;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final LongAdder expirations;
+
+    private UserProfileCache() {
+        profiles = new ConcurrentHashMap<>();
+        versions = new AtomicLongArray(VERSION_STRIPES);
+        evictionLock = new ReentrantLock();
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+        expirations = new LongAdder();
+    }
+
+    /**
+     * <p>
+     * Creates the instance of the class
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final UserProfileCache USER_PROFILE_CACHE = new UserProfileCache();
+    }
+
+    /**
+     * <p>
+     * Gets the instance of the user profile cache class.
+     * </p>
+     *
+     * @return The user profile cache instance
+     */
+    public static UserProfileCache getInstance() {
+        return InstanceHolder.USER_PROFILE_CACHE;
+    }
+
+    /**
+     * <p>
+     * Gets the cached profile of the user, the expired profile is removed.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @return The user profile without the password, empty if the profile is not cached or expired
+     */
+    public Optional<User> get(final long userId) {
+        final CachedProfile cachedProfile = profiles.get(userId);
+        final long now = System.nanoTime();
+
+        if (null == cachedProfile) {
+            misses.increment();
+
+            return Optional.empty();
+        }
+
+        if (cachedProfile.isExpired(now)) {
+
+            if (profiles.remove(userId, cachedProfile)) {
+                expirations.increment();
+            }
+            misses.increment();
+
+            return Optional.empty();
+        }
+        cachedProfile.touch(now);
+        hits.increment();
+
+        return Optional.of(cachedProfile.getProfile());
+    }
+
+    /**
+     * <p>
+     * Gets the current version of the user, the version has to be taken before reading the profile from the database.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @return The current version of the user
+     */
+    public long getVersion(final long userId) {
+        return versions.get(getStripe(userId));
+    }
+
+    /**
+     * <p>
+     * Puts the profile read from the database, the profile is cached only if the user was not updated since the given
+     * version.
+     * </p>
+     *
+     * @param user        Represents the user read from the database
+     * @param readVersion Represents the version of the user taken before reading the user
+     * @return The user profile without the password
+     */
+    public User put(final User user, final long readVersion) {
+        final User profile = toProfile(user);
+        final int stripe = getStripe(profile.getId());
+
+        profiles.compute(profile.getId(), (userId, cachedProfile) -> readVersion == versions.get(stripe) ?
+                new CachedProfile(profile, System.nanoTime()) : cachedProfile);
+        evictLeastRecentlyUsed();
+
+        return profile;
+    }
+
+    /**
+     * <p>
+     * Puts the profile of the created user.
+     * </p>
+     *
+     * @param user Represents the created user along with its generated id
+     */
+    public void putCreated(final User user) {
+        final User profile = toProfile(user);
+        final int stripe = getStripe(profile.getId());
+
+        profiles.compute(profile.getId(), (userId, cachedProfile) -> {
+            versions.incrementAndGet(stripe);
+
+            return new CachedProfile(profile, System.nanoTime());
+        });
+        evictLeastRecentlyUsed();
+    }
+
+    /**
+     * <p>
+     * Updates the cached profile in place with the updated data, the password is not cached so its update leaves the
+     * profile as it is.
+     * </p>
+     *
+     * @param userId       Represents the id of the updated user
+     * @param userDataType Represents the type of the updated data
+     * @param userData     Represents the updated data
+     */
+    public void update(final long userId, final UserProfileField userDataType, final String userData) {
+        final int stripe = getStripe(userId);
+
+        profiles.compute(userId, (id, cachedProfile) -> {
+            versions.incrementAndGet(stripe);
+
+            if (null == cachedProfile || UserProfileField.PASSWORD == userDataType) {
+                return cachedProfile;
+            }
+            final User profile = cachedProfile.getProfile();
+            final User.UserBuilder userBuilder = new User.UserBuilder().setId(profile.getId())
+                    .setName(profile.getName()).setPhoneNumber(profile.getPhoneNumber())
+                    .setEmailId(profile.getEmailId());
+
+            switch (userDataType) {
+                case NAME -> userBuilder.setName(userData);
+                case PHONE_NUMBER -> userBuilder.setPhoneNumber(userData);
+                case EMAIL_ID -> userBuilder.setEmailId(userData);
+                default -> {
+                }
+            }
+
+            return new CachedProfile(userBuilder.build(), System.nanoTime());
+        });
+    }
+
+    /**
+     * <p>
+     * Invalidates the cached profile of the user.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     */
+    public void invalidate(final long userId) {
+        final int stripe = getStripe(userId);
+
+        profiles.compute(userId, (id, cachedProfile) -> {
+            versions.incrementAndGet(stripe);
+
+            return null;
+        });
+    }
+
+    /**
+     * <p>
+     * Evicts the least recently read profiles down to the retained count once the cache is full. The eviction is run
+     * by one caller at a time, the other callers put their profiles without waiting for it.
+     * </p>
+     */
+    private void evictLeastRecentlyUsed() {
+        if (profiles.size() <= MAXIMUM_ENTRIES || !evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            final List<AccessedProfile> accessedProfiles = new ArrayList<>(profiles.size());
+
+            for (final Map.Entry<Long, CachedProfile> entry : profiles.entrySet()) {
+                accessedProfiles.add(new AccessedProfile(entry.getKey(), entry.getValue(),
+                        entry.getValue().getLastAccess()));
+            }
+            accessedProfiles.sort(Comparator.comparingLong(AccessedProfile::lastAccess));
+            final int evictedCount = accessedProfiles.size() - RETAINED_ENTRIES;
+
+            for (int index = 0; index < evictedCount; index++) {
+                final AccessedProfile accessedProfile = accessedProfiles.get(index);
+
+                if (profiles.remove(accessedProfile.userId(), accessedProfile.cachedProfile())) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the stripe of the versions holding the version of the user.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @return The index of the version stripe
+     */
+    private static int getStripe(final long userId) {
+        return Long.hashCode(userId * 0x9E3779B97F4A7C15L) & (VERSION_STRIPES - 1);
+    }
+
+    /**
+     * <p>
+     * Copies the user without the password.
+     * </p>
+     *
+     * @param user Represents the user
+     * @return The user profile without the password
+     */
+    private static User toProfile(final User user) {
+        return new User.UserBuilder().setId(user.getId()).setName(user.getName())
+                .setPhoneNumber(user.getPhoneNumber()).setEmailId(user.getEmailId()).build();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the profile reads answered by the cache.
+     * </p>
+     *
+     * @return The count of the cache hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the profile reads not answered by the cache.
+     * </p>
+     *
+     * @return The count of the cache misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the profiles evicted from the full cache.
+     * </p>
+     *
+     * @return The count of the evictions
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the profiles removed after their time to live.
+     * </p>
+     *
+     * @return The count of the expirations
+     */
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the cached profiles.
+     * </p>
+     *
+     * @return The count of the cached profiles
+     */
+    public int getSize() {
+        return profiles.size();
+    }
+
+    /**
+     * <p>
+     * Holds the cached profile along with the time it expires at and the time it was last read at.
+     * </p>
+     */
+    private static final class CachedProfile {
+
+        private final User profile;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        private CachedProfile(final User profile, final long now) {
+            this.profile = profile;
+            expiresAt = now + TIME_TO_LIVE;
+            lastAccess = now;
+        }
+
+        private boolean isExpired(final long now) {
+            return now - expiresAt >= 0;
+        }
+
+        private void touch(final long now) {
+            lastAccess = now;
+        }
+
+        private User getProfile() {
+            return profile;
+        }
+
+        private long getLastAccess() {
+            return lastAccess;
+        }
+    }
+
+    /**
+     * <p>
+     * Holds the cached profile along with the time it was last read at, taken once so the profiles are sorted by the
+     * stable access times.
+     * </p>
+     *
+     * @param userId        Represents the id of the user
+     * @param cachedProfile Represents the cached profile
+     * @param lastAccess    Represents the nano time the profile was last read at
+     */
+    private record AccessedProfile(long userId, CachedProfile cachedProfile, long lastAccess) {
+    }
+}
@@ -1,5 +1,7 @@
 package org.foodhub.user.controller;
 
+import java.util.List;
+
 import javax.ws.rs.Path;
 import javax.ws.rs.POST;
 import javax.ws.rs.GET;
@@ -7,6 +9,7 @@ import javax.ws.rs.DELETE;
 import javax.ws.rs.Produces;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.foodhub.user.model.cart.Cart;
 import org.foodhub.user.service.internal.impl.CartServiceImpl;
@@ -65,19 +68,35 @@ public final class CartController {
         return cartService.addFood(cart);
     }
 
+    /**
+     * <p>
+     * Adds the selected foods to the user cart.
+     * </p>
+     *
+     * @param carts Represents the cart items of the user
+     * @return byte array of json object
+     */
+    @Path("/bulk")
+    @POST
+    @Consumes("application/json")
+    @Produces("application/json")
+    public byte[] addFoods(final List<Cart> carts) {
+        return cartService.addFoods(carts);
+    }
+
     /**
      * <p>
      * Gets the cart of the user.
      * </p>
      *
      * @param userId Represents the id of the user
-     * @return byte array of json object
+     * @return The json response streamed as the cart items are read
      */
     @Path("/{userId}")
     @GET
     @Produces("application/json")
-    public byte[] getCart(@PathParam("userId") final long userId) {
-        return cartService.getCart(userId);
+    public StreamingOutput getCart(@PathParam("userId") final long userId) {
+        return cartService.streamCart(userId);
     }
 
     /**
@@ -109,4 +128,18 @@ public final class CartController {
     public byte[] clearCart(@PathParam("userId") final long userId) {
         return cartService.clearCart(userId);
     }
+
+    /**
+     * <p>
+     * Retrieves the hit, flush and eviction counts of the cart sessions.
+     * </p>
+     *
+     * @return byte array of json object
+     */
+    @Path("/store/metrics")
+    @GET
+    @Produces("application/json")
+    public byte[] getCartStoreMetrics() {
+        return cartService.getCartStoreMetrics();
+    }
 }
\ No newline at end of file
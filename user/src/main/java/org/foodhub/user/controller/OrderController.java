@@ -8,7 +8,12 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Produces;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.core.StreamingOutput;
 
+import org.foodhub.database.querybuilder.page.PageRequest;
 import org.foodhub.user.model.order.Order;
 import org.foodhub.user.service.OrderService;
 import org.foodhub.user.service.internal.impl.OrderServiceImpl;
@@ -53,31 +58,51 @@ public final class OrderController {
 
     /**
      * <p>
-     * places the user orders.
+     * places the user orders, the retry carrying the same idempotency key is answered without placing the order again.
      * </p>
      *
-     * @param orderList Represents the list of order items
+     * @param orderList      Represents the list of order items
+     * @param idempotencyKey Represents the idempotency key of the order, null if the header is not sent
      * @return byte array of json response
      */
     @POST
     @Consumes("application/json")
     @Produces("application/json")
-    public byte[] placeOrder(final Collection<Order> orderList) {
-        return orderService.placeOrder(orderList);
+    public byte[] placeOrder(final Collection<Order> orderList,
+                             @HeaderParam("Idempotency-Key") final String idempotencyKey) {
+        return orderService.placeOrder(orderList, idempotencyKey);
     }
 
     /**
      * <p>
-     * Gets the orders placed by the user.
+     * Gets the page of orders placed by the user.
      * </p>
      *
      * @param userId Represents the id of the user
-     * @return byte array of json response
+     * @param after  Represents the id of the last order received, zero for the first page
+     * @param limit  Represents the maximum count of orders in the page
+     * @return The json response streamed as the orders are read
      */
     @Path("/{userId}")
     @GET
     @Produces("application/json")
-    public byte[] getOrders(@PathParam("userId") final long userId) {
-        return orderService.getOrders(userId);
+    public StreamingOutput getOrders(@PathParam("userId") final long userId,
+                                     @QueryParam("after") @DefaultValue("0") final long after,
+                                     @QueryParam("limit") @DefaultValue(PageRequest.DEFAULT_LIMIT) final int limit) {
+        return orderService.streamOrders(userId, after, limit);
+    }
+
+    /**
+     * <p>
+     * Retrieves the batch and rejected order counts of the order commit pipeline.
+     * </p>
+     *
+     * @return byte array of json response
+     */
+    @Path("/pipeline/metrics")
+    @GET
+    @Produces("application/json")
+    public byte[] getOrderPipelineMetrics() {
+        return orderService.getOrderPipelineMetrics();
     }
 }
\ No newline at end of file
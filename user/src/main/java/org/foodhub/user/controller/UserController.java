@@ -1,5 +1,7 @@
 package org.foodhub.user.controller;
 
+import java.util.List;
+
 import javax.ws.rs.Path;
 import javax.ws.rs.POST;
 import javax.ws.rs.GET;
@@ -7,7 +9,10 @@ import javax.ws.rs.PUT;
 import javax.ws.rs.Produces;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 
+import org.foodhub.common.async.AsyncResponseHandler;
 import org.foodhub.user.model.address.Address;
 import org.foodhub.user.model.user.User;
 import org.foodhub.user.model.user.UserLoginDetails;
@@ -85,14 +90,15 @@ public final class UserController {
      * </p>
      *
      * @param userLoginDetails Represents the instance of user login dto
-     * @return byte array of json response
+     * @param asyncResponse    Represents the suspended response, resumed with the json response once the password
+     *                         is verified
      */
     @Path("/login")
     @POST
     @Consumes("application/json")
     @Produces("application/json")
-    public byte[] getUser(final UserLoginDetails userLoginDetails) {
-        return userService.getUser(userLoginDetails);
+    public void getUser(final UserLoginDetails userLoginDetails, @Suspended final AsyncResponse asyncResponse) {
+        AsyncResponseHandler.resume(asyncResponse, userService.getUserAsync(userLoginDetails));
     }
 
     /**
@@ -126,6 +132,22 @@ public final class UserController {
         return userService.addAddress(address);
     }
 
+    /**
+     * <p>
+     * Imports the addresses of the users.
+     * </p>
+     *
+     * @param addresses Represents the addresses of the users
+     * @return byte array of json response
+     */
+    @Path("/address/bulk")
+    @POST
+    @Consumes("application/json")
+    @Produces("application/json")
+    public byte[] addAddresses(final List<Address> addresses) {
+        return userService.addAddresses(addresses);
+    }
+
     /**
      * <p>
      * Displays all the addresses of the user.
@@ -156,6 +178,20 @@ public final class UserController {
         return userService.updateUserProfile(userProfileUpdateDetails);
     }
 
+    /**
+     * <p>
+     * Retrieves the active, queued, completed and rejected counts of the password hashing.
+     * </p>
+     *
+     * @return byte array of json response
+     */
+    @Path("/hashing/metrics")
+    @GET
+    @Produces("application/json")
+    public byte[] getHashingMetrics() {
+        return userService.getHashingMetrics();
+    }
+
     /**
      * <p>
      * Injects the mocked instance of user service.
@@ -0,0 +1,70 @@
+package org.foodhub.user.database.dao;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.foodhub.user.model.cart.Cart;
+
+/**
+ * <p>
+ * Provides the asynchronous data base service for the user cart, the calls run on the bounded database
+ * executor and complete the returned futures.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public interface CartAsyncDAO {
+
+    /**
+     * <p>
+     * Adds the selected food to the user cart.
+     * </p>
+     *
+     * @param cart Represents the cart of the user
+     * @return The future completed with true if the food is added to the user cart, false otherwise
+     */
+    CompletableFuture<Boolean> addFood(final Cart cart);
+
+    /**
+     * <p>
+     * Adds the selected foods to the user cart in a single transaction.
+     * </p>
+     *
+     * @param carts Represents the cart items of the user
+     * @return The future completed with true if all the foods are added to the user cart, false otherwise
+     */
+    CompletableFuture<Boolean> addFoods(final List<Cart> carts);
+
+    /**
+     * <p>
+     * Gets all the cart items of the user.
+     * </p>
+     *
+     * @param userId Represents the id 0f the current user
+     * @return The future completed with the list of all foods from the user cart
+     */
+    CompletableFuture<Optional<Collection<Cart>>> getCart(final long userId);
+
+    /**
+     * <p>
+     * Removes the selected food from the user cart.
+     * </p>
+     *
+     * @param cartId Represents the id 0f the user cart
+     * @return The future completed with true if the food is removed,false otherwise
+     */
+    CompletableFuture<Boolean> removeFood(final long cartId);
+
+    /**
+     * <p>
+     * Remove all the foods from the user cart.
+     * </p>
+     *
+     * @param userId Represents the id of the current user
+     * @return The future completed with the true if the cart is cleared, false otherwise
+     */
+    CompletableFuture<Boolean> clearCart(final long userId);
+}
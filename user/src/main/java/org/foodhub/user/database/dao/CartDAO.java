@@ -1,6 +1,7 @@
 package org.foodhub.user.database.dao;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.foodhub.user.model.cart.Cart;
@@ -25,6 +26,16 @@ public interface CartDAO {
      */
     boolean addFood(final Cart cart);
 
+    /**
+     * <p>
+     * Adds the selected foods to the user cart in a single transaction.
+     * </p>
+     *
+     * @param carts Represents the cart items of the user
+     * @return True if all the foods are added to the user cart, false otherwise
+     */
+    boolean addFoods(final List<Cart> carts);
+
     /**
      * <p>
      * Gets all the cart items of the user.
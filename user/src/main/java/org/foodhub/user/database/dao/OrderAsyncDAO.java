@@ -0,0 +1,42 @@
+package org.foodhub.user.database.dao;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.user.model.order.Order;
+
+/**
+ * <p>
+ * Provides the asynchronous data base service for the user orders, the calls run on the bounded database
+ * executor and complete the returned futures.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public interface OrderAsyncDAO {
+
+    /**
+     * <p>
+     * places the user orders.
+     * </p>
+     *
+     * @return The future completed with true if the order is placed, false otherwise
+     */
+    CompletableFuture<Boolean> placeOrder(final Collection<Order> orderList);
+
+    /**
+     * <p>
+     * Gets the page of orders placed by the user, ordered by the order id.
+     * </p>
+     *
+     * @param pageRequest Represents the user id along with the last seen order id and the page size
+     * @param reader      Represents the reader of the cursor, the cursor is closed once the reader returns
+     * @param <R>         The result type of the reader
+     * @return The future completed with the result of the reader
+     */
+    <R> CompletableFuture<R> getOrders(final PageRequest pageRequest, final Function<ResultCursor<Order>, R> reader);
+}
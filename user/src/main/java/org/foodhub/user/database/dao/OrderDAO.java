@@ -1,9 +1,11 @@
 package org.foodhub.user.database.dao;
 
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.user.model.order.IdempotencyKey;
 import org.foodhub.user.model.order.Order;
 
 import java.util.Collection;
-import java.util.Optional;
 
 /**
  * <p>
@@ -26,10 +28,26 @@ public interface OrderDAO {
 
     /**
      * <p>
-     * Gets the orders placed by the user.
+     * places the user orders once for the idempotency key, the key is recorded along with the orders and their
+     * fingerprint.
      * </p>
      *
-     * @return List having all the orders placed by the user
+     * @param orderList      Represents the list of order items
+     * @param idempotencyKey Represents the idempotency key of the order, null if the order has no key
+     * @return True if the order is placed, false otherwise
+     * @throws org.foodhub.user.exception.order.DuplicateOrderException If the order of the key is already placed
+     * @throws org.foodhub.user.exception.order.IdempotencyKeyMismatchException If the key is already recorded for
+     *                                                                          a different order
+     */
+    boolean placeOrder(final Collection<Order> orderList, final IdempotencyKey idempotencyKey);
+
+    /**
+     * <p>
+     * Gets the page of orders placed by the user, ordered by the order id.
+     * </p>
+     *
+     * @param pageRequest Represents the user id along with the last seen order id and the page size
+     * @return The cursor of the page of orders placed by the user, the cursor has to be closed after reading
      */
-    Optional<Collection<Order>> getOrders(final long userId);
+    ResultCursor<Order> getOrders(final PageRequest pageRequest);
 }
@@ -0,0 +1,116 @@
+package org.foodhub.user.database.dao;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.foodhub.user.model.address.Address;
+import org.foodhub.user.model.user.User;
+
+/**
+ * <p>
+ * Provides the asynchronous data base service for the user, the calls run on the bounded database
+ * executor and complete the returned futures.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public interface UserAsyncDAO {
+
+    /**
+     * <p>
+     * Creates the new user profile.
+     * </p>
+     *
+     * @param user Represents the user
+     * @return The future completed with true if user is created, false otherwise
+     */
+    CompletableFuture<Boolean> createUserProfile(final User user);
+
+    /**
+     * <p>
+     * Checks for the existing user.
+     * </p>
+     *
+     * @return The future completed with true if user is exist, false otherwise
+     */
+    CompletableFuture<Boolean> isUserExist(final String phoneNumber, final String emailId);
+
+    /**
+     * <p>
+     * Gets the user profile along with the stored password hash if the login data matches.
+     * </p>
+     *
+     * @param userDataType Represents the data type of the user
+     * @param userData     Represents the data of the user
+     * @return The future completed with the user object
+     */
+    CompletableFuture<Optional<User>> getUser(final String userDataType, final String userData);
+
+    /**
+     * <p>
+     * Gets the user profile without the password if the id matches.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @return The future completed with the user object
+     */
+    CompletableFuture<Optional<User>> getUserById(final long userId);
+
+    /**
+     * <p>
+     * Adds the address of the user.
+     * </p>
+     *
+     * @param address Represents the address of the user
+     * @return The future completed with true if the address is added, false otherwise
+     */
+    CompletableFuture<Boolean> addAddress(final Address address);
+
+    /**
+     * <p>
+     * Adds the addresses of the users in a single transaction.
+     * </p>
+     *
+     * @param addresses Represents the addresses of the users
+     * @return The future completed with true if all the addresses are added, false otherwise
+     */
+    CompletableFuture<Boolean> addAddresses(final List<Address> addresses);
+
+    /**
+     * <p>
+     * Displays all the address of the user.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @return The future completed with list of addresses of the user
+     */
+    CompletableFuture<Optional<Collection<Address>>> getAddress(final long userId);
+
+    /**
+     * <p>
+     * Updates the user profile data.
+     * </p>
+     *
+     * @param userId       Represents the id of user
+     * @param userData     Represents the data to be updated
+     * @param userDataType Represents the type of data to be updated
+     * @return The future completed with true if user data is updated, false otherwise
+     */
+    CompletableFuture<Boolean> updateUserProfile(final long userId, final String userDataType, final String userData);
+
+    /**
+     * <p>
+     * Replaces the stored password hash with the new hash, if the stored hash was not changed meanwhile.
+     * </p>
+     *
+     * @param userId           Represents the id of user
+     * @param hashedPassword   Represents the stored hash of the password
+     * @param rehashedPassword Represents the new hash of the password
+     * @return The future completed with true if the password hash is replaced, false otherwise
+     */
+    CompletableFuture<Boolean> rehashPassword(final long userId, final String hashedPassword,
+                                              final String rehashedPassword);
+}
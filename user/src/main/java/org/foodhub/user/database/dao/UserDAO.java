@@ -4,6 +4,7 @@ import org.foodhub.user.model.address.Address;
 import org.foodhub.user.model.user.User;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,7 +19,7 @@ public interface UserDAO {
 
     /**
      * <p>
-     * Creates the new user profile.
+     * Creates the new user profile, the password is hashed before the profile is stored.
      * </p>
      *
      * @param user Represents the user
@@ -37,22 +38,21 @@ public interface UserDAO {
 
     /**
      * <p>
-     * Gets the user profile if the phone_number and password matches.
+     * Gets the user profile along with the stored password hash if the login data matches.
      * </p>
      *
      * @param userDataType Represents the data type of the user
      * @param userData     Represents the data of the user
-     * @param password     Represents the password of the user
      * @return The user object
      */
-    Optional<User> getUser(final String userDataType, final String userData, final String password);
+    Optional<User> getUser(final String userDataType, final String userData);
 
     /**
      * <p>
-     * Gets the user profile if the id matches.
+     * Gets the user profile without the password if the id matches.
      * </p>
      *
-     * @param userId Represents the password of the user
+     * @param userId Represents the id of the user
      * @return The user object
      */
     Optional<User> getUserById(final long userId);
@@ -67,6 +67,16 @@ public interface UserDAO {
      */
     boolean addAddress(final Address address);
 
+    /**
+     * <p>
+     * Adds the addresses of the users in a single transaction.
+     * </p>
+     *
+     * @param addresses Represents the addresses of the users
+     * @return True if all the addresses are added, false otherwise
+     */
+    boolean addAddresses(final List<Address> addresses);
+
     /**
      * <p>
      * Displays all the address of the user.
@@ -88,4 +98,16 @@ public interface UserDAO {
      * @return True if user data is updated, false otherwise
      */
     boolean updateUserProfile(final long userId, final String userDataType, final String userData);
+
+    /**
+     * <p>
+     * Replaces the stored password hash with the new hash, if the stored hash was not changed meanwhile.
+     * </p>
+     *
+     * @param userId           Represents the id of user
+     * @param hashedPassword   Represents the stored hash of the password
+     * @param rehashedPassword Represents the new hash of the password
+     * @return True if the password hash is replaced, false otherwise
+     */
+    boolean rehashPassword(final long userId, final String hashedPassword, final String rehashedPassword);
 }
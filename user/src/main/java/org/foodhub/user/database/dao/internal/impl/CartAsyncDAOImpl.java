@@ -0,0 +1,107 @@
+package org.foodhub.user.database.dao.internal.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.foodhub.database.async.DatabaseExecutor;
+import org.foodhub.user.database.dao.CartAsyncDAO;
+import org.foodhub.user.database.dao.CartDAO;
+import org.foodhub.user.model.cart.Cart;
+
+/**
+ * <p>
+ * Implements the asynchronous data base service for the user cart, the blocking calls are delegated to the
+ * data base service on the database executor.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class CartAsyncDAOImpl implements CartAsyncDAO {
+
+    private final CartDAO cartDAO;
+    private final DatabaseExecutor databaseExecutor;
+
+    private CartAsyncDAOImpl() {
+        cartDAO = CartDAOImpl.getInstance();
+        databaseExecutor = DatabaseExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates the instance of the class
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final CartAsyncDAO CART_ASYNC_DAO = new CartAsyncDAOImpl();
+    }
+
+    /**
+     * <p>
+     * Gets the instance of the asynchronous cart database implementation class.
+     * </p>
+     *
+     * @return The asynchronous cart database service implementation object
+     */
+    public static CartAsyncDAO getInstance() {
+        return InstanceHolder.CART_ASYNC_DAO;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param cart Represents the cart of the user
+     * @return The future completed with true if the food is added to the user cart, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> addFood(final Cart cart) {
+        return databaseExecutor.supply(() -> cartDAO.addFood(cart));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param carts Represents the cart items of the user
+     * @return The future completed with true if all the foods are added to the user cart, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> addFoods(final List<Cart> carts) {
+        return databaseExecutor.supply(() -> cartDAO.addFoods(carts));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id 0f the current user
+     * @return The future completed with the list of all foods from the user cart
+     */
+    @Override
+    public CompletableFuture<Optional<Collection<Cart>>> getCart(final long userId) {
+        return databaseExecutor.supply(() -> cartDAO.getCart(userId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param cartId Represents the id 0f the user cart
+     * @return The future completed with true if the food is removed,false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> removeFood(final long cartId) {
+        return databaseExecutor.supply(() -> cartDAO.removeFood(cartId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the current user
+     * @return The future completed with the true if the cart is cleared, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> clearCart(final long userId) {
+        return databaseExecutor.supply(() -> cartDAO.clearCart(userId));
+    }
+}
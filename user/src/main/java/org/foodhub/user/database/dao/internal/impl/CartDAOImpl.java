@@ -1,17 +1,23 @@
 package org.foodhub.user.database.dao.internal.impl;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Properties;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 import org.foodhub.database.connection.DataBaseConnection;
+import org.foodhub.database.querywriter.ParameterizedQuery;
 import org.foodhub.user.database.persistenceservice.CartPersistenceService;
-import org.foodhub.user.exception.cart.CartDataNotFoundException;
 import org.foodhub.user.exception.cart.CartUpdateFailureException;
-import org.foodhub.user.database.resultsetextractor.CartResultSetExtractor;
 import org.foodhub.user.database.dao.CartDAO;
 import org.foodhub.user.model.cart.Cart;
 
@@ -20,19 +26,23 @@ import org.foodhub.user.model.cart.Cart;
  * Implements the data base service for cart related operation.
  * </p>
  *
+ * <p>
+ * The carts are read and updated through the {@link CartSessionStore}, which keeps the carts of the active users in
+ * memory and writes their changes behind. The item of the cart not in memory is removed from the database directly.
+ * </p>
+ *
  * @author Muthu kumar V
  * @version 1.0
  */
 public final class CartDAOImpl implements CartDAO {
 
+    private static final Logger LOGGER = LogManager.getLogger(CartDAOImpl.class);
     private final CartPersistenceService cartPersistenceService;
-    private final CartResultSetExtractor cartResultSetExtractor;
-    private final Connection connection;
+    private final CartSessionStore cartSessionStore;
 
     private CartDAOImpl() {
         cartPersistenceService = CartPersistenceService.getInstance();
-        cartResultSetExtractor = CartResultSetExtractor.getInstance();
-        connection = DataBaseConnection.get();
+        cartSessionStore = new CartSessionStore(CartStoreConfig.fromProperties(loadProperties()));
     }
 
     /**
@@ -42,7 +52,7 @@ public final class CartDAOImpl implements CartDAO {
      */
     private static class InstanceHolder {
 
-        private static final CartDAO CART_DAO = new CartDAOImpl();
+        private static final CartDAOImpl CART_DAO = new CartDAOImpl();
     }
 
     /**
@@ -64,13 +74,18 @@ public final class CartDAOImpl implements CartDAO {
      */
     @Override
     public boolean addFood(final Cart cart) {
-        final String query = cartPersistenceService.getAddFoodQuery(cart);
+        return cartSessionStore.addFood(cart);
+    }
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            return 0 < preparedStatement.executeUpdate();
-        } catch (SQLException message) {
-            throw new CartUpdateFailureException(message.getMessage());
-        }
+    /**
+     * {@inheritDoc}
+     *
+     * @param carts Represents the cart items of the user
+     * @return True if all the foods are added to the user cart, false otherwise
+     */
+    @Override
+    public boolean addFoods(final List<Cart> carts) {
+        return cartSessionStore.addFoods(carts);
     }
 
     /**
@@ -81,13 +96,7 @@ public final class CartDAOImpl implements CartDAO {
      */
     @Override
     public Optional<Collection<Cart>> getCart(final long userId) {
-        final String query = cartPersistenceService.getCartQuery(userId);
-
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            return cartResultSetExtractor.getCart(preparedStatement.executeQuery());
-        } catch (SQLException message) {
-            throw new CartDataNotFoundException(message.getMessage());
-        }
+        return cartSessionStore.getCart(userId);
     }
 
     /**
@@ -98,9 +107,17 @@ public final class CartDAOImpl implements CartDAO {
      */
     @Override
     public boolean removeFood(final long cartId) {
-        final String query = cartPersistenceService.getRemoveFoodQuery(cartId);
+        final Optional<Boolean> isRemoved = cartSessionStore.removeFood(cartId);
+
+        if (isRemoved.isPresent()) {
+            return isRemoved.get();
+        }
+        final ParameterizedQuery query = cartPersistenceService.getRemoveFoodQuery(cartId);
+
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             return 0 < preparedStatement.executeUpdate();
         } catch (SQLException message) {
             throw new CartUpdateFailureException(message.getMessage());
@@ -115,12 +132,40 @@ public final class CartDAOImpl implements CartDAO {
      */
     @Override
     public boolean clearCart(final long userId) {
-        final String query = cartPersistenceService.getClearCartQuery(userId);
+        return cartSessionStore.clearCart(userId);
+    }
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            return 0 < preparedStatement.executeUpdate();
-        } catch (SQLException message) {
-            throw new CartUpdateFailureException(message.getMessage());
+    /**
+     * <p>
+     * Gets the cart session store of the cart database service.
+     * </p>
+     *
+     * @return The cart session store
+     */
+    public static CartSessionStore getCartSessionStore() {
+        return InstanceHolder.CART_DAO.cartSessionStore;
+    }
+
+    /**
+     * <p>
+     * Loads the cart properties, the default properties are used if the file can't be loaded.
+     * </p>
+     *
+     * @return The cart properties
+     */
+    private static Properties loadProperties() {
+        final Properties properties = new Properties();
+
+        try (final InputStream inputStream = CartDAOImpl.class.getClassLoader()
+                .getResourceAsStream("cart.properties")) {
+
+            if (null != inputStream) {
+                properties.load(inputStream);
+            }
+        } catch (IOException message) {
+            LOGGER.error(message.getMessage());
         }
+
+        return properties;
     }
 }
\ No newline at end of file
@@ -0,0 +1,350 @@
+package org.foodhub.user.database.dao.internal.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.foodhub.restaurant.model.food.Food;
+import org.foodhub.restaurant.model.restaurant.Restaurant;
+import org.foodhub.user.model.cart.Cart;
+
+/**
+ * <p>
+ * Holds the cart items of the user in memory, the columns of the items are kept in the parallel arrays instead of
+ * an object per item. The changes not yet written to the database are kept along with the items, the item added and
+ * removed before the changes are written is never written.
+ * </p>
+ *
+ * <p>
+ * The session is guarded by its own monitor, the changes are written under the flush lock, so the changes of the
+ * session are written by one writer at a time and in the order they were made.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+final class CartSession {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private final long userId;
+    private final ReentrantLock flushLock;
+    private final Map<Long, Cart> insertedItems;
+    private final Set<Long> deletedItems;
+    private long[] cartIds;
+    private long[] foodIds;
+    private long[] restaurantIds;
+    private int[] quantities;
+    private float[] amounts;
+    private String[] foodNames;
+    private String[] restaurantNames;
+    private int size;
+    private boolean isCleared;
+    private boolean isEvicted;
+    private int failedFlushes;
+    private long retryTime;
+    private long lastAccess;
+
+    CartSession(final long userId, final Collection<Cart> cartItems, final long now) {
+        final int capacity = Math.max(INITIAL_CAPACITY, cartItems.size());
+
+        this.userId = userId;
+        flushLock = new ReentrantLock();
+        insertedItems = new LinkedHashMap<>();
+        deletedItems = new LinkedHashSet<>();
+        cartIds = new long[capacity];
+        foodIds = new long[capacity];
+        restaurantIds = new long[capacity];
+        quantities = new int[capacity];
+        amounts = new float[capacity];
+        foodNames = new String[capacity];
+        restaurantNames = new String[capacity];
+        lastAccess = now;
+
+        for (final Cart cart : cartItems) {
+            append(cart);
+        }
+    }
+
+    /**
+     * <p>
+     * Adds the cart item having its reserved id, the item is inserted on the next flush.
+     * </p>
+     *
+     * @param cart Represents the cart item along with its id
+     */
+    void add(final Cart cart) {
+        append(cart);
+        insertedItems.put(cart.getId(), cart);
+    }
+
+    /**
+     * <p>
+     * Removes the cart item, the item not yet inserted is dropped from the changes instead of being deleted.
+     * </p>
+     *
+     * @param cartId Represents the id of the cart item
+     * @return True if the item is removed, false if the cart has no such item
+     */
+    boolean remove(final long cartId) {
+        if (!discard(cartId)) {
+            return false;
+        }
+
+        if (null == insertedItems.remove(cartId)) {
+            deletedItems.add(cartId);
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Removes the cart item without recording the change, the item is already out of the cart in the database.
+     * </p>
+     *
+     * @param cartId Represents the id of the cart item
+     * @return True if the item is removed, false if the cart has no such item
+     */
+    boolean discard(final long cartId) {
+        for (int index = 0; index < size; index++) {
+
+            if (cartIds[index] == cartId) {
+                final int moved = size - index - 1;
+
+                System.arraycopy(cartIds, index + 1, cartIds, index, moved);
+                System.arraycopy(foodIds, index + 1, foodIds, index, moved);
+                System.arraycopy(restaurantIds, index + 1, restaurantIds, index, moved);
+                System.arraycopy(quantities, index + 1, quantities, index, moved);
+                System.arraycopy(amounts, index + 1, amounts, index, moved);
+                System.arraycopy(foodNames, index + 1, foodNames, index, moved);
+                System.arraycopy(restaurantNames, index + 1, restaurantNames, index, moved);
+                size--;
+                foodNames[size] = null;
+                restaurantNames[size] = null;
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Removes all the cart items, the cart is cleared in the database on the next flush.
+     * </p>
+     *
+     * @return The ids of the removed items, empty if the cart is empty
+     */
+    long[] clear() {
+        final long[] removedIds = Arrays.copyOf(cartIds, size);
+
+        if (0 == size) {
+            return removedIds;
+        }
+        Arrays.fill(foodNames, 0, size, null);
+        Arrays.fill(restaurantNames, 0, size, null);
+        size = 0;
+        isCleared = true;
+        insertedItems.clear();
+        deletedItems.clear();
+
+        return removedIds;
+    }
+
+    /**
+     * <p>
+     * Gets the cart items of the user.
+     * </p>
+     *
+     * @return The cart items, empty if the cart is empty
+     */
+    Optional<Collection<Cart>> getCartItems() {
+        if (0 == size) {
+            return Optional.empty();
+        }
+        final List<Cart> cartItems = new ArrayList<>(size);
+
+        for (int index = 0; index < size; index++) {
+            final Food food = new Food.FoodBuilder().setId(foodIds[index]).setName(foodNames[index]).build();
+            final Restaurant restaurant = new Restaurant.RestaurantBuilder().setId(restaurantIds[index])
+                    .setName(restaurantNames[index]).build();
+
+            cartItems.add(new Cart.CartBuilder().setId(cartIds[index]).setUserId(userId).setFood(food)
+                    .setRestaurant(restaurant).setQuantity(quantities[index]).setAmount(amounts[index]).build());
+        }
+
+        return Optional.of(Collections.unmodifiableCollection(cartItems));
+    }
+
+    /**
+     * <p>
+     * Gets the ids of the cart items.
+     * </p>
+     *
+     * @return The ids of the cart items
+     */
+    long[] getCartIds() {
+        return Arrays.copyOf(cartIds, size);
+    }
+
+    /**
+     * <p>
+     * Takes the changes not yet written, the taken changes have to be restored if they can't be written.
+     * </p>
+     *
+     * @return The changes of the cart, null if the cart has no changes
+     */
+    Changes drainChanges() {
+        if (!hasChanges()) {
+            return null;
+        }
+        final Changes changes = new Changes(userId, isCleared, new ArrayList<>(insertedItems.values()),
+                new ArrayList<>(deletedItems));
+
+        isCleared = false;
+        insertedItems.clear();
+        deletedItems.clear();
+
+        return changes;
+    }
+
+    /**
+     * <p>
+     * Puts back the changes that can't be written ahead of the changes made since they were taken. The later clear
+     * of the cart supersedes them, and the item inserted by them but removed since is dropped from both.
+     * </p>
+     *
+     * @param changes Represents the changes taken from the session
+     */
+    void restoreChanges(final Changes changes) {
+        failedFlushes++;
+
+        if (isCleared) {
+            return;
+        }
+        final Map<Long, Cart> restoredItems = new LinkedHashMap<>();
+
+        for (final Cart cart : changes.insertedItems()) {
+
+            if (!deletedItems.remove(cart.getId())) {
+                restoredItems.put(cart.getId(), cart);
+            }
+        }
+        restoredItems.putAll(insertedItems);
+        insertedItems.clear();
+        insertedItems.putAll(restoredItems);
+        deletedItems.addAll(changes.deletedItems());
+        isCleared = changes.isCleared();
+    }
+
+    /**
+     * <p>
+     * Appends the cart item to the columns, the columns are grown when they are full.
+     * </p>
+     *
+     * @param cart Represents the cart item
+     */
+    private void append(final Cart cart) {
+        if (size == cartIds.length) {
+            final int capacity = size << 1;
+
+            cartIds = Arrays.copyOf(cartIds, capacity);
+            foodIds = Arrays.copyOf(foodIds, capacity);
+            restaurantIds = Arrays.copyOf(restaurantIds, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            foodNames = Arrays.copyOf(foodNames, capacity);
+            restaurantNames = Arrays.copyOf(restaurantNames, capacity);
+        }
+        cartIds[size] = cart.getId();
+        foodIds[size] = cart.getFood().getId();
+        restaurantIds[size] = cart.getRestaurant().getId();
+        quantities[size] = null == cart.getQuantity() ? 0 : cart.getQuantity();
+        amounts[size] = null == cart.getAmount() ? 0 : cart.getAmount();
+        foodNames[size] = cart.getFood().getName();
+        restaurantNames[size] = cart.getRestaurant().getName();
+        size++;
+    }
+
+    boolean hasChanges() {
+        return isCleared || !insertedItems.isEmpty() || !deletedItems.isEmpty();
+    }
+
+    void flushed() {
+        failedFlushes = 0;
+    }
+
+    int getFailedFlushes() {
+        return failedFlushes;
+    }
+
+    /**
+     * <p>
+     * Holds back the flush of the changes that can't be written until the retry time.
+     * </p>
+     *
+     * @param retryTime Represents the time of the next flush, in nanoseconds
+     */
+    void backOff(final long retryTime) {
+        this.retryTime = retryTime;
+    }
+
+    /**
+     * <p>
+     * Checks whether the flush of the failing changes is held back at the time.
+     * </p>
+     *
+     * @param now Represents the current time, in nanoseconds
+     * @return True if the changes failed to be written and the retry time is not reached, false otherwise
+     */
+    boolean isBackingOff(final long now) {
+        return 0 < failedFlushes && now - retryTime < 0;
+    }
+
+    long getUserId() {
+        return userId;
+    }
+
+    ReentrantLock getFlushLock() {
+        return flushLock;
+    }
+
+    boolean isEvicted() {
+        return isEvicted;
+    }
+
+    void evict() {
+        isEvicted = true;
+    }
+
+    long getLastAccess() {
+        return lastAccess;
+    }
+
+    void touch(final long now) {
+        lastAccess = now;
+    }
+
+    /**
+     * <p>
+     * Holds the changes of the cart taken to be written, the cart is cleared before the items are deleted and
+     * inserted.
+     * </p>
+     *
+     * @param userId        Represents the id of the user
+     * @param isCleared     Represents whether the cart is cleared
+     * @param insertedItems Represents the cart items to be inserted
+     * @param deletedItems  Represents the ids of the cart items to be deleted
+     */
+    record Changes(long userId, boolean isCleared, Collection<Cart> insertedItems, Collection<Long> deletedItems) {
+    }
+}
@@ -0,0 +1,963 @@
+package org.foodhub.user.database.dao.internal.impl;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.foodhub.database.connection.DataBaseConnection;
+import org.foodhub.database.querybuilder.Query;
+import org.foodhub.database.querytemplate.QueryTemplate;
+import org.foodhub.database.querywriter.ParameterizedQuery;
+import org.foodhub.restaurant.model.food.Food;
+import org.foodhub.restaurant.model.restaurant.Restaurant;
+import org.foodhub.user.database.persistenceservice.CartPersistenceService;
+import org.foodhub.user.database.resultsetextractor.CartResultSetExtractor;
+import org.foodhub.user.exception.cart.CartDataNotFoundException;
+import org.foodhub.user.exception.cart.CartUpdateFailureException;
+import org.foodhub.user.model.cart.Cart;
+
+/**
+ * <p>
+ * Keeps the carts of the active users in memory, so the cart is read and updated without reaching the database. The
+ * cart of the user is loaded from the database on its first access, and the changes of the carts are written behind
+ * by the flusher, which writes the changes of the dirty carts together in a single transaction.
+ * </p>
+ *
+ * <p>
+ * The foods are checked against the menucards before they are added, so the item acknowledged in memory names the
+ * food served by its restaurant, and the names of the food and the restaurant are taken from the database rather
+ * than the client. The ids of the cart items are reserved from the cart id sequence in blocks, so the item added in
+ * memory has its id before it is inserted. The batch rejected by the database is written again cart by cart, the
+ * changes of the failing cart are kept and retried after a growing delay, they are never dropped since they are
+ * already acknowledged. After the repeated failures the further changes of the cart are rejected until its changes
+ * are written. The flusher starts with the first cart loaded, so the carts without the pending changes are evicted
+ * once they are idle or the store is full even if they are only read. Once the store is closed the flusher is not
+ * started again, and the later changes are written at once.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class CartSessionStore {
+
+    private static final Logger LOGGER = LogManager.getLogger(CartSessionStore.class);
+    private static final int MAXIMUM_FAILED_FLUSHES = 3;
+    private static final long EVICTION_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAXIMUM_BACK_OFF = TimeUnit.MINUTES.toNanos(1);
+    private final CartStoreConfig config;
+    private final CartPersistenceService cartPersistenceService;
+    private final CartResultSetExtractor cartResultSetExtractor;
+    private final Map<Long, CartSession> sessions;
+    private final Map<Long, Long> cartOwners;
+    private final Set<Long> dirtyUsers;
+    private final Deque<Long> reservedIds;
+    private final AtomicLong evictionVersion;
+    private final LongAdder hits;
+    private final LongAdder loads;
+    private final LongAdder flushes;
+    private final LongAdder failedFlushes;
+    private final LongAdder evictions;
+    private volatile ScheduledExecutorService flusher;
+    private volatile boolean closed;
+    private long lastEviction;
+
+    CartSessionStore(final CartStoreConfig config) {
+        this.config = config;
+        cartPersistenceService = CartPersistenceService.getInstance();
+        cartResultSetExtractor = CartResultSetExtractor.getInstance();
+        sessions = new ConcurrentHashMap<>();
+        cartOwners = new ConcurrentHashMap<>();
+        dirtyUsers = ConcurrentHashMap.newKeySet();
+        reservedIds = new ArrayDeque<>();
+        evictionVersion = new AtomicLong();
+        hits = new LongAdder();
+        loads = new LongAdder();
+        flushes = new LongAdder();
+        failedFlushes = new LongAdder();
+        evictions = new LongAdder();
+        lastEviction = System.nanoTime();
+    }
+
+    /**
+     * <p>
+     * Adds the food to the cart of the user, the item is inserted by the next flush.
+     * </p>
+     *
+     * @param cart Represents the cart item of the user
+     * @return True if the food is added to the user cart, false if the item has no user, or the food is not served
+     * by the restaurant
+     */
+    public boolean addFood(final Cart cart) {
+        return addFoods(List.of(cart));
+    }
+
+    /**
+     * <p>
+     * Adds the foods to the carts of their users, the items are inserted by the next flush.
+     * </p>
+     *
+     * @param carts Represents the cart items of the users
+     * @return True if all the foods are added, false if any item has no user, or its food is not served by the
+     * restaurant
+     */
+    public boolean addFoods(final List<Cart> carts) {
+        for (final Cart cart : carts) {
+
+            if (null == cart.getUserId() || null == cart.getFood() || null == cart.getFood().getId()
+                    || null == cart.getRestaurant() || null == cart.getRestaurant().getId()) {
+                return false;
+            }
+        }
+        final Map<Long, Cart> menuItems = loadMenuItems(carts);
+
+        for (final Cart cart : carts) {
+            final Cart menuItem = menuItems.get(cart.getFood().getId());
+
+            if (null == menuItem || !menuItem.getRestaurant().getId().equals(cart.getRestaurant().getId())) {
+                return false;
+            }
+        }
+        final List<Long> cartIds = nextCartIds(carts.size());
+        final Map<Long, List<Cart>> userCarts = new LinkedHashMap<>();
+
+        for (int index = 0; index < carts.size(); index++) {
+            final Cart cart = carts.get(index);
+            final Cart cartItem = copy(cart, cartIds.get(index), menuItems.get(cart.getFood().getId()));
+
+            userCarts.computeIfAbsent(cartItem.getUserId(), userId -> new ArrayList<>()).add(cartItem);
+        }
+
+        for (final Map.Entry<Long, List<Cart>> userCart : userCarts.entrySet()) {
+            mutate(userCart.getKey(), session -> {
+                for (final Cart cartItem : userCart.getValue()) {
+                    session.add(cartItem);
+                    cartOwners.put(cartItem.getId(), userCart.getKey());
+                }
+
+                return true;
+            });
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Gets the cart of the user, the cart is loaded from the database if it is not in memory.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @return The cart items of the user, empty if the cart is empty
+     */
+    public Optional<Collection<Cart>> getCart(final long userId) {
+        final CartSession session = getSession(userId);
+
+        synchronized (session) {
+            session.touch(System.nanoTime());
+
+            return session.getCartItems();
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the item from the cart in memory, the item is deleted by the next flush.
+     * </p>
+     *
+     * @param cartId Represents the id of the cart item
+     * @return True if the item is removed, false if the cart has no such item, or empty if the cart of the item is not
+     * in memory
+     */
+    public Optional<Boolean> removeFood(final long cartId) {
+        final Long userId = cartOwners.get(cartId);
+
+        if (null == userId) {
+            return Optional.empty();
+        }
+
+        return Optional.of(mutate(userId, session -> {
+            if (session.remove(cartId)) {
+                cartOwners.remove(cartId);
+
+                return true;
+            }
+
+            return false;
+        }));
+    }
+
+    /**
+     * <p>
+     * Clears the cart of the user, the cart is cleared in the database by the next flush.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @return True if the cart is cleared, false if the cart is already empty
+     */
+    public boolean clearCart(final long userId) {
+        return mutate(userId, session -> {
+            final long[] cartIds = session.clear();
+
+            for (final long cartId : cartIds) {
+                cartOwners.remove(cartId);
+            }
+
+            return 0 < cartIds.length;
+        });
+    }
+
+    /**
+     * <p>
+     * Writes the pending changes of the carts of the users, so the database holds the carts before they are ordered.
+     * </p>
+     *
+     * @param userIds Represents the ids of the users
+     */
+    public void flush(final Collection<Long> userIds) {
+        for (final Long userId : userIds) {
+            final CartSession session = sessions.get(userId);
+
+            if (null == session) {
+                continue;
+            }
+            session.getFlushLock().lock();
+
+            try {
+                final CartSession.Changes changes;
+
+                synchronized (session) {
+                    changes = session.drainChanges();
+
+                    if (null == changes) {
+                        session.flushed();
+                    }
+                }
+
+                if (null == changes) {
+                    continue;
+                }
+
+                try {
+                    writeChanges(List.of(changes));
+                    flushed(session);
+                } catch (CartUpdateFailureException exception) {
+                    failed(session, changes);
+                    throw exception;
+                }
+            } finally {
+                session.getFlushLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the ordered items from the cart in memory, the items are already out of the cart in the database.
+     * </p>
+     *
+     * @param userId  Represents the id of the user
+     * @param cartIds Represents the ids of the ordered cart items
+     */
+    public void removeOrderedItems(final long userId, final Collection<Long> cartIds) {
+        final CartSession session = sessions.get(userId);
+
+        if (null == session) {
+            return;
+        }
+
+        synchronized (session) {
+            for (final Long cartId : cartIds) {
+
+                if (session.discard(cartId)) {
+                    cartOwners.remove(cartId);
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Stops the flusher for good and writes the pending changes of all the carts, the changes made after the store
+     * is closed are written at once by their callers.
+     * </p>
+     */
+    public void close() {
+        final ScheduledExecutorService executorService;
+
+        synchronized (this) {
+            closed = true;
+            executorService = flusher;
+            flusher = null;
+        }
+
+        if (null != executorService) {
+            executorService.shutdown();
+
+            try {
+                executorService.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        int flushedSessions = 1;
+
+        while (!dirtyUsers.isEmpty() && 0 < flushedSessions) {
+            flushedSessions = flushDirtySessions(true);
+        }
+
+        if (!dirtyUsers.isEmpty()) {
+            LOGGER.error(String.join(" ", "Changes of", String.valueOf(dirtyUsers.size()),
+                    "carts can't be written on close, they are written along with the next change of the cart"));
+        }
+    }
+
+    /**
+     * <p>
+     * Applies the change to the cart of the user under the monitor of the cart, the change is applied again on the
+     * reloaded cart if the cart is evicted meanwhile. The change made after the store is closed is written at once.
+     * The cart failing to be written repeatedly is written first, and the change is rejected if it still fails.
+     * </p>
+     *
+     * @param userId   Represents the id of the user
+     * @param mutation Represents the change of the cart
+     * @param <T>      The type of the result of the change
+     * @return The result of the change
+     * @throws CartUpdateFailureException If the pending changes of the failing cart can't be written
+     */
+    private <T> T mutate(final long userId, final Function<CartSession, T> mutation) {
+        while (true) {
+            final CartSession session = getSession(userId);
+            final boolean isRejected;
+            T result = null;
+
+            synchronized (session) {
+
+                if (session.isEvicted()) {
+                    continue;
+                }
+                isRejected = MAXIMUM_FAILED_FLUSHES <= session.getFailedFlushes();
+
+                if (!isRejected) {
+                    session.touch(System.nanoTime());
+                    result = mutation.apply(session);
+
+                    if (session.hasChanges()) {
+                        dirtyUsers.add(userId);
+                        startFlusher();
+                    }
+                }
+            }
+
+            if (isRejected) {
+                flush(List.of(userId));
+                continue;
+            }
+
+            if (closed) {
+                flush(List.of(userId));
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the cart of the user from memory, the cart missing in memory is loaded from the database. The loaded cart
+     * is discarded and loaded again if any cart is evicted during the load, so the cart read before its changes were
+     * written never replaces the evicted cart. The flusher is started with the loaded cart, so the carts only read are
+     * evicted as well.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @return The cart of the user
+     */
+    private CartSession getSession(final long userId) {
+        final CartSession session = sessions.get(userId);
+
+        if (null != session) {
+            hits.increment();
+
+            return session;
+        }
+
+        while (true) {
+            final long version = evictionVersion.get();
+            final Collection<Cart> cartItems = loadCart(userId);
+
+            loads.increment();
+            final CartSession loadedSession = sessions.compute(userId, (id, existingSession) -> {
+                if (null != existingSession) {
+                    return existingSession;
+                }
+
+                if (version != evictionVersion.get()) {
+                    return null;
+                }
+
+                for (final Cart cart : cartItems) {
+                    cartOwners.put(cart.getId(), userId);
+                }
+
+                return new CartSession(userId, cartItems, System.nanoTime());
+            });
+
+            if (null != loadedSession) {
+                startFlusher();
+
+                return loadedSession;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Loads the cart items of the user from the database.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @return The cart items of the user
+     */
+    private Collection<Cart> loadCart(final long userId) {
+        final QueryTemplate<Long> queryTemplate = cartPersistenceService.getCartQuery();
+
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(queryTemplate.getQuery())) {
+            queryTemplate.bind(preparedStatement, userId);
+
+            return cartResultSetExtractor.getCart(preparedStatement.executeQuery()).orElse(List.of());
+        } catch (SQLException message) {
+            throw new CartDataNotFoundException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Loads the foods of the cart items along with the restaurants serving them.
+     * </p>
+     *
+     * @param carts Represents the cart items
+     * @return The cart items holding the food and its restaurant, mapped by the id of the food
+     */
+    private Map<Long, Cart> loadMenuItems(final List<Cart> carts) {
+        final Set<Long> distinctFoodIds = new LinkedHashSet<>();
+
+        for (final Cart cart : carts) {
+            distinctFoodIds.add(cart.getFood().getId());
+        }
+        final List<Long> foodIds = new ArrayList<>(distinctFoodIds);
+        final Map<Long, Cart> menuItems = new HashMap<>();
+
+        try (final Connection connection = DataBaseConnection.get()) {
+
+            for (int index = 0; index < foodIds.size(); index += Query.MAXIMUM_INSERT_ROWS) {
+                final ParameterizedQuery query = cartPersistenceService.getMenuItemsQuery(foodIds.subList(index,
+                        Math.min(index + Query.MAXIMUM_INSERT_ROWS, foodIds.size())));
+
+                try (final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+                    query.bind(preparedStatement);
+                    menuItems.putAll(cartResultSetExtractor.getMenuItems(preparedStatement.executeQuery()));
+                }
+            }
+
+            return menuItems;
+        } catch (SQLException message) {
+            throw new CartUpdateFailureException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Takes the ids of the cart items from the reserved block, a new block is reserved once the block is used up.
+     * </p>
+     *
+     * @param count Represents the count of the ids
+     * @return The ids of the cart items
+     */
+    private List<Long> nextCartIds(final int count) {
+        final List<Long> cartIds = new ArrayList<>(count);
+
+        synchronized (reservedIds) {
+
+            while (cartIds.size() < count) {
+
+                if (reservedIds.isEmpty()) {
+                    reservedIds.addAll(reserveCartIds(Math.max(config.getIdBlockSize(), count - cartIds.size())));
+                }
+                cartIds.add(reservedIds.poll());
+            }
+        }
+
+        return cartIds;
+    }
+
+    /**
+     * <p>
+     * Reserves the block of ids from the cart id sequence.
+     * </p>
+     *
+     * @param count Represents the count of the ids
+     * @return The reserved ids
+     */
+    private List<Long> reserveCartIds(final int count) {
+        final QueryTemplate<Integer> queryTemplate = cartPersistenceService.reserveCartIds();
+
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(queryTemplate.getQuery())) {
+            queryTemplate.bind(preparedStatement, count);
+
+            return cartResultSetExtractor.getCartIds(preparedStatement.executeQuery());
+        } catch (SQLException message) {
+            throw new CartUpdateFailureException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Writes the changes of the dirty carts, the cart being written by the other writer or held back after its failed
+     * flushes is left for the next flush.
+     * </p>
+     *
+     * @param isBackOffIgnored Represents whether the carts held back are written as well
+     * @return The count of the carts written
+     */
+    private int flushDirtySessions(final boolean isBackOffIgnored) {
+        final long now = System.nanoTime();
+        final List<CartSession> batch = new ArrayList<>();
+        final List<CartSession.Changes> batchChanges = new ArrayList<>();
+
+        for (final Long userId : dirtyUsers) {
+
+            if (batch.size() >= config.getMaximumBatchSize()) {
+                break;
+            }
+            final CartSession session = sessions.get(userId);
+
+            if (null == session) {
+                dirtyUsers.remove(userId);
+                continue;
+            }
+
+            if (!session.getFlushLock().tryLock()) {
+                continue;
+            }
+            final CartSession.Changes changes;
+
+            synchronized (session) {
+
+                if (!isBackOffIgnored && session.isBackingOff(now)) {
+                    changes = null;
+                } else {
+                    dirtyUsers.remove(userId);
+                    changes = session.drainChanges();
+                }
+            }
+
+            if (null == changes) {
+                session.getFlushLock().unlock();
+                continue;
+            }
+            batch.add(session);
+            batchChanges.add(changes);
+        }
+
+        try {
+            return batch.isEmpty() ? 0 : writeBatch(batch, batchChanges);
+        } finally {
+            batch.forEach(session -> session.getFlushLock().unlock());
+        }
+    }
+
+    /**
+     * <p>
+     * Writes the changes of the batch in a single transaction, the batch rejected by the database is written again
+     * cart by cart, so only the failing carts are failed.
+     * </p>
+     *
+     * @param batch        Represents the carts of the batch
+     * @param batchChanges Represents the changes of the carts, in the order of the carts
+     * @return The count of the carts written
+     */
+    private int writeBatch(final List<CartSession> batch, final List<CartSession.Changes> batchChanges) {
+        try {
+            writeChanges(batchChanges);
+            batch.forEach(this::flushed);
+
+            return batch.size();
+        } catch (CartUpdateFailureException exception) {
+
+            if (1 == batch.size()) {
+                failed(batch.get(0), batchChanges.get(0));
+
+                return 0;
+            }
+            int writtenSessions = 0;
+
+            for (int index = 0; index < batch.size(); index++) {
+                try {
+                    writeChanges(List.of(batchChanges.get(index)));
+                    flushed(batch.get(index));
+                    writtenSessions++;
+                } catch (CartUpdateFailureException cartException) {
+                    failed(batch.get(index), batchChanges.get(index));
+                }
+            }
+
+            return writtenSessions;
+        }
+    }
+
+    /**
+     * <p>
+     * Writes the changes in a single transaction, the carts are cleared first, then the removed items are deleted and
+     * the added items are inserted.
+     * </p>
+     *
+     * @param batchChanges Represents the changes of the carts
+     */
+    private void writeChanges(final List<CartSession.Changes> batchChanges) {
+        final Collection<Long> clearedUserIds = new ArrayList<>();
+        final Collection<Long> deletedItems = new ArrayList<>();
+        final Collection<Cart> insertedItems = new ArrayList<>();
+
+        for (final CartSession.Changes changes : batchChanges) {
+
+            if (changes.isCleared()) {
+                clearedUserIds.add(changes.userId());
+            }
+            deletedItems.addAll(changes.deletedItems());
+            insertedItems.addAll(changes.insertedItems());
+        }
+
+        try (final Connection connection = DataBaseConnection.get()) {
+            connection.setAutoCommit(false);
+
+            try {
+                executeBatch(connection, cartPersistenceService.deleteCartItems(), clearedUserIds);
+                executeBatch(connection, cartPersistenceService.deleteCartItem(), deletedItems);
+                executeBatch(connection, cartPersistenceService.insertCartItem(), insertedItems);
+                connection.commit();
+                flushes.increment();
+            } catch (SQLException message) {
+                connection.rollback();
+                throw new CartUpdateFailureException(message.getMessage());
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException message) {
+            throw new CartUpdateFailureException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Executes the query template for each of the arguments in a single batch.
+     * </p>
+     *
+     * @param connection    Represents the connection of the flushing transaction
+     * @param queryTemplate Represents the query template
+     * @param arguments     Represents the arguments of the batch
+     * @param <T>           The type of the arguments
+     * @throws SQLException If the batch can't be executed
+     */
+    private static <T> void executeBatch(final Connection connection, final QueryTemplate<T> queryTemplate,
+                                         final Collection<T> arguments) throws SQLException {
+        if (arguments.isEmpty()) {
+            return;
+        }
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(queryTemplate.getQuery())) {
+
+            for (final T argument : arguments) {
+                queryTemplate.bind(preparedStatement, argument);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+
+    private void flushed(final CartSession session) {
+        synchronized (session) {
+            session.flushed();
+        }
+    }
+
+    /**
+     * <p>
+     * Puts back the changes that can't be written, so they are retried by the flusher once the delay doubling with
+     * each failure is over. The changes are kept however often they fail, the cart stays in memory until they are
+     * written.
+     * </p>
+     *
+     * @param session Represents the cart
+     * @param changes Represents the changes of the cart that can't be written
+     */
+    private void failed(final CartSession session, final CartSession.Changes changes) {
+        final int sessionFailures;
+
+        failedFlushes.increment();
+
+        synchronized (session) {
+            session.restoreChanges(changes);
+            sessionFailures = session.getFailedFlushes();
+            session.backOff(System.nanoTime() + getBackOff(sessionFailures));
+            dirtyUsers.add(session.getUserId());
+        }
+
+        if (MAXIMUM_FAILED_FLUSHES == sessionFailures) {
+            LOGGER.error(String.join(" ", "Changes of the cart of the user", String.valueOf(session.getUserId()),
+                    "are rejected after", String.valueOf(MAXIMUM_FAILED_FLUSHES),
+                    "failed flushes until the cart is written"));
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the delay before the failing changes are written again, the delay doubles with each failure from the
+     * flush interval up to a minute.
+     * </p>
+     *
+     * @param sessionFailures Represents the count of the failed flushes of the cart
+     * @return The delay, in nanoseconds
+     */
+    private long getBackOff(final int sessionFailures) {
+        final long flushInterval = TimeUnit.MILLISECONDS.toNanos(config.getFlushIntervalMillis());
+
+        return Math.min(MAXIMUM_BACK_OFF, flushInterval << Math.min(sessionFailures - 1, 16));
+    }
+
+    /**
+     * <p>
+     * Evicts the carts idle longer than the idle time, and the further carts while the store holds more carts than
+     * its maximum. The carts are evicted in no particular order.
+     * </p>
+     */
+    private void evictSessions() {
+        final long now = System.nanoTime();
+
+        if (now - lastEviction < EVICTION_INTERVAL) {
+            return;
+        }
+        lastEviction = now;
+        final long idleTime = TimeUnit.MINUTES.toNanos(config.getIdleMinutes());
+        int excessSessions = sessions.size() - config.getMaximumSessions();
+
+        for (final CartSession session : sessions.values()) {
+            final boolean isIdle;
+
+            synchronized (session) {
+                isIdle = now - session.getLastAccess() >= idleTime;
+            }
+
+            if ((isIdle || 0 < excessSessions) && evict(session)) {
+                excessSessions--;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Evicts the cart from memory, the cart having pending changes or being written is never evicted.
+     * </p>
+     *
+     * @param session Represents the cart
+     * @return True if the cart is evicted, false otherwise
+     */
+    private boolean evict(final CartSession session) {
+        final long userId = session.getUserId();
+        final boolean[] isEvicted = new boolean[1];
+
+        sessions.computeIfPresent(userId, (id, existingSession) -> {
+            if (existingSession != session) {
+                return existingSession;
+            }
+
+            synchronized (session) {
+
+                if (session.hasChanges() || session.getFlushLock().isLocked()) {
+                    return session;
+                }
+                session.evict();
+
+                for (final long cartId : session.getCartIds()) {
+                    cartOwners.remove(cartId);
+                }
+            }
+            evictionVersion.incrementAndGet();
+            isEvicted[0] = true;
+
+            return null;
+        });
+
+        if (isEvicted[0]) {
+            dirtyUsers.remove(userId);
+            evictions.increment();
+        }
+
+        return isEvicted[0];
+    }
+
+    /**
+     * <p>
+     * Starts the flusher once the first cart is loaded, the flusher writes the changes and evicts the idle carts after
+     * every flush interval. The flusher is never started once the store is closed.
+     * </p>
+     */
+    private void startFlusher() {
+        if (closed || null != flusher) {
+            return;
+        }
+
+        synchronized (this) {
+
+            if (!closed && null == flusher) {
+                final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            final Thread thread = new Thread(runnable, "cart-flusher");
+
+                            thread.setDaemon(true);
+
+                            return thread;
+                        });
+
+                executorService.scheduleWithFixedDelay(this::runFlusher, config.getFlushIntervalMillis(),
+                        config.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+                flusher = executorService;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Runs a single flush of the flusher, the failure is logged so the flusher keeps running.
+     * </p>
+     */
+    private void runFlusher() {
+        try {
+            flushDirtySessions(false);
+            evictSessions();
+        } catch (RuntimeException exception) {
+            LOGGER.error(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Copies the cart item along with its reserved id, the food and the restaurant are taken from the menu item.
+     * </p>
+     *
+     * @param cart     Represents the cart item
+     * @param cartId   Represents the reserved id of the cart item
+     * @param menuItem Represents the food and its restaurant loaded from the database
+     * @return The copy of the cart item
+     */
+    private static Cart copy(final Cart cart, final long cartId, final Cart menuItem) {
+        final Food food = new Food.FoodBuilder().setId(menuItem.getFood().getId())
+                .setName(menuItem.getFood().getName()).build();
+        final Restaurant restaurant = new Restaurant.RestaurantBuilder().setId(menuItem.getRestaurant().getId())
+                .setName(menuItem.getRestaurant().getName()).build();
+
+        return new Cart.CartBuilder().setId(cartId).setUserId(cart.getUserId()).setFood(food)
+                .setRestaurant(restaurant).setQuantity(cart.getQuantity()).setAmount(cart.getAmount()).build();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the cart reads and updates served by the session in memory.
+     * </p>
+     *
+     * @return The count of the session hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the carts loaded from the database into the sessions.
+     * </p>
+     *
+     * @return The count of the loads
+     */
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the sessions whose changes are written to the database.
+     * </p>
+     *
+     * @return The count of the flushes
+     */
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the flushes failed by the database.
+     * </p>
+     *
+     * @return The count of the failed flushes
+     */
+    public long getFailedFlushes() {
+        return failedFlushes.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the sessions evicted once idle or beyond the maximum sessions.
+     * </p>
+     *
+     * @return The count of the evictions
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the cart sessions held in memory.
+     * </p>
+     *
+     * @return The count of the sessions
+     */
+    public int getSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the sessions having changes not written to the database yet.
+     * </p>
+     *
+     * @return The count of the dirty sessions
+     */
+    public int getDirtySessions() {
+        return dirtyUsers.size();
+    }
+}
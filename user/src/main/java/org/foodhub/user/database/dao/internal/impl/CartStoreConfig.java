@@ -0,0 +1,127 @@
+package org.foodhub.user.database.dao.internal.impl;
+
+import java.util.Properties;
+
+/**
+ * <p>
+ * Holds the properties of the cart session store.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class CartStoreConfig {
+
+    private static final String DEFAULT_FLUSH_INTERVAL_MILLIS = "50";
+    private static final String DEFAULT_MAXIMUM_BATCH_SIZE = "256";
+    private static final String DEFAULT_MAXIMUM_SESSIONS = "50000";
+    private static final String DEFAULT_IDLE_MINUTES = "30";
+    private static final String DEFAULT_ID_BLOCK_SIZE = "100";
+    private long flushIntervalMillis;
+    private int maximumBatchSize;
+    private int maximumSessions;
+    private long idleMinutes;
+    private int idBlockSize;
+
+    private CartStoreConfig() {
+        flushIntervalMillis = Long.parseLong(DEFAULT_FLUSH_INTERVAL_MILLIS);
+        maximumBatchSize = Integer.parseInt(DEFAULT_MAXIMUM_BATCH_SIZE);
+        maximumSessions = Integer.parseInt(DEFAULT_MAXIMUM_SESSIONS);
+        idleMinutes = Long.parseLong(DEFAULT_IDLE_MINUTES);
+        idBlockSize = Integer.parseInt(DEFAULT_ID_BLOCK_SIZE);
+    }
+
+    /**
+     * <p>
+     * Creates the cart store config from the cart properties.
+     * </p>
+     *
+     * @param properties Represents the loaded cart properties
+     * @return The cart store config
+     */
+    public static CartStoreConfig fromProperties(final Properties properties) {
+        return new CartStoreConfigBuilder()
+                .setFlushIntervalMillis(Long.parseLong(properties.getProperty("cart.store.flushIntervalMillis",
+                        DEFAULT_FLUSH_INTERVAL_MILLIS)))
+                .setMaximumBatchSize(Integer.parseInt(properties.getProperty("cart.store.maximumBatchSize",
+                        DEFAULT_MAXIMUM_BATCH_SIZE)))
+                .setMaximumSessions(Integer.parseInt(properties.getProperty("cart.store.maximumSessions",
+                        DEFAULT_MAXIMUM_SESSIONS)))
+                .setIdleMinutes(Long.parseLong(properties.getProperty("cart.store.idleMinutes",
+                        DEFAULT_IDLE_MINUTES)))
+                .setIdBlockSize(Integer.parseInt(properties.getProperty("cart.store.idBlockSize",
+                        DEFAULT_ID_BLOCK_SIZE)))
+                .build();
+    }
+
+    public long getFlushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+
+    public int getMaximumBatchSize() {
+        return maximumBatchSize;
+    }
+
+    public int getMaximumSessions() {
+        return maximumSessions;
+    }
+
+    public long getIdleMinutes() {
+        return idleMinutes;
+    }
+
+    public int getIdBlockSize() {
+        return idBlockSize;
+    }
+
+    /**
+     * <p>
+     * Method to set the properties of the cart store config and to build the config instance.
+     * </p>
+     *
+     * @author Muthu kumar V
+     * @version 1.0
+     */
+    public static class CartStoreConfigBuilder {
+
+        private final CartStoreConfig config;
+
+        public CartStoreConfigBuilder() {
+            config = new CartStoreConfig();
+        }
+
+        public CartStoreConfigBuilder setFlushIntervalMillis(final long flushIntervalMillis) {
+            config.flushIntervalMillis = flushIntervalMillis;
+
+            return this;
+        }
+
+        public CartStoreConfigBuilder setMaximumBatchSize(final int maximumBatchSize) {
+            config.maximumBatchSize = maximumBatchSize;
+
+            return this;
+        }
+
+        public CartStoreConfigBuilder setMaximumSessions(final int maximumSessions) {
+            config.maximumSessions = maximumSessions;
+
+            return this;
+        }
+
+        public CartStoreConfigBuilder setIdleMinutes(final long idleMinutes) {
+            config.idleMinutes = idleMinutes;
+
+            return this;
+        }
+
+        public CartStoreConfigBuilder setIdBlockSize(final int idBlockSize) {
+            config.idBlockSize = idBlockSize;
+
+            return this;
+        }
+
+        public CartStoreConfig build() {
+            return config;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.foodhub.user.database.dao.internal.impl;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.foodhub.database.async.DatabaseExecutor;
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.user.database.dao.OrderAsyncDAO;
+import org.foodhub.user.database.dao.OrderDAO;
+import org.foodhub.user.model.order.Order;
+
+/**
+ * <p>
+ * Implements the asynchronous data base service for the user orders, the blocking calls are delegated to the
+ * data base service on the database executor.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class OrderAsyncDAOImpl implements OrderAsyncDAO {
+
+    private final OrderDAO orderDAO;
+    private final DatabaseExecutor databaseExecutor;
+
+    private OrderAsyncDAOImpl() {
+        orderDAO = OrderDAOImpl.getInstance();
+        databaseExecutor = DatabaseExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates the instance of the class
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final OrderAsyncDAO ORDER_ASYNC_DAO = new OrderAsyncDAOImpl();
+    }
+
+    /**
+     * <p>
+     * Gets the instance of the asynchronous order database implementation class.
+     * </p>
+     *
+     * @return The asynchronous order database service implementation object
+     */
+    public static OrderAsyncDAO getInstance() {
+        return InstanceHolder.ORDER_ASYNC_DAO;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The future completed with true if the order is placed, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> placeOrder(final Collection<Order> orderList) {
+        return databaseExecutor.supply(() -> orderDAO.placeOrder(orderList));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param pageRequest Represents the user id along with the last seen order id and the page size
+     * @param reader      Represents the reader of the cursor, the cursor is closed once the reader returns
+     * @param <R>         The result type of the reader
+     * @return The future completed with the result of the reader
+     */
+    @Override
+    public <R> CompletableFuture<R> getOrders(final PageRequest pageRequest,
+                                              final Function<ResultCursor<Order>, R> reader) {
+        return databaseExecutor.supply(() -> {
+            try (final ResultCursor<Order> orders = orderDAO.getOrders(pageRequest)) {
+                return reader.apply(orders);
+            }
+        });
+    }
+}
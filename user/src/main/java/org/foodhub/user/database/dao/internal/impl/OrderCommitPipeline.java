@@ -0,0 +1,313 @@
+package org.foodhub.user.database.dao.internal.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.foodhub.user.exception.cart.CartUpdateFailureException;
+import org.foodhub.user.exception.order.DuplicateOrderException;
+import org.foodhub.user.exception.order.FoodQuantityUnavailableException;
+import org.foodhub.user.exception.order.IdempotencyKeyMismatchException;
+import org.foodhub.user.exception.order.OrderPlacementFailureException;
+
+/**
+ * <p>
+ * Collects the concurrent orders into the micro-batches, so the orders arriving within the batch window are committed
+ * by a single transaction instead of paying a commit each. The batch is closed once the window is over or the batch
+ * is full, and is handed to the committer on the single pipeline thread, which completes the placement of every
+ * order in the batch.
+ * </p>
+ *
+ * <p>
+ * The batch rolled back by the committer is committed again one order at a time, so the failing order fails alone
+ * instead of failing the orders batched along with it.
+ * </p>
+ *
+ * <p>
+ * The orders wait in the bounded queue while the previous batch is committed, the orders beyond the queue are
+ * rejected at once instead of piling up behind a slow database.
+ * </p>
+ *
+ * <p>
+ * The closed pipeline stays closed, it rejects the later orders instead of starting the pipeline thread again.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class OrderCommitPipeline {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    private final Consumer<List<PendingOrder>> committer;
+    private final BlockingQueue<PendingOrder> pendingOrders;
+    private final long windowNanos;
+    private final int maximumBatchSize;
+    private final LongAdder batches;
+    private final LongAdder batchedOrders;
+    private final LongAdder rejectedOrders;
+    private final LongAdder splitBatches;
+    private volatile Thread pipelineThread;
+    private volatile boolean closed;
+
+    OrderCommitPipeline(final OrderPipelineConfig config, final Consumer<List<PendingOrder>> committer) {
+        this.committer = committer;
+        pendingOrders = new ArrayBlockingQueue<>(config.getQueueSize());
+        windowNanos = TimeUnit.MILLISECONDS.toNanos(config.getWindowMillis());
+        maximumBatchSize = Math.max(1, config.getMaximumBatchSize());
+        batches = new LongAdder();
+        batchedOrders = new LongAdder();
+        rejectedOrders = new LongAdder();
+        splitBatches = new LongAdder();
+    }
+
+    /**
+     * <p>
+     * Submits the order to the next batch.
+     * </p>
+     *
+     * @param pendingOrder Represents the order to be placed
+     * @return The future completed with true once the order is committed, or failed with the cause of the failure
+     */
+    CompletableFuture<Boolean> submit(final PendingOrder pendingOrder) {
+        if (closed) {
+            throw new OrderPlacementFailureException("Order pipeline is closed");
+        }
+        start();
+
+        if (!pendingOrders.offer(pendingOrder)) {
+            rejectedOrders.increment();
+            throw new OrderPlacementFailureException(String.join(" ",
+                    "Order pipeline is busy, rejected the order after", String.valueOf(pendingOrders.size()),
+                    "queued orders"));
+        }
+
+        if (closed && pendingOrders.remove(pendingOrder)) {
+            throw new OrderPlacementFailureException("Order pipeline is closed");
+        }
+
+        return pendingOrder.getPlacement();
+    }
+
+    /**
+     * <p>
+     * Starts the pipeline thread on the first order, the thread is not started once the pipeline is closed.
+     * </p>
+     */
+    private void start() {
+        if (null == pipelineThread) {
+
+            synchronized (this) {
+
+                if (null == pipelineThread && !closed) {
+                    final Thread thread = new Thread(this::run, "order-pipeline");
+
+                    thread.setDaemon(true);
+                    pipelineThread = thread;
+                    thread.start();
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Takes the batches from the queue and commits them until the pipeline is closed.
+     * </p>
+     */
+    private void run() {
+        final List<PendingOrder> batch = new ArrayList<>(maximumBatchSize);
+
+        try {
+            while (!closed) {
+                final PendingOrder pendingOrder = pendingOrders.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (null != pendingOrder) {
+                    batch.add(pendingOrder);
+                    collect(batch);
+                    commit(batch);
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException message) {
+            Thread.currentThread().interrupt();
+        } finally {
+            final OrderPlacementFailureException exception =
+                    new OrderPlacementFailureException("Order pipeline is closed");
+
+            batch.forEach(pendingOrder -> pendingOrder.failed(exception));
+        }
+    }
+
+    /**
+     * <p>
+     * Collects the orders arriving within the batch window into the batch, until the batch is full.
+     * </p>
+     *
+     * @param batch Represents the batch holding its first order
+     * @throws InterruptedException If the pipeline thread is interrupted while waiting for the orders
+     */
+    private void collect(final List<PendingOrder> batch) throws InterruptedException {
+        final long deadline = System.nanoTime() + windowNanos;
+
+        pendingOrders.drainTo(batch, maximumBatchSize - batch.size());
+
+        while (batch.size() < maximumBatchSize) {
+            final long remaining = deadline - System.nanoTime();
+
+            if (0 >= remaining) {
+                return;
+            }
+            final PendingOrder pendingOrder = pendingOrders.poll(remaining, TimeUnit.NANOSECONDS);
+
+            if (null == pendingOrder) {
+                return;
+            }
+            batch.add(pendingOrder);
+            pendingOrders.drainTo(batch, maximumBatchSize - batch.size());
+        }
+    }
+
+    /**
+     * <p>
+     * Hands the batch to the committer, the rolled back batch of several orders is committed again one order at a
+     * time. The orders left incomplete by the committer are failed.
+     * </p>
+     *
+     * @param batch Represents the batch of orders
+     */
+    private void commit(final List<PendingOrder> batch) {
+        batches.increment();
+        batchedOrders.add(batch.size());
+
+        try {
+            committer.accept(batch);
+        } catch (OrderPlacementFailureException | DuplicateOrderException | IdempotencyKeyMismatchException
+                 | FoodQuantityUnavailableException | CartUpdateFailureException exception) {
+
+            if (1 == batch.size()) {
+                batch.get(0).failed(exception);
+            } else {
+                splitBatches.increment();
+                batch.forEach(this::commitAlone);
+            }
+        } catch (RuntimeException exception) {
+            batch.forEach(pendingOrder -> pendingOrder.failed(exception));
+        }
+
+        for (final PendingOrder pendingOrder : batch) {
+
+            if (!pendingOrder.isDone()) {
+                pendingOrder.failed(new OrderPlacementFailureException("Order was not committed"));
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Commits the order of the rolled back batch in its own transaction.
+     * </p>
+     *
+     * @param pendingOrder Represents the order of the rolled back batch
+     */
+    private void commitAlone(final PendingOrder pendingOrder) {
+        try {
+            committer.accept(List.of(pendingOrder));
+        } catch (RuntimeException exception) {
+            pendingOrder.failed(exception);
+        }
+    }
+
+    /**
+     * <p>
+     * Fails the orders still waiting in the queue.
+     * </p>
+     *
+     * @param exception Represents the cause of the failure
+     */
+    private void failQueuedOrders(final RuntimeException exception) {
+        final List<PendingOrder> queuedOrders = new ArrayList<>();
+
+        pendingOrders.drainTo(queuedOrders);
+        queuedOrders.forEach(pendingOrder -> pendingOrder.failed(exception));
+    }
+
+    /**
+     * <p>
+     * Gets the count of the batches committed by the pipeline.
+     * </p>
+     *
+     * @return The count of the batches
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the orders committed within the batches.
+     * </p>
+     *
+     * @return The count of the batched orders
+     */
+    public long getBatchedOrders() {
+        return batchedOrders.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the orders rejected as the queue was full.
+     * </p>
+     *
+     * @return The count of the rejected orders
+     */
+    public long getRejectedOrders() {
+        return rejectedOrders.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the rolled back batches committed again one order at a time.
+     * </p>
+     *
+     * @return The count of the split batches
+     */
+    public long getSplitBatches() {
+        return splitBatches.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the count of the orders waiting for the next batch.
+     * </p>
+     *
+     * @return The count of the queued orders
+     */
+    public int getQueuedOrders() {
+        return pendingOrders.size();
+    }
+
+    /**
+     * <p>
+     * Closes the pipeline for good. The pipeline thread completes the batch being committed and is waited for up to
+     * the close timeout, then the queued orders are failed.
+     * </p>
+     */
+    public synchronized void close() {
+        closed = true;
+
+        if (null != pipelineThread) {
+            try {
+                pipelineThread.join(CLOSE_TIMEOUT_MILLIS);
+            } catch (InterruptedException message) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        failQueuedOrders(new OrderPlacementFailureException("Order pipeline is closed"));
+    }
+}
@@ -1,19 +1,49 @@
 package org.foodhub.user.database.dao.internal.impl;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 import org.foodhub.database.connection.DataBaseConnection;
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.database.exception.ResultCursorException;
+import org.foodhub.database.querytemplate.QueryTemplate;
+import org.foodhub.restaurant.cache.MenuCardCache;
+import org.foodhub.restaurant.inventory.FoodInventory;
+import org.foodhub.restaurant.inventory.FoodReservation;
+import org.foodhub.restaurant.lock.FoodLockManager;
+import org.foodhub.restaurant.lock.LockHandle;
 import org.foodhub.user.database.persistenceservice.OrderPersistenceService;
 import org.foodhub.user.exception.cart.CartUpdateFailureException;
 import org.foodhub.user.database.resultsetextractor.OrderResultSetExtractor;
 import org.foodhub.user.database.dao.OrderDAO;
+import org.foodhub.user.exception.order.DuplicateOrderException;
+import org.foodhub.user.exception.order.FoodQuantityUnavailableException;
+import org.foodhub.user.exception.order.IdempotencyKeyMismatchException;
 import org.foodhub.user.exception.order.OrderDataNotFoundException;
 import org.foodhub.user.exception.order.OrderPlacementFailureException;
+import org.foodhub.user.model.order.IdempotencyKey;
 import org.foodhub.user.model.order.Order;
 
 /**
@@ -26,14 +56,27 @@ import org.foodhub.user.model.order.Order;
  */
 public final class OrderDAOImpl implements OrderDAO {
 
+    private static final Logger LOGGER = LogManager.getLogger(OrderDAOImpl.class);
     private final OrderPersistenceService orderpersistenceService;
     final OrderResultSetExtractor orderResultSetExtractor;
-    private final Connection connection;
+    private final FoodInventory foodInventory;
+    private final MenuCardCache menuCardCache;
+    private final FoodLockManager foodLockManager;
+    private final OrderCommitPipeline orderCommitPipeline;
+    private final CartSessionStore cartSessionStore;
+    private final long placementTimeoutMillis;
 
     private OrderDAOImpl() {
         orderpersistenceService = OrderPersistenceService.getInstance();
         orderResultSetExtractor = OrderResultSetExtractor.getInstance();
-        connection = DataBaseConnection.get();
+        foodInventory = FoodInventory.getInstance();
+        menuCardCache = MenuCardCache.getInstance();
+        foodLockManager = FoodLockManager.getInstance();
+        final OrderPipelineConfig config = OrderPipelineConfig.fromProperties(loadProperties());
+
+        orderCommitPipeline = new OrderCommitPipeline(config, this::commitOrders);
+        placementTimeoutMillis = config.getPlacementTimeoutMillis();
+        cartSessionStore = CartDAOImpl.getCartSessionStore();
     }
 
     /**
@@ -43,7 +86,7 @@ public final class OrderDAOImpl implements OrderDAO {
      */
     private static class InstanceHolder {
 
-        private static final OrderDAO ORDER_DAO = new OrderDAOImpl();
+        private static final OrderDAOImpl ORDER_DAO = new OrderDAOImpl();
     }
 
     /**
@@ -60,74 +103,421 @@ public final class OrderDAOImpl implements OrderDAO {
     /**
      * {@inheritDoc}
      *
+     * <p>
+     * The ordered foods are reserved in memory first, the sold out food rejects the order without reaching the
+     * database. The order is then handed to the {@link OrderCommitPipeline}, which commits the concurrent orders
+     * together, and the caller waits until the batch of the order is committed. The pending changes of the cart are
+     * written before the order, and the ordered items are removed from the cart in memory once the order is placed.
+     * </p>
+     *
+     * <p>
+     * The caller waits up to the placement timeout. The order still committing is then completed by the pipeline
+     * without the caller, its food reservations are released or its cart items removed once its batch is done.
+     * </p>
+     *
      * @param orderList Represents the list of order items
      * @return True if the order is placed, false otherwise
      */
     @Override
     public boolean placeOrder(final Collection<Order> orderList) {
+        return placeOrder(orderList, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The idempotency key is recorded in the transaction of the order along with the fingerprint of the order, so the
+     * retried order is rejected by the database even after its key is forgotten by the memory, and the key reused for
+     * a different order is told apart from the retry.
+     * </p>
+     *
+     * @param orderList      Represents the list of order items
+     * @param idempotencyKey Represents the idempotency key of the order, null if the order has no key
+     * @return True if the order is placed, false otherwise
+     */
+    @Override
+    public boolean placeOrder(final Collection<Order> orderList, final IdempotencyKey idempotencyKey) {
+        final Map<Long, List<Long>> userCartIds = new TreeMap<>();
+
+        for (final Order order : orderList) {
+            userCartIds.computeIfAbsent(order.getUserId(), userId -> new ArrayList<>()).add(order.getCartId());
+        }
+        cartSessionStore.flush(userCartIds.keySet());
+        final List<FoodReservation> foodReservations = reserveFoods(orderList);
+        final CompletableFuture<Boolean> placement;
+
         try {
+            placement = orderCommitPipeline.submit(new PendingOrder(orderList, foodReservations, idempotencyKey));
+        } catch (RuntimeException exception) {
+            foodReservations.forEach(foodInventory::release);
+            throw exception;
+        }
+
+        return join(placement.whenComplete((isPlaced, exception) -> {
+            if (null == exception && isPlaced) {
+                userCartIds.forEach(cartSessionStore::removeOrderedItems);
+            } else {
+                foodReservations.forEach(foodInventory::release);
+            }
+        }));
+    }
+
+    /**
+     * <p>
+     * Commits the batch of orders in a single transaction, so the batch pays a single commit. The batch rejected by
+     * the database is rolled back, the pipeline then commits its orders again one by one.
+     * </p>
+     *
+     * <p>
+     * The locks of all the ordered foods are taken before the connection is borrowed, so the batches wait for the
+     * removal of their foods without holding the connection.
+     * </p>
+     *
+     * @param pendingOrders Represents the batch of orders
+     */
+    private void commitOrders(final List<PendingOrder> pendingOrders) {
+        final Set<Long> foodIds = new TreeSet<>();
+
+        for (final PendingOrder pendingOrder : pendingOrders) {
+
+            for (final FoodReservation foodReservation : pendingOrder.getFoodReservations()) {
+                foodIds.add(foodReservation.getFoodId());
+            }
+        }
+
+        try (final LockHandle lockHandle = foodLockManager.lockFoods(foodIds);
+             final Connection connection = DataBaseConnection.get()) {
             connection.setAutoCommit(false);
-            final String query = orderpersistenceService.getPlaceOrderQuery();
 
-            try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            try {
+                placeOrders(connection, pendingOrders);
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException message) {
+            throw new OrderPlacementFailureException(message.getMessage());
+        }
+    }
 
-                for (final Order order : orderList) {
-                    preparedStatement.setLong(1, order.getCartId());
-                    preparedStatement.setLong(2, order.getUserId());
-                    preparedStatement.setLong(3, order.getAddressId());
+    /**
+     * <p>
+     * Places the orders in a single transaction. The idempotency keys are recorded first, so the retried order is
+     * rejected before any food is reserved. The food quantities are decremented by the conditional updates, in the
+     * order of the food ids, so the concurrent transactions lock the food rows in the same order. The cached menucard
+     * pages listing the ordered foods are invalidated once the orders are committed, before the callers are answered.
+     * </p>
+     *
+     * @param connection    Represents the connection of the order placing transaction
+     * @param pendingOrders Represents the orders to be placed
+     * @throws SQLException If the transaction can't be rolled back
+     */
+    private void placeOrders(final Connection connection, final List<PendingOrder> pendingOrders)
+            throws SQLException {
+        final QueryTemplate<Order> queryTemplate = orderpersistenceService.getPlaceOrderQuery();
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(queryTemplate.getQuery())) {
+            recordIdempotencyKeys(connection, pendingOrders);
+            reserveFoodQuantities(connection, pendingOrders);
+
+            for (final PendingOrder pendingOrder : pendingOrders) {
+
+                for (final Order order : pendingOrder.getOrderList()) {
+                    queryTemplate.bind(preparedStatement, order);
                     preparedStatement.addBatch();
                 }
-                preparedStatement.executeBatch();
-                updateCartStatus(orderList);
-                connection.commit();
-
-                return true;
-            } catch (SQLException message) {
-                connection.rollback();
-                throw new OrderPlacementFailureException(message.getMessage());
-            } finally {
-                connection.setAutoCommit(true);
             }
+            preparedStatement.executeBatch();
+            updateCartStatus(connection, pendingOrders);
+            connection.commit();
+            invalidateMenuCards(pendingOrders);
+            pendingOrders.forEach(PendingOrder::placed);
         } catch (SQLException message) {
+            connection.rollback();
             throw new OrderPlacementFailureException(message.getMessage());
+        } catch (DuplicateOrderException | IdempotencyKeyMismatchException | FoodQuantityUnavailableException
+                 | CartUpdateFailureException exception) {
+            connection.rollback();
+            throw exception;
+        }
+    }
+
+    /**
+     * <p>
+     * Invalidates the cached menucard pages listing the ordered foods, their pages hold the quantities before the
+     * orders.
+     * </p>
+     *
+     * @param pendingOrders Represents the committed orders along with their food reservations
+     */
+    private void invalidateMenuCards(final List<PendingOrder> pendingOrders) {
+        final Set<Long> foodIds = new TreeSet<>();
+
+        for (final PendingOrder pendingOrder : pendingOrders) {
+
+            for (final FoodReservation foodReservation : pendingOrder.getFoodReservations()) {
+                foodIds.add(foodReservation.getFoodId());
+            }
+        }
+        foodIds.forEach(menuCardCache::invalidateFood);
+    }
+
+    /**
+     * <p>
+     * Records the idempotency keys of the orders along with their fingerprints. The key already recorded rejects its
+     * order as the duplicate when it was recorded by the same order, and as the mismatch otherwise.
+     * </p>
+     *
+     * @param connection    Represents the connection of the order placing transaction
+     * @param pendingOrders Represents the orders along with their idempotency keys
+     * @throws SQLException If the idempotency keys can't be recorded
+     */
+    private void recordIdempotencyKeys(final Connection connection, final List<PendingOrder> pendingOrders)
+            throws SQLException {
+        final List<IdempotencyKey> idempotencyKeys = new ArrayList<>();
+
+        for (final PendingOrder pendingOrder : pendingOrders) {
+
+            if (null != pendingOrder.getIdempotencyKey()) {
+                idempotencyKeys.add(pendingOrder.getIdempotencyKey());
+            }
+        }
+
+        if (idempotencyKeys.isEmpty()) {
+            return;
+        }
+        final QueryTemplate<IdempotencyKey> queryTemplate = orderpersistenceService.recordIdempotencyKey();
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(queryTemplate.getQuery())) {
+
+            for (final IdempotencyKey idempotencyKey : idempotencyKeys) {
+                queryTemplate.bind(preparedStatement, idempotencyKey);
+                preparedStatement.addBatch();
+            }
+            final int[] updateCounts = preparedStatement.executeBatch();
+
+            for (int index = 0; index < updateCounts.length; index++) {
+
+                if (0 == updateCounts[index]) {
+                    checkRecordedFingerprint(connection, idempotencyKeys.get(index));
+                }
+            }
         }
     }
 
     /**
      * <p>
-     * Updates the status of the cart.
+     * Checks the fingerprint recorded along with the idempotency key against the fingerprint of the order.
+     * </p>
+     *
+     * @param connection     Represents the connection of the order placing transaction
+     * @param idempotencyKey Represents the idempotency key already recorded
+     * @throws SQLException If the recorded fingerprint can't be read
+     */
+    private void checkRecordedFingerprint(final Connection connection, final IdempotencyKey idempotencyKey)
+            throws SQLException {
+        final QueryTemplate<IdempotencyKey> queryTemplate = orderpersistenceService.getRequestFingerprint();
+        final Optional<String> requestFingerprint;
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(queryTemplate.getQuery())) {
+            queryTemplate.bind(preparedStatement, idempotencyKey);
+            requestFingerprint = orderResultSetExtractor.getRequestFingerprint(preparedStatement.executeQuery());
+        }
+
+        if (requestFingerprint.isPresent()
+                && !requestFingerprint.get().equals(idempotencyKey.getRequestFingerprint())) {
+            throw new IdempotencyKeyMismatchException("Idempotency key is already used by a different order");
+        }
+
+        throw new DuplicateOrderException("Order of the idempotency key is already placed");
+    }
+
+    /**
+     * <p>
+     * Reserves the ordered quantity of each food in memory, the quantities of the same food are reserved together.
      * </p>
      *
      * @param orderList Represents the list of order items
+     * @return The reservations of the foods, in the order of the food ids
      */
-    private void updateCartStatus(final Collection<Order> orderList) {
-        final String query = orderpersistenceService.updateCartStatus();
+    private List<FoodReservation> reserveFoods(final Collection<Order> orderList) {
+        final Map<Long, Integer> foodQuantities = new TreeMap<>();
+
+        for (final Order order : orderList) {
+            foodQuantities.merge(order.getFood().getId(), order.getQuantity(), Integer::sum);
+        }
+        final List<FoodReservation> foodReservations = new ArrayList<>(foodQuantities.size());
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        for (final Map.Entry<Long, Integer> foodQuantity : foodQuantities.entrySet()) {
+            final Optional<FoodReservation> foodReservation = foodInventory.reserve(foodQuantity.getKey(),
+                    foodQuantity.getValue());
 
-            for (final Order order : orderList) {
-                preparedStatement.setLong(1, order.getCartId());
+            if (foodReservation.isEmpty()) {
+                foodReservations.forEach(foodInventory::release);
+                throw new FoodQuantityUnavailableException(String.join(" ", "Food",
+                        String.valueOf(foodQuantity.getKey()), "is sold out"));
+            }
+            foodReservations.add(foodReservation.get());
+        }
+
+        return foodReservations;
+    }
+
+    /**
+     * <p>
+     * Decrements the quantities of the foods having enough quantity, the quantities of the same food are decremented
+     * together. The food accepted in memory but rejected by the database is dropped from memory.
+     * </p>
+     *
+     * @param connection    Represents the connection of the order placing transaction
+     * @param pendingOrders Represents the orders along with their food reservations
+     * @throws SQLException If the food quantities can't be updated
+     */
+    private void reserveFoodQuantities(final Connection connection, final List<PendingOrder> pendingOrders)
+            throws SQLException {
+        final Map<Long, Integer> foodQuantities = new TreeMap<>();
+        final Set<Long> trackedFoodIds = new HashSet<>();
+
+        for (final PendingOrder pendingOrder : pendingOrders) {
+
+            for (final FoodReservation foodReservation : pendingOrder.getFoodReservations()) {
+                foodQuantities.merge(foodReservation.getFoodId(), foodReservation.getQuantity(), Integer::sum);
+
+                if (foodReservation.isTracked()) {
+                    trackedFoodIds.add(foodReservation.getFoodId());
+                }
+            }
+        }
+        final QueryTemplate<Map.Entry<Long, Integer>> queryTemplate = orderpersistenceService.reserveFoodQuantity();
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(queryTemplate.getQuery())) {
+            final List<Long> foodIds = new ArrayList<>(foodQuantities.keySet());
+
+            for (final Map.Entry<Long, Integer> foodQuantity : foodQuantities.entrySet()) {
+                queryTemplate.bind(preparedStatement, foodQuantity);
                 preparedStatement.addBatch();
             }
+            final int[] updateCounts = preparedStatement.executeBatch();
+            final Collection<String> unavailableFoods = new ArrayList<>();
+
+            for (int index = 0; index < updateCounts.length; index++) {
+
+                if (0 == updateCounts[index]) {
+                    final long foodId = foodIds.get(index);
+
+                    if (trackedFoodIds.contains(foodId)) {
+                        foodInventory.invalidate(foodId);
+                    }
+                    unavailableFoods.add(String.valueOf(foodId));
+                }
+            }
+
+            if (!unavailableFoods.isEmpty()) {
+                throw new FoodQuantityUnavailableException(String.join(" ", "Food",
+                        String.join(", ", unavailableFoods), "is sold out"));
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Updates the status of the carts.
+     * </p>
+     *
+     * @param connection    Represents the connection of the order placing transaction
+     * @param pendingOrders Represents the orders along with their order items
+     */
+    private void updateCartStatus(final Connection connection, final List<PendingOrder> pendingOrders) {
+        final QueryTemplate<Order> queryTemplate = orderpersistenceService.updateCartStatus();
+
+        try (final PreparedStatement preparedStatement = connection.prepareStatement(queryTemplate.getQuery())) {
+
+            for (final PendingOrder pendingOrder : pendingOrders) {
+
+                for (final Order order : pendingOrder.getOrderList()) {
+                    queryTemplate.bind(preparedStatement, order);
+                    preparedStatement.addBatch();
+                }
+            }
             preparedStatement.executeBatch();
         } catch (SQLException message) {
             throw new CartUpdateFailureException(message.getMessage());
         }
     }
 
+    /**
+     * <p>
+     * Waits up to the placement timeout for the order to be committed and rethrows the cause if the order is failed.
+     * </p>
+     *
+     * @param placement Represents the placement of the order
+     * @return True if the order is placed
+     */
+    private boolean join(final CompletableFuture<Boolean> placement) {
+        try {
+            return placement.get(placementTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException exception) {
+
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new OrderPlacementFailureException(exception.getMessage());
+        } catch (TimeoutException exception) {
+            throw new OrderPlacementFailureException("Order is not committed in time, retry with the same key");
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw new OrderPlacementFailureException("Order placement is interrupted");
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the order commit pipeline of the order database service.
+     * </p>
+     *
+     * @return The order commit pipeline
+     */
+    public static OrderCommitPipeline getOrderCommitPipeline() {
+        return InstanceHolder.ORDER_DAO.orderCommitPipeline;
+    }
+
+    /**
+     * <p>
+     * Loads the order properties, the default properties are used if the file can't be loaded.
+     * </p>
+     *
+     * @return The order properties
+     */
+    private static Properties loadProperties() {
+        final Properties properties = new Properties();
+
+        try (final InputStream inputStream = OrderDAOImpl.class.getClassLoader()
+                .getResourceAsStream("order.properties")) {
+
+            if (null != inputStream) {
+                properties.load(inputStream);
+            }
+        } catch (IOException message) {
+            LOGGER.error(message.getMessage());
+        }
+
+        return properties;
+    }
+
     /**
      * {@inheritDoc}
      *
-     * @return The list of user orders
+     * @param pageRequest Represents the user id along with the last seen order id and the page size
+     * @return The cursor of the page of user orders
      */
     @Override
-    public Optional<Collection<Order>> getOrders(final long userId) {
-        final String query = orderpersistenceService.getOrders(userId);
-
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            return orderResultSetExtractor.getOrders(preparedStatement.executeQuery());
-        } catch (SQLException message) {
+    public ResultCursor<Order> getOrders(final PageRequest pageRequest) {
+        try {
+            return ResultCursor.open(orderpersistenceService.getOrders(), pageRequest,
+                    orderResultSetExtractor::getOrder);
+        } catch (ResultCursorException message) {
             throw new OrderDataNotFoundException(message.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+package org.foodhub.user.database.dao.internal.impl;
+
+import java.util.Properties;
+
+/**
+ * <p>
+ * Holds the properties of the order commit pipeline.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class OrderPipelineConfig {
+
+    private static final String DEFAULT_WINDOW_MILLIS = "2";
+    private static final String DEFAULT_MAXIMUM_BATCH_SIZE = "64";
+    private static final String DEFAULT_QUEUE_SIZE = "1024";
+    private static final String DEFAULT_PLACEMENT_TIMEOUT_MILLIS = "10000";
+    private long windowMillis;
+    private int maximumBatchSize;
+    private int queueSize;
+    private long placementTimeoutMillis;
+
+    private OrderPipelineConfig() {
+        windowMillis = Long.parseLong(DEFAULT_WINDOW_MILLIS);
+        maximumBatchSize = Integer.parseInt(DEFAULT_MAXIMUM_BATCH_SIZE);
+        queueSize = Integer.parseInt(DEFAULT_QUEUE_SIZE);
+        placementTimeoutMillis = Long.parseLong(DEFAULT_PLACEMENT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * <p>
+     * Creates the order pipeline config from the order properties.
+     * </p>
+     *
+     * @param properties Represents the loaded order properties
+     * @return The order pipeline config
+     */
+    public static OrderPipelineConfig fromProperties(final Properties properties) {
+        return new OrderPipelineConfigBuilder()
+                .setWindowMillis(Long.parseLong(properties.getProperty("order.pipeline.windowMillis",
+                        DEFAULT_WINDOW_MILLIS)))
+                .setMaximumBatchSize(Integer.parseInt(properties.getProperty("order.pipeline.maximumBatchSize",
+                        DEFAULT_MAXIMUM_BATCH_SIZE)))
+                .setQueueSize(Integer.parseInt(properties.getProperty("order.pipeline.queueSize",
+                        DEFAULT_QUEUE_SIZE)))
+                .setPlacementTimeoutMillis(Long.parseLong(properties.getProperty(
+                        "order.pipeline.placementTimeoutMillis", DEFAULT_PLACEMENT_TIMEOUT_MILLIS)))
+                .build();
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    public int getMaximumBatchSize() {
+        return maximumBatchSize;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public long getPlacementTimeoutMillis() {
+        return placementTimeoutMillis;
+    }
+
+    /**
+     * <p>
+     * Method to set the properties of the order pipeline config and to build the config instance.
+     * </p>
+     *
+     * @author Muthu kumar V
+     * @version 1.0
+     */
+    public static class OrderPipelineConfigBuilder {
+
+        private final OrderPipelineConfig config;
+
+        public OrderPipelineConfigBuilder() {
+            config = new OrderPipelineConfig();
+        }
+
+        public OrderPipelineConfigBuilder setWindowMillis(final long windowMillis) {
+            config.windowMillis = windowMillis;
+
+            return this;
+        }
+
+        public OrderPipelineConfigBuilder setMaximumBatchSize(final int maximumBatchSize) {
+            config.maximumBatchSize = maximumBatchSize;
+
+            return this;
+        }
+
+        public OrderPipelineConfigBuilder setQueueSize(final int queueSize) {
+            config.queueSize = queueSize;
+
+            return this;
+        }
+
+        public OrderPipelineConfigBuilder setPlacementTimeoutMillis(final long placementTimeoutMillis) {
+            config.placementTimeoutMillis = placementTimeoutMillis;
+
+            return this;
+        }
+
+        public OrderPipelineConfig build() {
+            return config;
+        }
+    }
+}
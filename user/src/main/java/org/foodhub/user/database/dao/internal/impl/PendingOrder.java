@@ -0,0 +1,78 @@
+package org.foodhub.user.database.dao.internal.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.foodhub.restaurant.inventory.FoodReservation;
+import org.foodhub.user.model.order.IdempotencyKey;
+import org.foodhub.user.model.order.Order;
+
+/**
+ * <p>
+ * Represents the order waiting in the order commit pipeline, along with the food reservations of the order, its
+ * idempotency key and the future of its placement.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+final class PendingOrder {
+
+    private final Collection<Order> orderList;
+    private final List<FoodReservation> foodReservations;
+    private final IdempotencyKey idempotencyKey;
+    private final CompletableFuture<Boolean> placement;
+
+    PendingOrder(final Collection<Order> orderList, final List<FoodReservation> foodReservations,
+                 final IdempotencyKey idempotencyKey) {
+        this.orderList = orderList;
+        this.foodReservations = foodReservations;
+        this.idempotencyKey = idempotencyKey;
+        placement = new CompletableFuture<>();
+    }
+
+    Collection<Order> getOrderList() {
+        return orderList;
+    }
+
+    List<FoodReservation> getFoodReservations() {
+        return foodReservations;
+    }
+
+    IdempotencyKey getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    long getUserId() {
+        return orderList.iterator().next().getUserId();
+    }
+
+    CompletableFuture<Boolean> getPlacement() {
+        return placement;
+    }
+
+    boolean isDone() {
+        return placement.isDone();
+    }
+
+    /**
+     * <p>
+     * Completes the placement once the order is committed.
+     * </p>
+     */
+    void placed() {
+        placement.complete(true);
+    }
+
+    /**
+     * <p>
+     * Fails the placement if it is not completed yet.
+     * </p>
+     *
+     * @param exception Represents the cause of the failure
+     */
+    void failed(final RuntimeException exception) {
+        placement.completeExceptionally(exception);
+    }
+}
@@ -0,0 +1,158 @@
+package org.foodhub.user.database.dao.internal.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.foodhub.database.async.DatabaseExecutor;
+import org.foodhub.user.database.dao.UserAsyncDAO;
+import org.foodhub.user.database.dao.UserDAO;
+import org.foodhub.user.model.address.Address;
+import org.foodhub.user.model.user.User;
+
+/**
+ * <p>
+ * Implements the asynchronous data base service for the user, the blocking calls are delegated to the
+ * data base service on the database executor.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class UserAsyncDAOImpl implements UserAsyncDAO {
+
+    private final UserDAO userDAO;
+    private final DatabaseExecutor databaseExecutor;
+
+    private UserAsyncDAOImpl() {
+        userDAO = UserDAOImpl.getInstance();
+        databaseExecutor = DatabaseExecutor.getInstance();
+    }
+
+    /**
+     * <p>
+     * Creates the instance of the class
+     * </p>
+     */
+    private static class InstanceHolder {
+
+        private static final UserAsyncDAO USER_ASYNC_DAO = new UserAsyncDAOImpl();
+    }
+
+    /**
+     * <p>
+     * Gets the instance of the asynchronous user database implementation class.
+     * </p>
+     *
+     * @return The asynchronous user database service implementation object
+     */
+    public static UserAsyncDAO getInstance() {
+        return InstanceHolder.USER_ASYNC_DAO;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param user Represents the user
+     * @return The future completed with true if user is created, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> createUserProfile(final User user) {
+        return databaseExecutor.supply(() -> userDAO.createUserProfile(user));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The future completed with true if user is exist, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> isUserExist(final String phoneNumber, final String emailId) {
+        return databaseExecutor.supply(() -> userDAO.isUserExist(phoneNumber, emailId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userDataType Represents the data type of the user
+     * @param userData     Represents the data of the user
+     * @return The future completed with the user object
+     */
+    @Override
+    public CompletableFuture<Optional<User>> getUser(final String userDataType, final String userData) {
+        return databaseExecutor.supply(() -> userDAO.getUser(userDataType, userData));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the password of the user
+     * @return The future completed with the user object
+     */
+    @Override
+    public CompletableFuture<Optional<User>> getUserById(final long userId) {
+        return databaseExecutor.supply(() -> userDAO.getUserById(userId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param address Represents the address of the user
+     * @return The future completed with true if the address is added, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> addAddress(final Address address) {
+        return databaseExecutor.supply(() -> userDAO.addAddress(address));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param addresses Represents the addresses of the users
+     * @return The future completed with true if all the addresses are added, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> addAddresses(final List<Address> addresses) {
+        return databaseExecutor.supply(() -> userDAO.addAddresses(addresses));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the user
+     * @return The future completed with list of addresses of the user
+     */
+    @Override
+    public CompletableFuture<Optional<Collection<Address>>> getAddress(final long userId) {
+        return databaseExecutor.supply(() -> userDAO.getAddress(userId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId       Represents the id of user
+     * @param userData     Represents the data to be updated
+     * @param userDataType Represents the type of data to be updated
+     * @return The future completed with true if user data is updated, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> updateUserProfile(final long userId, final String userDataType,
+                                                        final String userData) {
+        return databaseExecutor.supply(() -> userDAO.updateUserProfile(userId, userDataType, userData));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId           Represents the id of user
+     * @param hashedPassword   Represents the stored hash of the password
+     * @param rehashedPassword Represents the new hash of the password
+     * @return The future completed with true if the password hash is replaced, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> rehashPassword(final long userId, final String hashedPassword,
+                                                     final String rehashedPassword) {
+        return databaseExecutor.supply(() -> userDAO.rehashPassword(userId, hashedPassword, rehashedPassword));
+    }
+}
@@ -1,13 +1,18 @@
 package org.foodhub.user.database.dao.internal.impl;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
+import org.foodhub.common.hashgenerator.PasswordHashGenerator;
 import org.foodhub.database.connection.DataBaseConnection;
+import org.foodhub.database.querybuilder.Query;
+import org.foodhub.database.querywriter.ParameterizedQuery;
+import org.foodhub.user.cache.UserProfileCache;
 import org.foodhub.user.database.persistenceservice.UserPersistenceService;
 import org.foodhub.user.database.resultsetextractor.UserResultSetExtractor;
 import org.foodhub.user.exception.user.UserProfileCreationException;
@@ -18,6 +23,7 @@ import org.foodhub.user.exception.user.address.AddressDataPersistenceException;
 import org.foodhub.user.exception.user.UserProfileNotFoundException;
 import org.foodhub.user.exception.user.UserProfileUpdateException;
 import org.foodhub.user.model.user.User;
+import org.foodhub.user.model.user.UserProfileField;
 
 /**
  * <p>
@@ -31,12 +37,14 @@ public final class UserDAOImpl implements UserDAO {
 
     private final UserPersistenceService userPersistenceService;
     private final UserResultSetExtractor userResultSetExtractor;
-    private final Connection connection;
+    private final UserProfileCache userProfileCache;
+    private final PasswordHashGenerator passwordHashGenerator;
 
     private UserDAOImpl() {
         userPersistenceService = UserPersistenceService.getInstance();
         userResultSetExtractor = UserResultSetExtractor.getInstance();
-        connection = DataBaseConnection.get();
+        userProfileCache = UserProfileCache.getInstance();
+        passwordHashGenerator = PasswordHashGenerator.getInstance();
     }
 
     /**
@@ -68,10 +76,19 @@ public final class UserDAOImpl implements UserDAO {
      */
     @Override
     public boolean createUserProfile(final User user) {
-        final String query = userPersistenceService.createUserProfile(user);
+        final ParameterizedQuery query = userPersistenceService.createUserProfile(user,
+                passwordHashGenerator.hashPassword(user.getPassword()));
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            return 0 < preparedStatement.executeUpdate();
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
+            final Optional<Long> userId = userResultSetExtractor.getUserId(preparedStatement.executeQuery());
+
+            userId.ifPresent(id -> userProfileCache.putCreated(new User.UserBuilder().setId(id)
+                    .setName(user.getName()).setPhoneNumber(user.getPhoneNumber()).setEmailId(user.getEmailId())
+                    .build()));
+
+            return userId.isPresent();
         } catch (SQLException message) {
             throw new UserProfileCreationException(message.getMessage());
         }
@@ -84,9 +101,12 @@ public final class UserDAOImpl implements UserDAO {
      */
     @Override
     public boolean isUserExist(final String phoneNumber, final String emailId) {
-        final String query = userPersistenceService.isUserExist(phoneNumber, emailId);
+        final ParameterizedQuery query = userPersistenceService.isUserExist(phoneNumber, emailId);
+
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             return userResultSetExtractor.isUserExist(preparedStatement.executeQuery());
         } catch (SQLException message) {
             throw new UserProfileNotFoundException(message.getMessage());
@@ -98,14 +118,16 @@ public final class UserDAOImpl implements UserDAO {
      *
      * @param userLoginField     Represents the data type of the user
      * @param userLoginFieldData Represents the data of the user
-     * @param password           Represents the password of the user
      * @return The user object
      */
     @Override
-    public Optional<User> getUser(final String userLoginField, final String userLoginFieldData, final String password) {
-        final String query = userPersistenceService.getUser(userLoginField, userLoginFieldData, password);
+    public Optional<User> getUser(final String userLoginField, final String userLoginFieldData) {
+        final ParameterizedQuery query = userPersistenceService.getUser(userLoginField, userLoginFieldData);
+
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             return userResultSetExtractor.getUser(preparedStatement.executeQuery());
         } catch (SQLException message) {
             throw new UserProfileNotFoundException(message.getMessage());
@@ -115,15 +137,18 @@ public final class UserDAOImpl implements UserDAO {
     /**
      * {@inheritDoc}
      *
-     * @param userId Represents the password of the user
+     * @param userId Represents the id of the user
      * @return The user object
      */
     @Override
     public Optional<User> getUserById(final long userId) {
-        final String query = userPersistenceService.getUserById(userId);
+        final ParameterizedQuery query = userPersistenceService.getUserById(userId);
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            return userResultSetExtractor.getUser(preparedStatement.executeQuery());
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
+
+            return userResultSetExtractor.getUserProfile(preparedStatement.executeQuery());
         } catch (SQLException message) {
             throw new UserProfileNotFoundException(message.getMessage());
         }
@@ -137,15 +162,53 @@ public final class UserDAOImpl implements UserDAO {
      */
     @Override
     public boolean addAddress(final Address address) {
-        final String query = userPersistenceService.addAddress(address);
+        final ParameterizedQuery query = userPersistenceService.addAddress(address);
+
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             return 0 < preparedStatement.executeUpdate();
         } catch (SQLException message) {
             throw new AddressDataPersistenceException(message.getMessage());
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param addresses Represents the addresses of the users
+     * @return True if all the addresses are added, false otherwise
+     */
+    @Override
+    public boolean addAddresses(final List<Address> addresses) {
+        try (final Connection connection = DataBaseConnection.get()) {
+            connection.setAutoCommit(false);
+
+            try {
+                for (int index = 0; index < addresses.size(); index += Query.MAXIMUM_INSERT_ROWS) {
+                    final ParameterizedQuery query = userPersistenceService.addAddresses(addresses.subList(index,
+                            Math.min(index + Query.MAXIMUM_INSERT_ROWS, addresses.size())));
+
+                    try (final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+                        query.bind(preparedStatement);
+                        preparedStatement.executeUpdate();
+                    }
+                }
+                connection.commit();
+
+                return true;
+            } catch (SQLException message) {
+                connection.rollback();
+                throw new AddressDataPersistenceException(message.getMessage());
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException message) {
+            throw new AddressDataPersistenceException(message.getMessage());
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -154,9 +217,12 @@ public final class UserDAOImpl implements UserDAO {
      */
     @Override
     public Optional<Collection<Address>> getAddress(final long userId) {
-        final String query = userPersistenceService.getAddress(userId);
+        final ParameterizedQuery query = userPersistenceService.getAddress(userId);
+
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             return userResultSetExtractor.getAddress(preparedStatement.executeQuery());
         } catch (SQLException message) {
             throw new AddressDataNotFoundException(message.getMessage());
@@ -173,9 +239,40 @@ public final class UserDAOImpl implements UserDAO {
      */
     @Override
     public boolean updateUserProfile(final long userId, final String userDataType, final String userData) {
-        final String query = userPersistenceService.updateUserProfile(userId, userDataType, userData);
+        final ParameterizedQuery query = userPersistenceService.updateUserProfile(userId, userDataType, userData);
+
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
+            final boolean isUpdated = 0 < preparedStatement.executeUpdate();
+
+            if (isUpdated) {
+                userProfileCache.update(userId, UserProfileField.valueOf(userDataType), userData);
+            }
+
+            return isUpdated;
+        } catch (SQLException message) {
+            throw new UserProfileUpdateException(message.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId           Represents the id of user
+     * @param hashedPassword   Represents the stored hash of the password
+     * @param rehashedPassword Represents the new hash of the password
+     * @return True if the password hash is replaced, false otherwise
+     */
+    @Override
+    public boolean rehashPassword(final long userId, final String hashedPassword, final String rehashedPassword) {
+        final ParameterizedQuery query = userPersistenceService.rehashPassword(userId, hashedPassword,
+                rehashedPassword);
+
+        try (final Connection connection = DataBaseConnection.get();
+             final PreparedStatement preparedStatement = connection.prepareStatement(query.getQuery())) {
+            query.bind(preparedStatement);
 
-        try (final PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             return 0 < preparedStatement.executeUpdate();
         } catch (SQLException message) {
             throw new UserProfileUpdateException(message.getMessage());
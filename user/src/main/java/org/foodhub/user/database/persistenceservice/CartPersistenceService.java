@@ -2,8 +2,9 @@ package org.foodhub.user.database.persistenceservice;
 
 import java.util.Collection;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 import org.foodhub.database.querybuilder.Query;
 import org.foodhub.database.querybuilder.clauses.JoinClause;
@@ -11,9 +12,15 @@ import org.foodhub.database.querybuilder.clauses.JoinType;
 import org.foodhub.database.querybuilder.clauses.WhereClause;
 import org.foodhub.database.querybuilder.operator.ConditionalOperator;
 import org.foodhub.database.querybuilder.operator.LogicalOperator;
+import org.foodhub.database.querybuilder.parameter.ParameterType;
+import org.foodhub.database.querybuilder.parameter.QueryParameter;
+import org.foodhub.database.querytemplate.QueryTemplate;
+import org.foodhub.database.querytemplate.QueryTemplateCache;
+import org.foodhub.database.querywriter.ParameterizedQuery;
 import org.foodhub.database.querywriter.QueryWriter;
 import org.foodhub.database.querywriter.impl.QueryWriterImpl;
 import org.foodhub.restaurant.database.table.FoodTable;
+import org.foodhub.restaurant.database.table.RestaurantFoodTable;
 import org.foodhub.restaurant.database.table.RestaurantTable;
 import org.foodhub.user.model.cart.CartStatus;
 import org.foodhub.user.database.table.CartTable;
@@ -30,10 +37,17 @@ import org.foodhub.user.model.cart.Cart;
  */
 public final class CartPersistenceService {
 
+    private static final String GET_CART_QUERY = "cart.getCart";
+    private static final String RESERVE_CART_IDS_QUERY = "cart.reserveCartIds";
+    private static final String INSERT_CART_ITEM_QUERY = "cart.insertCartItem";
+    private static final String DELETE_CART_ITEM_QUERY = "cart.deleteCartItem";
+    private static final String DELETE_CART_ITEMS_QUERY = "cart.deleteCartItems";
     private final QueryWriter queryWriter;
+    private final QueryTemplateCache queryTemplateCache;
 
     private CartPersistenceService() {
         queryWriter = QueryWriterImpl.getInstance();
+        queryTemplateCache = QueryTemplateCache.getInstance();
     }
 
     /**
@@ -63,20 +77,58 @@ public final class CartPersistenceService {
      * </p>
      *
      * @param cart Represents the cart of the user
-     * @return The query to add the food to cart
+     * @return The parameterized query to add the food to cart
      */
-    public String getAddFoodQuery(final Cart cart) {
+    public ParameterizedQuery getAddFoodQuery(final Cart cart) {
         final String tableName = CartTable.TABLE_NAME;
-        final Map<String, String> insertFields = new HashMap<>();
+        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertParameters(getCartRow(cart))
+                .buildQuery();
 
-        insertFields.put(CartTable.USER_ID_COLUMN, String.valueOf(cart.getUserId()));
-        insertFields.put(CartTable.RESTAURANT_ID_COLUMN, String.valueOf(cart.getRestaurant().getId()));
-        insertFields.put(CartTable.FOOD_ID_COLUMN, String.valueOf(cart.getFood().getId()));
-        insertFields.put(CartTable.QUANTITY_COLUMN, String.valueOf(cart.getQuantity()));
-        insertFields.put(CartTable.TOTAL_AMOUNT_COLUMN, String.valueOf(cart.getAmount()));
-        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertFields(insertFields).buildQuery();
+        return queryWriter.writeParameterizedQuery(query);
+    }
+
+    /**
+     * <p>
+     * Adds the selected foods to the user cart in a single multi-row insert.
+     * </p>
+     *
+     * @param carts Represents the cart items of the user, at most {@link Query#MAXIMUM_INSERT_ROWS} items
+     * @return The parameterized query to add the foods to cart
+     */
+    public ParameterizedQuery getAddFoodsQuery(final List<Cart> carts) {
+        final String tableName = CartTable.TABLE_NAME;
+        final List<Map<String, QueryParameter>> insertRows = new ArrayList<>(carts.size());
 
-        return queryWriter.writeQuery(query);
+        for (final Cart cart : carts) {
+            insertRows.add(getCartRow(cart));
+        }
+        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertRows(insertRows).buildQuery();
+
+        return queryWriter.writeParameterizedQuery(query);
+    }
+
+    /**
+     * <p>
+     * Gets the insert parameters of the cart item.
+     * </p>
+     *
+     * @param cart Represents the cart of the user
+     * @return The insert parameters of the cart item
+     */
+    private Map<String, QueryParameter> getCartRow(final Cart cart) {
+        final Map<String, QueryParameter> insertParameters = new LinkedHashMap<>();
+
+        insertParameters.put(CartTable.USER_ID_COLUMN, new QueryParameter(ParameterType.LONG, cart.getUserId()));
+        insertParameters.put(CartTable.RESTAURANT_ID_COLUMN, new QueryParameter(ParameterType.LONG,
+                cart.getRestaurant().getId()));
+        insertParameters.put(CartTable.FOOD_ID_COLUMN, new QueryParameter(ParameterType.LONG,
+                cart.getFood().getId()));
+        insertParameters.put(CartTable.QUANTITY_COLUMN, new QueryParameter(ParameterType.INTEGER,
+                cart.getQuantity()));
+        insertParameters.put(CartTable.TOTAL_AMOUNT_COLUMN, new QueryParameter(ParameterType.FLOAT,
+                cart.getAmount()));
+
+        return insertParameters;
     }
 
     /**
@@ -84,10 +136,21 @@ public final class CartPersistenceService {
      * Gets all the cart items of the user.
      * </p>
      *
-     * @param userId Represents the id 0f the current user
+     * @return The query template to get all user cart items, bound with the id of the user
+     */
+    public QueryTemplate<Long> getCartQuery() {
+        return queryTemplateCache.getTemplate(GET_CART_QUERY, CartPersistenceService::buildCartQuery,
+                (preparedStatement, userId) -> preparedStatement.setLong(1, userId));
+    }
+
+    /**
+     * <p>
+     * Builds the parameterized query to get all the cart items of the user.
+     * </p>
+     *
      * @return The query to get all user cart items
      */
-    public String getCartQuery(final long userId) {
+    private static Query buildCartQuery() {
         final String tableName = FoodTable.TABLE_NAME_WITH_ALIAS;
         final Collection<String> selectFields = new ArrayList<>();
 
@@ -110,14 +173,13 @@ public final class CartPersistenceService {
         final Collection<WhereClause> whereClauses = new ArrayList<>();
 
         whereClauses.add(new WhereClause().setColumn(UserTable.ID_COLUMN_WITH_ALIAS)
-                .setConditionalOperator(ConditionalOperator.EQUAL).setValue(String.valueOf(userId)));
+                .setConditionalOperator(ConditionalOperator.EQUAL).setValue("?"));
         whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND)
                 .setColumn(CartTable.STATUS_COLUMN_WITH_ALIAS).setConditionalOperator(ConditionalOperator.EQUAL)
                 .setValue(String.valueOf(CartStatus.getId(CartStatus.IN_CART))));
-        final Query query = new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
-                .setJoins(joins).setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
+                .setJoins(joins).setWhereClauses(whereClauses).buildQuery();
     }
 
     /**
@@ -126,22 +188,22 @@ public final class CartPersistenceService {
      * </p>
      *
      * @param cartId Represents the id 0f the user cart
-     * @return The query to remove the food from the cart
+     * @return The parameterized query to remove the food from the cart
      */
-    public String getRemoveFoodQuery(final long cartId) {
+    public ParameterizedQuery getRemoveFoodQuery(final long cartId) {
         final String tableName = CartTable.TABLE_NAME;
         final Collection<WhereClause> whereClauses = new ArrayList<>();
 
         whereClauses.add(new WhereClause().setColumn(CartTable.ID_COLUMN)
                 .setConditionalOperator(ConditionalOperator.EQUAL)
-                .setValue(String.valueOf(cartId)));
+                .setParameter(new QueryParameter(ParameterType.LONG, cartId)));
         whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND).setColumn(CartTable.STATUS_COLUMN)
                 .setConditionalOperator(ConditionalOperator.EQUAL)
                 .setValue(String.valueOf(CartStatus.getId(CartStatus.IN_CART))));
         final Query query = new Query.QueryBuilder().setTableName(tableName).setDeleteStatement(true)
                 .setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
     }
 
     /**
@@ -150,21 +212,178 @@ public final class CartPersistenceService {
      * </p>
      *
      * @param userId Represents the id of the current user
-     * @return The query to clear all the items in the user cart
+     * @return The parameterized query to clear all the items in the user cart
      */
-    public String getClearCartQuery(final long userId) {
+    public ParameterizedQuery getClearCartQuery(final long userId) {
         final String tableName = CartTable.TABLE_NAME;
         final Collection<WhereClause> whereClauses = new ArrayList<>();
 
         whereClauses.add(new WhereClause().setColumn(CartTable.USER_ID_COLUMN)
                 .setConditionalOperator(ConditionalOperator.EQUAL)
-                .setValue(String.valueOf(userId)));
+                .setParameter(new QueryParameter(ParameterType.LONG, userId)));
         whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND).setColumn(CartTable.STATUS_COLUMN)
                 .setConditionalOperator(ConditionalOperator.EQUAL)
                 .setValue(String.valueOf(CartStatus.getId(CartStatus.IN_CART))));
         final Query query = new Query.QueryBuilder().setTableName(tableName).setDeleteStatement(true)
                 .setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
+    }
+
+    /**
+     * <p>
+     * Reserves the ids of the cart items, so the cart items are added in memory with their ids before they are
+     * inserted.
+     * </p>
+     *
+     * @return The query template to reserve the cart ids, bound with the count of the ids
+     */
+    public QueryTemplate<Integer> reserveCartIds() {
+        return queryTemplateCache.getTemplate(RESERVE_CART_IDS_QUERY, CartPersistenceService::buildReserveCartIdsQuery,
+                (preparedStatement, count) -> preparedStatement.setInt(1, count));
+    }
+
+    /**
+     * <p>
+     * Builds the query to get the next values of the cart id sequence.
+     * </p>
+     *
+     * @return The query to reserve the cart ids
+     */
+    private static Query buildReserveCartIdsQuery() {
+        final String tableName = "generate_series(1, ?)";
+        final Collection<String> selectFields = new ArrayList<>();
+
+        selectFields.add(String.join("", "nextval(pg_get_serial_sequence('", CartTable.TABLE_NAME, "', '",
+                CartTable.ID_COLUMN, "'))"));
+
+        return new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields).buildQuery();
+    }
+
+    /**
+     * <p>
+     * Inserts the cart item along with its reserved id.
+     * </p>
+     *
+     * @return The query template to insert the cart item, bound with the cart item
+     */
+    public QueryTemplate<Cart> insertCartItem() {
+        return queryTemplateCache.getTemplate(INSERT_CART_ITEM_QUERY, CartPersistenceService::buildInsertCartItemQuery,
+                (preparedStatement, cart) -> {
+                    preparedStatement.setLong(1, cart.getId());
+                    preparedStatement.setLong(2, cart.getUserId());
+                    preparedStatement.setLong(3, cart.getRestaurant().getId());
+                    preparedStatement.setLong(4, cart.getFood().getId());
+                    preparedStatement.setObject(5, cart.getQuantity());
+                    preparedStatement.setObject(6, cart.getAmount());
+                });
+    }
+
+    /**
+     * <p>
+     * Builds the parameterized query to insert the cart item along with its id.
+     * </p>
+     *
+     * @return The query to insert the cart item
+     */
+    private static Query buildInsertCartItemQuery() {
+        final String tableName = CartTable.TABLE_NAME;
+        final String param = "?";
+        final Map<String, String> insertFields = new LinkedHashMap<>();
+
+        insertFields.put(CartTable.ID_COLUMN, param);
+        insertFields.put(CartTable.USER_ID_COLUMN, param);
+        insertFields.put(CartTable.RESTAURANT_ID_COLUMN, param);
+        insertFields.put(CartTable.FOOD_ID_COLUMN, param);
+        insertFields.put(CartTable.QUANTITY_COLUMN, param);
+        insertFields.put(CartTable.TOTAL_AMOUNT_COLUMN, param);
+
+        return new Query.QueryBuilder().setTableName(tableName).setInsertFields(insertFields).buildQuery();
+    }
+
+    /**
+     * <p>
+     * Deletes the cart item still in the cart.
+     * </p>
+     *
+     * @return The query template to delete the cart item, bound with the id of the cart item
+     */
+    public QueryTemplate<Long> deleteCartItem() {
+        return queryTemplateCache.getTemplate(DELETE_CART_ITEM_QUERY,
+                () -> buildDeleteCartItemsQuery(CartTable.ID_COLUMN),
+                (preparedStatement, cartId) -> preparedStatement.setLong(1, cartId));
+    }
+
+    /**
+     * <p>
+     * Deletes all the cart items of the user still in the cart.
+     * </p>
+     *
+     * @return The query template to delete the cart items, bound with the id of the user
+     */
+    public QueryTemplate<Long> deleteCartItems() {
+        return queryTemplateCache.getTemplate(DELETE_CART_ITEMS_QUERY,
+                () -> buildDeleteCartItemsQuery(CartTable.USER_ID_COLUMN),
+                (preparedStatement, userId) -> preparedStatement.setLong(1, userId));
+    }
+
+    /**
+     * <p>
+     * Builds the parameterized query to delete the cart items still in the cart.
+     * </p>
+     *
+     * @param column Represents the column the cart items are deleted by
+     * @return The query to delete the cart items
+     */
+    private static Query buildDeleteCartItemsQuery(final String column) {
+        final String tableName = CartTable.TABLE_NAME;
+        final Collection<WhereClause> whereClauses = new ArrayList<>();
+
+        whereClauses.add(new WhereClause().setColumn(column).setConditionalOperator(ConditionalOperator.EQUAL)
+                .setValue("?"));
+        whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND).setColumn(CartTable.STATUS_COLUMN)
+                .setConditionalOperator(ConditionalOperator.EQUAL)
+                .setValue(String.valueOf(CartStatus.getId(CartStatus.IN_CART))));
+
+        return new Query.QueryBuilder().setTableName(tableName).setDeleteStatement(true)
+                .setWhereClauses(whereClauses).buildQuery();
+    }
+
+    /**
+     * <p>
+     * Gets the foods along with the restaurants serving them, so the cart items are checked against the menucards.
+     * </p>
+     *
+     * @param foodIds Represents the ids of the foods, at most {@link Query#MAXIMUM_INSERT_ROWS} ids
+     * @return The parameterized query to get the foods and their restaurants
+     */
+    public ParameterizedQuery getMenuItemsQuery(final Collection<Long> foodIds) {
+        final String tableName = FoodTable.TABLE_NAME_WITH_ALIAS;
+        final Collection<String> selectFields = new ArrayList<>();
+
+        selectFields.add(FoodTable.ID_COLUMN_WITH_ALIAS);
+        selectFields.add(FoodTable.NAME_COLUMN_WITH_ALIAS);
+        selectFields.add(RestaurantTable.ID_COLUMN_WITH_ALIAS);
+        selectFields.add(RestaurantTable.NAME_COLUMN_WITH_ALIAS);
+        final Collection<JoinClause> joins = new ArrayList<>();
+
+        joins.add(new JoinClause().setJoinType(JoinType.JOIN).setTableName(RestaurantFoodTable.TABLE_NAME_WITH_ALIAS)
+                .setJoinConditions(FoodTable.ID_COLUMN_WITH_ALIAS, RestaurantFoodTable.FOOD_ID_COLUMN_WITH_ALIAS));
+        joins.add(new JoinClause().setJoinType(JoinType.JOIN).setTableName(RestaurantTable.TABLE_NAME_WITH_ALIAS)
+                .setJoinConditions(RestaurantFoodTable.RESTAURANT_ID_COLUMN_WITH_ALIAS,
+                        RestaurantTable.ID_COLUMN_WITH_ALIAS));
+        final List<QueryParameter> parameters = new ArrayList<>(foodIds.size());
+
+        for (final Long foodId : foodIds) {
+            parameters.add(new QueryParameter(ParameterType.LONG, foodId));
+        }
+        final Collection<WhereClause> whereClauses = new ArrayList<>();
+
+        whereClauses.add(new WhereClause().setColumn(FoodTable.ID_COLUMN_WITH_ALIAS)
+                .setConditionalOperator(ConditionalOperator.IN).setParameters(parameters));
+        final Query query = new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
+                .setJoins(joins).setWhereClauses(whereClauses).buildQuery();
+
+        return queryWriter.writeParameterizedQuery(query);
     }
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package org.foodhub.user.database.persistenceservice;
 
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.ArrayList;
 
@@ -11,13 +11,17 @@ import org.foodhub.database.querybuilder.clauses.JoinType;
 import org.foodhub.database.querybuilder.clauses.WhereClause;
 import org.foodhub.database.querybuilder.operator.ConditionalOperator;
 import org.foodhub.database.querybuilder.operator.LogicalOperator;
-import org.foodhub.database.querywriter.QueryWriter;
-import org.foodhub.database.querywriter.impl.QueryWriterImpl;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.database.querytemplate.QueryTemplate;
+import org.foodhub.database.querytemplate.QueryTemplateCache;
 import org.foodhub.restaurant.database.table.FoodTable;
 import org.foodhub.restaurant.database.table.RestaurantTable;
 import org.foodhub.user.model.cart.CartStatus;
 import org.foodhub.user.database.table.CartTable;
+import org.foodhub.user.database.table.OrderIdempotencyTable;
 import org.foodhub.user.database.table.OrderTable;
+import org.foodhub.user.model.order.IdempotencyKey;
+import org.foodhub.user.model.order.Order;
 
 /**
  * <p>
@@ -29,10 +33,16 @@ import org.foodhub.user.database.table.OrderTable;
  */
 public final class OrderPersistenceService {
 
-    private final QueryWriter queryWriter;
+    private static final String PLACE_ORDER_QUERY = "order.placeOrder";
+    private static final String UPDATE_CART_STATUS_QUERY = "order.updateCartStatus";
+    private static final String RESERVE_FOOD_QUANTITY_QUERY = "order.reserveFoodQuantity";
+    private static final String RECORD_IDEMPOTENCY_KEY_QUERY = "order.recordIdempotencyKey";
+    private static final String GET_REQUEST_FINGERPRINT_QUERY = "order.getRequestFingerprint";
+    private static final String GET_ORDERS_QUERY = "order.getOrders";
+    private final QueryTemplateCache queryTemplateCache;
 
     private OrderPersistenceService() {
-        queryWriter = QueryWriterImpl.getInstance();
+        queryTemplateCache = QueryTemplateCache.getInstance();
     }
 
     /**
@@ -61,19 +71,151 @@ public final class OrderPersistenceService {
      * places the user orders.
      * </p>
      *
+     * @return The query template to place the user order, bound with the order
+     */
+    public QueryTemplate<Order> getPlaceOrderQuery() {
+        return queryTemplateCache.getTemplate(PLACE_ORDER_QUERY, OrderPersistenceService::buildPlaceOrderQuery,
+                (preparedStatement, order) -> {
+                    preparedStatement.setLong(1, order.getCartId());
+                    preparedStatement.setLong(2, order.getUserId());
+                    preparedStatement.setLong(3, order.getAddressId());
+                });
+    }
+
+    /**
+     * <p>
+     * Builds the parameterized query to place the user orders.
+     * </p>
+     *
      * @return The query to place the user order
      */
-    public String getPlaceOrderQuery() {
+    private static Query buildPlaceOrderQuery() {
         final String tableName = OrderTable.TABLE_NAME;
         final String param = "?";
-        final Map<String, String> insertFields = new HashMap<>();
+        final Map<String, String> insertFields = new LinkedHashMap<>();
 
-        insertFields.put(OrderTable.USER_ID_COLUMN, param);
         insertFields.put(OrderTable.CART_ID_COLUMN, param);
+        insertFields.put(OrderTable.USER_ID_COLUMN, param);
         insertFields.put(OrderTable.ADDRESS_ID_COLUMN, param);
-        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertFields(insertFields).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return new Query.QueryBuilder().setTableName(tableName).setInsertFields(insertFields).buildQuery();
+    }
+
+    /**
+     * <p>
+     * Reserves the ordered quantity of the food, the quantity is decremented only if the food has enough quantity.
+     * </p>
+     *
+     * @return The query template to reserve the food quantity, bound with the food id and the ordered quantity
+     */
+    public QueryTemplate<Map.Entry<Long, Integer>> reserveFoodQuantity() {
+        return queryTemplateCache.getTemplate(RESERVE_FOOD_QUANTITY_QUERY,
+                OrderPersistenceService::buildReserveFoodQuantityQuery, (preparedStatement, foodQuantity) -> {
+                    preparedStatement.setInt(1, foodQuantity.getValue());
+                    preparedStatement.setLong(2, foodQuantity.getKey());
+                    preparedStatement.setInt(3, foodQuantity.getValue());
+                });
+    }
+
+    /**
+     * <p>
+     * Builds the parameterized query to decrement the food quantity if the food has enough quantity, the row lock of
+     * the food is held only until the order is placed.
+     * </p>
+     *
+     * @return The query to reserve the food quantity
+     */
+    private static Query buildReserveFoodQuantityQuery() {
+        final String tableName = FoodTable.TABLE_NAME;
+        final Map<String, String> updateExpressions = new LinkedHashMap<>();
+
+        updateExpressions.put(FoodTable.QUANTITY_COLUMN, String.join(" ", FoodTable.QUANTITY_COLUMN, "-", "?"));
+        final Collection<WhereClause> whereClauses = new ArrayList<>();
+
+        whereClauses.add(new WhereClause().setColumn(FoodTable.ID_COLUMN)
+                .setConditionalOperator(ConditionalOperator.EQUAL).setValue("?"));
+        whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND)
+                .setColumn(FoodTable.QUANTITY_COLUMN).setConditionalOperator(ConditionalOperator.GREATER_THAN_EQUAL)
+                .setValue("?"));
+
+        return new Query.QueryBuilder().setTableName(tableName).setUpdateExpressions(updateExpressions)
+                .setWhereClauses(whereClauses).buildQuery();
+    }
+
+    /**
+     * <p>
+     * Records the idempotency key of the order along with the fingerprint of the order, the key already recorded for
+     * the user is left as it is.
+     * </p>
+     *
+     * @return The query template to record the idempotency key, bound with the idempotency key
+     */
+    public QueryTemplate<IdempotencyKey> recordIdempotencyKey() {
+        return queryTemplateCache.getTemplate(RECORD_IDEMPOTENCY_KEY_QUERY,
+                OrderPersistenceService::buildRecordIdempotencyKeyQuery, (preparedStatement, idempotencyKey) -> {
+                    preparedStatement.setLong(1, idempotencyKey.getUserId());
+                    preparedStatement.setString(2, idempotencyKey.getKey());
+                    preparedStatement.setString(3, idempotencyKey.getRequestFingerprint());
+                });
+    }
+
+    /**
+     * <p>
+     * Builds the parameterized query to insert the idempotency key, the conflicting key inserts no row.
+     * </p>
+     *
+     * @return The query to record the idempotency key
+     */
+    private static Query buildRecordIdempotencyKeyQuery() {
+        final String tableName = OrderIdempotencyTable.TABLE_NAME;
+        final String param = "?";
+        final Map<String, String> insertFields = new LinkedHashMap<>();
+
+        insertFields.put(OrderIdempotencyTable.USER_ID_COLUMN, param);
+        insertFields.put(OrderIdempotencyTable.IDEMPOTENCY_KEY_COLUMN, param);
+        insertFields.put(OrderIdempotencyTable.REQUEST_FINGERPRINT_COLUMN, param);
+
+        return new Query.QueryBuilder().setTableName(tableName).setInsertFields(insertFields)
+                .setIgnoringConflicts(true).buildQuery();
+    }
+
+    /**
+     * <p>
+     * Gets the fingerprint of the order the idempotency key was recorded by.
+     * </p>
+     *
+     * @return The query template to get the request fingerprint, bound with the idempotency key
+     */
+    public QueryTemplate<IdempotencyKey> getRequestFingerprint() {
+        return queryTemplateCache.getTemplate(GET_REQUEST_FINGERPRINT_QUERY,
+                OrderPersistenceService::buildRequestFingerprintQuery, (preparedStatement, idempotencyKey) -> {
+                    preparedStatement.setLong(1, idempotencyKey.getUserId());
+                    preparedStatement.setString(2, idempotencyKey.getKey());
+                });
+    }
+
+    /**
+     * <p>
+     * Builds the parameterized query to get the request fingerprint recorded along with the idempotency key.
+     * </p>
+     *
+     * @return The query to get the request fingerprint
+     */
+    private static Query buildRequestFingerprintQuery() {
+        final String tableName = OrderIdempotencyTable.TABLE_NAME;
+        final Collection<String> selectFields = new ArrayList<>();
+
+        selectFields.add(OrderIdempotencyTable.REQUEST_FINGERPRINT_COLUMN);
+        final Collection<WhereClause> whereClauses = new ArrayList<>();
+
+        whereClauses.add(new WhereClause().setColumn(OrderIdempotencyTable.USER_ID_COLUMN)
+                .setConditionalOperator(ConditionalOperator.EQUAL).setValue("?"));
+        whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND)
+                .setColumn(OrderIdempotencyTable.IDEMPOTENCY_KEY_COLUMN)
+                .setConditionalOperator(ConditionalOperator.EQUAL).setValue("?"));
+
+        return new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
+                .setWhereClauses(whereClauses).buildQuery();
     }
 
     /**
@@ -81,21 +223,33 @@ public final class OrderPersistenceService {
      * Updates the cart status after the order is placed.
      * </p>
      *
+     * @return The query template to update the user cart status, bound with the order
+     */
+    public QueryTemplate<Order> updateCartStatus() {
+        return queryTemplateCache.getTemplate(UPDATE_CART_STATUS_QUERY,
+                OrderPersistenceService::buildUpdateCartStatusQuery,
+                (preparedStatement, order) -> preparedStatement.setLong(1, order.getCartId()));
+    }
+
+    /**
+     * <p>
+     * Builds the parameterized query to update the cart status after the order is placed.
+     * </p>
+     *
      * @return The query to update the user cart status
      */
-    public String updateCartStatus() {
+    private static Query buildUpdateCartStatusQuery() {
         final String tableName = CartTable.TABLE_NAME;
-        final Map<String, String> updateFields = new HashMap<>();
+        final Map<String, String> updateFields = new LinkedHashMap<>();
 
         updateFields.put(CartTable.STATUS_COLUMN, String.valueOf(CartStatus.getId(CartStatus.ORDER_PLACED)));
         final Collection<WhereClause> whereClauses = new ArrayList<>();
 
         whereClauses.add(new WhereClause().setColumn(CartTable.ID_COLUMN)
                 .setConditionalOperator(ConditionalOperator.EQUAL).setValue("?"));
-        final Query query = new Query.QueryBuilder().setTableName(tableName).setUpdateFields(updateFields)
-                .setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return new Query.QueryBuilder().setTableName(tableName).setUpdateFields(updateFields)
+                .setWhereClauses(whereClauses).buildQuery();
     }
 
     /**
@@ -103,10 +257,25 @@ public final class OrderPersistenceService {
      * Gets the orders placed by the user.
      * </p>
      *
-     * @param userId Represents the id of the user
-     * @return The query to get all the user orders
+     * @return The query template to get the page of user orders, bound with the page of the user orders
      */
-    public String getOrders(final long userId) {
+    public QueryTemplate<PageRequest> getOrders() {
+        return queryTemplateCache.getTemplate(GET_ORDERS_QUERY, OrderPersistenceService::buildOrdersQuery,
+                (preparedStatement, pageRequest) -> {
+                    preparedStatement.setLong(1, pageRequest.getOwnerId());
+                    preparedStatement.setLong(2, pageRequest.getAfter());
+                    preparedStatement.setInt(3, pageRequest.getLimit());
+                });
+    }
+
+    /**
+     * <p>
+     * Builds the parameterized query to get the page of orders placed by the user, ordered by the order id.
+     * </p>
+     *
+     * @return The query to get the page of user orders
+     */
+    private static Query buildOrdersQuery() {
         final String tableName = OrderTable.TABLE_NAME_WITH_ALIAS;
         final Collection<String> selectFields = new ArrayList<>();
 
@@ -131,13 +300,19 @@ public final class OrderPersistenceService {
         final Collection<WhereClause> whereClauses = new ArrayList<>();
 
         whereClauses.add(new WhereClause().setColumn(OrderTable.USER_ID_COLUMN_WITH_ALIAS)
-                .setConditionalOperator(ConditionalOperator.EQUAL).setValue(String.valueOf(userId)));
+                .setConditionalOperator(ConditionalOperator.EQUAL).setValue("?"));
         whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND)
                 .setColumn(CartTable.STATUS_COLUMN_WITH_ALIAS).setConditionalOperator(ConditionalOperator.EQUAL)
                 .setValue(String.valueOf(CartStatus.getId(CartStatus.ORDER_PLACED))));
-        final Query query = new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
-                .setJoins(joins).setWhereClauses(whereClauses).buildQuery();
+        whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND)
+                .setColumn(OrderTable.ID_COLUMN_WITH_ALIAS).setConditionalOperator(ConditionalOperator.GREATER_THAN)
+                .setValue("?"));
+        final Collection<String> orderByFields = new ArrayList<>();
+
+        orderByFields.add(OrderTable.ID_COLUMN_WITH_ALIAS);
 
-        return queryWriter.writeQuery(query);
+        return new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
+                .setJoins(joins).setWhereClauses(whereClauses).setOrderByFields(orderByFields).setLimit("?")
+                .buildQuery();
     }
 }
\ No newline at end of file
@@ -2,13 +2,16 @@ package org.foodhub.user.database.persistenceservice;
 
 import java.util.Collection;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 
-import org.foodhub.common.hashgenerator.PasswordHashGenerator;
 import org.foodhub.database.querybuilder.Query;
+import org.foodhub.database.querybuilder.parameter.ParameterType;
+import org.foodhub.database.querybuilder.parameter.QueryParameter;
 import org.foodhub.database.querybuilder.operator.ConditionalOperator;
 import org.foodhub.database.querybuilder.operator.LogicalOperator;
+import org.foodhub.database.querywriter.ParameterizedQuery;
 import org.foodhub.database.querywriter.QueryWriter;
 import org.foodhub.database.querybuilder.clauses.WhereClause;
 import org.foodhub.database.querywriter.impl.QueryWriterImpl;
@@ -60,20 +63,23 @@ public final class UserPersistenceService {
      * Creates the new user profile.
      * </p>
      *
-     * @param user Represents the user
-     * @return The query to create user profile
+     * @param user           Represents the user
+     * @param hashedPassword Represents the hash of the user password
+     * @return The parameterized query to create user profile, returning the id of the created user
      */
-    public String createUserProfile(final User user) {
+    public ParameterizedQuery createUserProfile(final User user, final String hashedPassword) {
         final String tableName = UserTable.TABLE_NAME;
-        final Map<String, String> insertFields = new HashMap<>();
+        final Map<String, QueryParameter> insertParameters = new LinkedHashMap<>();
 
-        insertFields.put(UserTable.NAME_COLUMN, user.getName());
-        insertFields.put(UserTable.PHONE_NUMBER_COLUMN, user.getPhoneNumber());
-        insertFields.put(UserTable.EMAIL_ID_COLUMN, user.getEmailId());
-        insertFields.put(UserTable.PASSWORD_COLUMN, PasswordHashGenerator.getInstance().hashPassword(user.getPassword()));
-        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertFields(insertFields).buildQuery();
+        insertParameters.put(UserTable.NAME_COLUMN, new QueryParameter(ParameterType.STRING, user.getName()));
+        insertParameters.put(UserTable.PHONE_NUMBER_COLUMN, new QueryParameter(ParameterType.STRING,
+                user.getPhoneNumber()));
+        insertParameters.put(UserTable.EMAIL_ID_COLUMN, new QueryParameter(ParameterType.STRING, user.getEmailId()));
+        insertParameters.put(UserTable.PASSWORD_COLUMN, new QueryParameter(ParameterType.STRING, hashedPassword));
+        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertParameters(insertParameters)
+                .setReturningId(true).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
     }
 
     /**
@@ -81,9 +87,9 @@ public final class UserPersistenceService {
      * Checks for the existing user.
      * </p>
      *
-     * @return The query to check the user if already exist
+     * @return The parameterized query to check the user if already exist
      */
-    public String isUserExist(final String phoneNumber, final String emailId) {
+    public ParameterizedQuery isUserExist(final String phoneNumber, final String emailId) {
         final String tableName = UserTable.TABLE_NAME;
         final Collection<String> selectFields = new ArrayList<>();
 
@@ -91,26 +97,27 @@ public final class UserPersistenceService {
         final Collection<WhereClause> whereClauses = new ArrayList<>();
 
         whereClauses.add(new WhereClause().setColumn(UserTable.PHONE_NUMBER_COLUMN)
-                .setConditionalOperator(ConditionalOperator.EQUAL).setValue(phoneNumber));
+                .setConditionalOperator(ConditionalOperator.EQUAL)
+                .setParameter(new QueryParameter(ParameterType.STRING, phoneNumber)));
         whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.OR).setColumn(UserTable.EMAIL_ID_COLUMN)
-                .setConditionalOperator(ConditionalOperator.EQUAL).setValue(emailId));
+                .setConditionalOperator(ConditionalOperator.EQUAL)
+                .setParameter(new QueryParameter(ParameterType.STRING, emailId)));
         final Query query = new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
                 .setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
     }
 
     /**
      * <p>
-     * Gets the user profile if the phone_number and password matches.
+     * Gets the user profile along with the stored password hash if the login data matches.
      * </p>
      *
      * @param userDataType Represents the data type of the user
      * @param userData     Represents the data of the user
-     * @param password     Represents the password of the user
-     * @return The query for initiating user login
+     * @return The parameterized query for initiating user login
      */
-    public String getUser(final String userDataType, final String userData, final String password) {
+    public ParameterizedQuery getUser(final String userDataType, final String userData) {
         final String tableName = UserTable.TABLE_NAME;
         final Collection<String> selectFields = new ArrayList<>();
 
@@ -122,13 +129,11 @@ public final class UserPersistenceService {
         final Collection<WhereClause> whereClauses = new ArrayList<>();
 
         whereClauses.add(new WhereClause().setColumn(userDataType).setConditionalOperator(ConditionalOperator.EQUAL)
-                .setValue(userData));
-        whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND).setColumn(UserTable.PASSWORD_COLUMN)
-                .setConditionalOperator(ConditionalOperator.EQUAL).setValue(password));
+                .setParameter(new QueryParameter(ParameterType.STRING, userData)));
         final Query query = new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
                 .setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
     }
 
     /**
@@ -137,9 +142,9 @@ public final class UserPersistenceService {
      * </p>
      *
      * @param userId Represents the password of the user
-     * @return The query to get the user by id
+     * @return The parameterized query to get the user by id
      */
-    public String getUserById(final long userId) {
+    public ParameterizedQuery getUserById(final long userId) {
         final String tableName = UserTable.TABLE_NAME;
         final Collection<String> selectFields = new ArrayList<>();
 
@@ -147,16 +152,15 @@ public final class UserPersistenceService {
         selectFields.add(UserTable.NAME_COLUMN);
         selectFields.add(UserTable.PHONE_NUMBER_COLUMN);
         selectFields.add(UserTable.EMAIL_ID_COLUMN);
-        selectFields.add(UserTable.PASSWORD_COLUMN);
         final Collection<WhereClause> whereClauses = new ArrayList<>();
 
         whereClauses.add(new WhereClause().setColumn(UserTable.ID_COLUMN)
                 .setConditionalOperator(ConditionalOperator.EQUAL)
-                .setValue(String.valueOf(userId)));
+                .setParameter(new QueryParameter(ParameterType.LONG, userId)));
         final Query query = new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
                 .setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
     }
 
     /**
@@ -165,22 +169,62 @@ public final class UserPersistenceService {
      * </p>
      *
      * @param address Represents the address of the user
-     * @return The query to add user address
+     * @return The parameterized query to add user address
+     */
+    public ParameterizedQuery addAddress(final Address address) {
+        final String tableName = AddressTable.TABLE_NAME;
+        final Query query = new Query.QueryBuilder().setTableName(tableName)
+                .setInsertParameters(getAddressRow(address)).buildQuery();
+
+        return queryWriter.writeParameterizedQuery(query);
+    }
+
+    /**
+     * <p>
+     * Adds the addresses of the users in a single multi-row insert.
+     * </p>
+     *
+     * @param addresses Represents the addresses of the users, at most {@link Query#MAXIMUM_INSERT_ROWS} addresses
+     * @return The parameterized query to add the addresses
      */
-    public String addAddress(final Address address) {
+    public ParameterizedQuery addAddresses(final List<Address> addresses) {
         final String tableName = AddressTable.TABLE_NAME;
-        final Map<String, String> insertFields = new HashMap<>();
-
-        insertFields.put(AddressTable.USER_ID_COLUMN, String.valueOf(address.getUserId()));
-        insertFields.put(AddressTable.HOUSE_NUMBER_COLUMN, address.getHouseNumber());
-        insertFields.put(AddressTable.STREET_NAME_COLUMN, address.getStreetName());
-        insertFields.put(AddressTable.AREA_NAME_COLUMN, address.getAreaName());
-        insertFields.put(AddressTable.CITY_NAME_COLUMN, address.getCityName());
-        insertFields.put(AddressTable.PINCODE_COLUMN, address.getPincode());
-        insertFields.put(AddressTable.ADDRESS_TYPE_COLUMN, String.valueOf(AddressType.getId(address.getAddressType())));
-        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertFields(insertFields).buildQuery();
-
-        return queryWriter.writeQuery(query);
+        final List<Map<String, QueryParameter>> insertRows = new ArrayList<>(addresses.size());
+
+        for (final Address address : addresses) {
+            insertRows.add(getAddressRow(address));
+        }
+        final Query query = new Query.QueryBuilder().setTableName(tableName).setInsertRows(insertRows).buildQuery();
+
+        return queryWriter.writeParameterizedQuery(query);
+    }
+
+    /**
+     * <p>
+     * Gets the insert parameters of the address.
+     * </p>
+     *
+     * @param address Represents the address of the user
+     * @return The insert parameters of the address
+     */
+    private Map<String, QueryParameter> getAddressRow(final Address address) {
+        final Map<String, QueryParameter> insertParameters = new LinkedHashMap<>();
+
+        insertParameters.put(AddressTable.USER_ID_COLUMN, new QueryParameter(ParameterType.LONG, address.getUserId()));
+        insertParameters.put(AddressTable.HOUSE_NUMBER_COLUMN, new QueryParameter(ParameterType.STRING,
+                address.getHouseNumber()));
+        insertParameters.put(AddressTable.STREET_NAME_COLUMN, new QueryParameter(ParameterType.STRING,
+                address.getStreetName()));
+        insertParameters.put(AddressTable.AREA_NAME_COLUMN, new QueryParameter(ParameterType.STRING,
+                address.getAreaName()));
+        insertParameters.put(AddressTable.CITY_NAME_COLUMN, new QueryParameter(ParameterType.STRING,
+                address.getCityName()));
+        insertParameters.put(AddressTable.PINCODE_COLUMN, new QueryParameter(ParameterType.STRING,
+                address.getPincode()));
+        insertParameters.put(AddressTable.ADDRESS_TYPE_COLUMN, new QueryParameter(ParameterType.INTEGER,
+                AddressType.getId(address.getAddressType())));
+
+        return insertParameters;
     }
 
     /**
@@ -189,9 +233,9 @@ public final class UserPersistenceService {
      * </p>
      *
      * @param userId Represents the id of the user
-     * @return The query to get all address of the user
+     * @return The parameterized query to get all address of the user
      */
-    public String getAddress(final long userId) {
+    public ParameterizedQuery getAddress(final long userId) {
         final String tableName = AddressTable.TABLE_NAME;
         final Collection<String> selectFields = new ArrayList<>();
 
@@ -200,11 +244,11 @@ public final class UserPersistenceService {
 
         whereClauses.add(new WhereClause().setColumn(AddressTable.USER_ID_COLUMN)
                 .setConditionalOperator(ConditionalOperator.EQUAL)
-                .setValue(String.valueOf(userId)));
+                .setParameter(new QueryParameter(ParameterType.LONG, userId)));
         final Query query = new Query.QueryBuilder().setTableName(tableName).setSelectFields(selectFields)
                 .setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
     }
 
     /**
@@ -215,21 +259,51 @@ public final class UserPersistenceService {
      * @param userId       Represents the id of user
      * @param userData     Represents the data to be updated
      * @param userDataType Represents the type of data to be updated
-     * @return The query to update the user profile
+     * @return The parameterized query to update the user profile
+     */
+    public ParameterizedQuery updateUserProfile(final long userId, final String userDataType, final String userData) {
+        final String tableName = UserTable.TABLE_NAME;
+        final Map<String, QueryParameter> updateParameters = new LinkedHashMap<>();
+
+        updateParameters.put(userDataType, new QueryParameter(ParameterType.STRING, userData));
+        final Collection<WhereClause> whereClauses = new ArrayList<>();
+
+        whereClauses.add(new WhereClause().setColumn(UserTable.ID_COLUMN)
+                .setConditionalOperator(ConditionalOperator.EQUAL)
+                .setParameter(new QueryParameter(ParameterType.LONG, userId)));
+        final Query query = new Query.QueryBuilder().setTableName(tableName).setUpdateParameters(updateParameters)
+                .setWhereClauses(whereClauses).buildQuery();
+
+        return queryWriter.writeParameterizedQuery(query);
+    }
+
+    /**
+     * <p>
+     * Replaces the stored password hash of the user, if the stored hash was not changed meanwhile.
+     * </p>
+     *
+     * @param userId           Represents the id of user
+     * @param hashedPassword   Represents the stored hash of the password
+     * @param rehashedPassword Represents the new hash of the password
+     * @return The parameterized query to replace the password hash
      */
-    public String updateUserProfile(final long userId, final String userDataType, final String userData) {
+    public ParameterizedQuery rehashPassword(final long userId, final String hashedPassword,
+                                             final String rehashedPassword) {
         final String tableName = UserTable.TABLE_NAME;
-        final Map<String, String> updateFields = new HashMap<>();
+        final Map<String, QueryParameter> updateParameters = new LinkedHashMap<>();
 
-        updateFields.put(userDataType, userData);
+        updateParameters.put(UserTable.PASSWORD_COLUMN, new QueryParameter(ParameterType.STRING, rehashedPassword));
         final Collection<WhereClause> whereClauses = new ArrayList<>();
 
         whereClauses.add(new WhereClause().setColumn(UserTable.ID_COLUMN)
                 .setConditionalOperator(ConditionalOperator.EQUAL)
-                .setValue(String.valueOf(userId)));
-        final Query query = new Query.QueryBuilder().setTableName(tableName).setUpdateFields(updateFields)
+                .setParameter(new QueryParameter(ParameterType.LONG, userId)));
+        whereClauses.add(new WhereClause().setLogicalOperator(LogicalOperator.AND).setColumn(UserTable.PASSWORD_COLUMN)
+                .setConditionalOperator(ConditionalOperator.EQUAL)
+                .setParameter(new QueryParameter(ParameterType.STRING, hashedPassword)));
+        final Query query = new Query.QueryBuilder().setTableName(tableName).setUpdateParameters(updateParameters)
                 .setWhereClauses(whereClauses).buildQuery();
 
-        return queryWriter.writeQuery(query);
+        return queryWriter.writeParameterizedQuery(query);
     }
 }
\ No newline at end of file
@@ -3,6 +3,9 @@ package org.foodhub.user.database.resultsetextractor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import java.sql.ResultSet;
@@ -11,6 +14,7 @@ import java.sql.SQLException;
 import org.foodhub.restaurant.model.food.Food;
 import org.foodhub.restaurant.model.restaurant.Restaurant;
 import org.foodhub.user.exception.cart.CartDataNotFoundException;
+import org.foodhub.user.exception.cart.CartUpdateFailureException;
 import org.foodhub.user.model.cart.Cart;
 
 /**
@@ -62,18 +66,7 @@ public final class CartResultSetExtractor {
                 final Collection<Cart> cartList = new ArrayList<>();
 
                 while (resultSet.next()) {
-                    final Food food = new Food.FoodBuilder().setId(resultSet.getLong(3))
-                            .setName(resultSet.getString(4)).build();
-
-                    final Restaurant restaurant = new Restaurant.RestaurantBuilder()
-                            .setId(resultSet.getLong(5)).setName(resultSet.getString(6)).build();
-
-                    final Cart cart = new Cart.CartBuilder().setId(resultSet.getLong(1))
-                            .setUserId(resultSet.getLong(2)).setFood(food).setRestaurant(restaurant)
-                            .setQuantity(resultSet.getInt(7)).setAmount(resultSet.getFloat(8))
-                            .build();
-
-                    cartList.add(cart);
+                    cartList.add(getCartItem(resultSet));
                 }
 
                 return Optional.of(Collections.unmodifiableCollection(cartList));
@@ -84,4 +77,75 @@ public final class CartResultSetExtractor {
             throw new CartDataNotFoundException(message.getMessage());
         }
     }
+
+    /**
+     * <p>
+     * Gets the cart item of the user from the current row of the result set.
+     * </p>
+     *
+     * @param resultSet Represents the result set positioned on the cart row
+     * @return The cart item of the user
+     * @throws SQLException If the column can't be read
+     */
+    public Cart getCartItem(final ResultSet resultSet) throws SQLException {
+        final Food food = new Food.FoodBuilder().setId(resultSet.getLong(3))
+                .setName(resultSet.getString(4)).build();
+
+        final Restaurant restaurant = new Restaurant.RestaurantBuilder()
+                .setId(resultSet.getLong(5)).setName(resultSet.getString(6)).build();
+
+        return new Cart.CartBuilder().setId(resultSet.getLong(1))
+                .setUserId(resultSet.getLong(2)).setFood(food).setRestaurant(restaurant)
+                .setQuantity(resultSet.getInt(7)).setAmount(resultSet.getFloat(8))
+                .build();
+    }
+
+    /**
+     * <p>
+     * Gets the reserved ids of the cart items.
+     * </p>
+     *
+     * @param resultSet Represents the result set data from the executed query.
+     * @return The reserved cart ids
+     */
+    public List<Long> getCartIds(final ResultSet resultSet) {
+        try {
+            final List<Long> cartIds = new ArrayList<>();
+
+            while (resultSet.next()) {
+                cartIds.add(resultSet.getLong(1));
+            }
+
+            return cartIds;
+        } catch (SQLException message) {
+            throw new CartUpdateFailureException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the foods along with the restaurants serving them.
+     * </p>
+     *
+     * @param resultSet Represents the result set data from the executed query.
+     * @return The cart items holding the food and its restaurant, mapped by the id of the food
+     */
+    public Map<Long, Cart> getMenuItems(final ResultSet resultSet) {
+        try {
+            final Map<Long, Cart> menuItems = new HashMap<>();
+
+            while (resultSet.next()) {
+                final Food food = new Food.FoodBuilder().setId(resultSet.getLong(1))
+                        .setName(resultSet.getString(2)).build();
+                final Restaurant restaurant = new Restaurant.RestaurantBuilder()
+                        .setId(resultSet.getLong(3)).setName(resultSet.getString(4)).build();
+
+                menuItems.put(food.getId(), new Cart.CartBuilder().setFood(food).setRestaurant(restaurant).build());
+            }
+
+            return menuItems;
+        } catch (SQLException message) {
+            throw new CartDataNotFoundException(message.getMessage());
+        }
+    }
 }
@@ -1,17 +1,12 @@
 package org.foodhub.user.database.resultsetextractor;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Optional;
-
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Optional;
 
 import org.foodhub.restaurant.model.food.Food;
 import org.foodhub.restaurant.model.restaurant.Restaurant;
 import org.foodhub.user.model.order.Order;
-import org.foodhub.user.exception.order.OrderDataNotFoundException;
 
 /**
  * <p>
@@ -49,40 +44,37 @@ public final class OrderResultSetExtractor {
 
     /**
      * <p>
-     * Gets the orders placed by the user.
+     * Gets the order placed by the user from the current row of the result set.
      * </p>
      *
-     * @param resultSet Represents the result set data from the executed query.
-     * @return List having all the orders placed by the user
+     * @param resultSet Represents the result set positioned on the order row
+     * @return The order placed by the user
+     * @throws SQLException If the column can't be read
      */
-    public Optional<Collection<Order>> getOrders(final ResultSet resultSet) {
-        try {
-
-            if (resultSet.isBeforeFirst()) {
-                final Collection<Order> orderList = new ArrayList<>();
-
-                while (resultSet.next()) {
-                    final Food food = new Food.FoodBuilder().setId(resultSet.getLong(4))
-                            .setName(resultSet.getString(5)).build();
-
-                    final Restaurant restaurant = new Restaurant.RestaurantBuilder()
-                            .setId(resultSet.getLong(6)).setName(resultSet.getString(7)).build();
-
-                    final Order order = new Order.OrderBuilder().setId(resultSet.getLong(1))
-                            .setUserId(resultSet.getLong(2)).setCartId(resultSet.getLong(3))
-                            .setFood(food).setRestaurant(restaurant).setQuantity(resultSet.getInt(8))
-                            .setAmount(resultSet.getFloat(9)).setAddressId(resultSet.getLong(10))
-                            .build();
-
-                    orderList.add(order);
-                }
-
-                return Optional.of(Collections.unmodifiableCollection(orderList));
-            }
+    public Order getOrder(final ResultSet resultSet) throws SQLException {
+        final Food food = new Food.FoodBuilder().setId(resultSet.getLong(4))
+                .setName(resultSet.getString(5)).build();
+
+        final Restaurant restaurant = new Restaurant.RestaurantBuilder()
+                .setId(resultSet.getLong(6)).setName(resultSet.getString(7)).build();
+
+        return new Order.OrderBuilder().setId(resultSet.getLong(1))
+                .setUserId(resultSet.getLong(2)).setCartId(resultSet.getLong(3))
+                .setFood(food).setRestaurant(restaurant).setQuantity(resultSet.getInt(8))
+                .setAmount(resultSet.getFloat(9)).setAddressId(resultSet.getLong(10))
+                .build();
+    }
 
-            return Optional.empty();
-        } catch (SQLException message) {
-            throw new OrderDataNotFoundException(message.getMessage());
-        }
+    /**
+     * <p>
+     * Gets the fingerprint of the order the idempotency key was recorded by.
+     * </p>
+     *
+     * @param resultSet Represents the result set of the request fingerprint
+     * @return The request fingerprint, empty if the key is not recorded
+     * @throws SQLException If the column can't be read
+     */
+    public Optional<String> getRequestFingerprint(final ResultSet resultSet) throws SQLException {
+        return resultSet.next() ? Optional.ofNullable(resultSet.getString(1)) : Optional.empty();
     }
 }
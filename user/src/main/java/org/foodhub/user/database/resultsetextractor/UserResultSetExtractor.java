@@ -11,6 +11,7 @@ import java.sql.SQLException;
 import org.foodhub.user.model.address.Address;
 import org.foodhub.user.model.address.AddressType;
 import org.foodhub.user.exception.user.address.AddressDataPersistenceException;
+import org.foodhub.user.exception.user.UserProfileCreationException;
 import org.foodhub.user.exception.user.UserProfileNotFoundException;
 import org.foodhub.user.model.user.User;
 
@@ -74,6 +75,52 @@ public final class UserResultSetExtractor {
         }
     }
 
+    /**
+     * <p>
+     * Gets the user profile without the password from the result set.
+     * </p>
+     *
+     * @param resultSet Represents the result set data from the executed query.
+     * @return The user object
+     */
+    public Optional<User> getUserProfile(final ResultSet resultSet) {
+        try {
+
+            if (resultSet.next()) {
+                final User user = new User.UserBuilder().setId(resultSet.getLong(1))
+                        .setName(resultSet.getString(2)).setPhoneNumber(resultSet.getString(3))
+                        .setEmailId(resultSet.getString(4)).build();
+
+                return Optional.of(user);
+            }
+
+            return Optional.empty();
+        } catch (SQLException message) {
+            throw new UserProfileNotFoundException(message.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the id of the created user from the result set.
+     * </p>
+     *
+     * @param resultSet Represents the result set data from the executed query.
+     * @return The id of the created user
+     */
+    public Optional<Long> getUserId(final ResultSet resultSet) {
+        try {
+
+            if (resultSet.next()) {
+                return Optional.of(resultSet.getLong(1));
+            }
+
+            return Optional.empty();
+        } catch (SQLException message) {
+            throw new UserProfileCreationException(message.getMessage());
+        }
+    }
+
     /**
      * <p>
      * Check for the user is exist
@@ -0,0 +1,18 @@
+package org.foodhub.user.database.table;
+
+/**
+ * <p>
+ *  Holds the table and column names of the order idempotency table, the idempotency key is unique per user and is
+ *  recorded along with the fingerprint of the order it was claimed by
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class OrderIdempotencyTable {
+
+    public static final String TABLE_NAME = "order_idempotency";
+    public static final String USER_ID_COLUMN = "user_id";
+    public static final String IDEMPOTENCY_KEY_COLUMN = "idempotency_key";
+    public static final String REQUEST_FINGERPRINT_COLUMN = "request_fingerprint";
+}
@@ -0,0 +1,15 @@
+package org.foodhub.user.exception.order;
+
+import org.foodhub.exception.customexception.DefaultException;
+
+/**
+ * <p>
+ * Handles the exception when the order having the same idempotency key is already placed.
+ * </p>
+ */
+public class DuplicateOrderException extends DefaultException {
+
+    public DuplicateOrderException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package org.foodhub.user.exception.order;
+
+import org.foodhub.exception.customexception.DefaultException;
+
+/**
+ * <p>
+ * Handles the exception when the ordered quantity of the food is not available.
+ * </p>
+ */
+public class FoodQuantityUnavailableException extends DefaultException {
+
+    public FoodQuantityUnavailableException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package org.foodhub.user.exception.order;
+
+import org.foodhub.exception.customexception.DefaultException;
+
+/**
+ * <p>
+ * Handles the exception when the idempotency key is reused for the order differing from the order it was claimed by.
+ * </p>
+ */
+public class IdempotencyKeyMismatchException extends DefaultException {
+
+    public IdempotencyKeyMismatchException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,35 @@
+package org.foodhub.user.model.order;
+
+/**
+ * <p>
+ * Represents the idempotency key of the order along with the user placing the order and the fingerprint of the
+ * ordered items, so the key reused for a different order can be told apart from the retry of the same order.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+public final class IdempotencyKey {
+
+    private final long userId;
+    private final String key;
+    private final String requestFingerprint;
+
+    public IdempotencyKey(final long userId, final String key, final String requestFingerprint) {
+        this.userId = userId;
+        this.key = key;
+        this.requestFingerprint = requestFingerprint;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getRequestFingerprint() {
+        return requestFingerprint;
+    }
+}
@@ -1,5 +1,10 @@
 package org.foodhub.user.service;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.ws.rs.core.StreamingOutput;
+
 import org.foodhub.user.model.cart.Cart;
 
 /**
@@ -22,6 +27,16 @@ public interface CartService {
      */
     byte[] addFood(final Cart cart);
 
+    /**
+     * <p>
+     * Adds the selected foods to the user cart, either all the foods are added or none of them.
+     * </p>
+     *
+     * @param carts Represents the cart items of the user
+     * @return The Response of the foods adding to the cart
+     */
+    byte[] addFoods(final List<Cart> carts);
+
     /**
      * <p>
      * Gets the cart of the current user.
@@ -32,6 +47,26 @@ public interface CartService {
      */
     byte[] getCart(final long userId);
 
+    /**
+     * <p>
+     * Gets the cart of the current user without blocking the caller, the cart is read on the database executor.
+     * </p>
+     *
+     * @param userId Represents the id 0f the current user
+     * @return The future completed with the list of all foods from the user cart
+     */
+    CompletableFuture<byte[]> getCartAsync(final long userId);
+
+    /**
+     * <p>
+     * Streams the cart of the current user, the cart is read from the in-memory cart of the user.
+     * </p>
+     *
+     * @param userId Represents the id 0f the current user
+     * @return The streamed list of all foods from the user cart
+     */
+    StreamingOutput streamCart(final long userId);
+
     /**
      * <p>
      * Removes the selected food from the user cart.
@@ -51,4 +86,13 @@ public interface CartService {
      * @return The response for clearing the user cart
      */
     byte[] clearCart(final long userId);
+
+    /**
+     * <p>
+     * Gets the hit, load, flush and eviction counts of the cart sessions held in memory.
+     * </p>
+     *
+     * @return The metrics of the cart session store
+     */
+    byte[] getCartStoreMetrics();
 }
@@ -1,6 +1,9 @@
 package org.foodhub.user.service;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+import javax.ws.rs.core.StreamingOutput;
 
 import org.foodhub.user.model.order.Order;
 
@@ -26,11 +29,60 @@ public interface OrderService {
 
     /**
      * <p>
-     * Gets the orders placed by the user.
+     * places the user orders once for the idempotency key, the retried order is answered with the response of the
+     * placed order.
+     * </p>
+     *
+     * @param orderList      Represents the list of order items
+     * @param idempotencyKey Represents the idempotency key of the order, null if the order has no key
+     * @return The response for placing order
+     */
+    byte[] placeOrder(final Collection<Order> orderList, final String idempotencyKey);
+
+    /**
+     * <p>
+     * Gets the page of orders placed by the user, the next page starts after the id of the last order received.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @param after  Represents the id of the last order received, zero for the first page
+     * @param limit  Represents the maximum count of orders in the page
+     * @return The list having the page of orders placed by the user
+     */
+    byte[] getOrders(final long userId, final long after, final int limit);
+
+    /**
+     * <p>
+     * Gets the page of orders placed by the user without blocking the caller, the orders are read on the database
+     * executor.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @param after  Represents the id of the last order received, zero for the first page
+     * @param limit  Represents the maximum count of orders in the page
+     * @return The future completed with the list having the page of orders placed by the user
+     */
+    CompletableFuture<byte[]> getOrdersAsync(final long userId, final long after, final int limit);
+
+    /**
+     * <p>
+     * Streams the page of orders placed by the user, each order is written to the response as the database cursor
+     * advances.
      * </p>
      *
      * @param userId Represents the id of the user
-     * @return The list having all the orders placed by the user
+     * @param after  Represents the id of the last order received, zero for the first page
+     * @param limit  Represents the maximum count of orders in the page
+     * @return The streamed list having the page of orders placed by the user
+     */
+    StreamingOutput streamOrders(final long userId, final long after, final int limit);
+
+    /**
+     * <p>
+     * Gets the batch, rejected order and queued order counts of the order commit pipeline.
+     * </p>
+     *
+     * @return The metrics of the order commit pipeline
      */
-    byte[] getOrders(final long userId);
+    byte[] getOrderPipelineMetrics();
 }
\ No newline at end of file
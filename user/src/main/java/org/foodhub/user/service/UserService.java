@@ -1,5 +1,8 @@
 package org.foodhub.user.service;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.foodhub.user.database.dao.UserDAO;
 import org.foodhub.user.model.address.Address;
 import org.foodhub.user.model.user.User;
@@ -36,6 +39,17 @@ public interface UserService {
      */
     byte[] getUser(final UserLoginDetails userLoginDetails);
 
+    /**
+     * <p>
+     * Gets the user profile if the login data and the password matches, the password is verified on the password
+     * hashing executor without holding the request thread.
+     * </p>
+     *
+     * @param userLoginDetails Represents the instance of user login dto
+     * @return The future completed with the response of the user login
+     */
+    CompletableFuture<byte[]> getUserAsync(final UserLoginDetails userLoginDetails);
+
     /**
      * <p>
      * Gets the user profile if the id matches.
@@ -56,6 +70,16 @@ public interface UserService {
      */
     byte[] addAddress(final Address address);
 
+    /**
+     * <p>
+     * Adds the addresses of the users, either all the addresses are added or none of them.
+     * </p>
+     *
+     * @param addresses Represents the addresses of the users
+     * @return The response for the adding the addresses data
+     */
+    byte[] addAddresses(final List<Address> addresses);
+
     /**
      * <p>
      * Displays all the addresses of the user.
@@ -76,6 +100,15 @@ public interface UserService {
      */
     byte[] updateUserProfile(final UserProfileUpdateDetails userProfileUpdateDetails);
 
+    /**
+     * <p>
+     * Gets the active, queued, completed and rejected counts of the password hashing.
+     * </p>
+     *
+     * @return The metrics of the password hashing
+     */
+    byte[] getHashingMetrics();
+
     /**
      * <p>
      * Injects the mocked instance of user dao.
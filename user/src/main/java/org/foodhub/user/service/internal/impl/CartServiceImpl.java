@@ -1,15 +1,22 @@
 package org.foodhub.user.service.internal.impl;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import javax.ws.rs.core.StreamingOutput;
+
+import org.foodhub.user.database.dao.CartAsyncDAO;
 import org.foodhub.user.database.dao.CartDAO;
+import org.foodhub.user.database.dao.internal.impl.CartAsyncDAOImpl;
 import org.foodhub.user.database.dao.internal.impl.CartDAOImpl;
+import org.foodhub.user.database.dao.internal.impl.CartSessionStore;
 import org.foodhub.user.model.cart.Cart;
 import org.foodhub.user.service.CartService;
 import org.foodhub.common.hibernate.HibernateEntityValidator;
-import org.foodhub.common.json.JsonArray;
 import org.foodhub.common.json.JsonFactory;
+import org.foodhub.common.json.StatusResponses;
 import org.foodhub.common.json.JsonObject;
 import org.foodhub.common.hibernate.impl.HibernateEntityValidatorImpl;
 import org.foodhub.common.hibernate.validatorgroup.cart.ClearCartValidator;
@@ -27,14 +34,17 @@ import org.foodhub.common.hibernate.validatorgroup.cart.PostCartValidator;
  */
 public final class CartServiceImpl implements CartService {
 
-    private static final String STATUS = "status";
     private final JsonFactory jsonFactory;
+    private final StatusResponses statusResponses;
     private final HibernateEntityValidator validatorFactory;
     private final CartDAO cartDAO;
+    private final CartAsyncDAO cartAsyncDAO;
 
     private CartServiceImpl() {
         cartDAO = CartDAOImpl.getInstance();
+        cartAsyncDAO = CartAsyncDAOImpl.getInstance();
         jsonFactory = JsonFactory.getInstance();
+        statusResponses = jsonFactory.getStatusResponses();
         validatorFactory = HibernateEntityValidatorImpl.getInstance();
     }
 
@@ -70,11 +80,37 @@ public final class CartServiceImpl implements CartService {
         final JsonObject jsonObject = validatorFactory.validate(cart, PostCartValidator.class);
 
         if (jsonObject.isEmpty()) {
-            return cartDAO.addFood(cart) ? jsonObject.put(STATUS, "Successful cart item added").asBytes() :
-                    jsonObject.put(STATUS, "Unsuccessful adding cart item failed enter a valid id").asBytes();
+            return cartDAO.addFood(cart) ? statusResponses.getStatus("Successful cart item added") :
+                    statusResponses.getStatus("Unsuccessful adding cart item failed enter a valid id");
+        }
+
+        return statusResponses.getViolations(jsonObject);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param carts Represents the cart items of the user
+     * @return The Response of the foods adding to the cart
+     */
+    @Override
+    public byte[] addFoods(final List<Cart> carts) {
+        final JsonObject jsonObject = jsonFactory.createObjectNode();
+
+        if (null == carts || carts.isEmpty()) {
+            return statusResponses.getStatus("Unsuccessful cart items are empty");
+        }
+
+        for (final Cart cart : carts) {
+            jsonObject.addAll(validatorFactory.validate(cart, PostCartValidator.class));
+        }
+
+        if (jsonObject.isEmpty()) {
+            return cartDAO.addFoods(carts) ? statusResponses.getStatus("Successful cart items added") :
+                    statusResponses.getStatus("Unsuccessful adding cart items failed enter a valid id");
         }
 
-        return jsonObject.asBytes();
+        return statusResponses.getViolations(jsonObject);
     }
 
     /**
@@ -86,18 +122,70 @@ public final class CartServiceImpl implements CartService {
     @Override
     public byte[] getCart(final long userId) {
         final Cart cart = new Cart.CartBuilder().setUserId(userId).build();
-        final JsonArray jsonArray = jsonFactory.createArrayNode();
+        final JsonObject jsonObject = validatorFactory.validate(cart, GetCartValidator.class);
+
+        if (jsonObject.isEmpty()) {
+            return getCartResponse(cartDAO.getCart(userId));
+        }
+
+        return statusResponses.getViolationsArray(jsonObject);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the user
+     * @return The future completed with the list of all foods from the user cart
+     */
+    @Override
+    public CompletableFuture<byte[]> getCartAsync(final long userId) {
+        final Cart cart = new Cart.CartBuilder().setUserId(userId).build();
+        final JsonObject jsonObject = validatorFactory.validate(cart, GetCartValidator.class);
+
+        if (jsonObject.isEmpty()) {
+            return cartAsyncDAO.getCart(userId).thenApply(this::getCartResponse);
+        }
+
+        return CompletableFuture.completedFuture(statusResponses.getViolationsArray(jsonObject));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the user
+     * @return The streamed list of all foods from the user cart
+     */
+    @Override
+    public StreamingOutput streamCart(final long userId) {
+        final Cart cart = new Cart.CartBuilder().setUserId(userId).build();
         final JsonObject jsonObject = validatorFactory.validate(cart, GetCartValidator.class);
 
         if (jsonObject.isEmpty()) {
             final Optional<Collection<Cart>> cartList = cartDAO.getCart(userId);
 
-            return cartList.isPresent() ? jsonArray.build(cartList.get()).asBytes() :
-                    jsonArray.add(jsonFactory.createObjectNode()
-                            .put(STATUS, "Your cart is empty or user id is invalid")).asBytes();
+            if (cartList.isPresent()) {
+                return outputStream -> jsonFactory.getJsonWriter().writeArray(outputStream, cartList.get().iterator());
+            }
+            final byte[] response = statusResponses.getStatusArray("Your cart is empty or user id is invalid");
+
+            return outputStream -> outputStream.write(response);
         }
+        final byte[] response = statusResponses.getViolationsArray(jsonObject);
 
-        return jsonArray.add(jsonObject).asBytes();
+        return outputStream -> outputStream.write(response);
+    }
+
+    /**
+     * <p>
+     * Writes the cart items as the json response.
+     * </p>
+     *
+     * @param cartList Represents the cart items of the user
+     * @return The list of all foods from the user cart
+     */
+    private byte[] getCartResponse(final Optional<Collection<Cart>> cartList) {
+        return cartList.isPresent() ? jsonFactory.getJsonWriter().write(cartList.get()) :
+                statusResponses.getStatusArray("Your cart is empty or user id is invalid");
     }
 
     /**
@@ -113,11 +201,11 @@ public final class CartServiceImpl implements CartService {
 
         if (jsonObject.isEmpty()) {
             return cartDAO.removeFood(cartId) ?
-                    jsonObject.put(STATUS, "Successful food was removed").asBytes() :
-                    jsonObject.put(STATUS, "Unsuccessful removing food was failed enter a valid id").asBytes();
+                    statusResponses.getStatus("Successful food was removed") :
+                    statusResponses.getStatus("Unsuccessful removing food was failed enter a valid id");
         }
 
-        return jsonObject.asBytes();
+        return statusResponses.getViolations(jsonObject);
     }
 
     /**
@@ -133,10 +221,29 @@ public final class CartServiceImpl implements CartService {
 
         if (jsonObject.isEmpty()) {
             return cartDAO.clearCart(userId) ?
-                    jsonObject.put(STATUS, "Successful cart was cleared").asBytes() :
-                    jsonObject.put(STATUS, "Unsuccessful clearing cart was failed enter a valid id").asBytes();
+                    statusResponses.getStatus("Successful cart was cleared") :
+                    statusResponses.getStatus("Unsuccessful clearing cart was failed enter a valid id");
         }
 
-        return jsonObject.asBytes();
+        return statusResponses.getViolations(jsonObject);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The metrics of the cart session store
+     */
+    @Override
+    public byte[] getCartStoreMetrics() {
+        final CartSessionStore cartSessionStore = CartDAOImpl.getCartSessionStore();
+
+        return jsonFactory.createObjectNode()
+                .put("hits", String.valueOf(cartSessionStore.getHits()))
+                .put("loads", String.valueOf(cartSessionStore.getLoads()))
+                .put("flushes", String.valueOf(cartSessionStore.getFlushes()))
+                .put("failedFlushes", String.valueOf(cartSessionStore.getFailedFlushes()))
+                .put("evictions", String.valueOf(cartSessionStore.getEvictions()))
+                .put("sessions", String.valueOf(cartSessionStore.getSessions()))
+                .put("dirtySessions", String.valueOf(cartSessionStore.getDirtySessions())).asBytes();
     }
 }
\ No newline at end of file
@@ -1,15 +1,37 @@
 package org.foodhub.user.service.internal.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Optional;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import javax.ws.rs.core.StreamingOutput;
+
+import org.foodhub.common.exception.HashAlgorithmNotFoundException;
 import org.foodhub.common.hibernate.HibernateEntityValidator;
+import org.foodhub.database.cursor.ResultCursor;
+import org.foodhub.database.querybuilder.page.PageRequest;
+import org.foodhub.restaurant.exception.lock.LockTimeoutException;
+import org.foodhub.user.cache.OrderIdempotencyCache;
+import org.foodhub.user.database.dao.OrderAsyncDAO;
 import org.foodhub.user.database.dao.OrderDAO;
+import org.foodhub.user.database.dao.internal.impl.OrderAsyncDAOImpl;
+import org.foodhub.user.database.dao.internal.impl.OrderCommitPipeline;
 import org.foodhub.user.database.dao.internal.impl.OrderDAOImpl;
+import org.foodhub.user.exception.order.DuplicateOrderException;
+import org.foodhub.user.exception.order.FoodQuantityUnavailableException;
+import org.foodhub.user.exception.order.IdempotencyKeyMismatchException;
+import org.foodhub.user.model.order.IdempotencyKey;
 import org.foodhub.user.model.order.Order;
 import org.foodhub.user.service.OrderService;
-import org.foodhub.common.json.JsonArray;
 import org.foodhub.common.json.JsonFactory;
+import org.foodhub.common.json.StatusResponses;
 import org.foodhub.common.json.JsonObject;
 import org.foodhub.common.hibernate.impl.HibernateEntityValidatorImpl;
 import org.foodhub.common.hibernate.validatorgroup.order.GetOrderValidator;
@@ -25,15 +47,24 @@ import org.foodhub.common.hibernate.validatorgroup.order.PostOrderValdiator;
  */
 public final class OrderServiceImpl implements OrderService {
 
-    private static final String STATUS = "status";
+    private static final int MAXIMUM_IDEMPOTENCY_KEY_LENGTH = 255;
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
     private final JsonFactory jsonFactory;
+    private final StatusResponses statusResponses;
     private final HibernateEntityValidator validatorFactory;
     private final OrderDAO orderDAO;
+    private final OrderAsyncDAO orderAsyncDAO;
+    private final OrderIdempotencyCache orderIdempotencyCache;
+    private final byte[] placedResponse;
 
     private OrderServiceImpl() {
         orderDAO = OrderDAOImpl.getInstance();
+        orderAsyncDAO = OrderAsyncDAOImpl.getInstance();
         jsonFactory = JsonFactory.getInstance();
+        statusResponses = jsonFactory.getStatusResponses();
         validatorFactory = HibernateEntityValidatorImpl.getInstance();
+        orderIdempotencyCache = OrderIdempotencyCache.getInstance();
+        placedResponse = statusResponses.getStatus("Successful order was placed");
     }
 
     /**
@@ -65,37 +96,238 @@ public final class OrderServiceImpl implements OrderService {
      */
     @Override
     public byte[] placeOrder(final Collection<Order> orderList) {
+        return placeOrder(orderList, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The placement claims the idempotency key in memory first, the retry arriving while the order is placed waits
+     * for the same response, and the retry arriving after it is answered with the remembered response. The retry of
+     * the key forgotten by the memory is rejected by the database and answered as placed. The key is claimed along
+     * with the fingerprint of the orders, the key reused for different orders is rejected instead of being answered
+     * with the response of the earlier orders.
+     * </p>
+     *
+     * <p>
+     * The orders have to be placed by a single user, the user owns the idempotency key of the orders.
+     * </p>
+     *
+     * @param orderList      Represents the list of order items
+     * @param idempotencyKey Represents the idempotency key of the order, null if the order has no key
+     * @return The response for placing order
+     */
+    @Override
+    public byte[] placeOrder(final Collection<Order> orderList, final String idempotencyKey) {
         final JsonObject jsonObject = validatorFactory.validate(orderList, PostOrderValdiator.class);
 
+        if (!jsonObject.isEmpty()) {
+            return statusResponses.getViolations(jsonObject);
+        }
+
+        if (1 != orderList.stream().map(Order::getUserId).distinct().count()) {
+            return statusResponses.getStatus("Unsuccessful orders have to be placed by a single user");
+        }
+
+        if (null == idempotencyKey) {
+            return place(orderList, null);
+        }
+
+        if (idempotencyKey.isBlank() || MAXIMUM_IDEMPOTENCY_KEY_LENGTH < idempotencyKey.length()) {
+            return statusResponses.getStatus("Unsuccessful idempotency key is invalid");
+        }
+        final IdempotencyKey orderIdempotencyKey = new IdempotencyKey(orderList.iterator().next().getUserId(),
+                idempotencyKey, getRequestFingerprint(orderList));
+        final CompletableFuture<byte[]> placement = new CompletableFuture<>();
+        final CompletableFuture<byte[]> earlierPlacement;
+
+        try {
+            earlierPlacement = orderIdempotencyCache.claim(orderIdempotencyKey, placement);
+        } catch (IdempotencyKeyMismatchException message) {
+            return statusResponses.getStatus("Unsuccessful idempotency key is used by a different order");
+        }
+
+        if (null != earlierPlacement) {
+            try {
+                return earlierPlacement.join();
+            } catch (CompletionException message) {
+                return statusResponses.getStatus("Unsuccessful order placing failed");
+            }
+        }
+        byte[] response = null;
+
+        try {
+            response = place(orderList, orderIdempotencyKey);
+            placement.complete(response);
+
+            return response;
+        } catch (RuntimeException exception) {
+            placement.completeExceptionally(exception);
+            throw exception;
+        } finally {
+
+            if (placedResponse != response) {
+                orderIdempotencyCache.release(orderIdempotencyKey, placement);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Places the orders and gets the response of the placement, the order rejected as the duplicate of the placed
+     * order is answered as placed.
+     * </p>
+     *
+     * @param orderList      Represents the list of order items
+     * @param idempotencyKey Represents the idempotency key of the order, null if the order has no key
+     * @return The response for placing order
+     */
+    private byte[] place(final Collection<Order> orderList, final IdempotencyKey idempotencyKey) {
+        try {
+            return orderDAO.placeOrder(orderList, idempotencyKey) ? placedResponse :
+                    statusResponses.getStatus("Unsuccessful order placing failed");
+        } catch (DuplicateOrderException message) {
+            return placedResponse;
+        } catch (IdempotencyKeyMismatchException message) {
+            return statusResponses.getStatus("Unsuccessful idempotency key is used by a different order");
+        } catch (FoodQuantityUnavailableException message) {
+            return statusResponses.getStatus("Unsuccessful ordered food quantity is not available");
+        } catch (LockTimeoutException message) {
+            return statusResponses.getStatus("Unsuccessful ordered food is busy, try again");
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the fingerprint of the orders, the orders are fingerprinted in the order of their items so the retry
+     * listing the same items in a different order has the same fingerprint.
+     * </p>
+     *
+     * @param orderList Represents the list of order items
+     * @return The hex encoded digest of the order items
+     */
+    private static String getRequestFingerprint(final Collection<Order> orderList) {
+        final List<String> orderItems = new ArrayList<>(orderList.size());
+
+        for (final Order order : orderList) {
+            orderItems.add(String.join(",", String.valueOf(order.getCartId()),
+                    String.valueOf(order.getRestaurant().getId()), String.valueOf(order.getFood().getId()),
+                    String.valueOf(order.getQuantity()), String.valueOf(order.getAmount()),
+                    String.valueOf(order.getAddressId())));
+        }
+        Collections.sort(orderItems);
+
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(FINGERPRINT_ALGORITHM)
+                    .digest(String.join(";", orderItems).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException message) {
+            throw new HashAlgorithmNotFoundException(message.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the user
+     * @param after  Represents the id of the last order received, zero for the first page
+     * @param limit  Represents the maximum count of orders in the page
+     * @return The list having the page of orders placed by the user
+     */
+    @Override
+    public byte[] getOrders(final long userId, final long after, final int limit) {
+        final Order order = new Order.OrderBuilder().setUserId(userId).build();
+        final JsonObject jsonObject = validatorFactory.validate(order, GetOrderValidator.class);
+
+        if (jsonObject.isEmpty()) {
+            try (final ResultCursor<Order> orders = orderDAO.getOrders(new PageRequest(userId, after, limit))) {
+                return getOrdersResponse(orders);
+            }
+        }
+
+        return statusResponses.getViolationsArray(jsonObject);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId Represents the id of the user
+     * @param after  Represents the id of the last order received, zero for the first page
+     * @param limit  Represents the maximum count of orders in the page
+     * @return The future completed with the list having the page of orders placed by the user
+     */
+    @Override
+    public CompletableFuture<byte[]> getOrdersAsync(final long userId, final long after, final int limit) {
+        final Order order = new Order.OrderBuilder().setUserId(userId).build();
+        final JsonObject jsonObject = validatorFactory.validate(order, GetOrderValidator.class);
+
         if (jsonObject.isEmpty()) {
-            return orderDAO.placeOrder(orderList) ?
-                    jsonObject.put(STATUS, "Successful order was placed").asBytes() :
-                    jsonObject.put(STATUS, "Unsuccessful order placing failed").asBytes();
+            return orderAsyncDAO.getOrders(new PageRequest(userId, after, limit), this::getOrdersResponse);
         }
 
-        return jsonObject.asBytes();
+        return CompletableFuture.completedFuture(statusResponses.getViolationsArray(jsonObject));
     }
 
     /**
      * {@inheritDoc}
      *
      * @param userId Represents the id of the user
-     * @return The list having all the orders placed by the user
+     * @param after  Represents the id of the last order received, zero for the first page
+     * @param limit  Represents the maximum count of orders in the page
+     * @return The streamed list having the page of orders placed by the user
      */
     @Override
-    public byte[] getOrders(final long userId) {
+    public StreamingOutput streamOrders(final long userId, final long after, final int limit) {
         final Order order = new Order.OrderBuilder().setUserId(userId).build();
-        final JsonArray jsonArray = jsonFactory.createArrayNode();
         final JsonObject jsonObject = validatorFactory.validate(order, GetOrderValidator.class);
 
         if (jsonObject.isEmpty()) {
-            final Optional<Collection<Order>> orderList = orderDAO.getOrders(userId);
+            final ResultCursor<Order> orders = orderDAO.getOrders(new PageRequest(userId, after, limit));
+
+            return outputStream -> {
+                try (orders) {
 
-            return orderList.isPresent() ? jsonArray.build(orderList.get()).asBytes() :
-                    jsonArray.add(jsonFactory.createObjectNode()
-                            .put(STATUS, "Unsuccessful order list is empty or user id is invalid")).asBytes();
+                    if (orders.hasNext()) {
+                        jsonFactory.getJsonWriter().writeArray(outputStream, orders);
+                    } else {
+                        outputStream.write(statusResponses.getStatusArray(
+                                "Unsuccessful order list is empty or user id is invalid"));
+                    }
+                }
+            };
         }
+        final byte[] response = statusResponses.getViolationsArray(jsonObject);
+
+        return outputStream -> outputStream.write(response);
+    }
+
+    /**
+     * <p>
+     * Writes the orders read from the cursor as the json response.
+     * </p>
+     *
+     * @param orders Represents the cursor of the page of user orders
+     * @return The list having the page of orders placed by the user
+     */
+    private byte[] getOrdersResponse(final ResultCursor<Order> orders) {
+        return orders.hasNext() ? jsonFactory.getJsonWriter().writeArray(orders) :
+                statusResponses.getStatusArray("Unsuccessful order list is empty or user id is invalid");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The metrics of the order commit pipeline
+     */
+    @Override
+    public byte[] getOrderPipelineMetrics() {
+        final OrderCommitPipeline orderCommitPipeline = OrderDAOImpl.getOrderCommitPipeline();
 
-        return jsonArray.add(jsonObject).asBytes();
+        return jsonFactory.createObjectNode()
+                .put("batches", String.valueOf(orderCommitPipeline.getBatches()))
+                .put("batchedOrders", String.valueOf(orderCommitPipeline.getBatchedOrders()))
+                .put("rejectedOrders", String.valueOf(orderCommitPipeline.getRejectedOrders()))
+                .put("splitBatches", String.valueOf(orderCommitPipeline.getSplitBatches()))
+                .put("queuedOrders", String.valueOf(orderCommitPipeline.getQueuedOrders())).asBytes();
     }
 }
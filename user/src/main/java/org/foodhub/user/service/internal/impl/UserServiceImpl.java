@@ -1,9 +1,15 @@
 package org.foodhub.user.service.internal.impl;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import org.foodhub.user.cache.UserProfileCache;
+import org.foodhub.user.database.dao.UserAsyncDAO;
 import org.foodhub.user.database.dao.UserDAO;
+import org.foodhub.user.database.dao.internal.impl.UserAsyncDAOImpl;
 import org.foodhub.user.database.dao.internal.impl.UserDAOImpl;
 import org.foodhub.user.model.address.Address;
 import org.foodhub.user.model.user.User;
@@ -11,10 +17,13 @@ import org.foodhub.user.model.user.UserLoginDetails;
 import org.foodhub.user.model.user.UserProfileField;
 import org.foodhub.user.model.user.UserProfileUpdateDetails;
 import org.foodhub.user.service.UserService;
+import org.foodhub.common.exception.HashingBusyException;
 import org.foodhub.common.hibernate.HibernateEntityValidator;
+import org.foodhub.common.hashgenerator.HashingExecutor;
 import org.foodhub.common.hashgenerator.PasswordHashGenerator;
-import org.foodhub.common.json.JsonArray;
+import org.foodhub.common.hashgenerator.PasswordVerification;
 import org.foodhub.common.json.JsonFactory;
+import org.foodhub.common.json.StatusResponses;
 import org.foodhub.common.json.JsonObject;
 import org.foodhub.common.hibernate.impl.HibernateEntityValidatorImpl;
 import org.foodhub.common.hibernate.validatorgroup.address.GetAddressValidator;
@@ -36,12 +45,20 @@ public final class UserServiceImpl implements UserService {
 
     private static final String STATUS = "status";
     private final JsonFactory jsonFactory;
+    private final StatusResponses statusResponses;
     private final HibernateEntityValidator validatorFactory;
+    private final PasswordHashGenerator passwordHashGenerator;
+    private final UserAsyncDAO userAsyncDAO;
+    private final UserProfileCache userProfileCache;
     private UserDAO userDAO;
 
     private UserServiceImpl() {
         userDAO = UserDAOImpl.getInstance();
+        userAsyncDAO = UserAsyncDAOImpl.getInstance();
+        userProfileCache = UserProfileCache.getInstance();
+        passwordHashGenerator = PasswordHashGenerator.getInstance();
         jsonFactory = JsonFactory.getInstance();
+        statusResponses = jsonFactory.getStatusResponses();
         validatorFactory = HibernateEntityValidatorImpl.getInstance();
     }
 
@@ -79,15 +96,19 @@ public final class UserServiceImpl implements UserService {
         if (jsonObject.isEmpty()) {
 
             if (userDAO.isUserExist(user.getPhoneNumber(), user.getEmailId())) {
-                return jsonObject.put(STATUS, "User is already exist").asBytes();
+                return statusResponses.getStatus("User is already exist");
             }
 
-            return userDAO.createUserProfile(user) ?
-                    jsonObject.put(STATUS, "User profile was created").asBytes() :
-                    jsonObject.put(STATUS, "User profile creation failed").asBytes();
+            try {
+                return userDAO.createUserProfile(user) ?
+                        statusResponses.getStatus("User profile was created") :
+                        statusResponses.getStatus("User profile creation failed");
+            } catch (HashingBusyException message) {
+                return statusResponses.getStatus("User profile creation is busy, try again");
+            }
         }
 
-        return jsonObject.asBytes();
+        return statusResponses.getViolations(jsonObject);
     }
 
     /**
@@ -101,23 +122,89 @@ public final class UserServiceImpl implements UserService {
         final JsonObject jsonObject = validatorFactory.validate(userLoginDetails, LoginUserValidator.class);
 
         if (jsonObject.isEmpty()) {
-            final String hashPassword = PasswordHashGenerator.getInstance().hashPassword(userLoginDetails.password());
-
             final Optional<User> user = switch (userLoginDetails.loginType()) {
                 case PHONE_NUMBER -> userDAO.getUser(UserProfileField.PHONE_NUMBER.name(),
-                        userLoginDetails.phoneNumber(), hashPassword);
-                case EMAIL_ID -> userDAO.getUser(UserProfileField.EMAIL_ID.name(),
-                        userLoginDetails.emailId(), hashPassword);
+                        userLoginDetails.phoneNumber());
+                case EMAIL_ID -> userDAO.getUser(UserProfileField.EMAIL_ID.name(), userLoginDetails.emailId());
                 default -> Optional.empty();
             };
 
-            return user.isPresent() ?
-                    jsonObject.put(STATUS, String.join(" ", "User login successful welcome",
-                            user.get().getName())).asBytes() :
-                    jsonObject.put(STATUS, "User login failed").asBytes();
+            try {
+                return user.isPresent() ? getLoginResponse(user.get(),
+                        passwordHashGenerator.verifyPassword(userLoginDetails.password(), user.get().getPassword())) :
+                        statusResponses.getStatus("User login failed");
+            } catch (HashingBusyException message) {
+                return statusResponses.getStatus("User login is busy, try again");
+            }
+        }
+
+        return statusResponses.getViolations(jsonObject);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userLoginDetails Represents the instance of user login dto
+     * @return The future completed with the response of the user login
+     */
+    @Override
+    public CompletableFuture<byte[]> getUserAsync(final UserLoginDetails userLoginDetails) {
+        final JsonObject jsonObject = validatorFactory.validate(userLoginDetails, LoginUserValidator.class);
+
+        if (!jsonObject.isEmpty()) {
+            return CompletableFuture.completedFuture(statusResponses.getViolations(jsonObject));
+        }
+        final CompletableFuture<Optional<User>> user = switch (userLoginDetails.loginType()) {
+            case PHONE_NUMBER -> userAsyncDAO.getUser(UserProfileField.PHONE_NUMBER.name(),
+                    userLoginDetails.phoneNumber());
+            case EMAIL_ID -> userAsyncDAO.getUser(UserProfileField.EMAIL_ID.name(), userLoginDetails.emailId());
+            default -> CompletableFuture.completedFuture(Optional.empty());
+        };
+
+        return user.thenCompose(loginUser -> loginUser.isPresent() ?
+                passwordHashGenerator.verifyPasswordAsync(userLoginDetails.password(), loginUser.get().getPassword())
+                        .thenApply(verification -> getLoginResponse(loginUser.get(), verification)) :
+                CompletableFuture.completedFuture(statusResponses.getStatus("User login failed")))
+                .exceptionally(this::getBusyLoginResponse);
+    }
+
+    /**
+     * <p>
+     * Answers the login rejected by the saturated password hashing with the busy response, the other failures of the
+     * login are rethrown.
+     * </p>
+     *
+     * @param exception Represents the failure of the login
+     * @return The busy response of the user login
+     */
+    private byte[] getBusyLoginResponse(final Throwable exception) {
+        if (exception instanceof HashingBusyException || exception.getCause() instanceof HashingBusyException) {
+            return statusResponses.getStatus("User login is busy, try again");
         }
 
-        return jsonObject.asBytes();
+        throw exception instanceof CompletionException completionException ? completionException :
+                new CompletionException(exception);
+    }
+
+    /**
+     * <p>
+     * Gets the response of the user login from the password verification. The outdated password hash is replaced in
+     * the background, the failed replacement is retried on the next login.
+     * </p>
+     *
+     * @param user         Represents the user having the login data
+     * @param verification Represents the verification of the login password
+     * @return The response of the user login
+     */
+    private byte[] getLoginResponse(final User user, final PasswordVerification verification) {
+        if (!verification.isVerified()) {
+            return statusResponses.getStatus("User login failed");
+        }
+        verification.getRehashedPassword().ifPresent(rehashedPassword ->
+                userAsyncDAO.rehashPassword(user.getId(), user.getPassword(), rehashedPassword));
+
+        return jsonFactory.createObjectNode().put(STATUS, String.join(" ", "User login successful welcome",
+                user.getName())).asBytes();
     }
 
     /**
@@ -132,13 +219,19 @@ public final class UserServiceImpl implements UserService {
         final JsonObject jsonObject = validatorFactory.validate(userPojo, GetUserValidator.class);
 
         if (jsonObject.isEmpty()) {
+            final Optional<User> cachedUser = userProfileCache.get(userId);
+
+            if (cachedUser.isPresent()) {
+                return jsonFactory.getJsonWriter().write(cachedUser.get());
+            }
+            final long readVersion = userProfileCache.getVersion(userId);
             final Optional<User> user = userDAO.getUserById(userId);
 
-            return user.isPresent() ? jsonObject.build(user.get()).asBytes() :
-                    jsonObject.put(STATUS, "User not found").asBytes();
+            return user.isPresent() ? jsonFactory.getJsonWriter().write(userProfileCache.put(user.get(), readVersion)) :
+                    statusResponses.getStatus("User not found");
         }
 
-        return jsonObject.asBytes();
+        return statusResponses.getViolations(jsonObject);
     }
 
     /**
@@ -152,11 +245,37 @@ public final class UserServiceImpl implements UserService {
         final JsonObject jsonObject = validatorFactory.validate(address, PostAddressValidator.class);
 
         if (jsonObject.isEmpty()) {
-            return userDAO.addAddress(address) ? jsonObject.put(STATUS, "Address was added").asBytes() :
-                    jsonObject.put(STATUS, "Address adding failed").asBytes();
+            return userDAO.addAddress(address) ? statusResponses.getStatus("Address was added") :
+                    statusResponses.getStatus("Address adding failed");
         }
 
-        return jsonObject.asBytes();
+        return statusResponses.getViolations(jsonObject);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param addresses Represents the addresses of the users
+     * @return The response for the adding the addresses data
+     */
+    @Override
+    public byte[] addAddresses(final List<Address> addresses) {
+        final JsonObject jsonObject = jsonFactory.createObjectNode();
+
+        if (null == addresses || addresses.isEmpty()) {
+            return statusResponses.getStatus("Addresses are empty");
+        }
+
+        for (final Address address : addresses) {
+            jsonObject.addAll(validatorFactory.validate(address, PostAddressValidator.class));
+        }
+
+        if (jsonObject.isEmpty()) {
+            return userDAO.addAddresses(addresses) ? statusResponses.getStatus("Addresses were added") :
+                    statusResponses.getStatus("Addresses adding failed");
+        }
+
+        return statusResponses.getViolations(jsonObject);
     }
 
     /**
@@ -168,18 +287,16 @@ public final class UserServiceImpl implements UserService {
     @Override
     public byte[] getAddress(final long userId) {
         final Address address = new Address.AddressBuilder().setUserId(userId).build();
-        final JsonArray jsonArray = jsonFactory.createArrayNode();
         final JsonObject jsonObject = validatorFactory.validate(address, GetAddressValidator.class);
 
         if (jsonObject.isEmpty()) {
             final Optional<Collection<Address>> addressList = userDAO.getAddress(userId);
 
-            return addressList.isPresent() ? jsonArray.build(addressList.get()).asBytes() :
-                    jsonArray.add(jsonFactory.createObjectNode()
-                            .put(STATUS, "Address list is empty or user id is invalid")).asBytes();
+            return addressList.isPresent() ? jsonFactory.getJsonWriter().write(addressList.get()) :
+                    statusResponses.getStatusArray("Address list is empty or user id is invalid");
         }
 
-        return jsonArray.add(jsonObject).asBytes();
+        return statusResponses.getViolationsArray(jsonObject);
     }
 
     /**
@@ -193,22 +310,57 @@ public final class UserServiceImpl implements UserService {
         final JsonObject jsonObject = validatorFactory.validate(userProfileUpdateDetails, UpdateUserValidator.class);
 
         if (jsonObject.isEmpty()) {
-            final boolean updateStatus = switch (userProfileUpdateDetails.updateDataType()) {
-                case NAME -> userDAO.updateUserProfile(userProfileUpdateDetails.id(),
-                        UserProfileField.NAME.name(), userProfileUpdateDetails.name());
-                case PHONE_NUMBER -> userDAO.updateUserProfile(userProfileUpdateDetails.id(),
-                        UserProfileField.PHONE_NUMBER.name(), userProfileUpdateDetails.phoneNumber());
-                case EMAIL_ID -> userDAO.updateUserProfile(userProfileUpdateDetails.id(),
-                        UserProfileField.EMAIL_ID.name(), userProfileUpdateDetails.emailId());
-                case PASSWORD -> userDAO.updateUserProfile(userProfileUpdateDetails.id(),
-                        UserProfileField.PASSWORD.name(), userProfileUpdateDetails.password());
-            };
+            final boolean updateStatus;
 
-            return updateStatus ? jsonObject.put(STATUS, "User profile is updated").asBytes() :
-                    jsonObject.put(STATUS, "User profile updation failed").asBytes();
+            try {
+                updateStatus = updateUserProfileField(userProfileUpdateDetails);
+            } catch (HashingBusyException message) {
+                return statusResponses.getStatus("User profile updation is busy, try again");
+            }
+
+            return updateStatus ? statusResponses.getStatus("User profile is updated") :
+                    statusResponses.getStatus("User profile updation failed");
         }
 
-        return jsonObject.asBytes();
+        return statusResponses.getViolations(jsonObject);
+    }
+
+    /**
+     * <p>
+     * Updates the field of the user profile, the new password is hashed before it is stored.
+     * </p>
+     *
+     * @param userProfileUpdateDetails Represents the instance of user profile update dto
+     * @return True if the user profile is updated, false otherwise
+     */
+    private boolean updateUserProfileField(final UserProfileUpdateDetails userProfileUpdateDetails) {
+        return switch (userProfileUpdateDetails.updateDataType()) {
+            case NAME -> userDAO.updateUserProfile(userProfileUpdateDetails.id(),
+                    UserProfileField.NAME.name(), userProfileUpdateDetails.name());
+            case PHONE_NUMBER -> userDAO.updateUserProfile(userProfileUpdateDetails.id(),
+                    UserProfileField.PHONE_NUMBER.name(), userProfileUpdateDetails.phoneNumber());
+            case EMAIL_ID -> userDAO.updateUserProfile(userProfileUpdateDetails.id(),
+                    UserProfileField.EMAIL_ID.name(), userProfileUpdateDetails.emailId());
+            case PASSWORD -> userDAO.updateUserProfile(userProfileUpdateDetails.id(),
+                    UserProfileField.PASSWORD.name(),
+                    passwordHashGenerator.hashPassword(userProfileUpdateDetails.password()));
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The metrics of the password hashing
+     */
+    @Override
+    public byte[] getHashingMetrics() {
+        final HashingExecutor hashingExecutor = passwordHashGenerator.getHashingExecutor();
+
+        return jsonFactory.createObjectNode()
+                .put("activeHashes", String.valueOf(hashingExecutor.getActiveHashes()))
+                .put("queuedHashes", String.valueOf(hashingExecutor.getQueuedHashes()))
+                .put("completedHashes", String.valueOf(hashingExecutor.getCompletedHashes()))
+                .put("rejectedHashes", String.valueOf(hashingExecutor.getRejectedHashes())).asBytes();
     }
 
     /**
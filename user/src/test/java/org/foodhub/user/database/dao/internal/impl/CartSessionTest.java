@@ -0,0 +1,262 @@
+package org.foodhub.user.database.dao.internal.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.foodhub.restaurant.model.food.Food;
+import org.foodhub.restaurant.model.restaurant.Restaurant;
+import org.foodhub.user.model.cart.Cart;
+
+/**
+ * <p>
+ * Performs the unit tests on the cart session, so the changes made in memory are coalesced before they are written
+ * and the changes failing to be written are kept in the order they were made.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class CartSessionTest {
+
+    private static final long USER_ID = 1;
+
+    /**
+     * <p>
+     * Verifies that the added items are kept in the order they were added, beyond the initial capacity too.
+     * </p>
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 5, 33})
+    void shouldKeepTheAddedItemsInOrder(final int count) {
+        final CartSession session = new CartSession(USER_ID, List.of(), 0);
+
+        for (long cartId = 1; cartId <= count; cartId++) {
+            session.add(getCart(cartId, cartId * 10));
+        }
+        final List<Cart> cartItems = new ArrayList<>(session.getCartItems().orElseThrow());
+
+        Assertions.assertEquals(count, cartItems.size());
+
+        for (int index = 0; index < count; index++) {
+            Assertions.assertEquals(index + 1, (long) cartItems.get(index).getId());
+            Assertions.assertEquals((index + 1) * 10, (long) cartItems.get(index).getFood().getId());
+        }
+        Assertions.assertEquals(count, session.drainChanges().insertedItems().size());
+    }
+
+    /**
+     * <p>
+     * Verifies that the item added and removed before the flush is never written.
+     * </p>
+     */
+    @ParameterizedTest
+    @CsvSource({"1,1", "3,1", "3,2", "3,3"})
+    void shouldNotWriteTheItemAddedAndRemovedBeforeTheFlush(final int count, final long removedId) {
+        final CartSession session = new CartSession(USER_ID, List.of(), 0);
+
+        for (long cartId = 1; cartId <= count; cartId++) {
+            session.add(getCart(cartId, cartId));
+        }
+        Assertions.assertTrue(session.remove(removedId));
+
+        if (1 == count) {
+            Assertions.assertFalse(session.hasChanges());
+            Assertions.assertNull(session.drainChanges());
+
+            return;
+        }
+        final CartSession.Changes changes = session.drainChanges();
+
+        Assertions.assertEquals(count - 1, changes.insertedItems().size());
+        Assertions.assertTrue(changes.deletedItems().isEmpty());
+    }
+
+    /**
+     * <p>
+     * Verifies that the loaded item removed from the cart is deleted on the flush, and the missing item is not.
+     * </p>
+     */
+    @Test
+    void shouldDeleteTheRemovedLoadedItem() {
+        final CartSession session = new CartSession(USER_ID, List.of(getCart(1, 1), getCart(2, 2)), 0);
+
+        Assertions.assertFalse(session.hasChanges());
+        Assertions.assertTrue(session.remove(2));
+        Assertions.assertFalse(session.remove(3));
+        final CartSession.Changes changes = session.drainChanges();
+
+        Assertions.assertEquals(List.of(2L), changes.deletedItems());
+        Assertions.assertTrue(changes.insertedItems().isEmpty());
+        Assertions.assertFalse(session.hasChanges());
+    }
+
+    /**
+     * <p>
+     * Verifies that clearing the cart supersedes the pending inserts and deletes.
+     * </p>
+     */
+    @Test
+    void shouldSupersedeThePendingChangesOnClear() {
+        final CartSession session = new CartSession(USER_ID, List.of(getCart(1, 1)), 0);
+
+        session.add(getCart(2, 2));
+        session.remove(1);
+        Assertions.assertArrayEquals(new long[] {2}, session.clear());
+        final CartSession.Changes changes = session.drainChanges();
+
+        Assertions.assertTrue(changes.isCleared());
+        Assertions.assertTrue(changes.insertedItems().isEmpty());
+        Assertions.assertTrue(changes.deletedItems().isEmpty());
+        Assertions.assertTrue(session.getCartItems().isEmpty());
+    }
+
+    /**
+     * <p>
+     * Verifies that the changes failing to be written are put back ahead of the changes made since.
+     * </p>
+     */
+    @Test
+    void shouldRestoreTheFailedChangesAheadOfTheLaterChanges() {
+        final CartSession session = new CartSession(USER_ID, List.of(getCart(1, 1)), 0);
+
+        session.add(getCart(2, 2));
+        session.remove(1);
+        final CartSession.Changes failedChanges = session.drainChanges();
+
+        session.add(getCart(3, 3));
+        session.restoreChanges(failedChanges);
+        final CartSession.Changes changes = session.drainChanges();
+        final List<Long> insertedIds = new ArrayList<>();
+
+        for (final Cart cart : changes.insertedItems()) {
+            insertedIds.add(cart.getId());
+        }
+        Assertions.assertEquals(List.of(2L, 3L), insertedIds);
+        Assertions.assertEquals(List.of(1L), changes.deletedItems());
+        Assertions.assertFalse(changes.isCleared());
+    }
+
+    /**
+     * <p>
+     * Verifies that the item inserted by the failed changes and removed since is dropped from both.
+     * </p>
+     */
+    @Test
+    void shouldDropTheRestoredItemRemovedSince() {
+        final CartSession session = new CartSession(USER_ID, List.of(), 0);
+
+        session.add(getCart(1, 1));
+        session.add(getCart(2, 2));
+        final CartSession.Changes failedChanges = session.drainChanges();
+
+        session.remove(1);
+        session.restoreChanges(failedChanges);
+        final CartSession.Changes changes = session.drainChanges();
+
+        Assertions.assertEquals(1, changes.insertedItems().size());
+        Assertions.assertEquals(2, (long) changes.insertedItems().iterator().next().getId());
+        Assertions.assertTrue(changes.deletedItems().isEmpty());
+    }
+
+    /**
+     * <p>
+     * Verifies that the failed clear is kept, and the later clear supersedes the failed changes.
+     * </p>
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldKeepTheFailedClearUnlessClearedAgain(final boolean isClearedAgain) {
+        final CartSession session = new CartSession(USER_ID, List.of(getCart(1, 1)), 0);
+
+        session.clear();
+        session.add(getCart(2, 2));
+        final CartSession.Changes failedChanges = session.drainChanges();
+
+        if (isClearedAgain) {
+            session.clear();
+        }
+        session.restoreChanges(failedChanges);
+        final CartSession.Changes changes = session.drainChanges();
+
+        Assertions.assertTrue(changes.isCleared());
+        Assertions.assertEquals(isClearedAgain ? 0 : 1, changes.insertedItems().size());
+    }
+
+    /**
+     * <p>
+     * Verifies that the failed flushes are counted until the changes are written.
+     * </p>
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void shouldCountTheFailedFlushesUntilFlushed(final int failures) {
+        final CartSession session = new CartSession(USER_ID, List.of(), 0);
+
+        session.add(getCart(1, 1));
+
+        for (int failure = 0; failure < failures; failure++) {
+            session.restoreChanges(session.drainChanges());
+        }
+        Assertions.assertEquals(failures, session.getFailedFlushes());
+        Assertions.assertTrue(session.hasChanges());
+        session.drainChanges();
+        session.flushed();
+        Assertions.assertEquals(0, session.getFailedFlushes());
+        Assertions.assertFalse(session.hasChanges());
+    }
+
+    /**
+     * <p>
+     * Verifies that the ordered item discarded from the cart is neither deleted nor inserted.
+     * </p>
+     */
+    @Test
+    void shouldNotRecordTheDiscardedItem() {
+        final CartSession session = new CartSession(USER_ID, List.of(getCart(1, 1), getCart(2, 2)), 0);
+
+        Assertions.assertTrue(session.discard(1));
+        Assertions.assertFalse(session.discard(1));
+        Assertions.assertFalse(session.hasChanges());
+        Assertions.assertArrayEquals(new long[] {2}, session.getCartIds());
+    }
+
+    /**
+     * <p>
+     * Verifies that the failing changes are held back until the retry time and kept, and the written cart is not
+     * held back.
+     * </p>
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {-100, 0, 100})
+    void shouldHoldBackTheFailingChangesUntilTheRetryTime(final long now) {
+        final CartSession session = new CartSession(USER_ID, List.of(), now);
+
+        session.add(getCart(1, 1));
+        session.backOff(now + 10);
+        Assertions.assertFalse(session.isBackingOff(now));
+        session.restoreChanges(session.drainChanges());
+        session.backOff(now + 10);
+
+        Assertions.assertTrue(session.isBackingOff(now));
+        Assertions.assertTrue(session.isBackingOff(now + 9));
+        Assertions.assertFalse(session.isBackingOff(now + 10));
+        Assertions.assertTrue(session.hasChanges());
+        session.drainChanges();
+        session.flushed();
+        Assertions.assertFalse(session.isBackingOff(now));
+    }
+
+    private static Cart getCart(final long cartId, final long foodId) {
+        final Food food = new Food.FoodBuilder().setId(foodId).setName("food").build();
+        final Restaurant restaurant = new Restaurant.RestaurantBuilder().setId(1L).setName("restaurant").build();
+
+        return new Cart.CartBuilder().setId(cartId).setUserId(USER_ID).setFood(food).setRestaurant(restaurant)
+                .setQuantity(1).setAmount(10F).build();
+    }
+}
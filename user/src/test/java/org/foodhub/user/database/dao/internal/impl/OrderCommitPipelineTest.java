@@ -0,0 +1,201 @@
+package org.foodhub.user.database.dao.internal.impl;
+
+import org.foodhub.restaurant.exception.lock.LockTimeoutException;
+import org.foodhub.user.exception.order.FoodQuantityUnavailableException;
+import org.foodhub.user.exception.order.OrderPlacementFailureException;
+import org.foodhub.user.model.order.Order;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Performs the unit tests on the order commit pipeline, so the orders are committed in batches, the failing order of
+ * the rolled back batch fails alone and the closed pipeline stays closed.
+ * </p>
+ *
+ * @author Muthu kumar V
+ * @version 1.0
+ */
+class OrderCommitPipelineTest {
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    /**
+     * <p>
+     * Verifies that the failing order of the rolled back batch fails alone and the other orders of the batch are
+     * committed again one by one.
+     * </p>
+     */
+    @ParameterizedTest
+    @CsvSource({"2,1", "4,1", "8,3", "8,8"})
+    void shouldFailOnlyTheFailingOrderOfTheBatch(final int orders, final long failingUserId) throws Exception {
+        final OrderCommitPipeline orderCommitPipeline = createPipeline(orders, batch -> {
+            for (final PendingOrder pendingOrder : batch) {
+
+                if (failingUserId == pendingOrder.getUserId()) {
+                    throw new FoodQuantityUnavailableException("Food is sold out");
+                }
+            }
+            batch.forEach(PendingOrder::placed);
+        });
+        final List<CompletableFuture<Boolean>> placements = submitOrders(orderCommitPipeline, orders);
+
+        try {
+            for (int index = 0; index < orders; index++) {
+
+                if (failingUserId == index + 1) {
+                    assertFailedWith(FoodQuantityUnavailableException.class, placements.get(index));
+                } else {
+                    Assertions.assertTrue(placements.get(index).get(5, TimeUnit.SECONDS));
+                }
+            }
+            Assertions.assertEquals(orders, (int) batchSizes.get(0));
+            Assertions.assertEquals(orders + 1, batchSizes.size());
+            Assertions.assertEquals(1, orderCommitPipeline.getSplitBatches());
+        } finally {
+            orderCommitPipeline.close();
+        }
+    }
+
+    /**
+     * <p>
+     * Verifies that the batch failing on the shared food locks fails all its orders without committing them again.
+     * </p>
+     */
+    @Test
+    void shouldFailTheBatchOnLockTimeout() throws Exception {
+        final OrderCommitPipeline orderCommitPipeline = createPipeline(4, batch -> {
+            throw new LockTimeoutException("The food lock is not acquired in time");
+        });
+        final List<CompletableFuture<Boolean>> placements = submitOrders(orderCommitPipeline, 4);
+
+        try {
+            for (final CompletableFuture<Boolean> placement : placements) {
+                assertFailedWith(LockTimeoutException.class, placement);
+            }
+            Assertions.assertEquals(List.of(4), batchSizes);
+            Assertions.assertEquals(0, orderCommitPipeline.getSplitBatches());
+        } finally {
+            orderCommitPipeline.close();
+        }
+    }
+
+    /**
+     * <p>
+     * Verifies that the order left incomplete by the committer is failed.
+     * </p>
+     */
+    @Test
+    void shouldFailTheOrderLeftIncomplete() throws Exception {
+        final OrderCommitPipeline orderCommitPipeline = createPipeline(1, batch -> {
+        });
+
+        try {
+            assertFailedWith(OrderPlacementFailureException.class, submitOrders(orderCommitPipeline, 1).get(0));
+        } finally {
+            orderCommitPipeline.close();
+        }
+    }
+
+    /**
+     * <p>
+     * Verifies that the closed pipeline rejects the later orders instead of starting again.
+     * </p>
+     */
+    @Test
+    void shouldRejectTheOrdersOnceClosed() throws Exception {
+        final OrderCommitPipeline orderCommitPipeline = createPipeline(1, batch -> batch.forEach(PendingOrder::placed));
+
+        Assertions.assertTrue(submitOrders(orderCommitPipeline, 1).get(0).get(5, TimeUnit.SECONDS));
+        orderCommitPipeline.close();
+
+        Assertions.assertThrows(OrderPlacementFailureException.class,
+                () -> orderCommitPipeline.submit(createPendingOrder(2)));
+        Assertions.assertEquals(0, orderCommitPipeline.getQueuedOrders());
+        Assertions.assertEquals(1, orderCommitPipeline.getBatches());
+    }
+
+    /**
+     * <p>
+     * Creates the pipeline collecting the given count of orders in a batch, the size of every batch handed to the
+     * committer is recorded.
+     * </p>
+     *
+     * @param maximumBatchSize Represents the maximum count of orders in a batch
+     * @param committer        Represents the committer of the batches
+     * @return The order commit pipeline
+     */
+    private OrderCommitPipeline createPipeline(final int maximumBatchSize,
+                                               final Consumer<List<PendingOrder>> committer) {
+        final OrderPipelineConfig config = new OrderPipelineConfig.OrderPipelineConfigBuilder().setWindowMillis(5000)
+                .setMaximumBatchSize(maximumBatchSize).setQueueSize(64).build();
+
+        return new OrderCommitPipeline(config, batch -> {
+            batchSizes.add(batch.size());
+            committer.accept(batch);
+        });
+    }
+
+    /**
+     * <p>
+     * Submits the orders of the distinct users, the user ids start from one.
+     * </p>
+     *
+     * @param orderCommitPipeline Represents the order commit pipeline
+     * @param orders              Represents the count of orders
+     * @return The placements of the orders
+     */
+    private List<CompletableFuture<Boolean>> submitOrders(final OrderCommitPipeline orderCommitPipeline,
+                                                          final int orders) {
+        final List<CompletableFuture<Boolean>> placements = new ArrayList<>(orders);
+
+        for (int index = 0; index < orders; index++) {
+            placements.add(orderCommitPipeline.submit(createPendingOrder(index + 1)));
+        }
+
+        return placements;
+    }
+
+    /**
+     * <p>
+     * Creates the order of the user without food reservations.
+     * </p>
+     *
+     * @param userId Represents the id of the user
+     * @return The pending order
+     */
+    private PendingOrder createPendingOrder(final long userId) {
+        final Order order = new Order.OrderBuilder().setUserId(userId).setCartId(userId).setQuantity(1).build();
+
+        return new PendingOrder(List.of(order), List.of(), null);
+    }
+
+    /**
+     * <p>
+     * Asserts that the placement is failed with the given cause.
+     * </p>
+     *
+     * @param type      Represents the type of the expected cause
+     * @param placement Represents the placement of the order
+     */
+    private void assertFailedWith(final Class<? extends RuntimeException> type,
+                                  final CompletableFuture<Boolean> placement) throws Exception {
+        try {
+            placement.get(5, TimeUnit.SECONDS);
+            Assertions.fail("Order is placed");
+        } catch (ExecutionException exception) {
+            Assertions.assertTrue(type.isInstance(exception.getCause()));
+        }
+    }
+}